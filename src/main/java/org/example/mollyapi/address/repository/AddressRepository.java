@@ -3,6 +3,9 @@ package org.example.mollyapi.address.repository;
 import org.example.mollyapi.address.entity.Address;
 import org.example.mollyapi.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +13,8 @@ import java.util.Optional;
 public interface AddressRepository extends JpaRepository<Address, Long> {
     List<Address> findByUserOrderByDefaultAddrDesc(User user);
     Optional<Address> findByUserAndDefaultAddr(User user, boolean defaultAddr);
+
+    @Modifying
+    @Query("DELETE FROM Address a WHERE a.user.userId IN :userIds")
+    int deleteAllByUserIds(@Param("userIds") List<Long> userIds);
 }
\ No newline at end of file
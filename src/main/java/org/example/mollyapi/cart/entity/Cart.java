@@ -3,6 +3,7 @@ package org.example.mollyapi.cart.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.example.mollyapi.common.entity.Base;
+import org.example.mollyapi.common.entity.TsidGenerated;
 import org.example.mollyapi.product.entity.ProductItem;
 import org.example.mollyapi.user.entity.User;
 import org.hibernate.annotations.OnDelete;
@@ -13,10 +14,14 @@ import org.hibernate.annotations.OnDeleteAction;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@Table(name = "cart")
+@Table(name = "cart",
+        indexes = {
+                @Index(name = "idx_cart_user_item", columnList = "user_id, item_id"),
+                @Index(name = "idx_cart_user_created_at", columnList = "user_id, created_at")
+        })
 public class Cart extends Base {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     @Column(name = "cart_id")
     private Long cartId;
 
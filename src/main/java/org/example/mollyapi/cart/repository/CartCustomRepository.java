@@ -7,5 +7,4 @@ import java.util.List;
 public interface CartCustomRepository {
     List<CartInfoDto> getCartInfo(Long userId);
     boolean countByUserUserId(Long userId);
-    List<Long> getExpiredCartId();
 }
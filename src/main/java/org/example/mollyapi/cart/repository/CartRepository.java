@@ -1,8 +1,14 @@
 package org.example.mollyapi.cart.repository;
 
 import org.example.mollyapi.cart.entity.Cart;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface CartRepository extends JpaRepository<Cart, Long>, CartCustomRepository{
@@ -10,4 +16,16 @@ public interface CartRepository extends JpaRepository<Cart, Long>, CartCustomRep
     Optional<Cart> findByCartIdAndUserUserId(Long cartId, Long userId);
     Optional<Cart> findById(Long cartId); // cartId로 장바구니 조회
     void deleteByCartId(Long cartId); // cartId 기반 삭제
+
+    // 보관 기간이 지난 장바구니 ID (cartId 기준 커서 조회)
+    @Query("SELECT c.cartId FROM Cart c WHERE c.createdAt < :cutoff AND c.cartId > :afterId ORDER BY c.cartId")
+    List<Long> findIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Cart c WHERE c.cartId IN :cartIds")
+    int deleteAllByCartIds(@Param("cartIds") List<Long> cartIds);
+
+    @Modifying
+    @Query("DELETE FROM Cart c WHERE c.user.userId IN :userIds")
+    int deleteAllByUserIds(@Param("userIds") List<Long> userIds);
 }
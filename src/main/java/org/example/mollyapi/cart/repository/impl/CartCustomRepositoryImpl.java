@@ -7,7 +7,6 @@ import lombok.RequiredArgsConstructor;
 import org.example.mollyapi.cart.dto.Response.CartInfoDto;
 import org.example.mollyapi.cart.repository.CartCustomRepository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.example.mollyapi.cart.entity.QCart.cart;
@@ -54,13 +53,4 @@ public class CartCustomRepositoryImpl implements CartCustomRepository {
                 .where(cart.user.userId.eq(userId))
                 .fetchOne());
     }
-
-    @Override
-    public List<Long> getExpiredCartId() {
-        return jpaQueryFactory.select(
-                    cart.cartId
-                ).from(cart)
-                .where(cart.createdAt.lt(LocalDateTime.now().minusDays(365)))
-                .fetch();
-    }
 }
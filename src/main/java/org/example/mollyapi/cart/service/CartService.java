@@ -209,17 +209,4 @@ public class CartService {
     public void checkStock(Long itemQuantity, Long nowQuantity) {
         if (itemQuantity < nowQuantity) throw new CustomException(OVER_QUANTITY);
     }
-
-    /**
-     * 장바구니 보관기간이 365일은 넘긴 상품 삭제
-     * */
-    public void deleteExpiredCarts() {
-        List<Long> expiredCartIdList = cartRep.getExpiredCartId();
-        if(expiredCartIdList.isEmpty())
-            log.info("만료된 장바구니 내역이 존재하지 않습니다.");
-
-        for(Long cartId : expiredCartIdList) {
-            cartRep.deleteById(cartId);
-        }
-    }
 }
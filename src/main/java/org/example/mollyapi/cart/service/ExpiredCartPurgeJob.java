@@ -0,0 +1,37 @@
+package org.example.mollyapi.cart.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.mollyapi.cart.repository.CartRepository;
+import org.example.mollyapi.common.purge.PurgeJob;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관 기간(365일)이 지난 장바구니 삭제
+ */
+@Component
+@RequiredArgsConstructor
+public class ExpiredCartPurgeJob implements PurgeJob {
+
+    private static final long RETENTION_DAYS = 365;
+
+    private final CartRepository cartRepository;
+
+    @Override
+    public String name() {
+        return "expired-cart";
+    }
+
+    @Override
+    public List<Long> findIds(Long afterId, int limit) {
+        return cartRepository.findIdsCreatedBefore(LocalDateTime.now().minusDays(RETENTION_DAYS), afterId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int delete(List<Long> ids) {
+        return cartRepository.deleteAllByCartIds(ids);
+    }
+}
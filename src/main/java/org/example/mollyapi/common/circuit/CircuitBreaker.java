@@ -0,0 +1,232 @@
+package org.example.mollyapi.common.circuit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 호출용 서킷 브레이커 (호출 횟수 기반 슬라이딩 윈도우)
+ * - CLOSED: 최근 window-size 건 중 minimum-calls 건 이상이 쌓인 뒤 실패율 또는 느린 호출 비율이 임계치 이상이면 OPEN
+ * - OPEN: open-duration 동안 호출을 바로 거절, 지나면 HALF_OPEN
+ * - HALF_OPEN: half-open-calls 건만 시험 호출을 허용하고, 그 결과가 임계치 미만이면 CLOSED, 아니면 다시 OPEN
+ * 상태는 circuit.breaker.state(name, state 태그, 현재 상태만 1), 전이는 circuit.breaker.transitions(from, to),
+ * 거절은 circuit.breaker.not-permitted, 실패율/느린 호출 비율은 circuit.breaker.*-rate 지표로 노출
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    @Getter
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+
+    // 최근 호출 결과 (링 버퍼)
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int next;
+    private int recorded;
+    private int failedCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenIssued;
+    private MeterRegistry meterRegistry;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, float failureRateThreshold,
+                          float slowCallRateThreshold, Duration slowCallDuration, Duration openDuration, int halfOpenCalls) {
+        this(name, windowSize, minimumCalls, failureRateThreshold, slowCallRateThreshold, slowCallDuration, openDuration,
+                halfOpenCalls, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int windowSize, int minimumCalls, float failureRateThreshold,
+                   float slowCallRateThreshold, Duration slowCallDuration, Duration openDuration, int halfOpenCalls,
+                   LongSupplier nanoClock) {
+        if (windowSize < 1 || minimumCalls < 1 || halfOpenCalls < 1) {
+            throw new IllegalArgumentException("서킷 브레이커 윈도우/최소 호출 수/시험 호출 수는 1 이상이어야 합니다.");
+        }
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = slowCallDuration.toNanos();
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = Math.min(halfOpenCalls, windowSize);
+        this.nanoClock = nanoClock;
+        this.failed = new boolean[windowSize];
+        this.slow = new boolean[windowSize];
+    }
+
+    /**
+     * Micrometer 지표 등록
+     */
+    public CircuitBreaker bindTo(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (State candidate : State.values()) {
+            Gauge.builder("circuit.breaker.state", this, breaker -> breaker.getState() == candidate ? 1 : 0)
+                    .tag("name", name)
+                    .tag("state", tagOf(candidate))
+                    .register(meterRegistry);
+        }
+        Gauge.builder("circuit.breaker.failure-rate", this, CircuitBreaker::getFailureRate)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("circuit.breaker.slow-call-rate", this, CircuitBreaker::getSlowCallRate)
+                .tag("name", name)
+                .register(meterRegistry);
+        return this;
+    }
+
+    /**
+     * 호출 허용 여부 - 허용되면 반드시 onSuccess/onFailure/releasePermission 중 하나를 호출해야 함
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openNanos) {
+                if (meterRegistry != null) {
+                    meterRegistry.counter("circuit.breaker.not-permitted", "name", name).increment();
+                }
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenIssued >= halfOpenCalls) {
+                if (meterRegistry != null) {
+                    meterRegistry.counter("circuit.breaker.not-permitted", "name", name).increment();
+                }
+                return false;
+            }
+            halfOpenIssued++;
+        }
+        return true;
+    }
+
+    /**
+     * 허용받은 호출을 결과 기록 없이 반납 (호출 전에 다른 이유로 중단된 경우)
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenIssued > 0) {
+            halfOpenIssued--;
+        }
+    }
+
+    public void onSuccess(long durationNanos) {
+        onResult(false, durationNanos);
+    }
+
+    public void onFailure(long durationNanos) {
+        onResult(true, durationNanos);
+    }
+
+    /**
+     * OPEN 상태가 끝나기까지 남은 시간 (OPEN 이 아니면 0)
+     */
+    public synchronized Duration getRemainingOpenDuration() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(openNanos - (nanoClock.getAsLong() - openedAt), 0));
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized float getFailureRate() {
+        return recorded == 0 ? 0 : failedCount * 100f / recorded;
+    }
+
+    public synchronized float getSlowCallRate() {
+        return recorded == 0 ? 0 : slowCount * 100f / recorded;
+    }
+
+    private synchronized void onResult(boolean failure, long durationNanos) {
+        if (state == State.OPEN) {
+            return; // 열리기 전에 시작된 호출의 결과는 무시
+        }
+        record(failure, durationNanos >= slowCallNanos);
+
+        if (state == State.HALF_OPEN) {
+            if (recorded >= halfOpenCalls) {
+                transitionTo(exceedsThresholds() ? State.OPEN : State.CLOSED);
+            }
+            return;
+        }
+        if (recorded >= minimumCalls && exceedsThresholds()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void record(boolean failure, boolean slowCall) {
+        if (recorded == windowSize) {
+            if (failed[next]) {
+                failedCount--;
+            }
+            if (slow[next]) {
+                slowCount--;
+            }
+        } else {
+            recorded++;
+        }
+        failed[next] = failure;
+        slow[next] = slowCall;
+        if (failure) {
+            failedCount++;
+        }
+        if (slowCall) {
+            slowCount++;
+        }
+        next = (next + 1) % windowSize;
+    }
+
+    private boolean exceedsThresholds() {
+        return getFailureRate() >= failureRateThreshold || getSlowCallRate() >= slowCallRateThreshold;
+    }
+
+    private void transitionTo(State target) {
+        State previous = state;
+        float failureRate = getFailureRate();
+        float slowCallRate = getSlowCallRate();
+        state = target;
+        openedAt = target == State.OPEN ? nanoClock.getAsLong() : 0;
+        halfOpenIssued = 0;
+        resetWindow();
+
+        if (meterRegistry != null) {
+            meterRegistry.counter("circuit.breaker.transitions", "name", name, "from", tagOf(previous), "to", tagOf(target)).increment();
+        }
+        if (target == State.OPEN) {
+            log.warn("[CircuitBreaker] {} 열림: {} -> OPEN, 실패율={}%, 느린 호출 비율={}%", name, previous, failureRate, slowCallRate);
+        } else {
+            log.info("[CircuitBreaker] {} 상태 전이: {} -> {}", name, previous, target);
+        }
+    }
+
+    private void resetWindow() {
+        next = 0;
+        recorded = 0;
+        failedCount = 0;
+        slowCount = 0;
+    }
+
+    private static String tagOf(State state) {
+        return state.name().toLowerCase(Locale.ROOT);
+    }
+}
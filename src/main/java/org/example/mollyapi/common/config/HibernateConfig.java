@@ -8,6 +8,9 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class HibernateConfig {
 
+    // 주문 상세, 장바구니 등 한 번에 저장되는 행 수를 고려한 배치 크기
+    private static final int JDBC_BATCH_SIZE = 100;
+
     private final ApiQueryInspector apiQueryInspector;
 
     public HibernateConfig(ApiQueryInspector apiQueryInspector) {
@@ -16,6 +19,15 @@ public class HibernateConfig {
 
     @Bean
     public HibernatePropertiesCustomizer hibernatePropertiesConfig(){
-        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, apiQueryInspector);
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, apiQueryInspector);
+
+            // TSID 식별자(@TsidGenerated) 엔티티는 INSERT 전에 ID가 정해지므로 JDBC 배치 적용 가능
+            // (MySQL은 JDBC URL에 rewriteBatchedStatements=true 가 있어야 다건 INSERT 한 문장으로 전송됨)
+            hibernateProperties.put(AvailableSettings.STATEMENT_BATCH_SIZE, JDBC_BATCH_SIZE);
+            hibernateProperties.put(AvailableSettings.ORDER_INSERTS, true);
+            hibernateProperties.put(AvailableSettings.ORDER_UPDATES, true);
+            hibernateProperties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
     }
 }
@@ -11,17 +11,20 @@ import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 
+/**
+ * 범용 WebClient (토스 PG 호출은 payment.config.TossClientConfig 의 전용 클라이언트 사용)
+ */
 @Configuration
 public class WebClientConfig {
 
     DefaultUriBuilderFactory factory = new DefaultUriBuilderFactory();
 
-    HttpClient httpClient = HttpClient.create()
-            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000); // 10초
-
     @Bean
     public WebClient webClient() {
         factory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.VALUES_ONLY);
+        HttpClient httpClient = HttpClient.create(connectionProvider())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000) // 10초
+                .responseTimeout(Duration.ofSeconds(10));
         return WebClient.builder()
                 .uriBuilderFactory(factory)
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(2 * 1024 * 1024))
@@ -29,13 +32,14 @@ public class WebClientConfig {
                 .build();
     }
 
-    @Bean
+    @Bean(destroyMethod = "dispose")
     public ConnectionProvider connectionProvider() {
         return ConnectionProvider.builder("http-pool")
                 .maxConnections(100)
-                .pendingAcquireTimeout(Duration.ofMillis(0))
-                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(Duration.ofSeconds(5))
+                .pendingAcquireMaxCount(200)
                 .maxIdleTime(Duration.ofMillis(1000L))
+                .metrics(true)
                 .build();
     }
 }
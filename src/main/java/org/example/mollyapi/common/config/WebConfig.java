@@ -1,6 +1,7 @@
 package org.example.mollyapi.common.config;
 
 
+import org.example.mollyapi.common.idempotency.IdempotencyInterceptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.HttpMessageConverter;
@@ -19,11 +20,15 @@ public class WebConfig implements WebMvcConfigurer {
 
     private final LoggingInterceptor loggingInterceptor;
 
+    private final IdempotencyInterceptor idempotencyInterceptor;
+
 
     @Autowired
-    public WebConfig(MultipartJsonMessageConverter multipartJsonMessageConverter, LoggingInterceptor loggingInterceptor) {
+    public WebConfig(MultipartJsonMessageConverter multipartJsonMessageConverter, LoggingInterceptor loggingInterceptor,
+                     IdempotencyInterceptor idempotencyInterceptor) {
         this.multipartJsonMessageConverter = multipartJsonMessageConverter;
         this.loggingInterceptor = loggingInterceptor;
+        this.idempotencyInterceptor = idempotencyInterceptor;
     }
 
     @Override
@@ -37,6 +42,10 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addInterceptor(loggingInterceptor)
                 .addPathPatterns("/**")
                 .excludePathPatterns("/actuator/prometheus", "/error");
+
+        // 주문 생성, 결제 요청 중복 제출 방지 (Idempotency-Key 헤더가 있는 요청만)
+        registry.addInterceptor(idempotencyInterceptor)
+                .addPathPatterns("/orders", "/orders/*/payment");
     }
 
     @Override
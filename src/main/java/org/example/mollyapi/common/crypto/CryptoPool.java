@@ -0,0 +1,57 @@
+package org.example.mollyapi.common.crypto;
+
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.SecretKeyFactory;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스레드별 Cipher / MessageDigest / SecretKeyFactory 재사용
+ * - getInstance 는 호출마다 보안 Provider 목록을 동기화된 구간에서 조회하므로 요청마다 호출하면 락 경합과 할당이 생김
+ * - 세 객체 모두 스레드 안전하지 않으므로 알고리즘별 ThreadLocal 로 보관 (요청 스레드 풀이 고정되어 있어 스레드당 한 번만 생성)
+ * 꺼낸 객체는 같은 스레드 안에서만 사용하고, Cipher 는 사용 전에 반드시 init, MessageDigest 는 digest() 로 끝내거나 reset 할 것
+ */
+public final class CryptoPool {
+
+    private static final Map<String, ThreadLocal<Cipher>> CIPHERS = new ConcurrentHashMap<>();
+    private static final Map<String, ThreadLocal<MessageDigest>> DIGESTS = new ConcurrentHashMap<>();
+    private static final Map<String, ThreadLocal<SecretKeyFactory>> KEY_FACTORIES = new ConcurrentHashMap<>();
+
+    private CryptoPool() {
+    }
+
+    public static Cipher cipher(String transformation) throws NoSuchAlgorithmException, NoSuchPaddingException {
+        ThreadLocal<Cipher> local = CIPHERS.computeIfAbsent(transformation, key -> new ThreadLocal<>());
+        Cipher cipher = local.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance(transformation);
+            local.set(cipher);
+        }
+        return cipher;
+    }
+
+    public static MessageDigest digest(String algorithm) throws NoSuchAlgorithmException {
+        ThreadLocal<MessageDigest> local = DIGESTS.computeIfAbsent(algorithm, key -> new ThreadLocal<>());
+        MessageDigest digest = local.get();
+        if (digest == null) {
+            digest = MessageDigest.getInstance(algorithm);
+            local.set(digest);
+        } else {
+            digest.reset(); // 이전 사용이 예외로 중단된 경우 대비
+        }
+        return digest;
+    }
+
+    public static SecretKeyFactory secretKeyFactory(String algorithm) throws NoSuchAlgorithmException {
+        ThreadLocal<SecretKeyFactory> local = KEY_FACTORIES.computeIfAbsent(algorithm, key -> new ThreadLocal<>());
+        SecretKeyFactory factory = local.get();
+        if (factory == null) {
+            factory = SecretKeyFactory.getInstance(algorithm);
+            local.set(factory);
+        }
+        return factory;
+    }
+}
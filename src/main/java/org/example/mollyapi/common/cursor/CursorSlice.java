@@ -0,0 +1,28 @@
+package org.example.mollyapi.common.cursor;
+
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 다음 페이지 커서를 함께 담은 Slice (마지막 페이지면 nextCursor = null)
+ * map 으로 변환해도 커서 유지
+ */
+@Getter
+public class CursorSlice<T> extends SliceImpl<T> {
+
+    private final String nextCursor;
+
+    public CursorSlice(List<T> content, Pageable pageable, boolean hasNext, String nextCursor) {
+        super(content, pageable, hasNext);
+        this.nextCursor = hasNext ? nextCursor : null;
+    }
+
+    @Override
+    public <U> CursorSlice<U> map(Function<? super T, ? extends U> converter) {
+        return new CursorSlice<>(getContent().stream().<U>map(converter).toList(), getPageable(), hasNext(), nextCursor);
+    }
+}
@@ -0,0 +1,228 @@
+package org.example.mollyapi.common.cursor;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
+import org.example.mollyapi.common.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.example.mollyapi.common.exception.error.impl.CommonError.CURSOR_INVALID;
+
+/**
+ * 키셋(seek) 페이지네이션 정렬 - 정렬 키 목록(마지막은 고유한 ID)으로
+ * - ORDER BY 절
+ * - 마지막 행의 키 값을 담은 불투명 커서 토큰 (정렬 서명 포함 - 다른 정렬의 커서는 거부)
+ * - 커서 다음 행만 고르는 조건: (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ... (내림차순 키는 <), 첫 키의 범위 조건을 AND 로 덧붙여 인덱스 범위 검색이 되도록 함
+ * 을 만든다. NULL 은 가장 작은 값으로 취급 (MySQL/H2 기본 정렬과 동일)
+ */
+public final class KeysetSort {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String SEPARATOR = ".";
+    private static final String NULL_VALUE = "~";
+
+    private final List<Key<?>> keys;
+    private final String signature;
+
+    /**
+     * 정렬 키 - name 은 커서 서명에 쓰임, type 은 Long/Integer/String/LocalDateTime
+     */
+    public record Key<T extends Comparable<?>>(String name, Expression<T> expression, Order direction, Class<T> type) {
+
+        public static <T extends Comparable<?>> Key<T> asc(String name, Expression<T> expression, Class<T> type) {
+            return new Key<>(name, expression, Order.ASC, type);
+        }
+
+        public static <T extends Comparable<?>> Key<T> desc(String name, Expression<T> expression, Class<T> type) {
+            return new Key<>(name, expression, Order.DESC, type);
+        }
+
+        private OrderSpecifier<T> orderSpecifier() {
+            return new OrderSpecifier<>(direction, expression);
+        }
+    }
+
+    private KeysetSort(List<Key<?>> keys) {
+        this.keys = List.copyOf(keys);
+        this.signature = keys.stream()
+                .map(key -> key.name() + ":" + (key.direction() == Order.ASC ? "a" : "d"))
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * 같은 이름의 키가 여러 번 오면 처음 것만 사용
+     */
+    public static KeysetSort of(List<Key<?>> keys) {
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("정렬 키가 없습니다");
+        }
+        Set<String> names = new HashSet<>();
+        List<Key<?>> distinct = new ArrayList<>(keys.size());
+        for (Key<?> key : keys) {
+            if (names.add(key.name())) {
+                distinct.add(key);
+            }
+        }
+        return new KeysetSort(distinct);
+    }
+
+    public static KeysetSort of(Key<?>... keys) {
+        return of(List.of(keys));
+    }
+
+    public OrderSpecifier<?>[] orderSpecifiers() {
+        return keys.stream().map(Key::orderSpecifier).toArray(OrderSpecifier[]::new);
+    }
+
+    /**
+     * 커서 생성에 필요한 키 표현식 (조회 결과 Tuple 에 함께 select)
+     */
+    public List<Expression<?>> expressions() {
+        return keys.stream().<Expression<?>>map(Key::expression).toList();
+    }
+
+    public boolean matches(List<String> names, List<Order> directions) {
+        if (names.size() != keys.size() || directions.size() != keys.size()) {
+            return false;
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            if (!keys.get(i).name().equals(names.get(i)) || keys.get(i).direction() != directions.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 마지막 행의 키 값으로 다음 페이지 커서 생성
+     */
+    public String encode(Tuple lastRow) {
+        List<Object> values = new ArrayList<>(keys.size());
+        for (Key<?> key : keys) {
+            values.add(lastRow.get(key.expression()));
+        }
+        return encode(values);
+    }
+
+    public String encode(List<?> values) {
+        StringBuilder raw = new StringBuilder(signature);
+        for (Object value : values) {
+            raw.append(SEPARATOR);
+            raw.append(value == null ? NULL_VALUE : ENCODER.encodeToString(value.toString().getBytes(StandardCharsets.UTF_8)));
+        }
+        return ENCODER.encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 다음 행 조건 (커서가 없으면 null - 첫 페이지)
+     * @throws CustomException 형식이 잘못되었거나 정렬이 다른 커서
+     */
+    public Predicate after(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        return after(decode(cursor));
+    }
+
+    public Predicate after(List<?> values) {
+        List<Predicate> branches = new ArrayList<>(keys.size());
+        List<Predicate> equalPrefix = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Key<?> key = keys.get(i);
+            Object value = values.get(i);
+            Predicate beyond = beyond(key, value);
+            if (beyond != null) {
+                List<Predicate> branch = new ArrayList<>(equalPrefix);
+                branch.add(beyond);
+                branches.add(ExpressionUtils.allOf(branch));
+            }
+            equalPrefix.add(value == null
+                    ? Expressions.booleanOperation(Ops.IS_NULL, key.expression())
+                    : Expressions.booleanOperation(Ops.EQ, key.expression(), Expressions.constant(value)));
+        }
+        if (branches.isEmpty()) {
+            // 모든 키가 끝 값 - 남은 행 없음
+            return Expressions.booleanTemplate("1 = 0");
+        }
+        return ExpressionUtils.allOf(range(keys.get(0), values.get(0)), ExpressionUtils.anyOf(branches));
+    }
+
+    // 키 값이 value 보다 뒤인 행 (없으면 null)
+    private static Predicate beyond(Key<?> key, Object value) {
+        Expression<?> expression = key.expression();
+        if (key.direction() == Order.ASC) {
+            return value == null
+                    ? Expressions.booleanOperation(Ops.IS_NOT_NULL, expression)
+                    : Expressions.booleanOperation(Ops.GT, expression, Expressions.constant(value));
+        }
+        return value == null
+                ? null
+                : ExpressionUtils.anyOf(
+                        Expressions.booleanOperation(Ops.LT, expression, Expressions.constant(value)),
+                        Expressions.booleanOperation(Ops.IS_NULL, expression));
+    }
+
+    // 첫 키의 범위 (같거나 뒤) - 옵티마이저가 인덱스 범위 검색을 고를 수 있도록 OR 조건 밖에 둠
+    private static Predicate range(Key<?> key, Object value) {
+        Expression<?> expression = key.expression();
+        if (key.direction() == Order.ASC) {
+            return value == null ? null : Expressions.booleanOperation(Ops.GOE, expression, Expressions.constant(value));
+        }
+        return value == null
+                ? Expressions.booleanOperation(Ops.IS_NULL, expression)
+                : ExpressionUtils.anyOf(
+                        Expressions.booleanOperation(Ops.LOE, expression, Expressions.constant(value)),
+                        Expressions.booleanOperation(Ops.IS_NULL, expression));
+    }
+
+    private List<Object> decode(String cursor) {
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != keys.size() + 1 || !parts[0].equals(signature)) {
+                throw new CustomException(CURSOR_INVALID);
+            }
+            List<Object> values = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                String part = parts[i + 1];
+                values.add(NULL_VALUE.equals(part)
+                        ? null
+                        : parse(keys.get(i).type(), new String(DECODER.decode(part), StandardCharsets.UTF_8)));
+            }
+            return values;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(CURSOR_INVALID);
+        }
+    }
+
+    private static Object parse(Class<?> type, String value) {
+        if (type == Long.class) {
+            return Long.valueOf(value);
+        }
+        if (type == Integer.class) {
+            return Integer.valueOf(value);
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.parse(value);
+        }
+        if (type == String.class) {
+            return value;
+        }
+        throw new IllegalStateException("지원하지 않는 커서 키 타입: " + type.getName());
+    }
+}
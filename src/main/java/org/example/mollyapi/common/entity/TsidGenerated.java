@@ -0,0 +1,21 @@
+package org.example.mollyapi.common.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * TSID 기반 식별자 생성
+ * - IDENTITY 전략과 달리 INSERT 전에 애플리케이션에서 ID를 발급하므로 JDBC 배치 INSERT가 가능
+ * - 시간순으로 증가하는 값이라 PK 인덱스 삽입 위치가 흩어지지 않음
+ */
+@IdGeneratorType(TsidIdentifierGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TsidGenerated {
+}
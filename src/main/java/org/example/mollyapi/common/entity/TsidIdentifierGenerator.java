@@ -0,0 +1,31 @@
+package org.example.mollyapi.common.entity;
+
+import com.github.f4b6a3.tsid.TsidCreator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.util.EnumSet;
+
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+/**
+ * {@link TsidGenerated} 식별자 생성기
+ * - 이미 ID가 할당된 엔티티(벌크 등록 등)는 기존 값을 유지
+ */
+public class TsidIdentifierGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        Object assignedId = session.getEntityPersister(null, owner).getIdentifier(owner, session);
+        if (assignedId != null) {
+            return assignedId;
+        }
+        return TsidCreator.getTsid().toLong();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+}
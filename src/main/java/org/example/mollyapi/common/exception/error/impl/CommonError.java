@@ -9,7 +9,10 @@ import org.springframework.http.HttpStatus;
 @AllArgsConstructor
 public enum CommonError implements CustomError {
 
-    HEALTH_DISABLE(HttpStatus.BAD_REQUEST, "헬스 체크 API 가 동작하지 않습니다.");
+    HEALTH_DISABLE(HttpStatus.BAD_REQUEST, "헬스 체크 API 가 동작하지 않습니다."),
+    IDEMPOTENCY_KEY_INVALID(HttpStatus.BAD_REQUEST, "Idempotency-Key 헤더 형식이 올바르지 않습니다."),
+    IDEMPOTENCY_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key 로 요청을 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    CURSOR_INVALID(HttpStatus.BAD_REQUEST, "페이지 커서가 올바르지 않거나 정렬 조건과 맞지 않습니다.");
 
 
     private final HttpStatus status;
@@ -0,0 +1,35 @@
+package org.example.mollyapi.common.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import org.example.mollyapi.common.idempotency.repository.IdempotencyRecordRepository;
+import org.example.mollyapi.common.purge.PurgeJob;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관 기간(idempotency.ttl-hours)이 지난 Idempotency-Key 기록 삭제
+ */
+@Component
+@RequiredArgsConstructor
+public class ExpiredIdempotencyPurgeJob implements PurgeJob {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Override
+    public String name() {
+        return "expired-idempotency-record";
+    }
+
+    @Override
+    public List<Long> findIds(Long afterId, int limit) {
+        return idempotencyRecordRepository.findExpiredIdsAfter(LocalDateTime.now(), afterId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int delete(List<Long> ids) {
+        return idempotencyRecordRepository.deleteAllByIds(ids);
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.mollyapi.common.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.common.purge.PurgeRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyCleanUpScheduler {
+    private final PurgeRunner purgeRunner;
+    private final ExpiredIdempotencyPurgeJob expiredIdempotencyPurgeJob;
+
+    //매시 정각에 만료된 Idempotency-Key 기록 삭제
+    @Scheduled(cron = "0 0 * * * *")
+    public void cleanUpExpiredRecords() {
+        log.info("[Scheduler] 시작: 만료된 Idempotency-Key 기록 삭제 시작");
+        long deletedCount = purgeRunner.run(expiredIdempotencyPurgeJob);
+        log.info("[Scheduler] 완료: {}개의 만료된 Idempotency-Key 기록 삭제", deletedCount);
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.mollyapi.common.idempotency;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.common.exception.CustomException;
+import org.example.mollyapi.common.idempotency.dto.IdempotentResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import static org.example.mollyapi.common.exception.error.impl.CommonError.IDEMPOTENCY_KEY_INVALID;
+
+/**
+ * Idempotency-Key 헤더가 있는 POST 요청의 중복 실행 방지 (WebConfig 에서 주문 생성/결제 요청 경로에 등록)
+ * - 같은 키의 요청이 이미 완료되었으면 컨트롤러를 실행하지 않고 저장된 응답을 그대로 재전송
+ * - 처리 중이면 첫 요청이 끝날 때까지 기다렸다가 같은 응답을 받음
+ * - 응답 본문은 IdempotencyResponseAdvice 가 기록하고, 요청이 끝나면 저장 (5xx/처리되지 않은 예외는 저장하지 않음)
+ * 키는 요청 경로와 인증 헤더로 범위를 나눠 저장 (다른 사용자/경로의 응답이 재전송되지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final String KEY_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".key";
+    static final String RESPONSE_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".response";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyService idempotencyService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        String idempotencyKey = request.getHeader(HEADER);
+        if (idempotencyKey == null || !"POST".equals(request.getMethod())) {
+            return true; // 헤더가 없는 요청은 기존대로 처리
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new CustomException(IDEMPOTENCY_KEY_INVALID);
+        }
+
+        String key = scope(request, idempotencyKey);
+        Optional<IdempotentResponse> stored = idempotencyService.begin(key);
+        if (stored.isPresent()) {
+            log.info("중복 요청 - 저장된 응답 재전송: uri={}, status={}", request.getRequestURI(), stored.get().status());
+            replay(response, stored.get());
+            return false;
+        }
+        request.setAttribute(KEY_ATTRIBUTE, key);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        String key = (String) request.getAttribute(KEY_ATTRIBUTE);
+        if (key == null) {
+            return;
+        }
+        IdempotentResponse captured = (IdempotentResponse) request.getAttribute(RESPONSE_ATTRIBUTE);
+        if (captured == null || captured.status() >= 500) {
+            idempotencyService.abort(key);
+            return;
+        }
+        idempotencyService.complete(key, captured);
+    }
+
+    private void replay(HttpServletResponse response, IdempotentResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setHeader(HttpHeaders.CONTENT_TYPE, stored.contentType());
+        }
+        if (stored.body() != null) {
+            byte[] body = stored.body().getBytes(StandardCharsets.UTF_8);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+        response.flushBuffer();
+    }
+
+    private static String scope(HttpServletRequest request, String idempotencyKey) {
+        String source = String.join("\n",
+                request.getMethod(),
+                request.getRequestURI(),
+                String.valueOf(request.getHeader(HttpHeaders.AUTHORIZATION)),
+                idempotencyKey);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.mollyapi.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.common.idempotency.dto.IdempotentResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Idempotency-Key 요청의 응답(상태 코드, Content-Type, 본문)을 기록 (예외 처리 응답 포함)
+ * 기록된 응답은 요청이 끝난 뒤 IdempotencyInterceptor 가 저장
+ */
+@Slf4j
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class IdempotencyResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        if (httpRequest.getAttribute(IdempotencyInterceptor.KEY_ATTRIBUTE) == null) {
+            return body;
+        }
+
+        try {
+            String serialized = body == null || body instanceof String ? (String) body : objectMapper.writeValueAsString(body);
+            httpRequest.setAttribute(IdempotencyInterceptor.RESPONSE_ATTRIBUTE, new IdempotentResponse(
+                    servletResponse.getServletResponse().getStatus(),
+                    selectedContentType.toString(),
+                    serialized));
+        } catch (JsonProcessingException e) {
+            // 기록하지 못한 응답은 저장하지 않음 (같은 키로 다시 실행 가능)
+            log.warn("Idempotency 응답 기록 실패: uri={}, error={}", httpRequest.getRequestURI(), e.getMessage());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,195 @@
+package org.example.mollyapi.common.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.common.exception.CustomException;
+import org.example.mollyapi.common.idempotency.dto.IdempotentResponse;
+import org.example.mollyapi.common.idempotency.entity.IdempotencyRecord;
+import org.example.mollyapi.common.idempotency.repository.IdempotencyRecordRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.example.mollyapi.common.exception.error.impl.CommonError.IDEMPOTENCY_IN_PROGRESS;
+
+/**
+ * Idempotency-Key 중복 요청 처리
+ * - 완료된 응답은 크기 제한(cache-size) LRU 캐시 -> DB(idempotency_record) 순으로 조회해 재전송
+ * - 같은 인스턴스에서 처리 중인 키로 들어온 요청은 첫 요청이 끝날 때까지 기다렸다가 같은 응답을 받음 (wait-timeout-ms 초과 시 409)
+ * - 다른 인스턴스에서 처리 중인 키는 DB 기록으로 확인해 409 (lock-seconds 가 지나면 이어받아 다시 실행)
+ * 첫 요청이 5xx 또는 처리되지 않은 예외로 끝나면 기록을 지워 같은 키로 다시 시도할 수 있게 함
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_BEGIN_ATTEMPTS = 3;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, CachedResponse> completed;
+    private final ConcurrentMap<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final long waitTimeoutMillis;
+    private final long lockSeconds;
+
+    public IdempotencyService(
+            IdempotencyRecordRepository idempotencyRecordRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${idempotency.cache-size:10000}") int cacheSize,
+            @Value("${idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${idempotency.wait-timeout-ms:10000}") long waitTimeoutMillis,
+            @Value("${idempotency.lock-seconds:60}") long lockSeconds
+    ) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.completed = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        this.ttl = Duration.ofHours(ttlHours);
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.lockSeconds = lockSeconds;
+    }
+
+    /**
+     * 요청 시작
+     * @return 저장된 응답이 있으면 그 응답(재전송), 없으면 빈 값 - 이 경우 호출 측이 요청을 실행하고 complete/abort 를 호출해야 함
+     */
+    public Optional<IdempotentResponse> begin(String key) {
+        for (int attempt = 0; attempt < MAX_BEGIN_ATTEMPTS; attempt++) {
+            IdempotentResponse cached = findCached(key);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+
+            CompletableFuture<IdempotentResponse> execution = new CompletableFuture<>();
+            CompletableFuture<IdempotentResponse> running = inFlight.putIfAbsent(key, execution);
+            if (running != null) {
+                IdempotentResponse response = await(running);
+                if (response != null) {
+                    return Optional.of(response);
+                }
+                continue; // 첫 요청이 실패로 끝남 -> 다시 시도
+            }
+
+            Optional<IdempotentResponse> stored;
+            try {
+                stored = claim(key);
+            } catch (RuntimeException e) {
+                inFlight.remove(key, execution);
+                execution.complete(null);
+                throw e;
+            }
+            stored.ifPresent(response -> publish(key, response));
+            return stored;
+        }
+        throw new CustomException(IDEMPOTENCY_IN_PROGRESS);
+    }
+
+    /**
+     * 요청 완료 - 응답 저장 후 기다리던 요청에 전달
+     */
+    public void complete(String key, IdempotentResponse response) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.complete(
+                    key, response.status(), response.contentType(), response.body()));
+        } catch (RuntimeException e) {
+            // 로컬 캐시로는 계속 재전송, DB 기록은 lock-seconds 후 다른 인스턴스가 이어받음
+            log.warn("Idempotency 응답 저장 실패: error={}", e.getMessage());
+        }
+        publish(key, response);
+    }
+
+    /**
+     * 요청 실패 - 기록을 지우고 기다리던 요청은 다시 시도
+     */
+    public void abort(String key) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository.deleteInProgress(key));
+        } catch (RuntimeException e) {
+            log.warn("Idempotency 기록 삭제 실패: error={}", e.getMessage());
+        }
+        CompletableFuture<IdempotentResponse> execution = inFlight.remove(key);
+        if (execution != null) {
+            execution.complete(null);
+        }
+    }
+
+    /**
+     * DB 기록 확인 후 실행 권한 획득 - 완료된 기록이 있으면 그 응답 반환
+     */
+    private Optional<IdempotentResponse> claim(String key) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plusSeconds(lockSeconds);
+        LocalDateTime expiresAt = now.plus(ttl);
+        try {
+            return transactionTemplate.execute(status -> {
+                Optional<IdempotencyRecord> found = idempotencyRecordRepository.findByIdempotencyKey(key);
+                if (found.isEmpty()) {
+                    idempotencyRecordRepository.saveAndFlush(new IdempotencyRecord(key, lockedUntil, expiresAt));
+                    return Optional.empty();
+                }
+                if (found.get().isReplayable(now)) {
+                    return Optional.of(found.get().toResponse());
+                }
+                if (idempotencyRecordRepository.takeOver(key, now, lockedUntil, expiresAt) == 1) {
+                    return Optional.empty();
+                }
+                throw new CustomException(IDEMPOTENCY_IN_PROGRESS);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 키를 먼저 등록
+            throw new CustomException(IDEMPOTENCY_IN_PROGRESS);
+        }
+    }
+
+    private IdempotentResponse findCached(String key) {
+        CachedResponse cached = completed.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt().isBefore(LocalDateTime.now())) {
+            completed.remove(key);
+            return null;
+        }
+        return cached.response();
+    }
+
+    private void publish(String key, IdempotentResponse response) {
+        completed.put(key, new CachedResponse(response, LocalDateTime.now().plus(ttl)));
+        CompletableFuture<IdempotentResponse> execution = inFlight.remove(key);
+        if (execution != null) {
+            execution.complete(response);
+        }
+    }
+
+    private IdempotentResponse await(CompletableFuture<IdempotentResponse> running) {
+        try {
+            return running.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            throw new CustomException(IDEMPOTENCY_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(IDEMPOTENCY_IN_PROGRESS);
+        }
+    }
+
+    private record CachedResponse(IdempotentResponse response, LocalDateTime expiresAt) {
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.mollyapi.common.idempotency.dto;
+
+/**
+ * 같은 Idempotency-Key 요청에 다시 보낼 응답 (상태 코드, Content-Type, 본문)
+ */
+public record IdempotentResponse(
+        int status,
+        String contentType,
+        String body
+) {
+}
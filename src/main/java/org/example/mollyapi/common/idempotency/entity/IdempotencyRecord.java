@@ -0,0 +1,70 @@
+package org.example.mollyapi.common.idempotency.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.mollyapi.common.entity.Base;
+import org.example.mollyapi.common.entity.TsidGenerated;
+import org.example.mollyapi.common.idempotency.dto.IdempotentResponse;
+import org.example.mollyapi.common.idempotency.type.IdempotencyStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 처리 기록
+ * - 첫 요청이 IN_PROGRESS 로 등록하고 응답이 나오면 COMPLETED 로 응답을 저장
+ * - locked_until 이 지나도록 완료되지 않은 기록(처리 중 인스턴스 장애)은 다른 요청이 이어받아 다시 실행
+ * - expires_at 이 지난 기록은 삭제 작업(ExpiredIdempotencyPurgeJob)으로 정리
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "idempotency_record",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_record_key", columnNames = "idempotency_key"),
+        indexes = @Index(name = "idx_idempotency_record_expires_at", columnList = "expires_at"))
+public class IdempotencyRecord extends Base {
+
+    @Id
+    @TsidGenerated
+    @Column(name = "idempotency_record_id")
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false, length = 64)
+    private String idempotencyKey; // 요청 경로 + 인증 정보 + 헤더 값의 SHA-256
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IdempotencyStatus status;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Lob
+    @Column(name = "response_body")
+    private String responseBody;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public IdempotencyRecord(String idempotencyKey, LocalDateTime lockedUntil, LocalDateTime expiresAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.status = IdempotencyStatus.IN_PROGRESS;
+        this.lockedUntil = lockedUntil;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isReplayable(LocalDateTime now) {
+        return status == IdempotencyStatus.COMPLETED && expiresAt.isAfter(now);
+    }
+
+    public IdempotentResponse toResponse() {
+        return new IdempotentResponse(responseStatus, contentType, responseBody);
+    }
+}
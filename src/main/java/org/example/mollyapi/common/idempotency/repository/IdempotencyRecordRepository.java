@@ -0,0 +1,48 @@
+package org.example.mollyapi.common.idempotency.repository;
+
+import org.example.mollyapi.common.idempotency.entity.IdempotencyRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByIdempotencyKey(String idempotencyKey);
+
+    // 잠금이 풀린 처리 중 기록이나 만료된 기록을 다시 실행할 수 있도록 가져옴 (조건부 UPDATE 로 인스턴스 간 경합 처리)
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = 'IN_PROGRESS', r.lockedUntil = :lockedUntil, r.expiresAt = :expiresAt, " +
+            "r.responseStatus = null, r.contentType = null, r.responseBody = null " +
+            "WHERE r.idempotencyKey = :key " +
+            "AND ((r.status = 'IN_PROGRESS' AND r.lockedUntil < :now) OR r.expiresAt < :now)")
+    int takeOver(@Param("key") String key,
+                 @Param("now") LocalDateTime now,
+                 @Param("lockedUntil") LocalDateTime lockedUntil,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = 'COMPLETED', r.responseStatus = :status, " +
+            "r.contentType = :contentType, r.responseBody = :body " +
+            "WHERE r.idempotencyKey = :key AND r.status = 'IN_PROGRESS'")
+    int complete(@Param("key") String key,
+                 @Param("status") int status,
+                 @Param("contentType") String contentType,
+                 @Param("body") String body);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.idempotencyKey = :key AND r.status = 'IN_PROGRESS'")
+    int deleteInProgress(@Param("key") String key);
+
+    @Query("SELECT r.id FROM IdempotencyRecord r WHERE r.expiresAt < :now AND r.id > :afterId ORDER BY r.id")
+    List<Long> findExpiredIdsAfter(@Param("now") LocalDateTime now, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id IN :ids")
+    int deleteAllByIds(@Param("ids") List<Long> ids);
+}
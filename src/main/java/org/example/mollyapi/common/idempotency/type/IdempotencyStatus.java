@@ -0,0 +1,6 @@
+package org.example.mollyapi.common.idempotency.type;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS,    // 첫 요청 처리 중
+    COMPLETED       // 응답 저장 완료 (같은 키 요청은 저장된 응답으로 재전송)
+}
@@ -0,0 +1,17 @@
+package org.example.mollyapi.common.purge;
+
+import java.util.List;
+
+/**
+ * 보관 기간이 지난 데이터 삭제 작업 (PurgeRunner 가 청크 단위로 실행)
+ * - findIds: afterId 보다 큰 삭제 대상 ID를 오름차순으로 최대 limit 개 조회 (커서 기반)
+ * - delete: 조회한 ID 묶음을 집합 단위 DELETE 로 삭제 (체크포인트 갱신과 같은 트랜잭션에서 호출됨)
+ */
+public interface PurgeJob {
+
+    String name();
+
+    List<Long> findIds(Long afterId, int limit);
+
+    int delete(List<Long> ids);
+}
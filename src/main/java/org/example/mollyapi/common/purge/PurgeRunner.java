@@ -0,0 +1,169 @@
+package org.example.mollyapi.common.purge;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.common.purge.entity.PurgeLease;
+import org.example.mollyapi.common.purge.repository.PurgeLeaseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 보관 기간이 지난 데이터 삭제 실행기
+ * - 작업별 DB 리스(purge_lease)를 획득한 인스턴스만 실행 (여러 인스턴스에서 스케줄이 동시에 돌아도 한 곳에서만 삭제)
+ * - 커서(ID) 기반으로 chunk-size 개씩 조회 후 집합 단위 DELETE, 청크 삭제와 체크포인트 저장을 한 트랜잭션으로 커밋
+ * - 청크 사이에 pause-ms 만큼 쉬어 복제 지연과 락 점유를 제한, 한 번에 최대 max-chunks-per-run 청크까지만 실행
+ * - 중단되거나 청크 한도에 걸린 작업은 다음 실행 때 체크포인트부터 이어서 진행
+ * 삭제 건수/청크 수/실패/리스 획득 실패는 Micrometer 지표(purge.*, job 태그)로 노출
+ */
+@Slf4j
+@Component
+public class PurgeRunner {
+
+    private final PurgeLeaseRepository purgeLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final int maxChunksPerRun;
+    private final long leaseSeconds;
+    private final String owner;
+
+    public PurgeRunner(
+            PurgeLeaseRepository purgeLeaseRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${purge.chunk-size:500}") int chunkSize,
+            @Value("${purge.pause-ms:100}") long pauseMillis,
+            @Value("${purge.max-chunks-per-run:1000}") int maxChunksPerRun,
+            @Value("${purge.lease-seconds:300}") long leaseSeconds
+    ) {
+        this.purgeLeaseRepository = purgeLeaseRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.leaseSeconds = leaseSeconds;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 삭제 작업 실행
+     * @return 이번 실행에서 삭제한 행 수 (리스를 얻지 못하면 0)
+     */
+    public long run(PurgeJob job) {
+        String jobName = job.name();
+        if (!acquire(jobName)) {
+            meterRegistry.counter("purge.lease.skipped", "job", jobName).increment();
+            log.info("[Purge] 다른 인스턴스가 실행 중 - 건너뜀: job={}", jobName);
+            return 0;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long afterId = purgeLeaseRepository.findById(jobName).map(PurgeLease::getCheckpointId).orElse(0L);
+        long deletedTotal = 0;
+        int chunkCount = 0;
+        boolean completed = false;
+        try {
+            while (chunkCount < maxChunksPerRun) {
+                List<Long> ids = job.findIds(afterId, chunkSize);
+                if (ids.isEmpty()) {
+                    completed = true;
+                    break;
+                }
+
+                Long lastId = ids.get(ids.size() - 1);
+                Integer deleted = transactionTemplate.execute(status -> {
+                    int count = job.delete(ids);
+                    if (purgeLeaseRepository.checkpoint(jobName, owner, lastId, leaseUntil()) == 0) {
+                        throw new IllegalStateException("삭제 작업 리스를 잃어 청크를 되돌립니다. job=" + jobName);
+                    }
+                    return count;
+                });
+
+                afterId = lastId;
+                chunkCount++;
+                deletedTotal += deleted == null ? 0 : deleted;
+                meterRegistry.counter("purge.deleted.rows", "job", jobName).increment(deleted == null ? 0 : deleted);
+                meterRegistry.counter("purge.chunks", "job", jobName).increment();
+
+                if (ids.size() < chunkSize) {
+                    completed = true;
+                    break;
+                }
+                if (!pause()) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            meterRegistry.counter("purge.failures", "job", jobName).increment();
+            log.error("[Purge] 삭제 작업 실패 - 다음 실행 때 이어서 진행: job={}, checkpoint={}, error={}", jobName, afterId, e.getMessage());
+        } finally {
+            finish(jobName, completed);
+            sample.stop(meterRegistry.timer("purge.run", "job", jobName));
+        }
+
+        log.info("[Purge] 삭제 작업 {}: job={}, 삭제 {}건, 청크 {}개, checkpoint={}",
+                completed ? "완료" : "중단", jobName, deletedTotal, chunkCount, completed ? 0 : afterId);
+        return deletedTotal;
+    }
+
+    private boolean acquire(String jobName) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (purgeLeaseRepository.acquire(jobName, owner, now, leaseUntil()) == 1) {
+                    return true;
+                }
+                if (purgeLeaseRepository.existsById(jobName)) {
+                    return false;
+                }
+                // 처음 실행되는 작업은 리스 행 생성 (동시에 생성하면 한 쪽만 성공)
+                purgeLeaseRepository.saveAndFlush(new PurgeLease(jobName, owner, leaseUntil()));
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private void finish(String jobName, boolean completed) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                if (completed) {
+                    purgeLeaseRepository.complete(jobName, owner, now);
+                }
+                purgeLeaseRepository.release(jobName, owner, now);
+            });
+        } catch (RuntimeException e) {
+            // 반납에 실패해도 lease-seconds 후 만료되어 다른 인스턴스가 가져감
+            log.warn("[Purge] 리스 반납 실패: job={}, error={}", jobName, e.getMessage());
+        }
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plusSeconds(leaseSeconds);
+    }
+}
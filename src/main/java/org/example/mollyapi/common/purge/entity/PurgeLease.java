@@ -0,0 +1,46 @@
+package org.example.mollyapi.common.purge.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제 작업별 실행 권한(리스)과 진행 위치
+ * - 리스를 가진 인스턴스만 작업을 실행 (lease_until 이 지나면 다른 인스턴스가 가져갈 수 있음)
+ * - checkpoint_id 는 마지막으로 삭제한 청크의 최대 ID (중단된 작업은 이어서 진행, 끝까지 돌면 0으로 초기화)
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "purge_lease")
+public class PurgeLease {
+
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    @Column(length = 100)
+    private String owner;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "checkpoint_id", nullable = false)
+    private Long checkpointId;
+
+    @Column(name = "last_completed_at")
+    private LocalDateTime lastCompletedAt;
+
+    public PurgeLease(String jobName, String owner, LocalDateTime leaseUntil) {
+        this.jobName = jobName;
+        this.owner = owner;
+        this.leaseUntil = leaseUntil;
+        this.checkpointId = 0L;
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.mollyapi.common.purge.repository;
+
+import org.example.mollyapi.common.purge.entity.PurgeLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface PurgeLeaseRepository extends JpaRepository<PurgeLease, String> {
+
+    // 리스 획득: 만료된 리스이거나 이미 내가 가진 리스일 때만 성공 (조건부 UPDATE 로 인스턴스 간 경합 처리)
+    @Modifying
+    @Query("UPDATE PurgeLease l SET l.owner = :owner, l.leaseUntil = :leaseUntil " +
+            "WHERE l.jobName = :jobName AND (l.leaseUntil < :now OR l.owner = :owner)")
+    int acquire(@Param("jobName") String jobName,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now,
+                @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 청크 처리 후 진행 위치 저장 + 리스 연장 (리스를 잃었으면 0 반환)
+    @Modifying
+    @Query("UPDATE PurgeLease l SET l.checkpointId = :checkpointId, l.leaseUntil = :leaseUntil " +
+            "WHERE l.jobName = :jobName AND l.owner = :owner")
+    int checkpoint(@Param("jobName") String jobName,
+                   @Param("owner") String owner,
+                   @Param("checkpointId") Long checkpointId,
+                   @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 리스 반납 (다음 실행 주기에 어느 인스턴스든 바로 가져갈 수 있도록 만료 처리)
+    @Modifying
+    @Query("UPDATE PurgeLease l SET l.owner = NULL, l.leaseUntil = :now " +
+            "WHERE l.jobName = :jobName AND l.owner = :owner")
+    int release(@Param("jobName") String jobName,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now);
+
+    // 끝까지 실행된 작업은 진행 위치를 처음으로 되돌림
+    @Modifying
+    @Query("UPDATE PurgeLease l SET l.checkpointId = 0, l.lastCompletedAt = :now " +
+            "WHERE l.jobName = :jobName AND l.owner = :owner")
+    int complete(@Param("jobName") String jobName,
+                 @Param("owner") String owner,
+                 @Param("now") LocalDateTime now);
+}
@@ -2,6 +2,7 @@ package org.example.mollyapi.delivery.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.example.mollyapi.common.entity.TsidGenerated;
 import org.example.mollyapi.delivery.dto.DeliveryReqDto;
 import org.example.mollyapi.delivery.type.DeliveryStatus;
 import org.example.mollyapi.order.entity.Order;
@@ -16,7 +17,7 @@ import org.example.mollyapi.order.entity.Order;
 public class Delivery {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     @Column(name = "delivery_id")
     private Long id;
 
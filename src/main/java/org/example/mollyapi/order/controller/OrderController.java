@@ -17,11 +17,15 @@ import org.example.mollyapi.order.service.OrderServiceImpl;
 import org.example.mollyapi.payment.dto.request.TossConfirmReqDto;
 import org.example.mollyapi.payment.dto.response.PaymentResDto;
 import org.example.mollyapi.payment.dto.response.TossConfirmResDto;
+import org.example.mollyapi.payment.type.PaymentStatus;
 import org.example.mollyapi.user.auth.annotation.Auth;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 
 @Slf4j
 @RestController
@@ -63,10 +67,16 @@ public class OrderController {
      */
     @Auth
     @GetMapping(value = "/user", produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "사용자 주문 내역 조회 API", description = "사용자의 주문 목록을 조회")
-    public ResponseEntity<OrderHistoryResponseDto> getUserOrders(HttpServletRequest httpRequest) {
+    @Operation(summary = "사용자 주문 내역 조회 API", description = "사용자의 주문 목록을 최신순으로 조회 (cursor_id, cursor_ordered_at 으로 다음 페이지 조회)")
+    public ResponseEntity<OrderHistoryResponseDto> getUserOrders(
+            HttpServletRequest httpRequest,
+            @RequestParam(value = "cursor_id", required = false) Long cursorId,
+            @RequestParam(value = "cursor_ordered_at", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorOrderedAt,
+            @RequestParam(defaultValue = "20") int size
+    ) {
         Long userId = (Long) httpRequest.getAttribute("userId");
-        OrderHistoryResponseDto orders = orderServiceImpl.getUserOrders(userId);
+        OrderHistoryResponseDto orders = orderServiceImpl.getUserOrders(userId, cursorId, cursorOrderedAt, size);
         return ResponseEntity.ok(orders);
     }
 
@@ -104,7 +114,7 @@ public class OrderController {
      */
     @Auth
     @PostMapping("/{orderId}/payment")
-    @Operation(summary = "주문 결제 요청 API", description = "주문에 대한 결제 요청 및 성공/실패 처리")
+    @Operation(summary = "주문 결제 요청 API", description = "주문에 대한 결제 요청 및 성공/실패 처리 (PG 일시 장애 시 202, 결제대기)")
     public ResponseEntity<PaymentResDto> processPayment(
             HttpServletRequest request,
             @Valid @RequestBody OrderConfirmRequestDto orderConfirmRequestDto) {
@@ -121,6 +131,10 @@ public class OrderController {
                 orderConfirmRequestDto.delivery()
         );
 
+        // PG 일시 장애로 승인 재시도가 예약된 경우 202 (결과는 주문 조회로 확인)
+        if (PaymentStatus.PENDING.getStatus().equals(response.paymentStatus())) {
+            return ResponseEntity.accepted().body(response);
+        }
         return ResponseEntity.ok(response);
     }
 
@@ -159,30 +173,6 @@ public class OrderController {
         }
     }
 
-    @Auth
-    @PostMapping("/{orderId}/payment/test")
-    @Operation(summary = "주문 결제 요청 API", description = "주문에 대한 결제 요청 및 성공/실패 처리")
-    public ResponseEntity<PaymentResDto> processPaymentTest(
-            HttpServletRequest request,
-            @RequestParam String status,
-            @Valid @RequestBody OrderConfirmRequestDto orderConfirmRequestDto) {
-
-        Long userId = (Long) request.getAttribute("userId");
-
-        PaymentResDto response = orderServiceImpl.processPaymentTest(
-                userId,
-                orderConfirmRequestDto.paymentKey(),
-                orderConfirmRequestDto.tossOrderId(),
-                orderConfirmRequestDto.amount(),
-                orderConfirmRequestDto.point(),
-                orderConfirmRequestDto.paymentType(),
-                orderConfirmRequestDto.delivery(),
-                status
-        );
-
-        return ResponseEntity.ok(response);
-    }
-
 //    /**
 //     * 결제 실패 후 사용자 선택 API
 //     * (결제가 실패했을 때 "네"를 선택하면 결제를 다시 시도하고, "아니오"를 선택하면 주문 실패 처리)
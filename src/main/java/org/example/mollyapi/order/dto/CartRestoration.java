@@ -0,0 +1,11 @@
+package org.example.mollyapi.order.dto;
+
+/**
+ * 주문 실패 시 다시 담을 장바구니 항목 (장바구니에서 주문한 주문 상세만 해당)
+ */
+public record CartRestoration(
+        Long userId,
+        Long itemId,
+        Long quantity
+) {
+}
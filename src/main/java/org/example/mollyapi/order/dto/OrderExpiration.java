@@ -0,0 +1,12 @@
+package org.example.mollyapi.order.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 만료 등록 정보 (만료 타이머 재구성용 프로젝션)
+ */
+public record OrderExpiration(
+        Long orderId,
+        LocalDateTime expirationTime
+) {
+}
@@ -1,24 +1,37 @@
 package org.example.mollyapi.order.dto;
 
-import org.example.mollyapi.order.entity.Order;
 import org.example.mollyapi.order.type.OrderStatus;
-import org.example.mollyapi.payment.entity.Payment;
-import org.example.mollyapi.payment.repository.PaymentRepository;
-import org.example.mollyapi.review.repository.ReviewRepository;
-import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * 사용자 주문 내역 (커서 기반 페이지)
+ * 다음 페이지는 nextCursorOrderedAt, nextCursorId 를 그대로 넘겨 조회
+ */
 public record OrderHistoryResponseDto(
         Long userId,
-        List<OrderSummaryDto> orders
+        List<OrderSummaryDto> orders,
+        Long nextCursorId,
+        LocalDateTime nextCursorOrderedAt,
+        boolean isLastPage
 ) {
-    public OrderHistoryResponseDto(Long userId, List<Order> orders, PaymentRepository paymentRepository, ReviewRepository reviewRepository) {
-        this(userId, orders.stream()
-                .map(order -> OrderSummaryDto.from(order, paymentRepository, reviewRepository))
-                .collect(Collectors.toList()));
+    /**
+     * 조회 결과로 페이지 구성 - size + 1 건을 조회하여 다음 페이지 존재 여부 판단
+     */
+    public static OrderHistoryResponseDto of(Long userId, List<OrderHistoryRow> rows, int size) {
+        boolean isLastPage = rows.size() <= size;
+        List<OrderHistoryRow> pageRows = isLastPage ? rows : rows.subList(0, size);
+
+        OrderHistoryRow last = pageRows.isEmpty() ? null : pageRows.get(pageRows.size() - 1);
+        return new OrderHistoryResponseDto(
+                userId,
+                pageRows.stream().map(OrderSummaryDto::from).toList(),
+                isLastPage || last == null ? null : last.orderId(),
+                isLastPage || last == null ? null : last.orderedAt(),
+                isLastPage
+        );
     }
 
     public record OrderSummaryDto(
@@ -30,16 +43,14 @@ public record OrderHistoryResponseDto(
     ) {
         private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
-        public static OrderSummaryDto from(Order order, PaymentRepository paymentRepository, ReviewRepository reviewRepository) {
-            List<Payment> payments = paymentRepository.findLatestPaymentByOrderId(order.getId(), PageRequest.of(0, 1));
-            Long paymentAmount = payments.isEmpty() ? 0L : payments.get(0).getAmount();
+        public static OrderSummaryDto from(OrderHistoryRow row) {
             return new OrderSummaryDto(
-                    order.getTossOrderId(),
-                    order.getStatus(),
-                    order.getOrderedAt() != null ? order.getOrderedAt().format(FORMATTER) : null,
-                    paymentAmount,
-                    order.getDelivery() != null ? order.getDelivery().getStatus().name() : null
+                    row.tossOrderId(),
+                    row.orderStatus(),
+                    row.orderedAt() != null ? row.orderedAt().format(FORMATTER) : null,
+                    row.paymentAmount() != null ? row.paymentAmount() : 0L,
+                    row.deliveryStatus() != null ? row.deliveryStatus().name() : null
             );
         }
     }
-}
\ No newline at end of file
+}
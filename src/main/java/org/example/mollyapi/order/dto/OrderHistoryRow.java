@@ -0,0 +1,19 @@
+package org.example.mollyapi.order.dto;
+
+import org.example.mollyapi.delivery.type.DeliveryStatus;
+import org.example.mollyapi.order.type.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내역 조회용 프로젝션 (주문 + 최신 결제 금액 + 배송 상태를 한 행으로 조회)
+ */
+public record OrderHistoryRow(
+        Long orderId,
+        String tossOrderId,
+        OrderStatus orderStatus,
+        LocalDateTime orderedAt,
+        Long paymentAmount,
+        DeliveryStatus deliveryStatus
+) {
+}
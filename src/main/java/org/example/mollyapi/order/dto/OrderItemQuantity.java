@@ -0,0 +1,11 @@
+package org.example.mollyapi.order.dto;
+
+/**
+ * 주문 상세의 아이템별 수량 (재고/구매수 일괄 복구용)
+ */
+public record OrderItemQuantity(
+        Long itemId,
+        Long productId,
+        Long quantity
+) {
+}
@@ -0,0 +1,18 @@
+package org.example.mollyapi.order.dto;
+
+import org.example.mollyapi.order.entity.Order;
+import org.example.mollyapi.payment.entity.Payment;
+
+import java.util.Optional;
+
+/**
+ * 결제 준비에 필요한 주문 컨텍스트 (주문 + 사용자 + 주문 상세 + 배송 + 최신 결제)
+ */
+public record OrderPaymentContext(
+        Order order,
+        Payment latestPayment
+) {
+    public Optional<Payment> findLatestPayment() {
+        return Optional.ofNullable(latestPayment);
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.mollyapi.order.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 대사 대상 (PENDING 결제 프로젝션)
+ */
+public record PendingPayment(
+        Long paymentId,
+        Long orderId,
+        String paymentKey,
+        LocalDateTime paymentDate
+) {
+}
@@ -2,8 +2,10 @@ package org.example.mollyapi.order.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.example.mollyapi.common.entity.TsidGenerated;
 import org.example.mollyapi.delivery.entity.Delivery;
 import org.example.mollyapi.order.type.CancelStatus;
+import org.example.mollyapi.order.type.CheckoutStatus;
 import org.example.mollyapi.order.type.OrderStatus;
 import org.example.mollyapi.payment.entity.Payment;
 import org.example.mollyapi.user.entity.User;
@@ -11,17 +13,19 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder(toBuilder = true)
-@Table(name = "orders")
+@Table(name = "orders",
+        indexes = @Index(name = "idx_orders_user_ordered_at", columnList = "user_id, ordered_at, order_id"))
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     @Column(name = "order_id")
     private Long id;
 
@@ -74,6 +78,16 @@ public class Order {
     @Column(nullable = false)
     private LocalDateTime expirationTime;
 
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private CheckoutStatus checkoutStatus; // 결제 단계 (PG 호출 전후 장애 복구용)
+
+    @Column
+    private LocalDateTime checkoutPreparedAt;
+
+    @Column
+    private Integer reservedPoint; // 결제 준비 단계에서 차감한 포인트 (보상 시 환불)
+
     public Order(User user, String tossOrderId) {
         this.user = user;
         this.tossOrderId = tossOrderId;
@@ -81,6 +95,7 @@ public class Order {
         this.status = OrderStatus.PENDING;
         this.cancelStatus = CancelStatus.NONE;
         this.expirationTime = LocalDateTime.now().plusMinutes(10);
+        this.checkoutStatus = CheckoutStatus.READY;
     }
 
     @PrePersist
@@ -134,11 +149,49 @@ public class Order {
         this.paymentId = payment.getPaymentKey();
         this.paymentType = payment.getPaymentType();
         this.paymentAmount = payment.getAmount();
-        this.pointUsage = payment.getPoint();
+        if (payment.getPoint() != null) {
+            this.pointUsage = payment.getPoint();
+        }
         this.orderedAt = payment.getPaymentDate();
         this.updateStatus(OrderStatus.SUCCEEDED); // ✅ 주문 상태 변경까지 포함
     }
 
+    /**
+     * 결제 준비 완료 (PG 승인 요청 직전)
+     */
+    public void prepareCheckout(int reservedPoint) {
+        if (this.checkoutStatus == CheckoutStatus.PREPARED) {
+            throw new IllegalStateException("이미 결제가 진행 중인 주문입니다.");
+        }
+        this.checkoutStatus = CheckoutStatus.PREPARED;
+        this.checkoutPreparedAt = LocalDateTime.now();
+        this.reservedPoint = reservedPoint;
+    }
+
+    /**
+     * 결제 확정 - 준비 단계에서 차감한 포인트를 사용 포인트로 확정
+     */
+    public void completeCheckout() {
+        this.checkoutStatus = CheckoutStatus.COMPLETED;
+        this.pointUsage = Optional.ofNullable(this.reservedPoint).orElse(0);
+        this.reservedPoint = 0;
+    }
+
+    /**
+     * 결제 준비 취소 - 환불해야 할 포인트 반환
+     */
+    public int resetCheckout() {
+        int refundPoint = Optional.ofNullable(this.reservedPoint).orElse(0);
+        this.checkoutStatus = CheckoutStatus.READY;
+        this.checkoutPreparedAt = null;
+        this.reservedPoint = 0;
+        return refundPoint;
+    }
+
+    public boolean isCheckoutPrepared() {
+        return this.checkoutStatus == CheckoutStatus.PREPARED;
+    }
+
     public void setDelivery(Delivery delivery) {
         this.delivery = delivery;
     }
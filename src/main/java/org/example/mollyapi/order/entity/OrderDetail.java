@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.mollyapi.common.entity.TsidGenerated;
 import org.example.mollyapi.product.entity.ProductItem;
 
 @Getter
@@ -15,7 +16,7 @@ import org.example.mollyapi.product.entity.ProductItem;
 public class OrderDetail {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     @Column(name = "order_detail_id")
     private Long id;
 
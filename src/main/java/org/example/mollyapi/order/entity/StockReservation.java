@@ -0,0 +1,56 @@
+package org.example.mollyapi.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.mollyapi.common.entity.Base;
+import org.example.mollyapi.common.entity.TsidGenerated;
+import org.example.mollyapi.order.type.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 단위 재고 홀드 (상품 아이템별 1건)
+ * - 결제 전에 재고를 조건부 차감하여 선점하고, 결제 승인 시 확정 / 만료·실패 시 반환
+ * - 차감 전에 PENDING 으로 먼저 커밋하고, 차감과 같은 트랜잭션에서 HELD 로 전환 (PENDING 은 차감되지 않은 홀드)
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stock_reservation",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stock_reservation_order_item", columnNames = {"order_id", "item_id"}),
+        indexes = @Index(name = "idx_stock_reservation_status_expires", columnList = "status, expires_at"))
+public class StockReservation extends Base {
+
+    @Id
+    @TsidGenerated
+    @Column(name = "reservation_id")
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(nullable = false)
+    private Long quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationStatus status;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public StockReservation(Long orderId, Long itemId, Long quantity, LocalDateTime expiresAt) {
+        this.orderId = orderId;
+        this.itemId = itemId;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+        this.status = ReservationStatus.PENDING;
+    }
+}
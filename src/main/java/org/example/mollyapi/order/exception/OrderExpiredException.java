@@ -0,0 +1,17 @@
+package org.example.mollyapi.order.exception;
+
+import lombok.Getter;
+
+/**
+ * 결제 가능 시간이 지난 주문 - 결제 준비 트랜잭션 롤백 후 주문 실패 처리에 사용
+ */
+@Getter
+public class OrderExpiredException extends RuntimeException {
+
+    private final String tossOrderId;
+
+    public OrderExpiredException(String tossOrderId) {
+        super("결제 가능 시간이 초과되었습니다. 주문을 다시 생성해주세요.");
+        this.tossOrderId = tossOrderId;
+    }
+}
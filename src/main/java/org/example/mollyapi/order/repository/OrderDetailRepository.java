@@ -1,5 +1,7 @@
 package org.example.mollyapi.order.repository;
 
+import org.example.mollyapi.order.dto.CartRestoration;
+import org.example.mollyapi.order.dto.OrderItemQuantity;
 import org.example.mollyapi.order.entity.OrderDetail;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -24,4 +26,14 @@ public interface OrderDetailRepository extends JpaRepository<OrderDetail, Long>
     int deleteAllByOrderIds(@Param("orderIds") List<Long> orderIds);
 
     Optional<OrderDetail> findByIdAndOrderUserUserId(Long orderDetailId, Long userId);
+
+    // 주문 실패 시 장바구니 복구 대상 (엔티티 로딩 없이 조회)
+    @Query("SELECT new org.example.mollyapi.order.dto.CartRestoration(o.user.userId, od.productItem.id, od.quantity) " +
+            "FROM OrderDetail od JOIN od.order o WHERE o.id IN :orderIds AND od.cartId IS NOT NULL")
+    List<CartRestoration> findCartRestorations(@Param("orderIds") List<Long> orderIds);
+
+    // 재고/구매수 복구 대상 아이템별 수량
+    @Query("SELECT new org.example.mollyapi.order.dto.OrderItemQuantity(pi.id, pi.product.id, od.quantity) " +
+            "FROM OrderDetail od JOIN od.productItem pi WHERE od.order.id IN :orderIds")
+    List<OrderItemQuantity> findItemQuantities(@Param("orderIds") List<Long> orderIds);
 }
\ No newline at end of file
@@ -1,9 +1,18 @@
 package org.example.mollyapi.order.repository;
 
+import jakarta.persistence.LockModeType;
+import org.example.mollyapi.order.dto.OrderExpiration;
+import org.example.mollyapi.order.dto.OrderHistoryRow;
+import org.example.mollyapi.order.dto.OrderPaymentContext;
 import org.example.mollyapi.order.entity.Order;
+import org.example.mollyapi.order.type.CheckoutStatus;
 import org.example.mollyapi.order.type.OrderStatus;
+import org.example.mollyapi.payment.entity.Payment;
 import org.example.mollyapi.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -16,22 +25,109 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT o FROM Order o JOIN FETCH o.orderDetails WHERE o.tossOrderId = :tossOrderId")
     Optional<Order> findByTossOrderIdWithDetails(@Param("tossOrderId") String tossOrderId);
 
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderDetails WHERE o.id = :id")
+    Optional<Order> findByIdWithDetails(@Param("id") Long id);
+
+    // 결제 컨텍스트 조회: 주문 + 사용자 + 주문 상세 + 배송 + 최신 결제를 한 번에 조회 (주문 상세 수만큼 행 반환)
+    @Query("SELECT o, p FROM Order o " +
+            "JOIN FETCH o.user " +
+            "JOIN FETCH o.orderDetails " +
+            "LEFT JOIN FETCH o.delivery " +
+            "LEFT JOIN Payment p ON p.order = o " +
+            "AND p.paymentDate = (SELECT MAX(p2.paymentDate) FROM Payment p2 WHERE p2.order = o) " +
+            "WHERE o.tossOrderId = :tossOrderId")
+    List<Object[]> findPaymentContextRows(@Param("tossOrderId") String tossOrderId);
+
+    default Optional<OrderPaymentContext> findPaymentContext(String tossOrderId) {
+        List<Object[]> rows = findPaymentContextRows(tossOrderId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+        return Optional.of(new OrderPaymentContext((Order) row[0], (Payment) row[1]));
+    }
+
     Optional<Order> findByTossOrderId(String tossOrderId);
 
-    boolean existsByTossOrderId(String tossOrderId);
+    // 결제 준비: 같은 주문의 동시 요청이 차례로 상태를 확인하도록 주문 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.tossOrderId = :tossOrderId")
+    Optional<Order> findByTossOrderIdForUpdate(@Param("tossOrderId") String tossOrderId);
 
     List<Order> findByUserAndStatusIn(@Param("user") User user, @Param("statuses") List<OrderStatus> statuses);
 
-    @Query("SELECT o FROM Order o WHERE o.user = :user AND o.status IN (:statuses)")
-    List<Order> findOrdersByUserAndStatusIn(@Param("user") User user, @Param("statuses") List<OrderStatus> statuses);
+    // 주문 내역 조회: 주문 + 최신 결제 금액 + 배송 상태를 한 번에 조회 (최신순, 첫 페이지)
+    // 최신 결제는 결제 준비와 같은 기준 (결제 시각이 가장 늦은 결제, 같으면 ID 가 큰 결제)
+    @Query("SELECT new org.example.mollyapi.order.dto.OrderHistoryRow(" +
+            "o.id, o.tossOrderId, o.status, o.orderedAt, p.amount, d.status) " +
+            "FROM Order o " +
+            "LEFT JOIN o.delivery d " +
+            "LEFT JOIN Payment p ON p.order = o " +
+            "AND p.id = (SELECT MAX(p2.id) FROM Payment p2 WHERE p2.order = o " +
+            "AND p2.paymentDate = (SELECT MAX(p3.paymentDate) FROM Payment p3 WHERE p3.order = o)) " +
+            "WHERE o.user.userId = :userId AND o.status IN (:statuses) " +
+            "ORDER BY o.orderedAt DESC, o.id DESC")
+    List<OrderHistoryRow> findHistoryRows(@Param("userId") Long userId,
+                                          @Param("statuses") List<OrderStatus> statuses,
+                                          Pageable pageable);
+
+    // 주문 내역 조회: 커서(주문 시각, 주문 ID) 이후 페이지 - OFFSET 없이 인덱스 범위 조회
+    @Query("SELECT new org.example.mollyapi.order.dto.OrderHistoryRow(" +
+            "o.id, o.tossOrderId, o.status, o.orderedAt, p.amount, d.status) " +
+            "FROM Order o " +
+            "LEFT JOIN o.delivery d " +
+            "LEFT JOIN Payment p ON p.order = o " +
+            "AND p.id = (SELECT MAX(p2.id) FROM Payment p2 WHERE p2.order = o " +
+            "AND p2.paymentDate = (SELECT MAX(p3.paymentDate) FROM Payment p3 WHERE p3.order = o)) " +
+            "WHERE o.user.userId = :userId AND o.status IN (:statuses) " +
+            "AND (o.orderedAt < :cursorOrderedAt OR (o.orderedAt = :cursorOrderedAt AND o.id < :cursorId)) " +
+            "ORDER BY o.orderedAt DESC, o.id DESC")
+    List<OrderHistoryRow> findHistoryRowsAfter(@Param("userId") Long userId,
+                                               @Param("statuses") List<OrderStatus> statuses,
+                                               @Param("cursorOrderedAt") LocalDateTime cursorOrderedAt,
+                                               @Param("cursorId") Long cursorId,
+                                               Pageable pageable);
 
     default Order findOrderById(Long orderId) {
         return findById(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 주문을 찾을 수 없습니다. orderId=" + orderId));
     }
 
-    @Query("SELECT o FROM Order o WHERE o.expirationTime < :now AND o.status = 'PENDING'")
-    List<Order> findExpiredPendingOrders(@Param("now") LocalDateTime now);
+    // 주문 ID 순으로 잠금 (여러 주문을 한 번에 잠글 때 교착 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id IN :ids ORDER BY o.id")
+    List<Order> findAllByIdInForUpdate(@Param("ids") List<Long> ids);
+
+    // 만료 타이머 재구성: 결제 대기 주문의 만료 시각 (주문 ID 기준 커서 조회)
+    @Query("SELECT new org.example.mollyapi.order.dto.OrderExpiration(o.id, o.expirationTime) " +
+            "FROM Order o WHERE o.status = 'PENDING' AND o.id > :afterId ORDER BY o.id")
+    List<OrderExpiration> findPendingExpirationsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 만료 후 남은 결제 대기 주문 ID (결제 준비 중이거나 결과를 모르는 PENDING 결제가 남은 주문 제외, 주문 ID 기준 커서 조회)
+    @Query("SELECT o.id FROM Order o WHERE o.status = 'PENDING' AND o.expirationTime < :cutoff " +
+            "AND (o.checkoutStatus IS NULL OR o.checkoutStatus <> :prepared) " +
+            "AND NOT EXISTS (SELECT p.id FROM Payment p WHERE p.order = o AND p.paymentStatus = 'PENDING') " +
+            "AND o.id > :afterId ORDER BY o.id")
+    List<Long> findExpiredPendingIdsAfter(@Param("cutoff") LocalDateTime cutoff,
+                                          @Param("prepared") CheckoutStatus prepared,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
+
+    @Query("SELECT o.delivery.id FROM Order o WHERE o.id IN :orderIds AND o.delivery IS NOT NULL")
+    List<Long> findDeliveryIdsByIds(@Param("orderIds") List<Long> orderIds);
+
+    @Modifying
+    @Query("DELETE FROM Order o WHERE o.id IN :orderIds")
+    int deleteAllByOrderIds(@Param("orderIds") List<Long> orderIds);
+
+    // 결제 준비 후 오래 머물러 있는 주문 (PG 호출 전후 장애 복구 대상)
+    // 승인 재시도가 진행 중이거나 PENDING 결제가 남은 주문은 복구가 보류되므로 제외 (보류 주문이 페이지를 채워 다른 주문이 밀리지 않도록)
+    @Query("SELECT o.id FROM Order o WHERE o.checkoutStatus = :status AND o.checkoutPreparedAt < :cutoff " +
+            "AND NOT EXISTS (SELECT r.id FROM PaymentRetry r WHERE r.orderId = o.id AND r.status IN ('WAITING', 'PROCESSING')) " +
+            "AND NOT EXISTS (SELECT p.id FROM Payment p WHERE p.order = o AND p.paymentStatus = 'PENDING')")
+    List<Long> findIdsByCheckoutStatusAndPreparedBefore(@Param("status") CheckoutStatus status,
+                                                        @Param("cutoff") LocalDateTime cutoff,
+                                                        Pageable pageable);
 
     // 중복 주문 방지: 특정 사용자가 진행 중인 주문이 있는지 확인
     @Query("SELECT COUNT(o) > 0 FROM Order o WHERE o.user.id = :userId AND o.status = :status")
@@ -0,0 +1,56 @@
+package org.example.mollyapi.order.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.mollyapi.order.entity.StockReservation;
+import org.example.mollyapi.order.type.ReservationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    List<StockReservation> findAllByOrderId(Long orderId);
+
+    boolean existsByOrderId(Long orderId);
+
+    // 상태 전이는 조건부 UPDATE로 처리 (스케줄러와 주문 실패 처리가 동시에 반환하는 경우 한쪽만 성공)
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :to WHERE r.id = :id AND r.status = :from")
+    int updateStatus(@Param("id") Long id, @Param("from") ReservationStatus from, @Param("to") ReservationStatus to);
+
+    // 재고 차감/복구와 같은 트랜잭션에서 주문의 아이템별 홀드 상태 전환
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :to WHERE r.orderId = :orderId AND r.itemId IN :itemIds AND r.status = :from")
+    int updateStatusByOrderIdAndItemIds(@Param("orderId") Long orderId, @Param("itemIds") Collection<Long> itemIds,
+                                        @Param("from") ReservationStatus from, @Param("to") ReservationStatus to);
+
+    @Modifying
+    @Query("DELETE FROM StockReservation r WHERE r.orderId = :orderId AND r.status = :status")
+    int deleteByOrderIdAndStatus(@Param("orderId") Long orderId, @Param("status") ReservationStatus status);
+
+    @Modifying
+    @Query("DELETE FROM StockReservation r WHERE r.status = :status AND r.expiresAt < :now")
+    int deleteByStatusAndExpiresAtBefore(@Param("status") ReservationStatus status, @Param("now") LocalDateTime now);
+
+    // 반환할 홀드를 잠근 뒤 상태를 바꿔 스케줄러와 주문 실패 처리가 같은 홀드를 중복 반환하지 않도록 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM StockReservation r WHERE r.orderId IN :orderIds AND r.status = :status ORDER BY r.id")
+    List<StockReservation> findAllByOrderIdInAndStatusForUpdate(@Param("orderIds") Collection<Long> orderIds,
+                                                                @Param("status") ReservationStatus status);
+
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :to WHERE r.id IN :ids AND r.status = :from")
+    int updateStatusByIds(@Param("ids") List<Long> ids, @Param("from") ReservationStatus from, @Param("to") ReservationStatus to);
+
+    @Query("SELECT DISTINCT r.orderId FROM StockReservation r WHERE r.status = :status AND r.expiresAt < :now")
+    List<Long> findOrderIdsByStatusAndExpiresAtBefore(@Param("status") ReservationStatus status,
+                                                      @Param("now") LocalDateTime now,
+                                                      Pageable pageable);
+}
@@ -0,0 +1,37 @@
+package org.example.mollyapi.order.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.mollyapi.order.type.StockDecreaseType;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 조건부 UPDATE 재고 차감 - 조회 없이 quantity >= :quantity 조건으로 차감, 하나라도 실패하면 롤백
+ */
+@Component
+@RequiredArgsConstructor
+public class AtomicStockDecreaseStrategy implements StockDecreaseStrategy {
+
+    private final ProductItemRepository productItemRepository;
+
+    @Override
+    public StockDecreaseType type() {
+        return StockDecreaseType.ATOMIC;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void decrease(Map<Long, Long> quantityByItem, Ledger ledger) {
+        new TreeMap<>(quantityByItem).forEach((itemId, quantity) -> {
+            if (productItemRepository.decreaseStockIfAvailable(itemId, quantity) == 0) {
+                throw new IllegalArgumentException("재고가 부족하여 결제를 진행할 수 없습니다. itemId=" + itemId);
+            }
+        });
+        ledger.decreased(quantityByItem.keySet());
+    }
+}
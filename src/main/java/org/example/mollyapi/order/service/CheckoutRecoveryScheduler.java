@@ -0,0 +1,37 @@
+package org.example.mollyapi.order.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CheckoutRecoveryScheduler {
+
+    // PG 승인 호출 타임아웃보다 충분히 긴 시간이 지나도 PREPARED 상태인 주문만 복구 대상
+    private static final long STALE_MINUTES = 5;
+
+    private final OrderCheckoutService orderCheckoutService;
+
+    // 1분마다 결제 준비 상태로 남은 주문 복구 (서버 중단 등으로 3단계가 실행되지 못한 경우)
+    @Scheduled(fixedDelay = 60_000)
+    public void recoverStalePreparedOrders() {
+        List<Long> orderIds = orderCheckoutService.findStalePreparedOrderIds(LocalDateTime.now().minusMinutes(STALE_MINUTES));
+        for (Long orderId : orderIds) {
+            try {
+                orderCheckoutService.recover(orderId);
+            } catch (Exception e) {
+                log.error("[Scheduler] 결제 준비 상태 복구 실패: orderId={}, error={}", orderId, e.getMessage());
+            }
+        }
+        if (!orderIds.isEmpty()) {
+            log.info("[Scheduler] 결제 준비 상태 복구: {}개 주문", orderIds.size());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.mollyapi.order.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.mollyapi.common.purge.PurgeJob;
+import org.example.mollyapi.order.repository.OrderRepository;
+import org.example.mollyapi.order.type.CheckoutStatus;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 만료 후 남아 있는 결제 대기 주문 삭제 (만료 타이머가 처리하지 못한 주문 정리)
+ * - 만료 처리와 겹치지 않도록 만료 후 1시간이 지난 주문만 대상, 결제 준비 중(PREPARED)인 주문은 제외
+ * - PENDING 결제가 남은 주문도 제외 (PG 승인 여부를 결제 대사가 확인하기 전에 결제 행을 지우지 않도록)
+ * - OrderCompensationService.deleteOrders 로 집합 단위 삭제 (재고 홀드는 StockReservationScheduler 가 반환)
+ */
+@Component
+@RequiredArgsConstructor
+public class ExpiredOrderPurgeJob implements PurgeJob {
+
+    private static final long GRACE_HOURS = 1;
+
+    private final OrderRepository orderRepository;
+    private final OrderCompensationService orderCompensationService;
+
+    @Override
+    public String name() {
+        return "expired-order";
+    }
+
+    @Override
+    public List<Long> findIds(Long afterId, int limit) {
+        return orderRepository.findExpiredPendingIdsAfter(
+                LocalDateTime.now().minusHours(GRACE_HOURS), CheckoutStatus.PREPARED, afterId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int delete(List<Long> orderIds) {
+        return orderCompensationService.deleteOrders(orderIds);
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.mollyapi.order.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.order.type.StockDecreaseType;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 그룹 커밋 재고 차감 - 아이템별 StockDecrementBatcher 로 차감
+ * 아이템마다 별도로 커밋되므로 중간에 실패하면 앞서 차감한 아이템을 되돌림 (차감/복구마다 같은 트랜잭션에서 ledger 기록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupCommitStockDecreaseStrategy implements StockDecreaseStrategy {
+
+    private final StockDecrementBatcher stockDecrementBatcher;
+    private final ProductItemRepository productItemRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public StockDecreaseType type() {
+        return StockDecreaseType.GROUP_COMMIT;
+    }
+
+    @Override
+    public void decrease(Map<Long, Long> quantityByItem, Ledger ledger) {
+        Map<Long, Long> decreased = new LinkedHashMap<>();
+        try {
+            new TreeMap<>(quantityByItem).forEach((itemId, quantity) -> {
+                if (!stockDecrementBatcher.decrease(itemId, quantity, () -> ledger.decreased(List.of(itemId)))) {
+                    throw new IllegalArgumentException("재고가 부족하여 결제를 진행할 수 없습니다. itemId=" + itemId);
+                }
+                decreased.put(itemId, quantity);
+            });
+        } catch (RuntimeException e) {
+            if (!decreased.isEmpty()) {
+                log.info("재고 차감 실패 - 먼저 차감한 아이템 복구: {}", decreased);
+                transactionTemplate.executeWithoutResult(status -> {
+                    decreased.forEach(productItemRepository::increaseStock);
+                    ledger.restored(decreased.keySet());
+                });
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.mollyapi.order.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.order.type.StockDecreaseType;
+import org.example.mollyapi.product.entity.ProductItem;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.example.mollyapi.product.service.ProductFacetService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 낙관적 락 재고 차감 - 버전 충돌 시 새 트랜잭션으로 재시도 (짧은 랜덤 백오프)
+ */
+@Slf4j
+@Component
+public class OptimisticStockDecreaseStrategy implements StockDecreaseStrategy {
+
+    private static final long MAX_BACKOFF_MICROS = 2_000;
+
+    private final ProductItemRepository productItemRepository;
+    private final ProductFacetService productFacetService;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+
+    public OptimisticStockDecreaseStrategy(
+            ProductItemRepository productItemRepository,
+            ProductFacetService productFacetService,
+            PlatformTransactionManager transactionManager,
+            @Value("${order.stock.optimistic.max-attempts:50}") int maxAttempts
+    ) {
+        this.productItemRepository = productItemRepository;
+        this.productFacetService = productFacetService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public StockDecreaseType type() {
+        return StockDecreaseType.OPTIMISTIC;
+    }
+
+    @Override
+    public void decrease(Map<Long, Long> quantityByItem, Ledger ledger) {
+        Map<Long, Long> sorted = new TreeMap<>(quantityByItem);
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    sorted.forEach(this::decreaseItem);
+                    ledger.decreased(sorted.keySet());
+                });
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                log.debug("재고 차감 버전 충돌 {}/{}: items={}", attempt, maxAttempts, sorted.keySet());
+                LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(MAX_BACKOFF_MICROS) * 1_000);
+            }
+        }
+        log.warn("재고 차감 버전 충돌 재시도 초과: items={}", sorted.keySet());
+        throw new IllegalStateException("재고 차감 요청이 많아 결제를 진행할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private void decreaseItem(Long itemId, Long quantity) {
+        ProductItem productItem = productItemRepository.findByIdWithOptimisticLock(itemId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. itemId=" + itemId));
+        if (productItem.getQuantity() < quantity) {
+            throw new IllegalArgumentException("재고가 부족하여 결제를 진행할 수 없습니다. itemId=" + itemId);
+        }
+        productItem.updateQuantity(productItem.getQuantity() - quantity); // 커밋 시 version 조건으로 UPDATE
+        if (!productItem.isInStock()) {
+            productFacetService.markChanged(List.of(productItem.getProduct().getId())); // 품절 - 커밋 후 패싯 인덱스 반영
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package org.example.mollyapi.order.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.delivery.dto.DeliveryReqDto;
+import org.example.mollyapi.delivery.entity.Delivery;
+import org.example.mollyapi.delivery.repository.DeliveryRepository;
+import org.example.mollyapi.order.dto.OrderPaymentContext;
+import org.example.mollyapi.order.entity.Order;
+import org.example.mollyapi.order.exception.OrderExpiredException;
+import org.example.mollyapi.order.repository.OrderDetailRepository;
+import org.example.mollyapi.order.repository.OrderRepository;
+import org.example.mollyapi.order.type.CheckoutStatus;
+import org.example.mollyapi.order.type.OrderStatus;
+import org.example.mollyapi.payment.dto.request.PaymentConfirmReqDto;
+import org.example.mollyapi.payment.dto.response.PaymentResDto;
+import org.example.mollyapi.payment.entity.Payment;
+import org.example.mollyapi.payment.repository.PaymentRepository;
+import org.example.mollyapi.payment.repository.PaymentRetryRepository;
+import org.example.mollyapi.payment.type.GatewayPaymentStatus;
+import org.example.mollyapi.payment.type.PaymentRetryStatus;
+import org.example.mollyapi.payment.type.PaymentStatus;
+import org.example.mollyapi.user.entity.User;
+import org.example.mollyapi.user.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 결제(체크아웃) 단계별 트랜잭션
+ * - prepare: 검증, 포인트 차감, 배송 정보 저장 후 커밋 (PREPARED)
+ * - (재고 홀드와 PG 승인 호출은 트랜잭션 밖에서 수행)
+ * - complete: 결제 승인 반영, 재고 홀드 확정 (COMPLETED)
+ * - compensate: PG 실패/장애 시 준비 단계 되돌림 (READY)
+ * - (PG 5xx 는 PREPARED 상태를 유지한 채 PaymentRetryService 가 재시도 후 complete/recover 호출)
+ * - settleAll: PENDING 으로 남은 결제를 PG에 조회한 결과 반영 (PaymentReconciliationService)
+ * 각 단계가 짧은 트랜잭션으로 끝나므로 PG 지연 동안 DB 커넥션과 락을 점유하지 않음
+ * 포인트 차감/환불은 조건부 UPDATE 로 처리 (같은 사용자의 동시 결제에서 읽은 잔액으로 덮어쓰지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderCheckoutService {
+
+    private static final int RECOVERY_BATCH_SIZE = 100;
+
+    private final OrderRepository orderRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentRetryRepository paymentRetryRepository;
+    private final DeliveryRepository deliveryRepository;
+    private final OrderDetailRepository orderDetailRepository;
+    private final UserRepository userRepository;
+    private final StockReservationService stockReservationService;
+    private final OrderCompensationService orderCompensationService;
+
+    /**
+     * 1단계: 결제 준비
+     */
+    @Transactional
+    public PaymentConfirmReqDto prepare(Long userId, String paymentKey, String tossOrderId, Long amount,
+                                        Integer pointUsage, String paymentType, DeliveryReqDto deliveryInfo) {
+        /// 1. 주문 행 잠금 후 주문 컨텍스트 조회 (주문 + 사용자 + 주문 상세 + 배송 + 최신 결제)
+        ///    같은 주문의 동시 결제 요청은 먼저 준비한 요청이 커밋할 때까지 대기 후 PREPARED 상태를 보고 실패
+        orderRepository.findByTossOrderIdForUpdate(tossOrderId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 주문을 찾을 수 없습니다. tossOrderId=" + tossOrderId));
+        OrderPaymentContext context = orderRepository.findPaymentContext(tossOrderId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 주문을 찾을 수 없습니다. tossOrderId=" + tossOrderId));
+        Order order = context.order();
+        User user = order.getUser();
+        if (!Objects.equals(user.getUserId(), userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다. userId=" + userId);
+        }
+
+        /// 2. 주문 상태 확인 (재시도 시 필요)
+        if (order.getStatus() != OrderStatus.PENDING) {
+            throw new IllegalStateException("결제 재시도는 PENDING 상태에서만 가능합니다.");
+        }
+
+        /// 3. 주문 만료 시간 확인 (호출 측에서 주문 실패 처리)
+        if (order.getExpirationTime().isBefore(LocalDateTime.now())) {
+            throw new OrderExpiredException(tossOrderId);
+        }
+
+        /// 4. 기존 결제 정보 확인 (주문에 결제는 하나밖에 없음)
+        Optional<Payment> latestPayment = context.findLatestPayment();
+        boolean isRetry = latestPayment.isPresent(); // 기존 결제 내역이 있으면 결제 재시도로 판단
+        if (latestPayment.isPresent() && latestPayment.get().getStatus() == PaymentStatus.APPROVED) {
+            throw new IllegalArgumentException("이미 결제된 주문입니다.");
+        }
+
+        /// 5. 재시도인 경우 기존 결제 정보 사용
+        if (isRetry) {
+            paymentKey = latestPayment.get().getPaymentKey();
+            amount = order.getTotalAmount();
+            paymentType = order.getPaymentType();
+            if (deliveryInfo == null && order.getDelivery() != null) {
+                deliveryInfo = order.getDelivery().toDto();
+            }
+        }
+
+        /// 6. 결제, 배송, 금액 검증
+        if (paymentKey == null || paymentKey.trim().isEmpty()) {
+            throw new IllegalArgumentException("결제 정보가 누락되었습니다.");
+        }
+        deliveryInfo.validate();
+        if (!Objects.equals(order.getTotalAmount(), amount)) {
+            throw new IllegalArgumentException("결제 금액이 일치하지 않습니다.");
+        }
+
+        /// 7. 포인트 조건부 차감 (잔액이 부족하면 실패, 보상 시 환불할 수 있도록 주문에 기록)
+        order.prepareCheckout(pointUsage);
+        if (pointUsage > 0 && userRepository.deductPoint(user.getUserId(), pointUsage) != 1) {
+            throw new IllegalArgumentException("사용자 포인트가 부족합니다.");
+        }
+
+        /// 8. 배송 정보 생성 후 주문에 연결 (재시도 시 기존 배송 정보 유지)
+        if (order.getDelivery() == null) {
+            Delivery delivery = deliveryRepository.save(Delivery.from(deliveryInfo, order.getId()));
+            order.setDelivery(delivery);
+        }
+
+        log.info("결제 준비 완료: tossOrderId={}, isRetry={}", order.getTossOrderId(), isRetry);
+        return new PaymentConfirmReqDto(
+                order.getId(),
+                order.getTossOrderId(),
+                order.getPaymentId(),
+                order.getTotalAmount(),
+                order.getPaymentType(),
+                order.getPointUsage()
+        );
+    }
+
+    /**
+     * 3단계: 결제 결과 반영 - 승인 시 주문 확정, 그 외에는 준비 단계 되돌림
+     */
+    @Transactional
+    public PaymentResDto complete(Long orderId, Payment payment) {
+        Order order = orderRepository.findOrderById(orderId);
+
+        if (Objects.requireNonNull(payment.getStatus()) == PaymentStatus.APPROVED) {
+            confirmOrder(order, paymentRepository.save(payment));
+        } else {
+            rollbackPrepared(order);
+        }
+        return PaymentResDto.from(payment);
+    }
+
+    /**
+     * PG 호출 실패 시 보상 - 차감한 포인트 환불 후 재시도 가능 상태로 되돌림
+     * (재고 홀드와 배송 정보는 재시도를 위해 유지, 홀드는 주문 만료 시 자동 반환)
+     */
+    @Transactional
+    public void compensate(Long orderId) {
+        orderRepository.findById(orderId).ifPresent(this::rollbackPrepared);
+    }
+
+    /**
+     * 결제 준비 상태로 남은 주문 복구 - 승인된 결제가 있으면 확정, 없으면 보상
+     * 승인 재시도가 진행 중인 주문은 재시도 결과를 기다림 (재시도 종료 시 PaymentRetryService 가 다시 호출)
+     * 결제가 PENDING 으로 남은 주문은 결제 대사 결과를 기다림
+     * (결제는 PG 호출 전에 PENDING 으로 커밋되므로, 결제가 없거나 실패면 PG가 승인했을 수 없는 주문)
+     */
+    @Transactional
+    public void recover(Long orderId) {
+        Order order = orderRepository.findOrderById(orderId);
+        if (!order.isCheckoutPrepared()
+                || paymentRetryRepository.existsByOrderIdAndStatusIn(orderId, PaymentRetryStatus.ACTIVE)) {
+            return;
+        }
+
+        Optional<Payment> latest = paymentRepository.findLatestPaymentByOrderId(orderId, PageRequest.of(0, 1)).stream()
+                .findFirst();
+        if (latest.isPresent() && latest.get().getStatus() == PaymentStatus.PENDING) {
+            // PG 승인 여부를 알 수 없음 - 결제 대사(PaymentReconciliationService)가 PG에 조회한 뒤 확정/보상
+            log.info("결제 준비 상태 복구 보류 - 결제 대사 대기: orderId={}", orderId);
+            return;
+        }
+
+        if (latest.isPresent() && latest.get().getStatus() == PaymentStatus.APPROVED) {
+            log.warn("결제 준비 상태 복구 - 승인된 결제 반영: orderId={}", orderId);
+            confirmOrder(order, latest.get());
+        } else {
+            log.warn("결제 준비 상태 복구 - 보상 처리: orderId={}", orderId);
+            rollbackPrepared(order);
+        }
+    }
+
+    /**
+     * 결제 대사 결과 일괄 반영 - PG 승인 시 결제 승인 + 주문 확정, 미승인 시 결제 실패 + 결제 준비 되돌림
+     * 주문 행을 잠근 뒤 결제가 아직 PENDING 인 경우만 반영 (승인 재시도/다른 인스턴스의 대사와 동시에 실행되어도 한 번만 처리)
+     * 결제 준비가 이미 되돌려진 주문의 PG 승인 결제는 PENDING 으로 남기고 반환 - 호출 측에서 PG 취소 후 cancelOrphan 호출
+     * (취소에 실패해도 PENDING 으로 남아 다음 대사 때 다시 조회/취소)
+     * @return PG 취소가 필요한 결제
+     */
+    @Transactional
+    public List<Payment> settleAll(Map<Long, GatewayPaymentStatus> statusByPaymentId) {
+        List<Payment> payments = paymentRepository.findAllById(statusByPaymentId.keySet());
+        List<Long> orderIds = payments.stream().map(payment -> payment.getOrder().getId()).distinct().toList();
+        Map<Long, Order> orders = orderRepository.findAllByIdInForUpdate(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        List<Payment> orphans = new ArrayList<>();
+        for (Payment payment : payments) {
+            Order order = orders.get(payment.getOrder().getId());
+            GatewayPaymentStatus status = statusByPaymentId.get(payment.getId());
+            if (order == null || payment.getStatus() != PaymentStatus.PENDING || status == GatewayPaymentStatus.UNKNOWN) {
+                continue;
+            }
+
+            if (status == GatewayPaymentStatus.APPROVED) {
+                if (order.isCheckoutPrepared()) {
+                    payment.successPayment();
+                    confirmOrder(order, payment);
+                } else {
+                    // 결제 준비가 이미 되돌려진 주문 - 주문은 건드리지 않고 PG 승인을 취소해야 함
+                    log.error("결제 대사 - PG 승인된 결제의 주문이 결제 준비 상태가 아님, 승인 취소 필요: orderId={}, paymentKey={}",
+                            order.getId(), payment.getPaymentKey());
+                    orphans.add(payment);
+                }
+            } else {
+                payment.failPayment("PG 미승인 (결제 대사)");
+                rollbackPrepared(order);
+            }
+        }
+        return orphans;
+    }
+
+    /**
+     * settleAll 이 반환한 결제의 PG 취소 결과 반영 - 아직 PENDING 인 경우만 취소로 기록
+     */
+    @Transactional
+    public void cancelOrphan(Long paymentId) {
+        paymentRepository.findById(paymentId)
+                .filter(payment -> payment.getStatus() == PaymentStatus.PENDING)
+                .ifPresent(payment -> {
+                    payment.successPayment();
+                    payment.cancelPayment();
+                    log.warn("결제 대사 - 결제 준비가 되돌려진 주문의 승인 취소 완료: orderId={}, paymentKey={}",
+                            payment.getOrder().getId(), payment.getPaymentKey());
+                });
+    }
+
+    /**
+     * 복구 대상 주문 - recover 가 보류하는 주문(승인 재시도 진행 중, PENDING 결제)은 조회 단계에서 제외
+     */
+    public List<Long> findStalePreparedOrderIds(LocalDateTime cutoff) {
+        return orderRepository.findIdsByCheckoutStatusAndPreparedBefore(
+                CheckoutStatus.PREPARED, cutoff, PageRequest.of(0, RECOVERY_BATCH_SIZE));
+    }
+
+    /**
+     * 주문 실패 처리 - 사용포인트 & 재고 홀드 & 장바구니 복구, 주문/주문 상세/결제/배송 삭제
+     */
+    @Transactional
+    public void failOrder(String tossOrderId) {
+        log.error("주문 실패 처리 시작: tossOrderId={}", tossOrderId);
+        // 1. 주문 조회
+        Order order = orderRepository.findByTossOrderId(tossOrderId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 주문을 찾을 수 없습니다. tossOrderId=" + tossOrderId));
+        failAll(List.of(order));
+        log.info("주문 실패 처리 완료: tossOrderId={}", tossOrderId);
+    }
+
+    /**
+     * 만료된 결제 대기 주문 일괄 실패 처리 (만료 타이머)
+     * - 결제 준비 중(PREPARED)이거나 만료 시각 전인 주문은 처리하지 않고 반환 (호출 측에서 다시 등록)
+     * - PENDING 결제가 남은 주문도 반환 - 보상으로 결제 준비가 되돌려졌어도 PG가 승인했을 수 있으므로 결제 대사 결과를 기다림
+     * - 이미 결제/실패 처리되어 대기 주문이 아니면 처리할 것이 없음
+     * 결제 준비와 동시에 실행되지 않도록 주문 행을 잠그고 상태 확인
+     * @return 나중에 다시 확인할 주문 ID
+     */
+    @Transactional
+    public List<Long> expireAll(List<Long> orderIds, LocalDateTime now) {
+        List<Long> deferred = new ArrayList<>();
+        List<Order> expired = new ArrayList<>();
+        List<Order> locked = orderRepository.findAllByIdInForUpdate(orderIds);
+        Set<Long> awaitingPayment = findAwaitingPayment(locked);
+        for (Order order : locked) {
+            if (order.getStatus() != OrderStatus.PENDING) {
+                continue;
+            }
+            if (order.isCheckoutPrepared() || order.getExpirationTime().isAfter(now) || awaitingPayment.contains(order.getId())) {
+                deferred.add(order.getId());
+                continue;
+            }
+            expired.add(order);
+        }
+
+        failAll(expired);
+        if (!expired.isEmpty()) {
+            log.info("만료된 주문 실패 처리: {}건", expired.size());
+        }
+        return deferred;
+    }
+
+    /**
+     * 주문 일괄 실패 처리 - 주문 수와 관계없이 재고/장바구니/삭제는 집합 단위 쿼리로 처리
+     * PENDING 결제가 남은 주문은 처리하지 않음 (결제 대사가 PG 승인 여부를 확인한 뒤 만료 타이머가 다시 처리)
+     */
+    private void failAll(List<Order> orders) {
+        Set<Long> awaitingPayment = findAwaitingPayment(orders);
+        if (!awaitingPayment.isEmpty()) {
+            log.warn("PENDING 결제가 남은 주문은 실패 처리하지 않음 - 결제 대사 대기: orderIds={}", awaitingPayment);
+            orders = orders.stream().filter(order -> !awaitingPayment.contains(order.getId())).toList();
+        }
+        if (orders.isEmpty()) {
+            return;
+        }
+        List<Long> orderIds = orders.stream().map(Order::getId).toList();
+
+        // 2. 결제 준비 단계에서 차감한 포인트 복구 (결제 준비 중인 주문만 해당)
+        orders.forEach(this::rollbackPrepared);
+
+        // 3. 재고 홀드 반환 (확정되지 않은 홀드만)
+        stockReservationService.releaseAll(orderIds);
+
+        // 4. 장바구니 복구 (주문 상세에서 cartId가 있는 항목을 다시 장바구니로 추가)
+        orderCompensationService.restoreCarts(orderDetailRepository.findCartRestorations(orderIds));
+
+        // 5. 주문, 주문 상세, 결제, 배송 삭제 (영속성 컨텍스트의 변경분을 먼저 반영한 뒤 벌크 삭제)
+        orderRepository.flush();
+        orderCompensationService.deleteOrders(orderIds);
+    }
+
+    private Set<Long> findAwaitingPayment(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(paymentRepository.findOrderIdsWithPendingPayment(orders.stream().map(Order::getId).toList()));
+    }
+
+    private void confirmOrder(Order order, Payment payment) {
+        order.addPayment(payment);  // 결제 추가
+        order.updateStatus(OrderStatus.SUCCEEDED);
+        order.completeCheckout();
+        stockReservationService.confirm(order.getId()); // 재고 홀드 -> 판매 확정
+        log.info("결제 확정 완료: tossOrderId={}", order.getTossOrderId());
+    }
+
+    private void rollbackPrepared(Order order) {
+        int refundPoint = order.resetCheckout();
+        if (refundPoint > 0) {
+            userRepository.refundPoint(order.getUser().getUserId(), refundPoint);
+            log.info("결제 준비 포인트 환불 - orderId={}, 환불 포인트={}", order.getId(), refundPoint);
+        }
+    }
+}
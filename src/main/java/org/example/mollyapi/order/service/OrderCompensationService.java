@@ -0,0 +1,164 @@
+package org.example.mollyapi.order.service;
+
+import com.github.f4b6a3.tsid.TsidCreator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.delivery.repository.DeliveryRepository;
+import org.example.mollyapi.order.dto.CartRestoration;
+import org.example.mollyapi.order.dto.OrderItemQuantity;
+import org.example.mollyapi.order.repository.OrderDetailRepository;
+import org.example.mollyapi.order.repository.OrderRepository;
+import org.example.mollyapi.payment.repository.PaymentRepository;
+import org.example.mollyapi.product.service.ProductAvailabilityService;
+import org.example.mollyapi.product.service.ProductDetailCache;
+import org.example.mollyapi.review.repository.ReviewRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 실패/만료/철회 시 재고, 구매수, 장바구니, 주문 데이터를 집합 단위로 복구/삭제
+ * - 재고/구매수: 아이템(상품)별 증감을 합산해 청크마다 UPDATE ... CASE 한 문장으로 반영 (행마다 엔티티 조회/저장 없음)
+ * - 장바구니: JDBC 배치 INSERT
+ * - 주문 삭제: 리뷰 -> 주문 상세 -> 결제 -> 주문 -> 배송 순으로 IN 절 삭제
+ * 호출 측 트랜잭션 안에서 실행 (JdbcTemplate 도 같은 커넥션 사용). PG 장애로 대량 실패가 나도 주문 수에 비례한 쿼리가 나가지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderCompensationService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String RESTORE_STOCK_SQL =
+            "UPDATE product_item SET quantity = quantity + CASE item_id %s END, version = version + 1 WHERE item_id IN (%s)";
+    private static final String ADJUST_PURCHASE_COUNT_SQL =
+            "UPDATE product SET purchase_count = GREATEST(COALESCE(purchase_count, 0) + CASE product_id %s END, 0) WHERE product_id IN (%s)";
+    private static final String INSERT_CART_SQL =
+            "INSERT INTO cart (cart_id, user_id, item_id, quantity, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderRepository orderRepository;
+    private final OrderDetailRepository orderDetailRepository;
+    private final PaymentRepository paymentRepository;
+    private final DeliveryRepository deliveryRepository;
+    private final ReviewRepository reviewRepository;
+    private final ProductDetailCache productDetailCache;
+    private final ProductAvailabilityService productAvailabilityService;
+
+    /**
+     * 주문한 수량만큼 재고 복구 + 구매수 차감 (철회 완료 시)
+     * 구매수는 결제 확정 시와 같이 주문의 아이템마다 1씩 차감
+     */
+    public void restoreOrderedStock(List<Long> orderIds) {
+        List<OrderItemQuantity> items = orderDetailRepository.findItemQuantities(orderIds);
+        Map<Long, Long> quantityByItem = items.stream()
+                .collect(Collectors.toMap(OrderItemQuantity::itemId, OrderItemQuantity::quantity, Long::sum, TreeMap::new));
+        Map<Long, Long> purchaseByProduct = items.stream()
+                .collect(Collectors.toMap(OrderItemQuantity::productId, item -> -1L, Long::sum, TreeMap::new));
+
+        restoreStock(quantityByItem);
+        adjustPurchaseCounts(purchaseByProduct);
+        log.info("재고 일괄 복구 완료: 주문 {}건, 아이템 {}개, 상품 {}개", orderIds.size(), quantityByItem.size(), purchaseByProduct.size());
+    }
+
+    /**
+     * 아이템별 재고 증가
+     */
+    public int restoreStock(Map<Long, Long> quantityByItem) {
+        int updated = updateByCase(RESTORE_STOCK_SQL, quantityByItem);
+        productDetailCache.markStockChanged(quantityByItem.keySet());
+        productAvailabilityService.markChanged(quantityByItem.keySet());
+        return updated;
+    }
+
+    /**
+     * 상품별 구매수 증감 (0 미만으로 내려가지 않음)
+     */
+    public int adjustPurchaseCounts(Map<Long, Long> deltaByProduct) {
+        return updateByCase(ADJUST_PURCHASE_COUNT_SQL, deltaByProduct);
+    }
+
+    /**
+     * 장바구니 다시 담기 (배치 INSERT)
+     */
+    public int restoreCarts(List<CartRestoration> carts) {
+        if (carts.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = carts.stream()
+                .map(cart -> new Object[]{TsidCreator.getTsid().toLong(), cart.userId(), cart.itemId(), cart.quantity(), now, now})
+                .toList();
+        for (int from = 0; from < batchArgs.size(); from += CHUNK_SIZE) {
+            jdbcTemplate.batchUpdate(INSERT_CART_SQL, batchArgs.subList(from, Math.min(from + CHUNK_SIZE, batchArgs.size())));
+        }
+        log.info("장바구니 일괄 복구 완료 - {}건", carts.size());
+        return carts.size();
+    }
+
+    /**
+     * 주문과 딸린 데이터 삭제 - PENDING 결제가 남은 주문은 건너뜀 (PG 승인 여부를 결제 대사가 확인해야 하므로)
+     * @return 삭제한 주문 수
+     */
+    public int deleteOrders(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> awaitingPayment = paymentRepository.findOrderIdsWithPendingPayment(orderIds);
+        if (!awaitingPayment.isEmpty()) {
+            log.warn("PENDING 결제가 남은 주문은 삭제하지 않음: orderIds={}", awaitingPayment);
+            orderIds = orderIds.stream().filter(orderId -> !awaitingPayment.contains(orderId)).toList();
+            if (orderIds.isEmpty()) {
+                return 0;
+            }
+        }
+        List<Long> orderDetailIds = orderDetailRepository.findOrderDetailIdsByOrderIds(orderIds);
+        if (!orderDetailIds.isEmpty()) {
+            reviewRepository.deleteByOrderDetailIds(orderDetailIds);
+            orderDetailRepository.deleteAllByOrderIds(orderIds);
+        }
+        paymentRepository.deleteAllByOrderIds(orderIds);
+
+        List<Long> deliveryIds = orderRepository.findDeliveryIdsByIds(orderIds);
+        int deletedOrders = orderRepository.deleteAllByOrderIds(orderIds);
+        if (!deliveryIds.isEmpty()) {
+            deliveryRepository.deleteAllByIdInBatch(deliveryIds);
+        }
+        log.debug("주문 삭제: 주문 {}건, 주문 상세 {}건, 배송 {}건", deletedOrders, orderDetailIds.size(), deliveryIds.size());
+        return deletedOrders;
+    }
+
+    /**
+     * ID별 증감을 청크마다 UPDATE ... SET col = col + CASE id WHEN .. THEN .. END WHERE id IN (..) 한 문장으로 반영
+     * ID 오름차순으로 갱신해 동시에 실행되는 복구끼리 교착되지 않도록 함
+     * (숫자 값만 들어가므로 바인딩 대신 리터럴로 생성 - CASE 결과 타입을 DB가 추론할 수 있도록)
+     */
+    private int updateByCase(String sqlFormat, Map<Long, Long> deltaById) {
+        List<Map.Entry<Long, Long>> deltas = new TreeMap<>(deltaById).entrySet().stream()
+                .filter(entry -> entry.getValue() != null && entry.getValue() != 0)
+                .toList();
+
+        int updated = 0;
+        for (int from = 0; from < deltas.size(); from += CHUNK_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = deltas.subList(from, Math.min(from + CHUNK_SIZE, deltas.size()));
+            StringBuilder cases = new StringBuilder();
+            List<String> ids = new ArrayList<>(chunk.size());
+            for (Map.Entry<Long, Long> entry : chunk) {
+                long id = entry.getKey();
+                long delta = entry.getValue();
+                cases.append("WHEN ").append(id).append(" THEN ").append(delta).append(' ');
+                ids.add(Long.toString(id));
+            }
+            updated += jdbcTemplate.update(String.format(sqlFormat, cases, String.join(",", ids)));
+        }
+        return updated;
+    }
+}
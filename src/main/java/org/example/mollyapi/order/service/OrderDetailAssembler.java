@@ -0,0 +1,145 @@
+package org.example.mollyapi.order.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.mollyapi.cart.entity.Cart;
+import org.example.mollyapi.cart.repository.CartRepository;
+import org.example.mollyapi.order.dto.OrderRequestDto;
+import org.example.mollyapi.order.entity.Order;
+import org.example.mollyapi.order.entity.OrderDetail;
+import org.example.mollyapi.product.entity.Product;
+import org.example.mollyapi.product.entity.ProductItem;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 상세 조립 단계
+ * - 주문 요청에 포함된 장바구니, 상품 아이템(+상품)을 IN 쿼리로 한 번에 조회
+ * - 조회한 스냅샷으로 재고를 검증하고 주문 상세(OrderDetail)를 메모리에서 생성
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderDetailAssembler {
+
+    private final CartRepository cartRepository;
+    private final ProductItemRepository productItemRepository;
+
+    public List<OrderDetail> assemble(Order order, List<OrderRequestDto> orderRequests) {
+        // 1. 장바구니 일괄 조회 (IN 쿼리 1회)
+        Map<Long, Cart> carts = loadCarts(orderRequests);
+
+        // 2. 주문 라인별 itemId, quantity 확정 및 검증
+        List<OrderLine> lines = new ArrayList<>(orderRequests.size());
+        for (OrderRequestDto req : orderRequests) {
+            lines.add(toOrderLine(req, carts));
+        }
+
+        // 3. 상품 아이템 + 상품 일괄 조회 (IN 쿼리 1회)
+        Map<Long, ProductItem> productItems = loadProductItems(lines);
+
+        // 4. 스냅샷 기준 재고 검증 (동일 아이템이 여러 라인에 있으면 합산)
+        validateStock(lines, productItems);
+
+        // 5. 주문 상세 생성
+        return lines.stream()
+                .map(line -> createOrderDetail(order, line, productItems.get(line.itemId())))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Cart> loadCarts(List<OrderRequestDto> orderRequests) {
+        Set<Long> cartIds = orderRequests.stream()
+                .map(OrderRequestDto::cartId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (cartIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return cartRepository.findAllById(cartIds).stream()
+                .collect(Collectors.toMap(Cart::getCartId, Function.identity()));
+    }
+
+    private OrderLine toOrderLine(OrderRequestDto req, Map<Long, Cart> carts) {
+        Cart cart = null;
+        if (req.cartId() != null) {
+            cart = carts.get(req.cartId());
+            if (cart == null) {
+                throw new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다. cartId=" + req.cartId());
+            }
+        }
+
+        // 장바구니의 ProductItem은 프록시이므로 getId()는 추가 조회를 발생시키지 않음
+        Long itemId = (cart != null) ? cart.getProductItem().getId() : req.itemId();
+        Long quantity = (cart != null) ? cart.getQuantity() : req.quantity();
+
+        // itemId 및 quantity 검증
+        if (itemId == null) {
+            throw new IllegalArgumentException("상품 ID가 존재하지 않습니다.");
+        }
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("주문 수량은 1개 이상이어야 합니다.");
+        }
+
+        return new OrderLine(req.cartId(), itemId, quantity);
+    }
+
+    private Map<Long, ProductItem> loadProductItems(List<OrderLine> lines) {
+        Set<Long> itemIds = lines.stream()
+                .map(OrderLine::itemId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<Long, ProductItem> productItems = productItemRepository.findAllWithProductByIdIn(itemIds).stream()
+                .collect(Collectors.toMap(ProductItem::getId, Function.identity()));
+
+        for (Long itemId : itemIds) {
+            if (!productItems.containsKey(itemId)) {
+                throw new IllegalArgumentException("상품이 존재하지 않습니다. itemId=" + itemId);
+            }
+        }
+        return productItems;
+    }
+
+    private void validateStock(List<OrderLine> lines, Map<Long, ProductItem> productItems) {
+        Map<Long, Long> requestedByItem = new LinkedHashMap<>();
+        for (OrderLine line : lines) {
+            requestedByItem.merge(line.itemId(), line.quantity(), Long::sum);
+        }
+
+        // 재고 조회(차감 X)
+        requestedByItem.forEach((itemId, requested) -> {
+            if (productItems.get(itemId).getQuantity() < requested) {
+                throw new IllegalArgumentException("재고가 부족하여 주문할 수 없습니다. itemId=" + itemId);
+            }
+        });
+    }
+
+    private OrderDetail createOrderDetail(Order order, OrderLine line, ProductItem productItem) {
+        Product product = productItem.getProduct();
+        return new OrderDetail( // create method
+                order,
+                productItem,
+                productItem.getSize(),
+                product.getPrice(),
+                line.quantity(),
+                product.getBrandName(),
+                product.getProductName(),
+                line.cartId()
+        );
+    }
+
+    /**
+     * 검증이 끝난 주문 라인 (장바구니 주문이면 장바구니의 아이템/수량으로 확정됨)
+     */
+    private record OrderLine(Long cartId, Long itemId, Long quantity) {
+    }
+}
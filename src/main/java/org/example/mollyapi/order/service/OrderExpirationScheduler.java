@@ -0,0 +1,101 @@
+package org.example.mollyapi.order.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.order.dto.OrderExpiration;
+import org.example.mollyapi.order.repository.OrderRepository;
+import org.example.mollyapi.order.util.HierarchicalTimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 결제 대기 주문 만료 처리
+ * - 주문 생성 시 만료 시각으로 타이밍 휠에 등록하고, tick 마다 만료된 주문을 한 트랜잭션으로 일괄 실패 처리 (재고 홀드/포인트/장바구니 복구)
+ * - 한 tick 에 처리하는 주문 수는 batch-size 로 제한하고 남은 주문은 다음 tick 에 이어서 처리
+ * - 애플리케이션 시작 시 DB의 결제 대기 주문으로 휠을 재구성 (재시작 중 등록이 유실되지 않도록)
+ * 여러 인스턴스가 같은 주문을 처리해도 OrderCheckoutService.expireAll 이 행 잠금 후 상태를 확인하므로 한 번만 실패 처리됨
+ */
+@Slf4j
+@Component
+public class OrderExpirationScheduler {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final long DEFER_MILLIS = 60_000; // 결제 진행 중인 주문은 1분 후 다시 확인
+
+    private final OrderRepository orderRepository;
+    private final OrderCheckoutService orderCheckoutService;
+    private final HierarchicalTimingWheel<Long> timingWheel;
+    private final int batchSize;
+
+    public OrderExpirationScheduler(
+            OrderRepository orderRepository,
+            OrderCheckoutService orderCheckoutService,
+            @Value("${order.expiration.tick-ms:1000}") long tickMillis,
+            @Value("${order.expiration.wheel-size:60}") int wheelSize,
+            @Value("${order.expiration.batch-size:200}") int batchSize
+    ) {
+        this.orderRepository = orderRepository;
+        this.orderCheckoutService = orderCheckoutService;
+        this.timingWheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 주문 만료 등록 (같은 주문을 다시 등록하면 만료 시각이 갱신됨)
+     */
+    public void register(Long orderId, LocalDateTime expirationTime) {
+        timingWheel.schedule(orderId, toEpochMillis(expirationTime));
+    }
+
+    /**
+     * 시작 시 결제 대기 주문으로 휠 재구성 (이미 만료된 주문은 다음 tick 부터 배치로 처리됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long afterId = 0L;
+        int count = 0;
+        while (true) {
+            List<OrderExpiration> page = orderRepository.findPendingExpirationsAfter(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            page.forEach(expiration -> register(expiration.orderId(), expiration.expirationTime()));
+            count += page.size();
+            if (page.size() < REBUILD_PAGE_SIZE) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).orderId();
+        }
+        log.info("[Scheduler] 주문 만료 타이머 재구성 완료: {}개 주문", count);
+    }
+
+    @Scheduled(fixedDelayString = "${order.expiration.tick-ms:1000}")
+    public void expireOrders() {
+        timingWheel.advance(System.currentTimeMillis());
+
+        List<Long> orderIds = timingWheel.pollExpired(batchSize);
+        if (orderIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> deferred;
+        try {
+            deferred = orderCheckoutService.expireAll(orderIds, LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("[Scheduler] 주문 만료 처리 실패 - 재등록: {}개 주문, error={}", orderIds.size(), e.getMessage());
+            deferred = orderIds;
+        }
+        // 결제 진행 중이거나 만료 시각이 늦춰진 주문은 다시 등록
+        long retryAt = System.currentTimeMillis() + DEFER_MILLIS;
+        deferred.forEach(orderId -> timingWheel.schedule(orderId, retryAt));
+        log.info("[Scheduler] 주문 만료 처리: {}/{}개 주문, 대기 중 {}개", orderIds.size() - deferred.size(), orderIds.size(), timingWheel.size());
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
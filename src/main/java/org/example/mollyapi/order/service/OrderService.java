@@ -21,15 +21,15 @@ import org.example.mollyapi.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface OrderService {
-    OrderHistoryResponseDto getUserOrders(Long userId);
+    OrderHistoryResponseDto getUserOrders(Long userId, Long cursorId, LocalDateTime cursorOrderedAt, int size);
     OrderResponseDto getOrderDetails(Long orderId);
     OrderResponseDto createOrder(Long userId, List<OrderRequestDto> orderRequests);
     String cancelOrder(Long orderId);
     void expireOrder(Long orderId);
     PaymentResDto processPayment(Long userId, String paymentKey, String tossOrderId, Long amount, String point, String paymentType, DeliveryReqDto deliveryInfo);
-    PaymentResDto processPaymentTest(Long userId, String paymentKey, String tossOrderId, Long amount, String point, String paymentType, DeliveryReqDto deliveryInfo, String status);
     void withdrawOrder(Long orderId);
 }
\ No newline at end of file
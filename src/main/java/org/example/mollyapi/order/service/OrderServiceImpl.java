@@ -6,9 +6,7 @@ import org.example.mollyapi.address.dto.AddressResponseDto;
 import org.example.mollyapi.address.entity.Address;
 import org.example.mollyapi.address.repository.AddressRepository;
 import org.example.mollyapi.cart.entity.Cart;
-import org.example.mollyapi.cart.repository.CartRepository;
 import org.example.mollyapi.common.exception.CustomException;
-import org.example.mollyapi.common.exception.error.impl.OrderError;
 import org.example.mollyapi.common.exception.error.impl.PaymentError;
 import org.example.mollyapi.delivery.dto.DeliveryReqDto;
 import org.example.mollyapi.delivery.entity.Delivery;
@@ -16,29 +14,26 @@ import org.example.mollyapi.delivery.repository.DeliveryRepository;
 import org.example.mollyapi.delivery.type.DeliveryStatus;
 import org.example.mollyapi.order.dto.*;
 import org.example.mollyapi.order.entity.*;
+import org.example.mollyapi.order.exception.OrderExpiredException;
 import org.example.mollyapi.order.repository.OrderDetailRepository;
 import org.example.mollyapi.order.repository.OrderRepository;
 import org.example.mollyapi.order.type.CancelStatus;
 import org.example.mollyapi.order.type.OrderStatus;
+import org.example.mollyapi.order.util.TossOrderIdGenerator;
 import org.example.mollyapi.payment.dto.request.PaymentConfirmReqDto;
 import org.example.mollyapi.payment.dto.request.PaymentRequestDto;
 import org.example.mollyapi.payment.dto.response.PaymentInfoResDto;
 import org.example.mollyapi.payment.dto.response.PaymentResDto;
 import org.example.mollyapi.payment.entity.Payment;
-import org.example.mollyapi.payment.repository.PaymentRepository;
+import org.example.mollyapi.payment.exception.RetryablePaymentException;
 import org.example.mollyapi.payment.service.PaymentService;
-import org.example.mollyapi.payment.type.PaymentStatus;
 import org.example.mollyapi.payment.util.AESUtil;
-import org.example.mollyapi.product.entity.ProductItem;
-import org.example.mollyapi.product.repository.ProductItemRepository;
-import org.example.mollyapi.review.repository.ReviewRepository;
 import org.example.mollyapi.user.entity.User;
 import org.example.mollyapi.user.repository.UserRepository;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -47,43 +42,52 @@ import static java.lang.Integer.parseInt;
 import static org.example.mollyapi.common.exception.error.impl.OrderError.*;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Random;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 //@Transactional
 public class OrderServiceImpl implements OrderService{
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final OrderDetailRepository orderDetailRepository;
-    private final ProductItemRepository productItemRepository;
     private final UserRepository userRepository;
-    private final PaymentRepository paymentRepository;
     private final DeliveryRepository deliveryRepository;
     private final AddressRepository addressRepository;
-    private final ReviewRepository reviewRepository;
-    private final CartRepository cartRepository;
     private final PaymentService paymentService;
+    private final OrderDetailAssembler orderDetailAssembler;
     private final OrderStockService validationService;
+    private final TossOrderIdGenerator tossOrderIdGenerator;
+    private final OrderCheckoutService orderCheckoutService;
+    private final OrderExpirationScheduler orderExpirationScheduler;
+    private final PaymentRetryService paymentRetryService;
+    private final OrderCompensationService orderCompensationService;
 
 
     /**
      * 사용자의 주문 내역 조회 (GET /orders/{userId})
      */
-    public OrderHistoryResponseDto getUserOrders(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. userId=" + userId));
+    @Transactional(readOnly = true)
+    public OrderHistoryResponseDto getUserOrders(Long userId, Long cursorId, LocalDateTime cursorOrderedAt, int size) {
+        if (size <= 0 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 크기는 1 이상 " + MAX_HISTORY_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다. userId=" + userId);
+        }
 
-        List<Order> orders = orderRepository.findOrdersByUserAndStatusIn(
-                user, List.of(OrderStatus.SUCCEEDED, OrderStatus.WITHDRAW)
-        );
+        // 다음 페이지 존재 여부 판단을 위해 size + 1 건 조회
+        List<OrderStatus> statuses = List.of(OrderStatus.SUCCEEDED, OrderStatus.WITHDRAW);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<OrderHistoryRow> rows = (cursorId == null || cursorOrderedAt == null)
+                ? orderRepository.findHistoryRows(userId, statuses, limit)
+                : orderRepository.findHistoryRowsAfter(userId, statuses, cursorOrderedAt, cursorId, limit);
 
-        return new OrderHistoryResponseDto(userId, orders, paymentRepository, reviewRepository);
+        return OrderHistoryResponseDto.of(userId, rows, size);
     }
 
 
@@ -131,22 +135,19 @@ public class OrderServiceImpl implements OrderService{
             }
         }
 
-        // 결제용 tossOrderId 생성
-        String tossOrderId;
-        do {
-            tossOrderId = generateTossOrderId();
-        } while (orderRepository.existsByTossOrderId(tossOrderId));
+        // 결제용 tossOrderId 생성 (노드 ID 포함 TSID라 중복 조회 불필요)
+        String tossOrderId = tossOrderIdGenerator.generate();
 
         // 새로운 주문 생성 (초기 상태는 PENDING)
         Order order = new Order(user, tossOrderId);
-        List<OrderDetail> orderDetails = orderRequests.stream()
-                .map(req -> createOrderDetail(order, req))
-                .collect(Collectors.toList());
+        // 장바구니, 상품 아이템을 일괄 조회하여 주문 상세 생성
+        List<OrderDetail> orderDetails = orderDetailAssembler.assemble(order, orderRequests);
 
         // 주문 상세(OrderDetail) 저장
         orderRepository.save(order); // ❓순서 바뀌어도 되는거임????
         orderDetailRepository.saveAll(orderDetails);
         order.updateTotalAmount(calculateTotalAmount(orderDetails));
+        orderExpirationScheduler.register(order.getId(), order.getExpirationTime()); // 만료 시 자동 실패 처리
 
         // ❓비교 #1
         AddressResponseDto defaultAddress = addressRepository.findByUserAndDefaultAddr(user, true)
@@ -161,56 +162,12 @@ public class OrderServiceImpl implements OrderService{
         return OrderResponseDto.from(order, orderDetails, user.getPoint(), defaultAddress);
     }
 
-    private String generateTossOrderId() {
-        return "ORD-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")) + "-" + new Random().nextInt(9000);
-    }
-
 
     /**
-     * 주문 상세 생성 - 장바구니 주문, 바로 주문 구분
+     * 주문 상세 생성 - 장바구니 주문, 바로 주문 구분 (단건)
      */
     public OrderDetail createOrderDetail(Order order, OrderRequestDto req) {
-        Cart cart = null;
-        if (req.cartId() != null) {
-            cart = cartRepository.findById(req.cartId())
-                    .orElseThrow(() -> new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다. cartId=" + req.cartId()));
-        }
-
-        Long itemId = (cart != null) ? cart.getProductItem().getId() : req.itemId();
-        Long quantity = (cart != null) ? cart.getQuantity() : req.quantity();
-
-        // itemId 및 quantity 검증
-        if (itemId == null) {
-            throw new IllegalArgumentException("상품 ID가 존재하지 않습니다.");
-        }
-        if (quantity == null || quantity <= 0) {
-            throw new IllegalArgumentException("주문 수량은 1개 이상이어야 합니다.");
-        }
-
-        ProductItem productItem = productItemRepository.findById(itemId)
-                .orElseThrow(() -> new IllegalArgumentException("상품이 존재하지 않습니다. itemId=" + itemId));
-
-//        // 중복 주문 방지: 같은 상품을 이미 주문했는지 체크
-//        long existingOrderCount = orderRepository.countByUserAndProductItem(order.getUser(), productItem.getId());
-//        if (existingOrderCount > 0) {
-//            throw new IllegalArgumentException("이미 동일 상품에 대한 주문이 진행 중입니다.");
-//        }
-
-        // 재고 조회(차감 X)
-        if (productItem.getQuantity() < quantity) {
-            throw new IllegalArgumentException("재고가 부족하여 주문할 수 없습니다. itemId=" + itemId);
-        }
-
-        return new OrderDetail( // create method
-                order,
-                productItem,
-                productItem.getSize(),
-                productItem.getProduct().getPrice(),
-                quantity,
-                productItem.getProduct().getBrandName(),
-                productItem.getProduct().getProductName(),
-                req.cartId()
-        );
+        return orderDetailAssembler.assemble(order, List.of(req)).get(0);
     }
 
     /**
@@ -257,312 +214,55 @@ public class OrderServiceImpl implements OrderService{
 
     /**
      * 결제 요청
+     * 준비(tx) -> 재고 홀드, PG 승인 호출(트랜잭션 밖) -> 결과 반영(tx) 순서로 진행하여
+     * 재고 차감 대기와 PG 응답을 기다리는 동안 DB 커넥션과 락을 점유하지 않음
+     * PG 5xx 응답은 요청 스레드에서 재시도하지 않고 재시도 대기열에 등록 후 결제대기(PENDING)로 응답
      */
-    @Transactional
     public PaymentResDto processPayment(Long userId, String paymentKey, String tossOrderId, Long amount, String point, String paymentType, DeliveryReqDto deliveryInfo) {
-        System.out.println("----------------------------------ProcessPayment 트랜잭션 시작----------------------------------");
-
-        /// 1. 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. userId=" + userId));
-
-        /// 2-1. 주문 조회
-        final String tossOrderIdFinal = tossOrderId; // effectively final 보장
-        Order order = orderRepository.findByTossOrderIdWithDetails(tossOrderIdFinal)
-                .orElseThrow(() -> new IllegalArgumentException("해당 주문을 찾을 수 없습니다. tossOrderId=" + tossOrderIdFinal));
-
-        /// 2-2. 주문 상태 확인 (재시도 시 필요)
-        if (order.getStatus() != OrderStatus.PENDING) {
-            throw new IllegalStateException("결제 재시도는 PENDING 상태에서만 가능합니다.");
-        }
-
-        /// 2-3. 주문 만료 시간 확인 (시간 초과 시 주문 실패 처리)
-        if (order.getExpirationTime().isBefore(LocalDateTime.now())) {
-            failOrder(tossOrderId);
-            throw new IllegalStateException("결제 가능 시간이 초과되었습니다. 주문을 다시 생성해주세요.");
-        }
-
-        /// 3-1. 기존 결제 정보 확인 (주문에 결제는 하나밖에 없음)
-        Optional<PaymentInfoResDto> paymentInfoResDto = paymentService.findLatestPayment(order.getId());
-        boolean isRetry = paymentInfoResDto.isPresent(); // 기존 결제 내역이 있으면 결제 재시도로 판단
-        if (paymentInfoResDto.isPresent() && paymentInfoResDto.get().paymentStatus() == PaymentStatus.APPROVED) {
-            throw new IllegalArgumentException("이미 결제된 주문입니다.");
-        }
-
-        Delivery delivery = Delivery.from(deliveryInfo, order.getId());
-        deliveryRepository.save(delivery);
-
-        order.setDelivery(delivery);
-        orderRepository.save(order);
-
-        /// 3-2. 최초 요청이 아닌 경우 (재시도 시) 결제 정보 등 파라미터 재입력 받아 업데이트 가능
-        if (isRetry) {
-            PaymentInfoResDto latestPaymentInfo = paymentService.findLatestPayment(order.getId())
-                    .orElseThrow(() -> new IllegalArgumentException("결제 정보가 없습니다."));
-
-            paymentKey = latestPaymentInfo.paymentKey();
-            tossOrderId = latestPaymentInfo.tossOrderId();
-            amount = order.getTotalAmount();
-//            point = String.valueOf(order.getPointUsage());
-            paymentType = order.getPaymentType();
-//            deliveryInfo = order.getDelivery().toDto();
-        }
-
-        /// 3-3. 결제 정보 검증 추가
-        if (paymentKey == null || paymentKey.trim().isEmpty()) {
-            throw new IllegalArgumentException("결제 정보가 누락되었습니다.");
-        }
-
-        /// 3-4. 배송 정보 검증 추가
-        deliveryInfo.validate();
-
-        /// 3-5. 결제 금액 검증
-        validateAmount(order.getTotalAmount(), amount);
-
-        /// 4. 포인트 정보 복호화 및 검증, 차감 (tx1)
+        // 포인트 정보 복호화
         Integer pointUsage = Optional.ofNullable(AESUtil.decryptWithSalt(point))
                 .map(Integer::parseInt)
                 .orElse(0); // 기본값 0 설정. NumberFormatException 방지
-        validateUserPoint(user, pointUsage);
-        user.updatePoint(-pointUsage);
-        userRepository.save(user);
-
-        /// 5. 배송 정보 생성 후 주문에 연결 (tx1)
-//        Delivery delivery = createDelivery(deliveryInfo);
-//        delivery.setOrder(order);
-//        order.setDelivery(delivery);
-        deliveryRepository.save(delivery); // * 서비스로
-        orderRepository.save(order);
-//        Delivery delivery = Delivery.from(deliveryInfo, order);  // ✅ Order 설정 추가
-//        deliveryRepository.save(delivery);
-
-        /// 6. 재고 검증 및 차감, 장바구니 삭제 : 첫 결제 요청일 때만 실핼 (tx2)
-        if (!isRetry) {
-            validationService.validateBeforePayment(order.getId());
-        }
-
-        /// 7. 주문 정보 저장
-//        orderRepository.save(order);
-
-        /// 10. PaymentRequestDto 생성 후 PaymentService 호출
-        PaymentConfirmReqDto paymentConfirmReqDto = new PaymentConfirmReqDto(
-                order.getId(),
-                order.getTossOrderId(),
-                order.getPaymentId(),
-                order.getTotalAmount(),
-                order.getPaymentType(),
-                order.getPointUsage()
-        );
-
-        /// 11. 결제 진행
-        Payment payment = paymentService.processPayment(userId, paymentConfirmReqDto);
-        log.info("payment = {}", payment);
-        // 12. 결제 성공/실패에 따라 나머지 로직 처리
-        if (Objects.requireNonNull(payment.getStatus()) == PaymentStatus.APPROVED) {
-            log.info("APPROVE 실행");
-            order.addPayment(payment);  // 결제 추가
-            order.updateStatus(OrderStatus.SUCCEEDED);
-            orderRepository.save(order);
-        }
-        System.out.println("----------------------------------ProcessPayment 트랜잭션 종료----------------------------------");
-        return PaymentResDto.from(payment);
-    }
-
-    @Transactional
-    public PaymentResDto processPaymentTest(Long userId, String paymentKey, String tossOrderId, Long amount, String point, String paymentType, DeliveryReqDto deliveryInfo, String status) {
-        System.out.println("----------------------------------ProcessPayment 트랜잭션 시작----------------------------------");
-
-        /// 1. 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. userId=" + userId));
-
-        /// 2-1. 주문 조회
-        final String tossOrderIdFinal = tossOrderId; // effectively final 보장
-        Order order = orderRepository.findByTossOrderIdWithDetails(tossOrderIdFinal)
-                .orElseThrow(() -> new IllegalArgumentException("해당 주문을 찾을 수 없습니다. tossOrderId=" + tossOrderIdFinal));
-
-        log.info("status = {}", order.getStatus());
-        /// 2-2. 주문 상태 확인 (재시도 시 필요)
-        if (order.getStatus() != OrderStatus.PENDING) {
-            throw new IllegalStateException("결제 재시도는 PENDING 상태에서만 가능합니다.");
-        }
 
-        /// 2-3. 주문 만료 시간 확인 (시간 초과 시 주문 실패 처리)
-        if (order.getExpirationTime().isBefore(LocalDateTime.now())) {
-            failOrder(tossOrderId);
-            throw new IllegalStateException("결제 가능 시간이 초과되었습니다. 주문을 다시 생성해주세요.");
-        }
-
-        /// 3. `Delivery` 생성 및 `Order`와 연결
-        Delivery delivery = Delivery.from(deliveryInfo, order.getId()); // 🚀 orderId 설정
-        deliveryRepository.save(delivery); // orderId 포함한 채 저장됨
-
-        /// 4. `Order`에 `delivery_id` 설정 후 저장
-        order.setDelivery(delivery);
-        orderRepository.save(order); // delivery_id 포함된 상태로 저장됨
-
-        if (delivery == null) {
-            throw new IllegalArgumentException("배송 정보를 생성할 수 없습니다.");
-        }
-
-        /// 3-1. 기존 결제 정보 확인 (주문에 결제는 하나밖에 없음)
-        Optional<PaymentInfoResDto> paymentInfoResDto = paymentService.findLatestPayment(order.getId());
-        boolean isRetry = paymentInfoResDto.isPresent(); // 기존 결제 내역이 있으면 결제 재시도로 판단
-//        if (paymentInfoResDto.isPresent() && paymentInfoResDto.get().paymentStatus() == PaymentStatus.APPROVED) {
-//            throw new IllegalArgumentException("이미 결제된 주문입니다.");
-//        }
-
-
-        /// 3-2. 최초 요청이 아닌 경우 (재시도 시) 결제 정보 등 파라미터 재입력 받아 업데이트 가능
-        if (isRetry) {
-            PaymentInfoResDto latestPaymentInfo = paymentService.findLatestPayment(order.getId())
-                    .orElseThrow(() -> new IllegalArgumentException("결제 정보가 없습니다."));
-
-            paymentKey = latestPaymentInfo.paymentKey();
-            tossOrderId = latestPaymentInfo.tossOrderId();
-            amount = order.getTotalAmount();
-            point = String.valueOf(order.getPointUsage());
-            paymentType = order.getPaymentType();
-            deliveryInfo = order.getDelivery().toDto();
-        }
-
-        /// 3-3. 결제 정보 검증 추가
-        if (paymentKey == null || paymentKey.trim().isEmpty()) {
-            throw new IllegalArgumentException("결제 정보가 누락되었습니다.");
+        /// 1. 결제 준비 (검증, 포인트 차감, 배송 정보 저장) - 커밋 후 PREPARED
+        PaymentConfirmReqDto paymentConfirmReqDto;
+        try {
+            paymentConfirmReqDto = orderCheckoutService.prepare(
+                    userId, paymentKey, tossOrderId, amount, pointUsage, paymentType, deliveryInfo);
+        } catch (OrderExpiredException e) {
+            // 시간 초과 시 주문 실패 처리
+            failOrder(e.getTossOrderId());
+            throw new IllegalStateException(e.getMessage());
         }
 
-        /// 3-4. 배송 정보 검증 추가
-        deliveryInfo.validate();
-
-        /// 3-5. 결제 금액 검증
-        validateAmount(order.getTotalAmount(), amount);
-
-        /// 4. 포인트 정보 복호화 및 검증, 차감 (tx1)
-//        Integer pointUsage = Optional.ofNullable(AESUtil.decryptWithSalt(point))
-//                .map(Integer::parseInt)
-//                .orElse(0); // 기본값 0 설정. NumberFormatException 방지
-        Integer pointUsage = Integer.parseInt(point);
-        validateUserPoint(user, pointUsage);
-        user.updatePoint(-pointUsage);
-        userRepository.save(user);
-
-//        /// 5. 배송 정보 생성 후 주문에 연결 (tx1)
-////        Delivery delivery = createDelivery(deliveryInfo);
-////        delivery.setOrder(order);
-////        order.setDelivery(delivery);
-//        orderRepository.save(order);
-//        deliveryRepository.save(delivery); // * 서비스로
-////        Delivery delivery = Delivery.from(deliveryInfo, order);  // ✅ Order 설정 추가
-////        deliveryRepository.save(delivery);
-
-        /// 6. 재고 검증 및 차감, 장바구니 삭제 : 첫 결제 요청일 때만 실핼 (tx2)
-        if (!isRetry) {
-            validationService.validateBeforePayment(order.getId());
+        Payment payment;
+        try {
+            /// 2. 재고 홀드, 장바구니 삭제 (주문당 한 번만 수행됨) - 트랜잭션 밖
+            validationService.validateBeforePayment(paymentConfirmReqDto.orderId());
+
+            /// 3. PG 승인 호출 - 트랜잭션 밖
+            payment = paymentService.processPayment(userId, paymentConfirmReqDto);
+        } catch (RetryablePaymentException e) {
+            // PG 일시 장애 - 결제 준비 상태를 유지한 채 재시도 대기열에 등록하고 바로 응답 (재시도 결과는 워커가 반영)
+            log.warn("결제 승인 호출 일시 장애 - 재시도 예약: orderId={}, error={}", paymentConfirmReqDto.orderId(), e.getMessage());
+            paymentRetryService.schedule(userId, paymentConfirmReqDto, e.getMessage());
+            return PaymentResDto.pending(paymentConfirmReqDto);
+        } catch (RuntimeException e) {
+            log.warn("재고 홀드 또는 결제 승인 호출 실패 - 결제 준비 보상 처리: orderId={}, error={}", paymentConfirmReqDto.orderId(), e.getMessage());
+            orderCheckoutService.compensate(paymentConfirmReqDto.orderId());
+            throw e;
         }
-
-        /// 7. 주문 정보 저장
-//        orderRepository.save(order);
-
-        /// 10. PaymentRequestDto 생성 후 PaymentService 호출
-        PaymentConfirmReqDto paymentConfirmReqDto = new PaymentConfirmReqDto(
-                order.getId(),
-                order.getTossOrderId(),
-                order.getPaymentId(),
-                order.getTotalAmount(),
-                order.getPaymentType(),
-                order.getPointUsage()
-        );
-
-        /// 11. 결제 진행
-        Payment payment = paymentService.processPaymentTest(userId, paymentConfirmReqDto, status);
         log.info("payment = {}", payment);
-        // 12. 결제 성공/실패에 따라 나머지 로직 처리
-        if (Objects.requireNonNull(payment.getStatus()) == PaymentStatus.APPROVED) {
-            log.info("APPROVE 실행");
-            order.addPayment(payment);  // 결제 추가
-            order.updateStatus(OrderStatus.SUCCEEDED);
-            orderRepository.save(order);
-        }
-        log.info("payment paymentKey = {}", payment.getPaymentKey());
-        System.out.println("----------------------------------ProcessPayment 트랜잭션 종료----------------------------------");
-        return PaymentResDto.from(payment);
-    }
 
-
-    private Delivery createDelivery(DeliveryReqDto deliveryInfo, Long orderId) {
-        return Delivery.from(deliveryInfo, orderId);
+        /// 4. 결제 성공/실패에 따라 나머지 로직 처리
+        return orderCheckoutService.complete(paymentConfirmReqDto.orderId(), payment);
     }
 
     /**
-     * 결제 실패 - 결제 자동 재시도
+     * 주문 실패 처리 - 주문 상태 변경, 사용포인트 & 재고 홀드 & 장바구니 복구, 배송 삭제, 주문 데이터 삭제
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-//    @Transactional
-    public void handlePaymentFailure(Payment payment, String tossOrderId, String failureReason) {
-        System.out.println("----------------------------------재시도 트랜잭션 시작----------------------------------");
-        log.error("결제 실패 - 주문 트랜잭션 유지, 결제만 롤백 진행: tossOrderId={}, failureReason={}", tossOrderId, failureReason);
-
-        // 주문 조회
-        Order order = orderRepository.findByTossOrderId(tossOrderId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 주문을 찾을 수 없습니다. tossOrderId=" + tossOrderId));
-
-        // 결제 자동 재시도 3회 실행
-        // @retryable or 쓰레드 슬립
-        for (int i = 1; i <= 3; i++) {
-            Payment retriedPayment = paymentService.retryPayment(payment.getUser().getUserId(), tossOrderId, payment.getPaymentKey());
-
-            if (retriedPayment.getStatus() == PaymentStatus.APPROVED) {
-                log.info("결제 재시도 성공: tossOrderId={}", tossOrderId);
-
-                // 결제 성공 시 주문 업데이트
-                order.addPayment(retriedPayment);
-                order.updateStatus(OrderStatus.SUCCEEDED);
-                orderRepository.save(order);
-                System.out.println("----------------------------------재시도 트랜잭션 종료----------------------------------");
-                return;
-            }
-            log.warn("결제 재시도 실패 {}/3: tossOrderId={}", i, tossOrderId);
-        }
-
-        // 자동 재시도 3회 실패 시 주문 상태 PENDING 유지. 사용자가 수동 재시도 가능
-        log.error("결제 재시도 3회 실패 - 주문을 기존 상태로 유지: tossOrderId={}", tossOrderId);
-
-        // 사용자에게 재시도 여부를 물음
-        throw new CustomException(OrderError.PAYMENT_RETRY_REQUIRED); // "결제가 실패했습니다. 다시 시도하시겠습니까? (API: /orders/{orderId}/fail-payment)"
-    }
-
-
-    /**
-     * 주문 실패 처리 - 주문 상태 변경, 사용포인트 & 재고 & 장바구니 복구, 배송 삭제, 주문 데이터 삭제
-     */
-    @Transactional
     public void failOrder(String tossOrderId) {
-        log.error("주문 실패 처리 시작: tossOrderId={}", tossOrderId);
-        // 1. 주문 조회
-        Order order = orderRepository.findByTossOrderId(tossOrderId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 주문을 찾을 수 없습니다. tossOrderId=" + tossOrderId));
-
-        // 2. 주문 상태 변경 (실패)
-        order.updateStatus(OrderStatus.FAILED);
-
-        // 3. 사용 포인트 복구
-        refundUserPoints(order);
-
-        // 4. 재고 복구
-        restoreStock(order.getOrderDetails());
-
-        // 5. 배송 정보 삭제
-        if (order.getDelivery() != null) {
-            deliveryRepository.delete(order.getDelivery());
-            log.info("배송 정보 삭제 완료: tossOrderId={}", tossOrderId);
-        }
-
-        // 6. 장바구니 복구 (주문 상세에서 cartId가 있는 항목을 다시 장바구니로 추가)
-        restoreCart(order.getOrderDetails());
-
-        // 7. 주문 삭제 (Cascade로 OrderDetail도 같이 삭제됨)
-        orderRepository.delete(order);
-        log.info("주문 실패 처리 완료: tossOrderId={}", tossOrderId);
+        orderCheckoutService.failOrder(tossOrderId);
     }
 
     //--------------------------------------------------------------------//
@@ -672,8 +372,8 @@ public class OrderServiceImpl implements OrderService{
         delivery.setStatus(DeliveryStatus.RETURNED);
         deliveryRepository.save(delivery);
 
-        // 재고 복구
-        restoreStock(order.getOrderDetails());
+        // 재고 복구, 구매수 차감 (아이템/상품별 집합 단위 UPDATE)
+        orderCompensationService.restoreOrderedStock(List.of(order.getId()));
         log.info("주문 철회 성공 - orderId={}", order.getId());
     }
 
@@ -723,55 +423,6 @@ public class OrderServiceImpl implements OrderService{
         }
     }
 
-    private void validateAmount(Long orderAmount, Long amount) {
-        if (!Objects.equals(orderAmount, amount)) {
-            throw new IllegalArgumentException("결제 금액이 일치하지 않습니다.");
-        }
-    }
-
-    private void validateUserPoint(User user, Integer requiredPoint) {
-        if (user.getPoint() < requiredPoint) {
-            throw new IllegalArgumentException("사용자 포인트가 부족합니다.");
-        }
-    }
-
-    /**
-     * 재고 복구
-     */
-    private void restoreStock(List<OrderDetail> orderDetails) {
-        for (OrderDetail detail : orderDetails) {
-            ProductItem productItem = detail.getProductItem();
-            if (productItem != null) {
-                log.info("[Before] 재고 복구 전 - 상품 ID: {}, 기존 재고: {}, 주문 수량={}",
-                        productItem.getId(), productItem.getQuantity(), detail.getQuantity());
-
-                productItem.restoreStock(detail.getQuantity());
-                productItemRepository.save(productItem);
-                log.info("[After] 재고 복구 완료 - 상품 ID: {}, 실행 후 재고={}",
-                        productItem.getId(), productItem.getQuantity());
-            } else {
-                log.warn("ProductItem이 null입니다. OrderDetail ID={}", detail.getId());
-            }
-        }
-    }
-
-    /**
-     * 장바구니 복구
-     */
-    private void restoreCart(List<OrderDetail> orderDetails) {
-        for (OrderDetail detail : orderDetails) {
-            if (detail.getCartId() != null) {
-                Cart cart = Cart.builder()
-                        .user(detail.getOrder().getUser())
-                        .productItem(detail.getProductItem())
-                        .quantity(detail.getQuantity())
-                        .build();
-                cartRepository.save(cart);
-                log.info("장바구니 복구 완료 - productId={}, quantity={}", detail.getProductItem().getId(), detail.getQuantity());
-            }
-        }
-    }
-
     private long calculateTotalAmount(List<OrderDetail> orderDetails) {
         return orderDetails.stream()
                 .mapToLong(d -> d.getPrice() * d.getQuantity())
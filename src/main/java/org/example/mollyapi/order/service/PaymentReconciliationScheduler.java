@@ -0,0 +1,24 @@
+package org.example.mollyapi.order.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentReconciliationScheduler {
+
+    private final PaymentReconciliationService paymentReconciliationService;
+
+    // interval-ms 마다 PENDING 으로 남은 결제를 PG에 조회해 확정
+    @Scheduled(fixedDelayString = "${payment.reconcile.interval-ms:60000}", initialDelayString = "${payment.reconcile.interval-ms:60000}")
+    public void reconcilePendingPayments() {
+        try {
+            paymentReconciliationService.reconcile();
+        } catch (Exception e) {
+            log.error("[Scheduler] 결제 대사 실패: error={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package org.example.mollyapi.order.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.order.dto.PendingPayment;
+import org.example.mollyapi.payment.dto.request.TossCancelReqDto;
+import org.example.mollyapi.payment.dto.response.TossConfirmResDto;
+import org.example.mollyapi.payment.entity.Payment;
+import org.example.mollyapi.payment.repository.PaymentRepository;
+import org.example.mollyapi.payment.type.GatewayPaymentStatus;
+import org.example.mollyapi.payment.util.PaymentWebClientUtil;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결제 대사 (PENDING 으로 남은 결제 확정)
+ * - PG 5xx/타임아웃/서버 중단으로 승인 여부를 모른 채 PENDING 으로 남은 결제를 min-age-minutes 이후 PG에 조회
+ * - 결제 ID 커서로 chunk-size 개씩 읽고, 청크 안의 조회는 고정 크기 풀(concurrency)에서 병렬 실행
+ * - 청크의 조회 결과는 한 트랜잭션으로 반영 (OrderCheckoutService.settleAll) - 승인이면 주문 확정, 미승인이면 결제 실패 + 준비 되돌림
+ * - 결제 준비가 이미 되돌려진 주문의 승인 결제는 트랜잭션 밖에서 PG 취소 후 결제 취소로 기록 (실패 시 PENDING 유지, 다음 실행 때 재시도)
+ * - 승인 재시도가 진행 중인 주문은 제외, PG가 아직 진행 중이거나 조회에 실패한 결제는 다음 실행 때 다시 확인
+ * 결과는 payment.reconcile.outcomes(outcome 태그), 승인 취소 결과는 payment.reconcile.cancels, 가장 오래된 PENDING 결제의 나이는 payment.reconcile.lag 지표로 노출
+ */
+@Slf4j
+@Service
+public class PaymentReconciliationService implements DisposableBean {
+
+    private static final String ORPHAN_CANCEL_REASON = "결제 준비가 취소된 주문의 승인 취소";
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentWebClientUtil paymentWebClientUtil;
+    private final OrderCheckoutService orderCheckoutService;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService lookupPool;
+    private final long minAgeMinutes;
+    private final int chunkSize;
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    @Value("${secret.payment-api-key}")
+    private String apiKey;
+
+    public PaymentReconciliationService(
+            PaymentRepository paymentRepository,
+            PaymentWebClientUtil paymentWebClientUtil,
+            OrderCheckoutService orderCheckoutService,
+            MeterRegistry meterRegistry,
+            @Value("${payment.reconcile.min-age-minutes:10}") long minAgeMinutes,
+            @Value("${payment.reconcile.chunk-size:100}") int chunkSize,
+            @Value("${payment.reconcile.concurrency:8}") int concurrency
+    ) {
+        this.paymentRepository = paymentRepository;
+        this.paymentWebClientUtil = paymentWebClientUtil;
+        this.orderCheckoutService = orderCheckoutService;
+        this.meterRegistry = meterRegistry;
+        this.minAgeMinutes = minAgeMinutes;
+        this.chunkSize = chunkSize;
+        AtomicInteger sequence = new AtomicInteger();
+        this.lookupPool = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "payment-reconcile-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("payment.reconcile.lag", lagSeconds, AtomicLong::get)
+                .description("마지막 대사 실행 시 가장 오래된 PENDING 결제의 나이")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("payment.reconcile.pending", pendingCount, AtomicLong::get)
+                .description("마지막 대사 실행 시 대상 PENDING 결제 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대사 1회 실행
+     * @return 결과별 결제 수
+     */
+    public Map<GatewayPaymentStatus, Integer> reconcile() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusMinutes(minAgeMinutes);
+        Map<GatewayPaymentStatus, Integer> totals = new EnumMap<>(GatewayPaymentStatus.class);
+        LocalDateTime oldest = null;
+        long found = 0;
+
+        long afterId = 0L;
+        while (true) {
+            List<PendingPayment> chunk = paymentRepository.findPendingForReconciliation(afterId, cutoff, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            found += chunk.size();
+            for (PendingPayment pending : chunk) {
+                if (oldest == null || pending.paymentDate().isBefore(oldest)) {
+                    oldest = pending.paymentDate();
+                }
+            }
+
+            Map<Long, GatewayPaymentStatus> statuses = lookupAll(chunk);
+            try {
+                List<Payment> orphans = orderCheckoutService.settleAll(statuses);
+                statuses.values().forEach(status -> count(totals, status));
+                orphans.forEach(this::cancelOrphan);
+            } catch (RuntimeException e) {
+                // 청크 반영 실패 - 다음 실행 때 다시 조회
+                meterRegistry.counter("payment.reconcile.outcomes", "outcome", "error").increment(chunk.size());
+                log.error("[결제 대사] 결과 반영 실패: {}건, error={}", chunk.size(), e.getMessage());
+            }
+
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1).paymentId();
+        }
+
+        lagSeconds.set(oldest == null ? 0 : Duration.between(oldest, now).toSeconds());
+        pendingCount.set(found);
+        sample.stop(meterRegistry.timer("payment.reconcile.run"));
+        if (found > 0) {
+            log.info("[결제 대사] 완료: 대상 {}건, 결과 {}", found, totals);
+        }
+        return totals;
+    }
+
+    /**
+     * 청크 안의 결제를 PG에 병렬 조회 (동시 조회 수는 풀 크기로 제한)
+     */
+    private Map<Long, GatewayPaymentStatus> lookupAll(List<PendingPayment> chunk) {
+        List<CompletableFuture<GatewayPaymentStatus>> lookups = new ArrayList<>(chunk.size());
+        for (PendingPayment pending : chunk) {
+            lookups.add(CompletableFuture.supplyAsync(() -> lookup(pending), lookupPool));
+        }
+
+        Map<Long, GatewayPaymentStatus> statuses = new HashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            statuses.put(chunk.get(i).paymentId(), lookups.get(i).join());
+        }
+        return statuses;
+    }
+
+    private GatewayPaymentStatus lookup(PendingPayment pending) {
+        try {
+            return paymentWebClientUtil.findPayment(pending.paymentKey(), apiKey)
+                    .map(TossConfirmResDto::status)
+                    .map(GatewayPaymentStatus::fromToss)
+                    .orElse(GatewayPaymentStatus.FAILED); // PG에 결제 없음 - 승인 요청이 PG에 도달하지 않음
+        } catch (RuntimeException e) {
+            log.warn("[결제 대사] PG 조회 실패 - 다음 실행 때 다시 확인: orderId={}, error={}", pending.orderId(), e.getMessage());
+            return GatewayPaymentStatus.UNKNOWN;
+        }
+    }
+
+    /**
+     * 결제 준비가 되돌려진 주문의 PG 승인 취소 - 실패하면 결제가 PENDING 으로 남아 다음 실행 때 다시 조회/취소
+     */
+    private void cancelOrphan(Payment payment) {
+        try {
+            paymentWebClientUtil.cancelPayment(
+                    new TossCancelReqDto(ORPHAN_CANCEL_REASON, payment.getAmount()), apiKey, payment.getPaymentKey());
+            orderCheckoutService.cancelOrphan(payment.getId());
+            meterRegistry.counter("payment.reconcile.cancels", "outcome", "success").increment();
+        } catch (RuntimeException e) {
+            meterRegistry.counter("payment.reconcile.cancels", "outcome", "failure").increment();
+            log.error("[결제 대사] 승인 취소 실패 - 다음 실행 때 재시도: paymentId={}, paymentKey={}, error={}",
+                    payment.getId(), payment.getPaymentKey(), e.getMessage());
+        }
+    }
+
+    private void count(Map<GatewayPaymentStatus, Integer> totals, GatewayPaymentStatus status) {
+        totals.merge(status, 1, Integer::sum);
+        meterRegistry.counter("payment.reconcile.outcomes", "outcome", status.name().toLowerCase(Locale.ROOT)).increment();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        lookupPool.shutdown();
+        lookupPool.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
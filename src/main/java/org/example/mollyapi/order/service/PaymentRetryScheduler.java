@@ -0,0 +1,80 @@
+package org.example.mollyapi.order.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.payment.entity.PaymentRetry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 결제 승인 재시도 워커
+ * - poll-interval-ms 마다 처리할 차례가 된 재시도를 가져와 고정 크기 워커 풀에서 실행 (요청 스레드와 분리)
+ * - 남은 워커 수만큼만 가져오므로 PG 장애가 길어져도 대기열이 워커 풀로 몰리지 않음
+ */
+@Slf4j
+@Component
+public class PaymentRetryScheduler implements DisposableBean {
+
+    private final PaymentRetryService paymentRetryService;
+    private final ExecutorService workers;
+    private final Semaphore permits;
+
+    public PaymentRetryScheduler(
+            PaymentRetryService paymentRetryService,
+            @Value("${payment.retry.worker-threads:4}") int workerThreads
+    ) {
+        this.paymentRetryService = paymentRetryService;
+        this.permits = new Semaphore(workerThreads);
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "payment-retry-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${payment.retry.poll-interval-ms:1000}")
+    public void dispatchDueRetries() {
+        int capacity = permits.availablePermits();
+        if (capacity == 0) {
+            return;
+        }
+
+        List<PaymentRetry> claimed = paymentRetryService.claimDue(capacity);
+        for (PaymentRetry retry : claimed) {
+            permits.acquireUninterruptibly();
+            try {
+                workers.execute(() -> {
+                    try {
+                        paymentRetryService.retry(retry);
+                    } catch (Exception e) {
+                        // 결과 기록에 실패한 항목은 lock-seconds 후 다시 처리됨
+                        log.error("[Scheduler] 결제 승인 재시도 처리 실패: orderId={}, error={}", retry.getOrderId(), e.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+        if (!claimed.isEmpty()) {
+            log.info("[Scheduler] 결제 승인 재시도 {}건 실행", claimed.size());
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.mollyapi.order.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.common.exception.CustomException;
+import org.example.mollyapi.payment.dto.request.PaymentConfirmReqDto;
+import org.example.mollyapi.payment.entity.Payment;
+import org.example.mollyapi.payment.entity.PaymentRetry;
+import org.example.mollyapi.payment.exception.PaymentGatewayUnavailableException;
+import org.example.mollyapi.payment.repository.PaymentRetryRepository;
+import org.example.mollyapi.payment.service.PaymentService;
+import org.example.mollyapi.payment.type.PaymentRetryStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * 결제 승인 재시도 (PG 일시 장애 대응)
+ * - schedule: PG 5xx 응답 시 승인 요청을 재시도 대기열(payment_retry)에 저장하고 요청 스레드는 바로 반환
+ * - claimDue: 처리할 차례가 된 항목을 행 잠금(SKIP LOCKED)으로 가져와 처리 중으로 표시 (인스턴스 간 중복 처리 방지)
+ * - retry: PG 재호출 후 결과 반영 - 승인 시 주문 확정, 거절 시 주문 복구, 일시 장애면 지수 백오프 + 지터로 재등록
+ * 최대 시도 횟수를 넘기면 포기(GAVE_UP)하고 주문을 복구 (차감 포인트 환불, 재고 홀드는 주문 만료 시 반환)
+ * PG 서킷이 열려 호출하지 못한 경우는 시도 횟수를 늘리지 않고 서킷이 닫힐 시점 이후로 미룸
+ */
+@Slf4j
+@Service
+public class PaymentRetryService {
+
+    private final PaymentRetryRepository paymentRetryRepository;
+    private final PaymentService paymentService;
+    private final OrderCheckoutService orderCheckoutService;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final long lockSeconds;
+
+    public PaymentRetryService(
+            PaymentRetryRepository paymentRetryRepository,
+            PaymentService paymentService,
+            OrderCheckoutService orderCheckoutService,
+            TransactionTemplate transactionTemplate,
+            @Value("${payment.retry.max-attempts:5}") int maxAttempts,
+            @Value("${payment.retry.base-delay-ms:2000}") long baseDelayMillis,
+            @Value("${payment.retry.max-delay-ms:60000}") long maxDelayMillis,
+            @Value("${payment.retry.lock-seconds:60}") long lockSeconds
+    ) {
+        this.paymentRetryRepository = paymentRetryRepository;
+        this.paymentService = paymentService;
+        this.orderCheckoutService = orderCheckoutService;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.lockSeconds = lockSeconds;
+    }
+
+    /**
+     * 재시도 등록 - 같은 주문에 진행 중인 재시도가 있으면 기존 항목 반환
+     */
+    @Transactional
+    public PaymentRetry schedule(Long userId, PaymentConfirmReqDto request, String error) {
+        return paymentRetryRepository.findFirstByOrderIdAndStatusIn(request.orderId(), PaymentRetryStatus.ACTIVE)
+                .orElseGet(() -> {
+                    PaymentRetry retry = paymentRetryRepository.save(PaymentRetry.builder()
+                            .userId(userId)
+                            .request(request)
+                            .nextAttemptAt(LocalDateTime.now().plus(backoff(1)))
+                            .lastError(error)
+                            .build());
+                    log.warn("결제 승인 재시도 등록: orderId={}, nextAttemptAt={}", request.orderId(), retry.getNextAttemptAt());
+                    return retry;
+                });
+    }
+
+    /**
+     * 처리할 재시도를 최대 limit 개 가져와 처리 중으로 표시
+     * 처리 중 상태는 lock-seconds 동안 유지되고, 그 안에 결과가 기록되지 않으면 다시 처리 대상이 됨
+     */
+    @Transactional
+    public List<PaymentRetry> claimDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PaymentRetry> due = paymentRetryRepository.findDueForUpdate(now, limit);
+        due.forEach(retry -> retry.startProcessing(now.plusSeconds(lockSeconds)));
+        return due;
+    }
+
+    /**
+     * 결제 승인 재시도 (워커 스레드에서 호출, 트랜잭션 밖에서 PG 호출)
+     */
+    public void retry(PaymentRetry retry) {
+        Long orderId = retry.getOrderId();
+        Payment payment;
+        try {
+            payment = paymentService.processPayment(retry.getUserId(), retry.toConfirmRequest());
+        } catch (PaymentGatewayUnavailableException e) {
+            LocalDateTime nextAttemptAt = LocalDateTime.now().plus(e.getRetryAfter()).plus(backoff(1));
+            log.info("PG 서킷 열림 - 결제 승인 재시도 연기: orderId={}, nextAttemptAt={}", orderId, nextAttemptAt);
+            update(retry.getId(), entry -> entry.defer(nextAttemptAt, e.getMessage()));
+            return;
+        } catch (CustomException e) {
+            // PG 거절 확정 또는 이미 처리된 결제 - 재시도 중단 후 주문 복구 (승인된 결제가 있으면 확정, 없으면 보상)
+            // 재요청이 4xx 로 거절되어도 PG 조회로 승인되지 않았음을 확인한 경우에만 여기로 옴 (PaymentServiceImpl.settleByLookup)
+            log.warn("결제 승인 재시도 중단: orderId={}, error={}", orderId, e.getMessage());
+            update(retry.getId(), entry -> entry.finish(PaymentRetryStatus.FAILED, e.getMessage()));
+            orderCheckoutService.recover(orderId);
+            return;
+        } catch (RuntimeException e) {
+            int attempts = retry.getAttempts() + 1;
+            if (attempts >= maxAttempts) {
+                log.error("결제 승인 재시도 포기: orderId={}, attempts={}, error={}", orderId, attempts, e.getMessage());
+                update(retry.getId(), entry -> entry.finish(PaymentRetryStatus.GAVE_UP, e.getMessage()));
+                orderCheckoutService.recover(orderId);
+                return;
+            }
+            LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempts));
+            log.warn("결제 승인 재시도 실패 - 재등록: orderId={}, attempts={}, nextAttemptAt={}", orderId, attempts, nextAttemptAt);
+            update(retry.getId(), entry -> entry.reschedule(nextAttemptAt, e.getMessage()));
+            return;
+        }
+
+        orderCheckoutService.complete(orderId, payment);
+        update(retry.getId(), entry -> entry.finish(PaymentRetryStatus.SUCCEEDED, null));
+        log.info("결제 승인 재시도 성공: orderId={}, attempts={}", orderId, retry.getAttempts() + 1);
+    }
+
+    /**
+     * 다음 시도까지 대기 시간 - 지수 백오프(base * 2^(attempts-1), 최대 max-delay) 에 equal jitter 적용
+     * 절반은 고정, 나머지 절반은 무작위로 두어 같은 장애로 실패한 재시도가 한 시점에 몰리지 않도록 함
+     */
+    Duration backoff(int attempts) {
+        long exponential = baseDelayMillis << Math.min(Math.max(attempts - 1, 0), 20);
+        long delay = Math.min(maxDelayMillis, exponential);
+        long half = delay / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(delay - half + 1));
+    }
+
+    private void update(Long retryId, Consumer<PaymentRetry> change) {
+        transactionTemplate.executeWithoutResult(status ->
+                paymentRetryRepository.findById(retryId).ifPresent(change));
+    }
+}
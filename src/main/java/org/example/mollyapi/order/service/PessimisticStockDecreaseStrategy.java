@@ -0,0 +1,47 @@
+package org.example.mollyapi.order.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.mollyapi.order.type.StockDecreaseType;
+import org.example.mollyapi.product.entity.ProductItem;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.example.mollyapi.product.service.ProductFacetService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 비관적 락 재고 차감 - 아이템 행을 ID 순서대로 잠근 뒤 차감
+ */
+@Component
+@RequiredArgsConstructor
+public class PessimisticStockDecreaseStrategy implements StockDecreaseStrategy {
+
+    private final ProductItemRepository productItemRepository;
+    private final ProductFacetService productFacetService;
+
+    @Override
+    public StockDecreaseType type() {
+        return StockDecreaseType.PESSIMISTIC;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void decrease(Map<Long, Long> quantityByItem, Ledger ledger) {
+        new TreeMap<>(quantityByItem).forEach((itemId, quantity) -> {
+            ProductItem productItem = productItemRepository.findByIdWithLock(itemId)
+                    .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. itemId=" + itemId));
+            if (productItem.getQuantity() < quantity) {
+                throw new IllegalArgumentException("재고가 부족하여 결제를 진행할 수 없습니다. itemId=" + itemId);
+            }
+            productItem.updateQuantity(productItem.getQuantity() - quantity);
+            if (!productItem.isInStock()) {
+                productFacetService.markChanged(List.of(productItem.getProduct().getId()));
+            }
+        });
+        ledger.decreased(quantityByItem.keySet());
+    }
+}
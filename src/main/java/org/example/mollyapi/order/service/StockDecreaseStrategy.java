@@ -0,0 +1,41 @@
+package org.example.mollyapi.order.service;
+
+import org.example.mollyapi.order.type.StockDecreaseType;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 재고 차감 전략
+ * - quantityByItem: 아이템 ID -> 차감 수량
+ * - 아이템 ID 오름차순으로 처리하여 여러 아이템 주문끼리 락 획득 순서를 통일 (데드락 방지)
+ * - 전부 차감되거나 하나도 차감되지 않아야 하며, 재고 부족 시 IllegalArgumentException
+ * - 호출 측 트랜잭션과 무관하게 차감 결과를 즉시 커밋
+ * - ledger: 차감/복구를 커밋하는 트랜잭션 안에서 호출 (재고 변경과 홀드 기록이 함께 커밋되거나 함께 롤백)
+ */
+public interface StockDecreaseStrategy {
+
+    StockDecreaseType type();
+
+    void decrease(Map<Long, Long> quantityByItem, Ledger ledger);
+
+    /**
+     * 재고 변경 기록 - 예외를 던지면 해당 차감/복구 트랜잭션도 롤백
+     */
+    interface Ledger {
+
+        Ledger NONE = new Ledger() {
+            @Override
+            public void decreased(Collection<Long> itemIds) {
+            }
+
+            @Override
+            public void restored(Collection<Long> itemIds) {
+            }
+        };
+
+        void decreased(Collection<Long> itemIds);
+
+        void restored(Collection<Long> itemIds);
+    }
+}
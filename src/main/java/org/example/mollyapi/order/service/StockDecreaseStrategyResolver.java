@@ -0,0 +1,42 @@
+package org.example.mollyapi.order.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.order.type.StockDecreaseType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배포 설정(order.stock.strategy)에 따라 사용할 재고 차감 전략 선택
+ */
+@Slf4j
+@Component
+public class StockDecreaseStrategyResolver {
+
+    private final Map<StockDecreaseType, StockDecreaseStrategy> strategies = new EnumMap<>(StockDecreaseType.class);
+    private final StockDecreaseStrategy active;
+
+    public StockDecreaseStrategyResolver(
+            List<StockDecreaseStrategy> strategies,
+            @Value("${order.stock.strategy:GROUP_COMMIT}") StockDecreaseType activeType
+    ) {
+        strategies.forEach(strategy -> this.strategies.put(strategy.type(), strategy));
+        this.active = get(activeType);
+        log.info("재고 차감 전략: {}", activeType);
+    }
+
+    public StockDecreaseStrategy active() {
+        return active;
+    }
+
+    public StockDecreaseStrategy get(StockDecreaseType type) {
+        StockDecreaseStrategy strategy = strategies.get(type);
+        if (strategy == null) {
+            throw new IllegalStateException("등록되지 않은 재고 차감 전략입니다. type=" + type);
+        }
+        return strategy;
+    }
+}
@@ -0,0 +1,239 @@
+package org.example.mollyapi.order.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 상품 아이템별 재고 차감 그룹 커밋
+ * - 같은 아이템에 대한 차감 요청은 아이템별 단일 writer가 순서대로 처리 (DB 행 락 대기열을 애플리케이션 큐로 대체)
+ * - writer는 짧은 대기 시간 동안 쌓인 요청을 합산하여 조건부 UPDATE 한 번으로 반영하고 결과를 각 호출자에게 돌려줌
+ * - 합산 수량이 재고를 넘으면 도착 순서대로 남은 재고 안에서 배분 (배분된 요청만 성공)
+ * - 요청별 onDecreased 는 차감 UPDATE 와 같은 트랜잭션에서 실행 (홀드 기록이 차감과 함께 커밋)
+ *   합산 차감이 예외로 롤백되면 결과가 정해지지 않은 요청을 하나씩 다시 차감 (예외를 낸 요청만 실패)
+ * - writer 스레드 수는 writer-threads 로 제한하고, 한 배치를 반영할 때마다 대기열을 다시 제출해 아이템끼리 번갈아 처리
+ * 다른 인스턴스와의 동시 차감은 조건부 UPDATE(quantity >= :sum)가 보장
+ */
+@Slf4j
+@Component
+public class StockDecrementBatcher implements DisposableBean {
+
+    private final ProductItemRepository productItemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final long waitTimeoutMillis;
+
+    // 아이템 ID -> 대기열 (상품 아이템 수만큼만 생성됨)
+    private final ConcurrentHashMap<Long, ItemQueue> queues = new ConcurrentHashMap<>();
+    private final ExecutorService writers;
+
+    public StockDecrementBatcher(
+            ProductItemRepository productItemRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${order.stock.group-commit.window-ms:2}") long windowMillis,
+            @Value("${order.stock.group-commit.max-batch-size:200}") int maxBatchSize,
+            @Value("${order.stock.group-commit.wait-timeout-ms:3000}") long waitTimeoutMillis,
+            @Value("${order.stock.group-commit.writer-threads:8}") int writerThreads
+    ) {
+        this.productItemRepository = productItemRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.maxBatchSize = maxBatchSize;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.writers = Executors.newFixedThreadPool(writerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "stock-writer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 재고 차감 요청 - writer가 반영할 때까지 대기
+     * @return 차감 성공 여부 (재고 부족 시 false)
+     */
+    public boolean decrease(Long itemId, long quantity) {
+        return decrease(itemId, quantity, () -> {
+        });
+    }
+
+    /**
+     * 재고 차감 요청 - 차감에 성공하면 같은 트랜잭션에서 onDecreased 실행 (예외 시 이 요청의 차감만 롤백되고 예외 전달)
+     */
+    public boolean decrease(Long itemId, long quantity, Runnable onDecreased) {
+        DecrementRequest request = new DecrementRequest(quantity, onDecreased);
+        ItemQueue queue = queues.computeIfAbsent(itemId, ItemQueue::new);
+        queue.pending.add(request);
+        if (queue.draining.compareAndSet(false, true)) {
+            writers.execute(() -> drain(queue));
+        }
+        return await(itemId, request);
+    }
+
+    private boolean await(Long itemId, DecrementRequest request) {
+        try {
+            try {
+                return request.result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // writer가 아직 가져가지 않은 요청이면 취소, 이미 반영 중이면 결과를 끝까지 기다림
+                if (request.claimed.compareAndSet(false, true)) {
+                    log.warn("재고 차감 대기 시간 초과: itemId={}, quantity={}", itemId, request.quantity);
+                    throw new IllegalStateException("재고 차감 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+                }
+                return request.result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재고 차감 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("재고 차감 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    private void drain(ItemQueue queue) {
+        // 짧게 대기하여 같은 아이템에 대한 요청을 모음
+        if (windowNanos > 0) {
+            LockSupport.parkNanos(windowNanos);
+        }
+
+        List<DecrementRequest> batch = pollBatch(queue);
+        if (!batch.isEmpty()) {
+            apply(queue.itemId, batch);
+        }
+
+        // 남은 요청이 있으면 다시 제출 (스레드를 독점하지 않고 다른 아이템 대기열과 번갈아 처리)
+        if (!queue.pending.isEmpty()) {
+            writers.execute(() -> drain(queue));
+            return;
+        }
+
+        // 대기열이 비었으면 writer 반납. 반납 직전에 들어온 요청이 있으면 다시 writer 획득
+        queue.draining.set(false);
+        if (!queue.pending.isEmpty() && queue.draining.compareAndSet(false, true)) {
+            writers.execute(() -> drain(queue));
+        }
+    }
+
+    private List<DecrementRequest> pollBatch(ItemQueue queue) {
+        List<DecrementRequest> batch = new ArrayList<>();
+        DecrementRequest request;
+        while (batch.size() < maxBatchSize && (request = queue.pending.poll()) != null) {
+            if (request.claimed.compareAndSet(false, true)) { // 대기 시간 초과로 취소된 요청 제외
+                batch.add(request);
+            }
+        }
+        return batch;
+    }
+
+    private void apply(Long itemId, List<DecrementRequest> batch) {
+        try {
+            // 1. 합산 수량으로 한 번에 차감
+            if (decreaseIfAvailable(itemId, batch)) {
+                batch.forEach(request -> request.result.complete(true));
+                return;
+            }
+
+            // 2. 재고가 부족하면 현재 재고 안에서 도착 순서대로 배분 후 한 번 더 차감
+            long remaining = productItemRepository.findQuantityById(itemId).orElse(0L);
+            List<DecrementRequest> accepted = new ArrayList<>();
+            for (DecrementRequest request : batch) {
+                if (request.quantity <= remaining) {
+                    remaining -= request.quantity;
+                    accepted.add(request);
+                } else {
+                    request.result.complete(false);
+                }
+            }
+            if (accepted.isEmpty()) {
+                return;
+            }
+            if (decreaseIfAvailable(itemId, accepted)) {
+                accepted.forEach(request -> request.result.complete(true));
+                return;
+            }
+
+            // 3. 다른 인스턴스와 경합해 배분이 어긋난 경우 요청별로 차감
+            decreaseEach(itemId, accepted);
+        } catch (RuntimeException e) {
+            // 한 요청의 onDecreased 실패(또는 일시 오류)로 합산 차감 전체가 롤백됨 - 남은 요청을 하나씩 다시 반영
+            log.warn("재고 그룹 차감 실패 - 요청별로 다시 차감: itemId={}, 요청 수={}, error={}", itemId, batch.size(), e.getMessage());
+            decreaseEach(itemId, batch.stream().filter(request -> !request.result.isDone()).toList());
+        }
+    }
+
+    private void decreaseEach(Long itemId, List<DecrementRequest> requests) {
+        for (DecrementRequest request : requests) {
+            try {
+                request.result.complete(decreaseIfAvailable(itemId, List.of(request)));
+            } catch (RuntimeException e) {
+                log.error("재고 차감 실패: itemId={}, quantity={}, error={}", itemId, request.quantity, e.getMessage());
+                request.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private boolean decreaseIfAvailable(Long itemId, List<DecrementRequest> requests) {
+        Boolean decreased = transactionTemplate.execute(status -> {
+            if (productItemRepository.decreaseStockIfAvailable(itemId, sumOf(requests)) != 1) {
+                return false;
+            }
+            requests.forEach(request -> request.onDecreased.run());
+            return true;
+        });
+        return Boolean.TRUE.equals(decreased);
+    }
+
+    private static long sumOf(List<DecrementRequest> requests) {
+        return requests.stream().mapToLong(request -> request.quantity).sum();
+    }
+
+    @Override
+    public void destroy() {
+        writers.shutdown();
+    }
+
+    private static final class ItemQueue {
+        private final Long itemId;
+        private final Queue<DecrementRequest> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private ItemQueue(Long itemId) {
+            this.itemId = itemId;
+        }
+    }
+
+    private static final class DecrementRequest {
+        private final long quantity;
+        private final Runnable onDecreased;
+        private final AtomicBoolean claimed = new AtomicBoolean(); // writer 처리 또는 호출자 취소 중 먼저 가져간 쪽
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        private DecrementRequest(long quantity, Runnable onDecreased) {
+            this.quantity = quantity;
+            this.onDecreased = onDecreased;
+        }
+    }
+}
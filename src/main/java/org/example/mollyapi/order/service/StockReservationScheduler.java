@@ -0,0 +1,26 @@
+package org.example.mollyapi.order.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationScheduler {
+
+    private final StockReservationService stockReservationService;
+
+    // 1분마다 만료된 재고 홀드 반환
+    @Scheduled(fixedDelay = 60_000)
+    public void releaseExpiredReservations() {
+        int releasedCount = stockReservationService.releaseExpired(LocalDateTime.now());
+        if (releasedCount > 0) {
+            log.info("[Scheduler] 만료된 재고 홀드 반환: {}개 주문", releasedCount);
+        }
+    }
+}
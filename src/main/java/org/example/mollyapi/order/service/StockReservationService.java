@@ -0,0 +1,223 @@
+package org.example.mollyapi.order.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.cart.repository.CartRepository;
+import org.example.mollyapi.order.entity.Order;
+import org.example.mollyapi.order.entity.OrderDetail;
+import org.example.mollyapi.order.entity.StockReservation;
+import org.example.mollyapi.order.repository.StockReservationRepository;
+import org.example.mollyapi.order.type.ReservationStatus;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.example.mollyapi.product.service.ProductAvailabilityService;
+import org.example.mollyapi.product.service.ProductCounterService;
+import org.example.mollyapi.product.service.ProductDetailCache;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 재고 홀드(예약) 서비스
+ * - hold: 결제 전 재고를 차감 전략(StockDecreaseStrategy)으로 선점하고 즉시 커밋 (PG 호출 동안 행 락을 잡지 않음)
+ *   홀드는 PENDING 으로 먼저 커밋하고 차감 트랜잭션 안에서 HELD 로 전환하므로, 중간에 서버가 죽어도 HELD 는 차감된 수량과 항상 일치
+ * - confirm: 결제 승인 시 홀드를 판매로 확정
+ * - release/releaseAll: 결제 실패/주문 만료 시 홀드한 수량을 재고로 반환 (여러 주문을 한 번에 처리)
+ * 홀드 만료 시각은 Order.expirationTime 과 동일
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private static final int EXPIRED_RELEASE_BATCH_SIZE = 500;
+
+    private final StockReservationRepository stockReservationRepository;
+    private final ProductItemRepository productItemRepository;
+    private final ProductCounterService productCounterService;
+    private final CartRepository cartRepository;
+    private final StockDecreaseStrategyResolver stockDecreaseStrategyResolver;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderCompensationService orderCompensationService;
+    private final ProductDetailCache productDetailCache;
+    private final ProductAvailabilityService productAvailabilityService;
+
+    /**
+     * 재고 홀드 - 주문 단위로 한 번만 수행 (이미 홀드가 있으면 무시)
+     * 재고 차감은 설정된 전략(order.stock.strategy)이 즉시 커밋하므로 트랜잭션 밖에서 호출 (대기 중 DB 커넥션 점유 방지)
+     * 차감 전에 남긴 PENDING 홀드는 차감 실패 시 바로 삭제하고, 서버 중단으로 남은 것은 만료 후 스케줄러가 삭제
+     */
+    public void hold(Order order) {
+        if (stockReservationRepository.existsByOrderId(order.getId())) {
+            log.info("이미 재고 홀드가 존재하는 주문: orderId={}", order.getId());
+            return;
+        }
+
+        Map<Long, Long> quantityByItem = new TreeMap<>();
+        for (OrderDetail detail : order.getOrderDetails()) {
+            quantityByItem.merge(detail.getProductItem().getId(), detail.getQuantity(), Long::sum);
+        }
+
+        // 1. 차감 전에 PENDING 홀드 기록
+        transactionTemplate.executeWithoutResult(status -> savePendingReservations(order, quantityByItem));
+
+        // 2. 재고 차감 - 차감과 같은 트랜잭션에서 PENDING -> HELD
+        try {
+            stockDecreaseStrategyResolver.active().decrease(quantityByItem, ledgerOf(order.getId()));
+        } catch (RuntimeException e) {
+            if (e instanceof IllegalArgumentException) {
+                log.warn("재고 부족 - 홀드 실패: orderId={}, items={}, error={}", order.getId(), quantityByItem, e.getMessage());
+            }
+            // 차감되지 않은 홀드 삭제 (부분 차감 후 복구된 아이템도 PENDING 으로 돌아옴)
+            transactionTemplate.executeWithoutResult(status ->
+                    stockReservationRepository.deleteByOrderIdAndStatus(order.getId(), ReservationStatus.PENDING));
+            throw e;
+        }
+        productDetailCache.markStockChanged(quantityByItem.keySet());
+        productAvailabilityService.markChanged(quantityByItem.keySet());
+
+        // 3. 장바구니 삭제 - 실패하면 홀드 반환
+        try {
+            transactionTemplate.executeWithoutResult(status -> deleteCarts(order));
+        } catch (RuntimeException e) {
+            release(order.getId());
+            throw e;
+        }
+        log.info("재고 홀드 완료: orderId={}, items={}", order.getId(), quantityByItem);
+    }
+
+    private void savePendingReservations(Order order, Map<Long, Long> quantityByItem) {
+        quantityByItem.forEach((itemId, quantity) -> stockReservationRepository.save(StockReservation.builder()
+                .orderId(order.getId())
+                .itemId(itemId)
+                .quantity(quantity)
+                .expiresAt(order.getExpirationTime())
+                .build()));
+    }
+
+    // 차감/복구 트랜잭션 안에서 홀드 상태 전환 - 대상 홀드가 없으면(만료로 삭제 등) 예외를 던져 재고 변경도 롤백
+    private StockDecreaseStrategy.Ledger ledgerOf(Long orderId) {
+        return new StockDecreaseStrategy.Ledger() {
+            @Override
+            public void decreased(Collection<Long> itemIds) {
+                transition(orderId, itemIds, ReservationStatus.PENDING, ReservationStatus.HELD);
+            }
+
+            @Override
+            public void restored(Collection<Long> itemIds) {
+                transition(orderId, itemIds, ReservationStatus.HELD, ReservationStatus.PENDING);
+            }
+        };
+    }
+
+    private void transition(Long orderId, Collection<Long> itemIds, ReservationStatus from, ReservationStatus to) {
+        int updated = stockReservationRepository.updateStatusByOrderIdAndItemIds(orderId, itemIds, from, to);
+        if (updated != itemIds.size()) {
+            throw new IllegalStateException("재고 홀드 상태를 변경할 수 없습니다. orderId=" + orderId + ", items=" + itemIds + ", " + from + " -> " + to);
+        }
+    }
+
+    private void deleteCarts(Order order) {
+        List<Long> cartIds = order.getOrderDetails().stream()
+                .map(OrderDetail::getCartId)
+                .filter(Objects::nonNull)
+                .toList();
+        if (!cartIds.isEmpty()) {
+            cartRepository.deleteAllByIdInBatch(cartIds);
+        }
+    }
+
+    /**
+     * 홀드 확정 - 결제 승인 후 호출
+     * 승인 전에 홀드가 만료되어 반환된 경우 재고를 다시 차감 시도
+     */
+    @Transactional
+    public void confirm(Long orderId) {
+        for (StockReservation reservation : stockReservationRepository.findAllByOrderId(orderId)) {
+            boolean confirmed = switch (reservation.getStatus()) {
+                case HELD -> stockReservationRepository.updateStatus(
+                        reservation.getId(), ReservationStatus.HELD, ReservationStatus.CONFIRMED) == 1;
+                case PENDING, RELEASED -> reacquire(reservation);
+                case CONFIRMED -> false;
+            };
+
+            if (confirmed) {
+                productItemRepository.findProductIdById(reservation.getItemId())
+                        .ifPresent(productId -> productCounterService.addPurchaseCount(productId, 1));
+            }
+        }
+        log.info("재고 홀드 확정 완료: orderId={}", orderId);
+    }
+
+    /**
+     * 홀드 반환 - 확정되지 않은 홀드만 재고로 되돌림
+     */
+    @Transactional
+    public void release(Long orderId) {
+        releaseAll(List.of(orderId));
+    }
+
+    /**
+     * 여러 주문의 홀드 일괄 반환 - 남은 홀드를 잠근 뒤 상태를 한 번에 바꾸고 재고는 아이템별로 합산해 한 번에 복구
+     */
+    @Transactional
+    public int releaseAll(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        List<StockReservation> held = stockReservationRepository.findAllByOrderIdInAndStatusForUpdate(orderIds, ReservationStatus.HELD);
+        if (held.isEmpty()) {
+            return 0;
+        }
+
+        stockReservationRepository.updateStatusByIds(
+                held.stream().map(StockReservation::getId).toList(), ReservationStatus.HELD, ReservationStatus.RELEASED);
+        Map<Long, Long> quantityByItem = new TreeMap<>();
+        held.forEach(reservation -> quantityByItem.merge(reservation.getItemId(), reservation.getQuantity(), Long::sum));
+        orderCompensationService.restoreStock(quantityByItem);
+
+        log.info("재고 홀드 반환: 주문 {}건, 홀드 {}건, items={}", orderIds.size(), held.size(), quantityByItem);
+        return held.size();
+    }
+
+    /**
+     * 만료된 홀드 반환 (스케줄러)
+     * 차감 도중 서버가 중단되어 남은 PENDING 홀드는 차감되지 않았으므로 재고 복구 없이 삭제
+     */
+    @Transactional
+    public int releaseExpired(LocalDateTime now) {
+        int deletedCount = stockReservationRepository.deleteByStatusAndExpiresAtBefore(ReservationStatus.PENDING, now);
+        if (deletedCount > 0) {
+            log.warn("차감되지 않은 만료 홀드 삭제: {}건", deletedCount);
+        }
+
+        List<Long> orderIds = stockReservationRepository.findOrderIdsByStatusAndExpiresAtBefore(
+                ReservationStatus.HELD, now, PageRequest.of(0, EXPIRED_RELEASE_BATCH_SIZE));
+
+        releaseAll(orderIds);
+        return orderIds.size();
+    }
+
+    // 반환되었거나 차감되지 않은(PENDING) 홀드 - 확정하면서 재고를 다시 차감
+    private boolean reacquire(StockReservation reservation) {
+        if (stockReservationRepository.updateStatus(reservation.getId(), reservation.getStatus(), ReservationStatus.CONFIRMED) == 0) {
+            return false;
+        }
+        if (productItemRepository.decreaseStockIfAvailable(reservation.getItemId(), reservation.getQuantity()) == 0) {
+            stockReservationRepository.updateStatus(reservation.getId(), ReservationStatus.CONFIRMED, reservation.getStatus());
+            log.error("만료된 홀드 재차감 실패 - 수동 확인 필요: orderId={}, itemId={}, quantity={}",
+                    reservation.getOrderId(), reservation.getItemId(), reservation.getQuantity());
+            return false;
+        }
+        productDetailCache.markStockChanged(List.of(reservation.getItemId()));
+        productAvailabilityService.markChanged(List.of(reservation.getItemId()));
+        return true;
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.mollyapi.order.type;
+
+public enum CheckoutStatus {
+    READY,      // 결제 준비 전 (또는 보상 처리 후 재시도 가능)
+    PREPARED,   // 포인트 차감, 배송 정보 저장, 재고 홀드 완료 -> PG 승인 대기
+    COMPLETED   // PG 승인 후 주문 확정
+}
@@ -0,0 +1,8 @@
+package org.example.mollyapi.order.type;
+
+public enum ReservationStatus {
+    PENDING,    // 재고 차감 전 기록 (차감과 같은 트랜잭션에서 HELD 로 전환, 차감 실패 시 삭제)
+    HELD,       // 결제 전 재고 선점
+    CONFIRMED,  // 결제 승인 -> 판매 확정
+    RELEASED    // 만료/실패로 재고 반환
+}
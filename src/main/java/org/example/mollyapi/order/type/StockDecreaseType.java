@@ -0,0 +1,8 @@
+package org.example.mollyapi.order.type;
+
+public enum StockDecreaseType {
+    PESSIMISTIC,   // SELECT ... FOR UPDATE 후 차감
+    OPTIMISTIC,    // @Version 충돌 시 재시도
+    ATOMIC,        // 조건부 UPDATE (quantity >= :quantity)
+    GROUP_COMMIT   // 아이템별 단일 writer가 요청을 모아 조건부 UPDATE
+}
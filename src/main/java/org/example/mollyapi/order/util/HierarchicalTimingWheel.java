@@ -0,0 +1,161 @@
+package org.example.mollyapi.order.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 계층형 타이밍 휠 (만료 시각 기준 지연 작업 관리)
+ * - 최하위 휠은 tick 단위 버킷 wheelSize 개, 상위 휠은 하위 휠 한 바퀴를 tick 으로 사용 (필요할 때만 생성)
+ * - 등록/취소는 O(1), 시각 진행 시 현재 버킷만 확인 (전체 스캔 없음)
+ * - 만료된 키는 대기열에 쌓이고 호출 측이 pollExpired 로 정해진 개수씩 꺼내 처리
+ * 같은 키를 다시 등록하면 이전 등록은 무시됨. 스레드 안전 (모든 연산 동기화)
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final Level root;
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private final Queue<K> expired = new ArrayDeque<>();
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tick은 0보다 크고 휠 크기는 1보다 커야 합니다.");
+        }
+        this.root = new Level(tickMillis, wheelSize, startMillis);
+    }
+
+    /**
+     * 만료 시각에 키 등록 (이미 지난 시각이면 바로 만료 대기열로 이동)
+     * 만료 시각 이후 첫 tick 에서 만료됨 (최대 tick 만큼 늦을 수 있음)
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        // 만료 시각이 속한 tick 의 끝으로 올림 (만료 시각보다 일찍 만료되지 않도록)
+        long dueMillis = deadlineMillis + root.tickMillis - 1;
+        Entry<K> previous = entries.put(key, new Entry<>(key, dueMillis));
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        place(entries.get(key));
+    }
+
+    public synchronized boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.cancelled = true;
+        return true;
+    }
+
+    /**
+     * 현재 시각까지 휠을 진행시키고 만료된 키를 대기열로 이동
+     */
+    public synchronized void advance(long nowMillis) {
+        while (root.currentTime + root.tickMillis <= nowMillis) {
+            root.currentTime += root.tickMillis;
+            // 상위 휠 버킷을 먼저 하위 휠로 내린 뒤 현재 버킷 만료 처리
+            for (Level level = root.overflow; level != null; level = level.overflow) {
+                long levelTime = root.currentTime - (root.currentTime % level.tickMillis);
+                if (levelTime == level.currentTime) {
+                    break;
+                }
+                level.currentTime = levelTime;
+                level.drain(levelTime).forEach(this::place);
+            }
+            root.drain(root.currentTime).forEach(this::place);
+        }
+    }
+
+    /**
+     * 만료된 키를 최대 maxCount 개 꺼냄
+     */
+    public synchronized List<K> pollExpired(int maxCount) {
+        List<K> keys = new ArrayList<>(Math.min(maxCount, expired.size()));
+        while (keys.size() < maxCount && !expired.isEmpty()) {
+            keys.add(expired.poll());
+        }
+        return keys;
+    }
+
+    public synchronized boolean hasExpired() {
+        return !expired.isEmpty();
+    }
+
+    /**
+     * 등록된 키 수 (만료 대기열에 남은 키 포함)
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void place(Entry<K> entry) {
+        if (entry.cancelled) {
+            return;
+        }
+        if (entry.dueMillis < root.currentTime + root.tickMillis) {
+            entries.remove(entry.key);
+            expired.add(entry.key);
+            return;
+        }
+        root.add(entry);
+    }
+
+    private final class Level {
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long intervalMillis;
+        private final List<List<Entry<K>>> buckets;
+        private long currentTime; // tickMillis 단위로 내림한 현재 시각
+        private Level overflow;
+
+        private Level(long tickMillis, int wheelSize, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.intervalMillis = tickMillis * wheelSize;
+            this.currentTime = startMillis - (startMillis % tickMillis);
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayList<>());
+            }
+        }
+
+        private void add(Entry<K> entry) {
+            if (entry.dueMillis < currentTime + intervalMillis) {
+                buckets.get(indexOf(entry.dueMillis)).add(entry);
+                return;
+            }
+            if (overflow == null) {
+                overflow = new Level(intervalMillis, wheelSize, currentTime);
+            }
+            overflow.add(entry);
+        }
+
+        private List<Entry<K>> drain(long time) {
+            int index = indexOf(time);
+            List<Entry<K>> bucket = buckets.get(index);
+            if (bucket.isEmpty()) {
+                return List.of();
+            }
+            buckets.set(index, new ArrayList<>());
+            return bucket;
+        }
+
+        private int indexOf(long time) {
+            return (int) ((time / tickMillis) % wheelSize);
+        }
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long dueMillis; // 만료 판단 시각 (tick 끝으로 올린 만료 시각)
+        private boolean cancelled;
+
+        private Entry(K key, long dueMillis) {
+            this.key = key;
+            this.dueMillis = dueMillis;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.mollyapi.order.util;
+
+import com.github.f4b6a3.tsid.Tsid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결제용 tossOrderId 생성기
+ * - TSID 구조(42bit 시간 + 10bit 노드 + 12bit 카운터)를 CAS로 직접 발급하여 락 없이 단조 증가
+ * - 노드 ID가 인스턴스마다 다르면 서버 간에도 충돌하지 않으므로 DB 중복 조회가 필요 없음
+ * - 노드 ID 미설정은 로컬/테스트 프로필에서만 허용 (임의 노드는 인스턴스 간 충돌 가능 - 운영에서는 기동 실패)
+ * - "ORD-" + Crockford Base32 13자리 = 17자 (orders.toss_order_id 컬럼 30자 이내)
+ */
+@Slf4j
+@Component
+public class TossOrderIdGenerator {
+
+    private static final String PREFIX = "ORD-";
+
+    // TSID 기준 시각 (2020-01-01T00:00:00Z)
+    private static final long TSID_EPOCH = Instant.parse("2020-01-01T00:00:00.000Z").toEpochMilli();
+
+    private static final int NODE_BITS = 10;
+    private static final int COUNTER_BITS = 12;
+    private static final int RANDOM_BITS = NODE_BITS + COUNTER_BITS;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    // 노드 ID 없이 임의 노드로 기동해도 되는 프로필
+    private static final Profiles RANDOM_NODE_PROFILES = Profiles.of("dev", "local", "test", "toss-stub");
+
+    private final Clock clock;
+    private final long node;
+
+    // 상위 비트: 마지막 발급 시각(ms), 하위 12bit: 해당 ms 내 카운터
+    private final AtomicLong state = new AtomicLong();
+
+    @Autowired
+    public TossOrderIdGenerator(@Value("${order.toss-order-id.node-id:-1}") long nodeId, Environment environment) {
+        this(resolveNode(nodeId, environment), Clock.systemUTC());
+    }
+
+    TossOrderIdGenerator(long nodeId) {
+        this(nodeId, Clock.systemUTC());
+    }
+
+    TossOrderIdGenerator(long nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE) {
+            throw new IllegalArgumentException("노드 ID는 0~" + MAX_NODE + " 범위여야 합니다. nodeId=" + nodeId);
+        }
+        this.node = nodeId;
+        this.clock = clock;
+    }
+
+    static long resolveNode(long nodeId, Environment environment) {
+        if (nodeId >= 0) {
+            return nodeId;
+        }
+        if (!environment.acceptsProfiles(RANDOM_NODE_PROFILES)) {
+            throw new IllegalStateException("order.toss-order-id.node-id(ORDER_NODE_ID)를 인스턴스마다 다른 0~" + MAX_NODE
+                    + " 값으로 설정해야 합니다. activeProfiles=" + String.join(",", environment.getActiveProfiles()));
+        }
+        long randomNode = new SecureRandom().nextInt((int) MAX_NODE + 1);
+        log.warn("order.toss-order-id.node-id 미설정 - 임의 노드 ID 사용: {}", randomNode);
+        return randomNode;
+    }
+
+    public String generate() {
+        return PREFIX + Tsid.from(nextValue()).toString();
+    }
+
+    long nextValue() {
+        long prev;
+        long next;
+        do {
+            prev = state.get();
+            long lastTime = prev >>> COUNTER_BITS;
+            long now = clock.millis() - TSID_EPOCH;
+
+            if (now > lastTime) {
+                next = now << COUNTER_BITS;
+            } else {
+                // 같은 ms(또는 시계 역행): 카운터 증가, 카운터가 넘치면 다음 ms를 미리 사용
+                next = prev + 1;
+            }
+        } while (!state.compareAndSet(prev, next));
+
+        long time = next >>> COUNTER_BITS;
+        long counter = next & COUNTER_MASK;
+        return (time << RANDOM_BITS) | (node << COUNTER_BITS) | counter;
+    }
+}
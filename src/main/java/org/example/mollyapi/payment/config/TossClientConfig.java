@@ -0,0 +1,86 @@
+package org.example.mollyapi.payment.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.example.mollyapi.common.circuit.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토스 PG 전용 HTTP 클라이언트
+ * - 다른 외부 호출과 커넥션 풀을 공유하지 않도록 전용 풀(toss-pool) 사용, 풀 대기 요청 수/대기 시간 상한
+ * - 연결/응답/읽기/쓰기 타임아웃을 모두 지정해 PG 지연이 요청 스레드를 무기한 붙잡지 않도록 함
+ * - 풀 사용량은 reactor.netty.connection.provider.* 지표로 노출 (name=toss-pool)
+ * - 승인/취소 호출은 서킷 브레이커(name=toss)를 거침 - PG 장애 시 타임아웃까지 기다리지 않고 바로 거절
+ */
+@Configuration
+public class TossClientConfig {
+
+    public static final String POOL_NAME = "toss-pool";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider tossConnectionProvider(
+            @Value("${payment.client.max-connections:50}") int maxConnections,
+            @Value("${payment.client.pending-acquire-max-count:100}") int pendingAcquireMaxCount,
+            @Value("${payment.client.pending-acquire-timeout-ms:2000}") long pendingAcquireTimeoutMillis,
+            @Value("${payment.client.max-idle-time-ms:30000}") long maxIdleTimeMillis,
+            @Value("${payment.client.max-life-time-ms:300000}") long maxLifeTimeMillis
+    ) {
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMillis))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMillis))
+                .evictInBackground(Duration.ofMillis(maxIdleTimeMillis))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient tossWebClient(
+            @Qualifier("tossConnectionProvider") ConnectionProvider tossConnectionProvider,
+            @Value("${payment.client.connect-timeout-ms:3000}") int connectTimeoutMillis,
+            @Value("${payment.client.response-timeout-ms:10000}") long responseTimeoutMillis,
+            @Value("${payment.client.read-timeout-ms:10000}") long readTimeoutMillis,
+            @Value("${payment.client.write-timeout-ms:5000}") long writeTimeoutMillis
+    ) {
+        HttpClient httpClient = HttpClient.create(tossConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMillis))
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(readTimeoutMillis, TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(writeTimeoutMillis, TimeUnit.MILLISECONDS)));
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @Bean
+    public CircuitBreaker tossCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${payment.circuit-breaker.window-size:50}") int windowSize,
+            @Value("${payment.circuit-breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${payment.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${payment.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+            @Value("${payment.circuit-breaker.slow-call-ms:3000}") long slowCallMillis,
+            @Value("${payment.circuit-breaker.open-ms:30000}") long openMillis,
+            @Value("${payment.circuit-breaker.half-open-calls:5}") int halfOpenCalls
+    ) {
+        return new CircuitBreaker("toss", windowSize, minimumCalls, failureRateThreshold, slowCallRateThreshold,
+                Duration.ofMillis(slowCallMillis), Duration.ofMillis(openMillis), halfOpenCalls)
+                .bindTo(meterRegistry);
+    }
+}
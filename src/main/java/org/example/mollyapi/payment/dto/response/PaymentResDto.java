@@ -1,6 +1,8 @@
 package org.example.mollyapi.payment.dto.response;
 
+import org.example.mollyapi.payment.dto.request.PaymentConfirmReqDto;
 import org.example.mollyapi.payment.entity.Payment;
+import org.example.mollyapi.payment.type.PaymentStatus;
 
 public record PaymentResDto(
         Long paymentId,
@@ -23,4 +25,18 @@ public record PaymentResDto(
             );
 }
 
+    /**
+     * PG 일시 장애로 승인 재시도가 예약된 결제 (결제대기)
+     */
+    public static PaymentResDto pending(PaymentConfirmReqDto request) {
+        return new PaymentResDto(
+                null,
+                request.paymentType(),
+                request.amount(),
+                PaymentStatus.PENDING.getStatus(),
+                request.tossOrderId(),
+                request.paymentKey()
+        );
+    }
+
 }
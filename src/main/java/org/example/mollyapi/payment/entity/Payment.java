@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.mollyapi.common.entity.Base;
+import org.example.mollyapi.common.entity.TsidGenerated;
 import org.example.mollyapi.common.exception.CustomException;
 import org.example.mollyapi.common.exception.error.impl.PaymentError;
 import org.example.mollyapi.order.entity.Order;
@@ -19,9 +20,15 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_payment_payment_key", columnList = "payment_key"),
+        @Index(name = "idx_payment_toss_order_id", columnList = "toss_order_id, payment_date"),
+        @Index(name = "idx_payment_order_payment_date", columnList = "order_id, payment_date"),
+        @Index(name = "idx_payment_status_id", columnList = "payment_status, id")
+})
 public class Payment extends Base {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     private Long id;
 
     @Column
@@ -110,6 +117,12 @@ public class Payment extends Base {
         this.paymentStatus = PaymentStatus.PENDING;
     }
 
+    // PG 승인 요청 시작 - 결과를 모르는 결제대기로 두고 요청 시각 기록 (결제 대사는 요청 후 min-age 가 지난 결제만 조회)
+    public void requestConfirm() {
+        this.paymentStatus = PaymentStatus.PENDING;
+        this.paymentDate = LocalDateTime.now();
+    }
+
     public PaymentStatus getStatus() {
         return this.paymentStatus;
     }
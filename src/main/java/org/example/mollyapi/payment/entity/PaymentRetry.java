@@ -0,0 +1,122 @@
+package org.example.mollyapi.payment.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.mollyapi.common.entity.Base;
+import org.example.mollyapi.common.entity.TsidGenerated;
+import org.example.mollyapi.payment.dto.request.PaymentConfirmReqDto;
+import org.example.mollyapi.payment.type.PaymentRetryStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 승인 재시도 대기열 (PG 5xx/타임아웃 시 등록)
+ * - 워커가 next_attempt_at 이 지난 항목을 SKIP LOCKED 로 가져가 재시도
+ * - 재시도에 필요한 승인 요청 정보를 그대로 보관 (주문은 재시도가 끝날 때까지 PREPARED 상태 유지)
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "payment_retry",
+        indexes = {
+                @Index(name = "idx_payment_retry_status_next_attempt", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_payment_retry_order", columnList = "order_id")
+        })
+public class PaymentRetry extends Base {
+
+    @Id
+    @TsidGenerated
+    @Column(name = "payment_retry_id")
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 30)
+    private String tossOrderId;
+
+    @Column
+    private String paymentKey;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Column
+    private String paymentType;
+
+    @Column
+    private Integer pointUsage;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PaymentRetryStatus status;
+
+    @Column(nullable = false)
+    private int attempts; // 지금까지 PG 승인 요청 횟수 (최초 요청 포함)
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Builder
+    public PaymentRetry(Long userId, PaymentConfirmReqDto request, LocalDateTime nextAttemptAt, String lastError) {
+        this.orderId = request.orderId();
+        this.userId = userId;
+        this.tossOrderId = request.tossOrderId();
+        this.paymentKey = request.paymentKey();
+        this.amount = request.amount();
+        this.paymentType = request.paymentType();
+        this.pointUsage = request.point();
+        this.status = PaymentRetryStatus.WAITING;
+        this.attempts = 1;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(lastError);
+    }
+
+    public PaymentConfirmReqDto toConfirmRequest() {
+        return new PaymentConfirmReqDto(orderId, tossOrderId, paymentKey, amount, paymentType, pointUsage);
+    }
+
+    public void startProcessing(LocalDateTime lockedUntil) {
+        this.status = PaymentRetryStatus.PROCESSING;
+        this.lockedUntil = lockedUntil;
+    }
+
+    public void reschedule(LocalDateTime nextAttemptAt, String error) {
+        this.attempts++;
+        this.status = PaymentRetryStatus.WAITING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lockedUntil = null;
+        this.lastError = truncate(error);
+    }
+
+    // 시도 횟수를 늘리지 않고 미룸 (PG 서킷이 열려 호출 자체를 하지 않은 경우)
+    public void defer(LocalDateTime nextAttemptAt, String error) {
+        this.status = PaymentRetryStatus.WAITING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lockedUntil = null;
+        this.lastError = truncate(error);
+    }
+
+    public void finish(PaymentRetryStatus status, String error) {
+        this.attempts++;
+        this.status = status;
+        this.lockedUntil = null;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= 500 ? error : error.substring(0, 500);
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.mollyapi.payment.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * PG 서킷이 열려 있어 호출하지 않고 바로 거절한 경우
+ * 결제는 대기(PENDING)로 두고, 재시도 대기열은 시도 횟수를 늘리지 않고 retryAfter 이후로 미룸
+ */
+@Getter
+public class PaymentGatewayUnavailableException extends RetryablePaymentException {
+
+    private final Duration retryAfter;
+
+    public PaymentGatewayUnavailableException(Duration retryAfter) {
+        super("PG 장애로 결제 승인을 잠시 미룹니다.");
+        this.retryAfter = retryAfter;
+    }
+}
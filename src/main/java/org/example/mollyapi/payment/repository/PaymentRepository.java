@@ -1,11 +1,14 @@
 package org.example.mollyapi.payment.repository;
 
+import org.example.mollyapi.order.dto.PendingPayment;
 import org.example.mollyapi.payment.entity.Payment;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,7 +16,7 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     Optional<Payment> findByPaymentKey(String paymentKey);
 
-    @Query("SELECT p FROM Payment p WHERE p.order.id = :orderId ORDER BY p.paymentDate DESC")
+    @Query("SELECT p FROM Payment p WHERE p.order.id = :orderId ORDER BY p.paymentDate DESC, p.id DESC")
     List<Payment> findLatestPaymentByOrderId(@Param("orderId") Long orderId, Pageable pageable);
 
     @Query("SELECT p FROM Payment p WHERE p.user.id = :userId")
@@ -23,4 +26,21 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findTopLatestPaymentByOrderId(@Param("tossOrderId") String tossOrderId);
 
     Optional<Payment> findByTossOrderId(String tossOrderId);
+
+    @Modifying
+    @Query("DELETE FROM Payment p WHERE p.order.id IN :orderIds")
+    int deleteAllByOrderIds(@Param("orderIds") List<Long> orderIds);
+
+    // 결과를 모르는 결제(PENDING)가 남아 있는 주문 - 결제 대사 전에 주문/결제를 지우지 않도록 제외할 때 사용
+    @Query("SELECT DISTINCT p.order.id FROM Payment p WHERE p.order.id IN :orderIds AND p.paymentStatus = 'PENDING'")
+    List<Long> findOrderIdsWithPendingPayment(@Param("orderIds") List<Long> orderIds);
+
+    // 결제 대사: cutoff 이전에 생성되어 PENDING 으로 남은 결제 (승인 재시도가 진행 중인 주문 제외, 결제 ID 기준 커서 조회)
+    @Query("SELECT new org.example.mollyapi.order.dto.PendingPayment(p.id, p.order.id, p.paymentKey, p.paymentDate) " +
+            "FROM Payment p WHERE p.paymentStatus = 'PENDING' AND p.id > :afterId AND p.paymentDate < :cutoff " +
+            "AND NOT EXISTS (SELECT r.id FROM PaymentRetry r WHERE r.orderId = p.order.id AND r.status IN ('WAITING', 'PROCESSING')) " +
+            "ORDER BY p.id")
+    List<PendingPayment> findPendingForReconciliation(@Param("afterId") Long afterId,
+                                                      @Param("cutoff") LocalDateTime cutoff,
+                                                      Pageable pageable);
 }
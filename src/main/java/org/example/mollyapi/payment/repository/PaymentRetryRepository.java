@@ -0,0 +1,28 @@
+package org.example.mollyapi.payment.repository;
+
+import org.example.mollyapi.payment.entity.PaymentRetry;
+import org.example.mollyapi.payment.type.PaymentRetryStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentRetryRepository extends JpaRepository<PaymentRetry, Long> {
+
+    // 처리할 차례가 된 재시도 (다른 워커가 잡고 있는 행은 건너뜀)
+    // 처리 중 상태로 남은 행은 locked_until 이 지나면 다시 가져감 (워커 장애 대비)
+    @Query(value = "SELECT * FROM payment_retry " +
+            "WHERE (status = 'WAITING' AND next_attempt_at <= :now) " +
+            "OR (status = 'PROCESSING' AND locked_until < :now) " +
+            "ORDER BY next_attempt_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<PaymentRetry> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    Optional<PaymentRetry> findFirstByOrderIdAndStatusIn(Long orderId, List<PaymentRetryStatus> statuses);
+
+    boolean existsByOrderIdAndStatusIn(Long orderId, List<PaymentRetryStatus> statuses);
+}
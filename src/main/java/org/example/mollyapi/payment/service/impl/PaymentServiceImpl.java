@@ -25,9 +25,11 @@ import org.example.mollyapi.payment.dto.response.PaymentInfoResDto;
 import org.example.mollyapi.payment.dto.response.TossCancelResDto;
 import org.example.mollyapi.payment.dto.response.TossConfirmResDto;
 import org.example.mollyapi.payment.entity.Payment;
+import org.example.mollyapi.payment.exception.PaymentGatewayUnavailableException;
 import org.example.mollyapi.payment.exception.RetryablePaymentException;
 import org.example.mollyapi.payment.repository.PaymentRepository;
 import org.example.mollyapi.payment.service.PaymentService;
+import org.example.mollyapi.payment.type.GatewayPaymentStatus;
 import org.example.mollyapi.payment.type.PaymentStatus;
 import org.example.mollyapi.payment.util.PaymentWebClientUtil;
 import org.example.mollyapi.user.entity.User;
@@ -38,8 +40,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -92,29 +92,43 @@ public class PaymentServiceImpl implements PaymentService {
     /*
         결제 요청 실행 (API 호출 및 결제 데이터 저장)
      */
-    @Retryable(
-            include = {RetryablePaymentException.class},
-//            exclude = {CustomException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2)
-    )
+    // 5xx 응답은 바로 RetryablePaymentException 으로 반환 (재시도는 PaymentRetryService 가 대기열로 처리)
     public Payment processPayment(Long userId,
                                   PaymentConfirmReqDto requestDto) {
         System.out.println("----------------------------------결제 트랜잭션 시작----------------------------------");
         // 1. 결제 엔티티 생성
         Payment payment = createOrGetPayment(userId, requestDto.orderId(), requestDto.tossOrderId(), requestDto.paymentKey(), requestDto.paymentType(), requestDto.amount());
 
-        // 2. toss payments API 호출
-        ResponseEntity<TossConfirmResDto> response = tossPaymentApi(new TossConfirmReqDto(requestDto.tossOrderId(),
-                requestDto.paymentKey(),
-                requestDto.amount()));
+        // 이전 시도의 결과를 모르는 결제 (타임아웃/5xx 후 재시도) - PG가 이미 승인했을 수 있음
+        boolean outcomeUnknown = payment.getId() != null && payment.getStatus() == PaymentStatus.PENDING;
+
+        // 2. PG 호출 전에 결제대기(PENDING)로 먼저 커밋
+        // 호출 중 서버가 중단되어도 결제 행이 남으므로 결제 준비 복구는 보상하지 않고 결제 대사가 PG에 승인 여부를 조회
+        payment.requestConfirm();
+        payment = paymentSaveService.persistPayment(payment);
+
+        // 3. toss payments API 호출
+        ResponseEntity<TossConfirmResDto> response;
+        try {
+            response = tossPaymentApi(new TossConfirmReqDto(requestDto.paymentKey(),
+                    requestDto.tossOrderId(),
+                    requestDto.amount()));
+        } catch (PaymentGatewayUnavailableException e) {
+            // PG 서킷 열림 -> 호출 없이 결제 대기로 두고 재시도 대기열에서 나중에 확인
+            payment.pendingPayment();
+            paymentSaveService.persistPayment(payment);
+            throw e;
+        }
 
 
-        // 3. 응답 검증
-        // pending -> 자동 재시도, fail -> 수동 재시도, approve -> 완료
+        // 4. 응답 검증
+        // pending -> 재시도 대기열 등록, fail -> 수동 재시도, approve -> 완료
         switch (getStatusCodeToString(response)) {
             case "200" -> payment.successPayment();
             case "400" -> {
+                if (outcomeUnknown) {
+                    return settleByLookup(payment, requestDto.paymentKey());
+                }
                 payment.failPayment("결제 실패");
                 paymentSaveService.persistPayment(payment);
                 throw new CustomException(OrderError.PAYMENT_RETRY_REQUIRED);
@@ -132,46 +146,40 @@ public class PaymentServiceImpl implements PaymentService {
         return payment;
     }
 
-    @Retryable(
-            include = {RuntimeException.class},
-//            exclude = {CustomException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2)
-    )
-    public Payment processPaymentTest(Long userId,
-                                  PaymentConfirmReqDto requestDto, String status) {
-        System.out.println("----------------------------------결제 트랜잭션 시작----------------------------------");
-        // 1. 결제 엔티티 생성
-        Payment payment = createOrGetPaymentTest(userId, requestDto.orderId(), requestDto.tossOrderId(), requestDto.paymentKey(), requestDto.paymentType(), requestDto.amount());
-
-        //jmeter 테스트 시 정한 상태 값에 따라 동적으로 변경
-        if(status.equals("SUCCESS")) {
-            status = "200";
-        } else if(status.equals("FAIL")){
-            status = "400";
-        } else {
-            status = "500";
+    /*
+        결과를 모르는 결제의 승인 재요청이 4xx 로 거절된 경우 PG 조회로 실제 상태 확인
+        첫 요청이 PG에서 승인되었으면 재요청은 ALREADY_PROCESSED_PAYMENT(400)로 거절되므로, 바로 실패 처리하면 승인된 결제를 보상하게 됨
+        승인 -> 완료, 승인되지 않음 -> 실패, 조회 불가 -> 결제대기 유지 (재시도/결제 대사가 다시 확인)
+     */
+    private Payment settleByLookup(Payment payment, String paymentKey) {
+        GatewayPaymentStatus gatewayStatus;
+        try {
+            gatewayStatus = paymentWebClientUtil.findPayment(paymentKey, apiKey)
+                    .map(TossConfirmResDto::status)
+                    .map(GatewayPaymentStatus::fromToss)
+                    .orElse(GatewayPaymentStatus.FAILED);
+        } catch (RuntimeException e) {
+            log.warn("승인 재요청 거절 후 PG 조회 실패 - 결제대기 유지: paymentKey={}, error={}", paymentKey, e.getMessage());
+            gatewayStatus = GatewayPaymentStatus.UNKNOWN;
         }
+        log.info("승인 재요청 거절 - PG 조회 결과: paymentKey={}, status={}", paymentKey, gatewayStatus);
 
-        // 3. 응답 검증
-        // pending -> 자동 재시도, fail -> 수동 재시도, approve -> 완료
-        switch (status) {
-            case "200" -> payment.successPayment();
-            case "400" -> {
-                log.info("status 400");
+        switch (gatewayStatus) {
+            case APPROVED -> {
+                payment.successPayment();
+                return paymentRepository.save(payment);
+            }
+            case FAILED -> {
                 payment.failPayment("결제 실패");
+                paymentSaveService.persistPayment(payment);
                 throw new CustomException(OrderError.PAYMENT_RETRY_REQUIRED);
             }
-            case "500" -> {
+            default -> {
                 payment.pendingPayment();
-                throw new RetryablePaymentException("서버 내부 오류");
+                paymentSaveService.persistPayment(payment);
+                throw new RetryablePaymentException("승인 결과 확인 불가");
             }
         }
-        paymentRepository.save(payment);
-        log.info("processPayment = {}", payment);
-
-        System.out.println("----------------------------------결제 트랜잭션 종료----------------------------------");
-        return payment;
     }
 
     /*
@@ -201,30 +209,6 @@ public class PaymentServiceImpl implements PaymentService {
         return Payment.create(user, order, tossOrderId, paymentKey, paymentType, amount);
     }
 
-    public Payment createOrGetPaymentTest(Long userId, Long orderId, String tossOrderId,
-                                      String paymentKey, String paymentType, Long amount) {
-        log.info("createOrGetPayment 실행");
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(UserError.NOT_EXISTS_USER));
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new CustomException(PaymentError.ORDER_NOT_FOUND));
-
-        Optional<Payment> existingPayment = paymentRepository.findByTossOrderId(tossOrderId);
-        if (existingPayment.isPresent()){
-            Payment payment = existingPayment.get();
-//            payment.increaseRetryCount();
-            switch (payment.getStatus()) {
-                case APPROVED -> {
-                    throw new CustomException(PaymentError.PAYMENT_ALREADY_PROCESSED);
-                }
-                case PENDING, FAILED -> {
-                    return payment;
-                }
-            }
-        }
-        return Payment.create(user, order, tossOrderId, paymentKey, paymentType, amount);
-    }
-
     /*
         Toss 결제 요청 API 호출 (결제 승인)
      */
@@ -288,6 +272,8 @@ public class PaymentServiceImpl implements PaymentService {
 
         if (statusValue >= 200 && statusValue < 300) {
             return "200"; // 모든 2xx 응답을 200으로 변환
+        } else if (statusValue == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            return "500"; // 429(요청 과다)는 일시 장애로 보고 재시도
         } else if (statusValue >= 400 && statusValue < 500) {
             return "400"; // 모든 4xx 응답을 400으로 변환
         } else if (statusValue >= 500 && statusValue < 600) {
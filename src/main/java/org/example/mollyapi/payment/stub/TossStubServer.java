@@ -0,0 +1,258 @@
+package org.example.mollyapi.payment.stub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 토스 결제 API 시뮬레이터 (toss-stub 프로필)
+ * - 별도 포트의 HTTP 서버로 승인(POST /v1/payments/confirm), 취소(POST /v1/payments/{paymentKey}/cancel),
+ *   조회(GET /v1/payments/{paymentKey})를 토스와 같은 요청/응답 형식으로 제공
+ * - 애플리케이션은 payment.client.confirm-url / toss-url 만 이 서버로 바꿔 실제 결제 경로(PG 클라이언트, 풀, 서킷, 재시도)를 그대로 사용
+ * - 응답 지연은 로그 정규분포(latency-median-ms, latency-p99-ms), 오류는 요청마다 확률로 주입
+ *   (error-rate: 500, throttle-rate: 429, reject-rate: 400 카드 거절, timeout-rate: 승인은 처리하되 응답하지 않음)
+ * 지연은 Netty 이벤트 루프 타이머로 기다리므로 부하 테스트 중에도 스레드를 점유하지 않음
+ */
+@Slf4j
+@Component
+@Profile("toss-stub")
+public class TossStubServer implements InitializingBean, DisposableBean {
+
+    private static final double Z_99 = 2.326; // 표준정규분포 99 백분위
+
+    private final ObjectMapper objectMapper;
+    private final int port;
+    private final double latencyMu;
+    private final double latencySigma;
+    private final double errorRate;
+    private final double throttleRate;
+    private final double rejectRate;
+    private final double timeoutRate;
+    private final long timeoutHoldMillis;
+    private final Map<String, StubPayment> payments = new ConcurrentHashMap<>();
+    private DisposableServer server;
+
+    public TossStubServer(
+            ObjectMapper objectMapper,
+            @Value("${toss-stub.port:18090}") int port,
+            @Value("${toss-stub.latency-median-ms:150}") double latencyMedianMillis,
+            @Value("${toss-stub.latency-p99-ms:800}") double latencyP99Millis,
+            @Value("${toss-stub.error-rate:0}") double errorRate,
+            @Value("${toss-stub.throttle-rate:0}") double throttleRate,
+            @Value("${toss-stub.reject-rate:0}") double rejectRate,
+            @Value("${toss-stub.timeout-rate:0}") double timeoutRate,
+            @Value("${toss-stub.timeout-hold-ms:60000}") long timeoutHoldMillis
+    ) {
+        if (latencyMedianMillis <= 0 || latencyP99Millis < latencyMedianMillis) {
+            throw new IllegalArgumentException("toss-stub 지연 설정이 올바르지 않습니다. (0 < median <= p99)");
+        }
+        if (errorRate + throttleRate + rejectRate + timeoutRate > 1) {
+            throw new IllegalArgumentException("toss-stub 오류 비율의 합은 1 이하여야 합니다.");
+        }
+        this.objectMapper = objectMapper;
+        this.port = port;
+        this.latencyMu = Math.log(latencyMedianMillis);
+        this.latencySigma = (Math.log(latencyP99Millis) - Math.log(latencyMedianMillis)) / Z_99;
+        this.errorRate = errorRate;
+        this.throttleRate = throttleRate;
+        this.rejectRate = rejectRate;
+        this.timeoutRate = timeoutRate;
+        this.timeoutHoldMillis = timeoutHoldMillis;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        server = HttpServer.create()
+                .host("localhost")
+                .port(port)
+                .route(routes -> routes
+                        .post("/v1/payments/confirm", this::confirm)
+                        .post("/v1/payments/{paymentKey}/cancel", this::cancel)
+                        .get("/v1/payments/{paymentKey}", this::lookup))
+                .bindNow();
+        log.info("[TossStub] 토스 결제 시뮬레이터 시작: port={}, 지연 median={}ms / p99={}ms, 오류={}, 429={}, 거절={}, 타임아웃={}",
+                server.port(), Math.round(Math.exp(latencyMu)), Math.round(Math.exp(latencyMu + Z_99 * latencySigma)),
+                errorRate, throttleRate, rejectRate, timeoutRate);
+    }
+
+    @Override
+    public void destroy() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    public int getPort() {
+        return server.port();
+    }
+
+    private Mono<Void> confirm(HttpServerRequest request, HttpServerResponse response) {
+        return body(request).flatMap(body -> {
+            if (!authorized(request)) {
+                return reply(response, HttpStatus.UNAUTHORIZED, error("UNAUTHORIZED_KEY", "인증되지 않은 시크릿 키 혹은 클라이언트 키 입니다."));
+            }
+            String paymentKey = body.path("paymentKey").asText(null);
+            String orderId = body.path("orderId").asText(null);
+            long amount = body.path("amount").asLong(0);
+            if (paymentKey == null || orderId == null || amount <= 0) {
+                return reply(response, HttpStatus.BAD_REQUEST, error("INVALID_REQUEST", "잘못된 요청입니다."));
+            }
+
+            StubPayment existing = payments.get(paymentKey);
+            if (existing != null && existing.status().equals("DONE")) {
+                return reply(response, HttpStatus.BAD_REQUEST, error("ALREADY_PROCESSED_PAYMENT", "이미 처리된 결제 입니다."));
+            }
+
+            double dice = ThreadLocalRandom.current().nextDouble();
+            if ((dice -= errorRate) < 0) {
+                return reply(response, HttpStatus.INTERNAL_SERVER_ERROR, error("FAILED_INTERNAL_SYSTEM_PROCESSING", "내부 시스템 처리 작업이 실패했습니다. 잠시 후 다시 시도해주세요."));
+            }
+            if ((dice -= throttleRate) < 0) {
+                return reply(response, HttpStatus.TOO_MANY_REQUESTS, error("TOO_MANY_REQUESTS", "요청량이 많습니다. 잠시 후 다시 시도해주세요."));
+            }
+            if ((dice -= rejectRate) < 0) {
+                payments.put(paymentKey, new StubPayment(paymentKey, orderId, amount, "ABORTED"));
+                return reply(response, HttpStatus.BAD_REQUEST, error("REJECT_CARD_PAYMENT", "한도초과 혹은 잔액부족으로 결제에 실패했습니다."));
+            }
+
+            StubPayment approved = new StubPayment(paymentKey, orderId, amount, "DONE");
+            payments.put(paymentKey, approved);
+            if ((dice -= timeoutRate) < 0) {
+                // 승인은 처리되었지만 응답이 유실된 경우 (클라이언트 타임아웃 -> 재시도/결제 대사 경로 확인용)
+                return Mono.delay(Duration.ofMillis(timeoutHoldMillis))
+                        .then(reply(response, HttpStatus.GATEWAY_TIMEOUT, error("TIMEOUT", "응답 시간이 초과되었습니다.")));
+            }
+            return reply(response, HttpStatus.OK, approved.toResponse());
+        });
+    }
+
+    private Mono<Void> cancel(HttpServerRequest request, HttpServerResponse response) {
+        String paymentKey = request.param("paymentKey");
+        return body(request).flatMap(body -> {
+            if (!authorized(request)) {
+                return reply(response, HttpStatus.UNAUTHORIZED, error("UNAUTHORIZED_KEY", "인증되지 않은 시크릿 키 혹은 클라이언트 키 입니다."));
+            }
+            StubPayment payment = payments.get(paymentKey);
+            if (payment == null) {
+                return reply(response, HttpStatus.NOT_FOUND, error("NOT_FOUND_PAYMENT", "존재하지 않는 결제 정보 입니다."));
+            }
+            if (!payment.status().equals("DONE")) {
+                return reply(response, HttpStatus.BAD_REQUEST, error("ALREADY_CANCELED_PAYMENT", "이미 취소된 결제 입니다."));
+            }
+
+            double dice = ThreadLocalRandom.current().nextDouble();
+            if ((dice -= errorRate) < 0) {
+                return reply(response, HttpStatus.INTERNAL_SERVER_ERROR, error("FAILED_INTERNAL_SYSTEM_PROCESSING", "내부 시스템 처리 작업이 실패했습니다. 잠시 후 다시 시도해주세요."));
+            }
+            if ((dice -= throttleRate) < 0) {
+                return reply(response, HttpStatus.TOO_MANY_REQUESTS, error("TOO_MANY_REQUESTS", "요청량이 많습니다. 잠시 후 다시 시도해주세요."));
+            }
+
+            StubPayment canceled = payment.withStatus("CANCELED");
+            payments.put(paymentKey, canceled);
+            Map<String, Object> cancel = new LinkedHashMap<>();
+            cancel.put("cancelReason", body.path("cancelReason").asText(null));
+            cancel.put("canceledAt", LocalDateTime.now().toString());
+            cancel.put("cancelAmount", body.path("cancelAmount").asLong(payment.amount()));
+            cancel.put("refundableAmount", 0);
+            cancel.put("transactionKey", UUID.randomUUID().toString());
+            cancel.put("cancelStatus", "DONE");
+            Map<String, Object> result = canceled.toResponse();
+            result.put("cancel", cancel);
+            return reply(response, HttpStatus.OK, result);
+        });
+    }
+
+    private Mono<Void> lookup(HttpServerRequest request, HttpServerResponse response) {
+        if (!authorized(request)) {
+            return reply(response, HttpStatus.UNAUTHORIZED, error("UNAUTHORIZED_KEY", "인증되지 않은 시크릿 키 혹은 클라이언트 키 입니다."));
+        }
+        StubPayment payment = payments.get(request.param("paymentKey"));
+        if (payment == null) {
+            return reply(response, HttpStatus.NOT_FOUND, error("NOT_FOUND_PAYMENT", "존재하지 않는 결제 정보 입니다."));
+        }
+        return reply(response, HttpStatus.OK, payment.toResponse());
+    }
+
+    private Mono<JsonNode> body(HttpServerRequest request) {
+        return request.receive().aggregate().asString()
+                .defaultIfEmpty("{}")
+                .map(body -> {
+                    try {
+                        return objectMapper.readTree(body);
+                    } catch (JsonProcessingException e) {
+                        return objectMapper.createObjectNode();
+                    }
+                });
+    }
+
+    private boolean authorized(HttpServerRequest request) {
+        String authorization = request.requestHeaders().get(HttpHeaders.AUTHORIZATION);
+        return authorization != null && authorization.startsWith("Basic ");
+    }
+
+    /**
+     * 로그 정규분포 지연 후 응답
+     */
+    private Mono<Void> reply(HttpServerResponse response, HttpStatus status, Object body) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        long latency = Math.round(Math.exp(latencyMu + latencySigma * ThreadLocalRandom.current().nextGaussian()));
+        return Mono.delay(Duration.ofMillis(latency))
+                .then(response.status(status.value())
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .sendString(Mono.just(json))
+                        .then());
+    }
+
+    private static Map<String, Object> error(String code, String message) {
+        return Map.of("code", code, "message", message);
+    }
+
+    private record StubPayment(String paymentKey, String orderId, long amount, String status) {
+
+        StubPayment withStatus(String status) {
+            return new StubPayment(paymentKey, orderId, amount, status);
+        }
+
+        Map<String, Object> toResponse() {
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("mId", "tosspayments");
+            response.put("version", "2022-11-16");
+            response.put("paymentKey", paymentKey);
+            response.put("status", status);
+            response.put("lastTransactionKey", UUID.randomUUID().toString());
+            response.put("method", "카드");
+            response.put("orderId", orderId);
+            response.put("orderName", "molly 주문");
+            response.put("totalAmount", amount);
+            return response;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.mollyapi.payment.type;
+
+/**
+ * PG(토스)에 조회한 결제 상태 - 결제 대사(reconciliation) 판단용
+ */
+public enum GatewayPaymentStatus {
+    APPROVED,   // 승인 완료 (DONE)
+    FAILED,     // 승인되지 않음 (취소/중단/만료, PG에 결제 없음)
+    UNKNOWN;    // 아직 진행 중이거나 조회 실패 - 다음 대사 때 다시 확인
+
+    public static GatewayPaymentStatus fromToss(String status) {
+        if (status == null) {
+            return UNKNOWN;
+        }
+        return switch (status) {
+            case "DONE" -> APPROVED;
+            case "CANCELED", "PARTIAL_CANCELED", "ABORTED", "EXPIRED" -> FAILED;
+            default -> UNKNOWN; // READY, IN_PROGRESS, WAITING_FOR_DEPOSIT
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.mollyapi.payment.type;
+
+import java.util.List;
+
+public enum PaymentRetryStatus {
+    WAITING,     // 재시도 대기 (next_attempt_at 이후 처리)
+    PROCESSING,  // 워커가 처리 중 (locked_until 이 지나면 다시 가져갈 수 있음)
+    SUCCEEDED,   // 재시도로 결제 승인됨
+    FAILED,      // PG가 결제를 거절하여 재시도 중단
+    GAVE_UP      // 최대 재시도 횟수 초과
+    ;
+
+    public static final List<PaymentRetryStatus> ACTIVE = List.of(WAITING, PROCESSING);
+}
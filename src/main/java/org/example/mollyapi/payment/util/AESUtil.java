@@ -1,6 +1,7 @@
 package org.example.mollyapi.payment.util;
 
 import jakarta.annotation.PostConstruct;
+import org.example.mollyapi.common.crypto.CryptoPool;
 import org.example.mollyapi.common.exception.CustomException;
 import org.example.mollyapi.common.exception.error.impl.AESError;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,36 +10,57 @@ import org.springframework.stereotype.Component;
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
-import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+/**
+ * AES 암복호화
+ * - Cipher / MessageDigest 는 CryptoPool 에서 스레드별로 재사용 (요청마다 getInstance 하지 않음)
+ * - 고정 키(AESKEY)로 만든 SecretKey 와 Salt 로 유도한 키는 캐시 (같은 암호문 재시도 시 키 유도 생략)
+ */
 @Component
 public class AESUtil {
 
+    private static final String TRANSFORMATION = "AES/ECB/PKCS5Padding";
+    private static final byte[] SALTED_PREFIX = "Salted__".getBytes(StandardCharsets.US_ASCII);
+    private static final int SALT_END = 16;
+    private static final int DERIVED_KEY_CACHE_SIZE = 256;
+
+    private static final Map<DerivedKeyId, SecretKey> DERIVED_KEYS = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<DerivedKeyId, SecretKey> eldest) {
+                    return size() > DERIVED_KEY_CACHE_SIZE;
+                }
+            });
+
     @Value("${aes.secret-key}")
     private String AESKey;
 
     private static String AESKEY;
 
+    private static volatile StaticKey staticKey;
+
     @PostConstruct
     public void init() {
         AESKEY = AESKey;
     }
 
     public static String encrypt(String data) throws Exception {
-        Cipher cipher = Cipher.getInstance("AES");
-        SecretKey secretKey = new SecretKeySpec(AESKEY.getBytes(), "AES");
-        cipher.init(Cipher.ENCRYPT_MODE, secretKey);
+        Cipher cipher = CryptoPool.cipher("AES");
+        cipher.init(Cipher.ENCRYPT_MODE, staticKey());
         return Base64.getEncoder().encodeToString(cipher.doFinal(data.getBytes()));
     }
 
     public static String decrypt(String encryptedData){
         try {
-            SecretKey secretKey = new SecretKeySpec(AESKEY.getBytes(StandardCharsets.UTF_8), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.DECRYPT_MODE, secretKey);
+            Cipher cipher = CryptoPool.cipher(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, staticKey());
             return new String(cipher.doFinal(Base64.getDecoder().decode(encryptedData)));
         } catch (Exception e){
             throw new CustomException(AESError.DECODE_FAIL);
@@ -50,40 +72,83 @@ public class AESUtil {
             // 1️⃣ Base64 디코딩
             byte[] encryptedBytes = Base64.getDecoder().decode(encryptedData);
 
-            // 2️⃣ "Salted__" 문자열 확인 후 Salt 추출
-            if (new String(Arrays.copyOfRange(encryptedBytes, 0, 8)).equals("Salted__")) {
-                byte[] salt = Arrays.copyOfRange(encryptedBytes, 8, 16); // 8바이트 Salt 추출
-                byte[] cipherText = Arrays.copyOfRange(encryptedBytes, 16, encryptedBytes.length); // 암호문
-
-                // 3️⃣ Salt 기반 Key 생성
-                SecretKey secretKey = generateKey(AESKEY, salt);
-
-                // 4️⃣ AES/ECB 복호화 수행
-                Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-                cipher.init(Cipher.DECRYPT_MODE, secretKey);
-                return new String(cipher.doFinal(cipherText), StandardCharsets.UTF_8);
-            } else {
+            // 2️⃣ "Salted__" 문자열 확인 후 Salt(8~16 바이트) 기반 Key 생성
+            if (!hasSaltedPrefix(encryptedBytes)) {
                 throw new IllegalArgumentException("Invalid OpenSSL AES encrypted data format");
             }
+            SecretKey secretKey = derivedKey(AESKEY, encryptedBytes);
+
+            // 3️⃣ AES/ECB 복호화 수행 (암호문 구간만 바로 넘겨 배열 복사 생략)
+            Cipher cipher = CryptoPool.cipher(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, secretKey);
+            byte[] plain = cipher.doFinal(encryptedBytes, SALT_END, encryptedBytes.length - SALT_END);
+            return new String(plain, StandardCharsets.UTF_8);
 
         } catch (Exception e) {
             throw new RuntimeException("AES Decryption Failed", e);
         }
     }
-    private static SecretKey generateKey(String password, byte[] salt) throws Exception {
-        MessageDigest md5 = MessageDigest.getInstance("MD5");
-        byte[] keyAndIv = new byte[32]; // AES-256 Key 크기 (32바이트)
-        byte[] temp = new byte[0];
 
-        // 반복하여 Key 확장
+    private static boolean hasSaltedPrefix(byte[] encryptedBytes) {
+        if (encryptedBytes.length < SALT_END) {
+            return false;
+        }
+        for (int i = 0; i < SALTED_PREFIX.length; i++) {
+            if (encryptedBytes[i] != SALTED_PREFIX[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 고정 키 - AESKEY 가 바뀌면(테스트에서 교체 등) 다시 생성
+     */
+    private static SecretKey staticKey() {
+        String password = AESKEY;
+        StaticKey cached = staticKey;
+        if (cached == null || !cached.password().equals(password)) {
+            cached = new StaticKey(password, new SecretKeySpec(password.getBytes(StandardCharsets.UTF_8), "AES"));
+            staticKey = cached;
+        }
+        return cached.key();
+    }
+
+    private static SecretKey derivedKey(String password, byte[] encryptedBytes) throws Exception {
+        DerivedKeyId id = new DerivedKeyId(password, ByteBuffer.wrap(encryptedBytes, SALTED_PREFIX.length, 8).getLong());
+        SecretKey cached = DERIVED_KEYS.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        SecretKey generated = generateKey(password, encryptedBytes);
+        DERIVED_KEYS.put(id, generated);
+        return generated;
+    }
+
+    /**
+     * OpenSSL EVP_BytesToKey(MD5) 방식 키 유도 - salt 는 encryptedBytes 의 8~16 바이트
+     */
+    private static SecretKey generateKey(String password, byte[] encryptedBytes) throws Exception {
+        MessageDigest md5 = CryptoPool.digest("MD5");
+        byte[] passwordBytes = password.getBytes(StandardCharsets.UTF_8);
+        byte[] key = new byte[32]; // AES-256 Key 크기 (32바이트)
+
+        // 반복하여 Key 확장 (두 번째 라운드는 첫 번째 다이제스트부터)
         for (int i = 0; i < 2; i++) {
-            md5.update(temp);
-            md5.update(password.getBytes(StandardCharsets.UTF_8));
-            md5.update(salt);
-            temp = md5.digest();
-            System.arraycopy(temp, 0, keyAndIv, i * 16, 16);
+            if (i > 0) {
+                md5.update(key, 0, 16);
+            }
+            md5.update(passwordBytes);
+            md5.update(encryptedBytes, SALTED_PREFIX.length, 8);
+            md5.digest(key, i * 16, 16);
         }
 
-        return new SecretKeySpec(Arrays.copyOfRange(keyAndIv, 0, 32), "AES");
+        return new SecretKeySpec(key, "AES");
+    }
+
+    private record StaticKey(String password, SecretKey key) {
+    }
+
+    private record DerivedKeyId(String password, long salt) {
     }
-}
\ No newline at end of file
+}
@@ -2,83 +2,229 @@ package org.example.mollyapi.payment.util;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.example.mollyapi.common.config.WebClientUtil;
-import org.example.mollyapi.common.exception.CustomException;
+import org.example.mollyapi.common.circuit.CircuitBreaker;
 import org.example.mollyapi.payment.dto.request.TossCancelReqDto;
 import org.example.mollyapi.payment.dto.request.TossConfirmReqDto;
 import org.example.mollyapi.payment.dto.response.TossCancelResDto;
 import org.example.mollyapi.payment.dto.response.TossConfirmResDto;
+import org.example.mollyapi.payment.exception.PaymentGatewayUnavailableException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 토스 PG 호출
+ * - 전용 WebClient(tossWebClient, 풀/타임아웃은 TossClientConfig) 사용
+ * - 승인 요청은 벌크헤드(max-concurrent-confirms)로 동시 진행 수를 제한, 자리가 없으면 bulkhead-wait-ms 만큼만 기다린 뒤 503으로 응답
+ * - 타임아웃/연결 실패(풀 대기 초과 포함)는 504로 응답 -> 호출 측에서 5xx와 같이 결제 대기 + 재시도 대기열 등록
+ * - 서킷 브레이커(tossCircuitBreaker): 5xx/타임아웃/연결 실패와 느린 호출을 집계, 열려 있으면 PG를 호출하지 않고 PaymentGatewayUnavailableException
+ * 호출 지연은 payment.pg.request(operation, outcome 태그), 벌크헤드 사용량은 payment.pg.bulkhead.* 지표로 노출
+ */
 @Component
 @Slf4j
 @Getter
 public class PaymentWebClientUtil {
-    private final WebClientUtil webClientUtil;
-    @Value("${secret.confirm-url}")
+    private final WebClient tossWebClient;
+    private final CircuitBreaker circuitBreaker;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore confirmBulkhead;
+    private final long bulkheadWaitMillis;
+    @Value("${payment.client.confirm-url:${secret.confirm-url}}")
     private String confirmUrl;
-    @Value("${secret.toss-url}")
+    @Value("${payment.client.toss-url:${secret.toss-url}}")
     private String tossUrl;
-    public PaymentWebClientUtil(WebClientUtil webClientUtil) {
-        this.webClientUtil = webClientUtil;
+
+    public PaymentWebClientUtil(
+            @Qualifier("tossWebClient") WebClient tossWebClient,
+            @Qualifier("tossCircuitBreaker") CircuitBreaker circuitBreaker,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${payment.client.max-concurrent-confirms:30}") int maxConcurrentConfirms,
+            @Value("${payment.client.bulkhead-wait-ms:500}") long bulkheadWaitMillis
+    ) {
+        this.tossWebClient = tossWebClient;
+        this.circuitBreaker = circuitBreaker;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.confirmBulkhead = new Semaphore(maxConcurrentConfirms);
+        this.bulkheadWaitMillis = bulkheadWaitMillis;
+
+        Gauge.builder("payment.pg.bulkhead.in-use", confirmBulkhead, bulkhead -> maxConcurrentConfirms - bulkhead.availablePermits())
+                .description("진행 중인 PG 승인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("payment.pg.bulkhead.available", confirmBulkhead, Semaphore::availablePermits)
+                .description("남은 PG 승인 요청 자리 수")
+                .register(meterRegistry);
     }
 
     public ResponseEntity<TossConfirmResDto> confirmPayment(TossConfirmReqDto request, String apiKey) {
-        Map<String, String> headers = new HashMap<>();
-        headers.put("Authorization", "Basic " + Base64.getEncoder().encodeToString((apiKey + ":").getBytes()));
-        headers.put("Content-Type", "application/json");
+        acquireCircuit("confirm");
+        if (!acquireConfirm()) {
+            circuitBreaker.releasePermission();
+            meterRegistry.counter("payment.pg.bulkhead.rejected").increment();
+            log.warn("[결제 오류] PG 승인 동시 요청 한도 초과 - tossOrderId={}", request.orderId());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(null);
+        }
 
+        long start = System.nanoTime();
         try {
-            return webClientUtil.post(
-                    confirmUrl,
-                    request,
-                    TossConfirmResDto.class,
-                    headers
-            );
+            ResponseEntity<TossConfirmResDto> response = post(confirmUrl, request, TossConfirmResDto.class, apiKey);
+            record("confirm", "success", start, false);
+            return response;
         } catch (WebClientResponseException e) {
+            record("confirm", outcomeOf(e.getStatusCode()), start, isFailure(e.getStatusCode()));
             return handlePaymentError(e);
+        } catch (WebClientRequestException e) {
+            record("confirm", "io_error", start, true);
+            log.error("[결제 오류] PG 응답 없음(타임아웃/연결 실패) - tossOrderId={}, error={}", request.orderId(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(null);
+        } catch (RuntimeException e) {
+            circuitBreaker.releasePermission();
+            throw e;
+        } finally {
+            confirmBulkhead.release();
         }
     }
 
     public TossCancelResDto cancelPayment(TossCancelReqDto request, String apiKey, String paymentKey) {
-        Map<String, String> headers = new HashMap<>();
-        headers.put("Authorization", "Basic " + Base64.getEncoder().encodeToString((apiKey + ":").getBytes()));
-        headers.put("Content-Type", "application/json");
-
         String url = tossUrl + paymentKey + "/cancel";
 
+        acquireCircuit("cancel");
+        long start = System.nanoTime();
         try {
-            ResponseEntity<TossCancelResDto> response = webClientUtil.post(
-                    url,
-                    request,
-                    TossCancelResDto.class,
-                    headers
-            );
+            ResponseEntity<TossCancelResDto> response = post(url, request, TossCancelResDto.class, apiKey);
+            record("cancel", "success", start, false);
             return response.getBody();
-        }   catch (WebClientResponseException e) {
+        } catch (WebClientResponseException e) {
+            record("cancel", outcomeOf(e.getStatusCode()), start, isFailure(e.getStatusCode()));
             handlePaymentError(e);
             throw e;
+        } catch (WebClientRequestException e) {
+            record("cancel", "io_error", start, true);
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.releasePermission();
+            throw e;
         }
     }
 
+    /**
+     * 결제 조회 (결제 대사용) - PG에 결제가 없으면(404) 빈 값
+     */
+    public Optional<TossConfirmResDto> findPayment(String paymentKey, String apiKey) {
+        acquireCircuit("lookup");
+        long start = System.nanoTime();
+        try {
+            TossConfirmResDto response = tossWebClient.get()
+                    .uri(tossUrl + paymentKey)
+                    .header(HttpHeaders.AUTHORIZATION, authorization(apiKey))
+                    .retrieve()
+                    .bodyToMono(TossConfirmResDto.class)
+                    .block();
+            record("lookup", "success", start, false);
+            return Optional.ofNullable(response);
+        } catch (WebClientResponseException e) {
+            record("lookup", outcomeOf(e.getStatusCode()), start, isFailure(e.getStatusCode()));
+            if (e.getStatusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                return Optional.empty();
+            }
+            handlePaymentError(e);
+            throw e;
+        } catch (WebClientRequestException e) {
+            record("lookup", "io_error", start, true);
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.releasePermission();
+            throw e;
+        }
+    }
+
+    private <T, V> ResponseEntity<T> post(String url, V requestDto, Class<T> responseDtoClass, String apiKey) {
+        return tossWebClient.post()
+                .uri(url)
+                .header(HttpHeaders.AUTHORIZATION, authorization(apiKey))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestDto)
+                .retrieve()
+                .toEntity(responseDtoClass)
+                .block(); // 동기식 (응답 대기 시간은 response-timeout-ms 로 제한)
+    }
+
+    private String authorization(String apiKey) {
+        return "Basic " + Base64.getEncoder().encodeToString((apiKey + ":").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean acquireConfirm() {
+        try {
+            return confirmBulkhead.tryAcquire(bulkheadWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 서킷이 열려 있으면 PG를 호출하지 않고 바로 거절
+     */
+    private void acquireCircuit(String operation) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            meterRegistry.counter("payment.pg.request.not-permitted", "operation", operation).increment();
+            throw new PaymentGatewayUnavailableException(circuitBreaker.getRemainingOpenDuration());
+        }
+    }
+
+    /**
+     * 지연 시간 기록 + 서킷 브레이커 반영 (429를 제외한 4xx는 PG 정상 응답으로 보고 실패로 세지 않음)
+     */
+    private void record(String operation, String outcome, long start, boolean failure) {
+        long elapsed = System.nanoTime() - start;
+        meterRegistry.timer("payment.pg.request", "operation", operation, "outcome", outcome)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        if (failure) {
+            circuitBreaker.onFailure(elapsed);
+        } else {
+            circuitBreaker.onSuccess(elapsed);
+        }
+    }
+
+    private String outcomeOf(HttpStatusCode status) {
+        if (status.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            return "throttled";
+        }
+        return status.is4xxClientError() ? "client_error" : "server_error";
+    }
+
+    // 서킷 브레이커 실패로 집계할 응답 (5xx, 429)
+    private boolean isFailure(HttpStatusCode status) {
+        return status.is5xxServerError() || status.value() == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
     private ResponseEntity<TossConfirmResDto> handlePaymentError(WebClientResponseException e) {
         String errorBody = e.getResponseBodyAsString();
         HttpStatusCode status = e.getStatusCode();
 
-        log.error("[결제 오류] Status={}, Response={}", status, errorBody);
         String errorMessage = extractErrorMessage(errorBody);
-        String responseMessage = errorMessage != null ? errorMessage : "결제 요청 중 오류가 발생했습니다.";
+        log.error("[결제 오류] Status={}, Message={}, Response={}", status,
+                errorMessage != null ? errorMessage : "결제 요청 중 오류가 발생했습니다.", errorBody);
 
         // 토스페이먼츠 오류는 동적으로 처리
         return ResponseEntity.status(status)
@@ -87,18 +233,10 @@ public class PaymentWebClientUtil {
 
     private String extractErrorMessage(String errorBody) {
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
             JsonNode jsonNode = objectMapper.readTree(errorBody);
             return jsonNode.has("message") ? jsonNode.get("message").asText() : null;
         } catch (Exception ex) {
             return null; // JSON 파싱 실패 시 기본값 반환
         }
     }
-
-//    private boolean shouldRetry(HttpStatusCode status) {
-//        return status.is5xxServerError() // 5xx 서버 오류 (500, 502, 503, 504 등)
-//                || status == HttpStatus.TOO_MANY_REQUESTS // 429: 요청 너무 많음
-//                || status == HttpStatus.BAD_GATEWAY // 502: 게이트웨이 오류
-//                || status == HttpStatus.SERVICE_UNAVAILABLE; // 503: 서비스 불가
-//    }
 }
@@ -1,6 +1,7 @@
 package org.example.mollyapi.product.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,10 +16,10 @@ import org.example.mollyapi.product.dto.BrandSummaryDto;
 import org.example.mollyapi.product.dto.ProductFilterCondition;
 import org.example.mollyapi.product.dto.request.ProductFilterConditionReqDto;
 import org.example.mollyapi.product.dto.request.ProductReqDto;
+import org.example.mollyapi.product.dto.response.FacetListResDto;
 import org.example.mollyapi.product.dto.response.ListResDto;
 import org.example.mollyapi.product.dto.response.PageResDto;
 import org.example.mollyapi.product.dto.response.ProductResDto;
-import org.example.mollyapi.product.entity.Category;
 import org.example.mollyapi.product.service.BrandService;
 import org.example.mollyapi.product.service.CategoryService;
 import org.example.mollyapi.product.service.ProductReadService;
@@ -63,13 +64,15 @@ public class ProductController {
     })
     public ResponseEntity<ListResDto> getAllProducts(
             @ParameterObject ProductFilterConditionReqDto conditionReqDto,
-            @RequestParam int page,
-            @RequestParam int size
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam int size,
+            @Parameter(description = "이전 응답의 pageable.nextCursor (있으면 page 무시)")
+            @RequestParam(required = false) String cursor
     ) {
         PageRequest pageRequest = PageRequest.of(page, size);
 
-        ProductFilterCondition condition = convertToProductFilterCondition(conditionReqDto, null);
-        Slice<ProductResDto> products = productReadService.getAllProducts(condition, pageRequest);
+        ProductFilterCondition condition = convertToProductFilterCondition(conditionReqDto, null, null);
+        Slice<ProductResDto> products = productReadService.getAllProducts(condition, pageRequest, cursor);
 
         if (products.getContent().isEmpty()) {
             return ResponseEntity.noContent().build();
@@ -80,6 +83,35 @@ public class ProductController {
                 .body(new ListResDto(PageResDto.of(products), products.getContent()));
     }
 
+    @GetMapping("/facets")
+    @Operation(summary = "상품 정보 목록 + 필터별 상품 수",
+            description = "상품 목록과 함께 색상/사이즈/브랜드/카테고리/가격대 값별 상품 수 조회 (각 필터의 수는 그 필터를 뺀 나머지 조건 기준),  " +
+                    "파라미터는 상품 정보 목록과 동일"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품 목록과 필터별 상품 수 반환 (결과가 없어도 필터별 상품 수 포함)",
+                    content = @Content(schema = @Schema(implementation = FacetListResDto.class))),
+            @ApiResponse(responseCode = "400", description = "실패",
+                    content = @Content(schema = @Schema(implementation = CustomErrorResponse.class)))
+    })
+    public ResponseEntity<FacetListResDto> getAllProductsWithFacets(
+            @ParameterObject ProductFilterConditionReqDto conditionReqDto,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam int size,
+            @Parameter(description = "이전 응답의 pageable.nextCursor (있으면 page 무시)")
+            @RequestParam(required = false) String cursor
+    ) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+
+        // 품절 제외 필터는 필터별 상품 수 조회에만 적용 (기존 목록 조회는 그대로)
+        ProductFilterCondition condition = convertToProductFilterCondition(conditionReqDto, null, conditionReqDto.excludeSoldOut());
+        FacetListResDto products = productReadService.getProductsWithFacets(condition, pageRequest, cursor);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(products);
+    }
+
     @Auth
     @GetMapping("/seller")
     @Operation(summary = "상품 정보 목록(판매자용)",
@@ -98,14 +130,16 @@ public class ProductController {
     public ResponseEntity<ListResDto> getAllProductsBySeller(
             HttpServletRequest request,
             @ParameterObject ProductFilterConditionReqDto conditionReqDto,
-            @RequestParam int page,
-            @RequestParam int size
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam int size,
+            @Parameter(description = "이전 응답의 pageable.nextCursor (있으면 page 무시)")
+            @RequestParam(required = false) String cursor
     ) {
         PageRequest pageRequest = PageRequest.of(page, size);
         Long userId = (Long) request.getAttribute("userId");
 
-        ProductFilterCondition condition = convertToProductFilterCondition(conditionReqDto, userId);
-        Slice<ProductResDto> products = productReadService.getAllProducts(condition, pageRequest);
+        ProductFilterCondition condition = convertToProductFilterCondition(conditionReqDto, userId, null);
+        Slice<ProductResDto> products = productReadService.getAllProducts(condition, pageRequest, cursor);
 
         if (products.getContent().isEmpty()) {
             return ResponseEntity.noContent().build();
@@ -118,7 +152,8 @@ public class ProductController {
 
     private ProductFilterCondition convertToProductFilterCondition(
             ProductFilterConditionReqDto conditionReqDto,
-            Long userId) {
+            Long userId,
+            Boolean excludeSoldOut) {
 
         List<Long> categoryIdList = getCategoryIdListByCategoryPathString(conditionReqDto.categories());
 
@@ -131,12 +166,12 @@ public class ProductController {
                 .priceLt(conditionReqDto.priceLt())
                 .sellerId(userId)
                 .orderBy(conditionReqDto.orderBy())
+                .excludeSoldOut(excludeSoldOut)
                 .build();
     }
 
     private List<Long> getCategoryIdListByCategoryPathString(String categories) {
-        List<Category> categoryListEndWith = categoryService.findEndWith(categories);
-        return categoryService.getAllLeafCategories(categoryListEndWith).stream().map(Category::getId).toList();
+        return categoryService.findLeafIdsEndWith(categories);
     }
 
 
@@ -170,23 +205,18 @@ public class ProductController {
                     content = @Content(schema = @Schema(implementation = CustomErrorResponse.class)))
     })
     public ResponseEntity<ListResDto> getPopularBrand(
-            @RequestParam int page,
-            @RequestParam int size
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam int size,
+            @Parameter(description = "이전 응답의 pageable.nextCursor (있으면 page 무시)")
+            @RequestParam(required = false) String cursor
     ) {
         PageRequest pageRequest = PageRequest.of(page, size);
 
-        Slice<BrandSummaryDto> brands = brandService.getPopularBrand(pageRequest);
+        Slice<BrandSummaryDto> brands = brandService.getPopularBrand(pageRequest, cursor);
 
         return ResponseEntity.ok()
                 .contentType(MediaType.APPLICATION_JSON)
-                .body(new ListResDto(
-                        new PageResDto(
-                                (long) brands.getContent().size(),
-                                brands.hasNext(),
-                                brands.isFirst(),brands.isLast()
-                        ),
-                        brands.getContent()
-                ));
+                .body(new ListResDto(PageResDto.of(brands), brands.getContent()));
     }
 
 
@@ -0,0 +1,7 @@
+package org.example.mollyapi.product.dto;
+
+/**
+ * 카테고리 행 (카테고리 트리 스냅샷 적재용)
+ */
+public record CategoryRow(Long id, String categoryName, Long parentId) {
+}
@@ -0,0 +1,18 @@
+package org.example.mollyapi.product.dto;
+
+import org.example.mollyapi.product.entity.ProductAvailability.Option;
+
+import java.util.Map;
+
+/**
+ * 패싯 인덱스에 넣는 상품 한 건 (상품 행 + 색상/사이즈 조합별 재고 여부)
+ */
+public record ProductFacetDocument(
+        Long productId,
+        Long categoryId,
+        String brandName,
+        Long price,
+        Long sellerId,
+        Map<Option, Boolean> inStockByOption
+) {
+}
@@ -0,0 +1,7 @@
+package org.example.mollyapi.product.dto;
+
+/**
+ * 아이템별 재고 수량 (상품 상세 캐시 재고 갱신용)
+ */
+public record ProductItemStock(Long itemId, Long quantity) {
+}
@@ -0,0 +1,7 @@
+package org.example.mollyapi.product.dto.response;
+
+public record FacetCountDto(
+        String value,
+        long count
+) {
+}
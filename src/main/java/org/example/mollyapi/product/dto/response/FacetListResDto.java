@@ -0,0 +1,10 @@
+package org.example.mollyapi.product.dto.response;
+
+import java.util.List;
+
+public record FacetListResDto(
+        ProductFacetResDto facets,
+        PageResDto pageable,
+        List<?> data
+) {
+}
@@ -1,19 +1,26 @@
 package org.example.mollyapi.product.dto.response;
 
+import org.example.mollyapi.common.cursor.CursorSlice;
 import org.springframework.data.domain.Slice;
 
 public record PageResDto(
         Long size,
         Boolean hasNext,
         Boolean isFirst,
-        Boolean isLast
+        Boolean isLast,
+        String nextCursor
 ) {
+    public PageResDto(Long size, Boolean hasNext, Boolean isFirst, Boolean isLast) {
+        this(size, hasNext, isFirst, isLast, null);
+    }
+
     public static PageResDto of(Slice<?> slice) {
         return new PageResDto(
                 (long)slice.getContent().size(),
                 slice.hasNext(),
                 slice.isFirst(),
-                slice.isLast()
+                slice.isLast(),
+                slice instanceof CursorSlice<?> cursorSlice ? cursorSlice.getNextCursor() : null
         );
     }
 }
@@ -0,0 +1,11 @@
+package org.example.mollyapi.product.dto.response;
+
+/**
+ * 가격 구간별 상품 수 - priceGoe 이상 priceLt 미만 (끝 구간은 null)
+ */
+public record PriceFacetCountDto(
+        Long priceGoe,
+        Long priceLt,
+        long count
+) {
+}
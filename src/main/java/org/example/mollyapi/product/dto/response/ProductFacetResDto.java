@@ -0,0 +1,17 @@
+package org.example.mollyapi.product.dto.response;
+
+import java.util.List;
+
+/**
+ * 필터 조건에 맞는 상품 수와 필터 값별 상품 수
+ * 각 필터의 값별 상품 수는 그 필터만 뺀 나머지 조건으로 계산 (같은 필터 안의 다른 값을 골랐을 때의 결과 수)
+ */
+public record ProductFacetResDto(
+        long total,
+        List<FacetCountDto> colorCode,
+        List<FacetCountDto> size,
+        List<FacetCountDto> brandName,
+        List<FacetCountDto> categoryId,
+        List<PriceFacetCountDto> price
+) {
+}
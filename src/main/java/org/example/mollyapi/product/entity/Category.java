@@ -12,6 +12,7 @@ import java.util.List;
 
 @Getter
 @Entity
+@EntityListeners(CategoryChangeListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Category extends Base {
     @Id
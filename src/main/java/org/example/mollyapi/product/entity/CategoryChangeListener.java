@@ -0,0 +1,27 @@
+package org.example.mollyapi.product.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.example.mollyapi.product.service.CategoryTreeProvider;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 카테고리 추가/수정/삭제 시 카테고리 트리 스냅샷 무효화
+ * (엔티티 리스너는 EntityManagerFactory 생성 중에 만들어지므로 ObjectProvider 로 늦게 조회)
+ */
+public class CategoryChangeListener {
+
+    private final ObjectProvider<CategoryTreeProvider> categoryTreeProvider;
+
+    public CategoryChangeListener(ObjectProvider<CategoryTreeProvider> categoryTreeProvider) {
+        this.categoryTreeProvider = categoryTreeProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Category category) {
+        categoryTreeProvider.ifAvailable(CategoryTreeProvider::invalidate);
+    }
+}
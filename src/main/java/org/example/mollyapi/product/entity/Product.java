@@ -1,25 +1,35 @@
 package org.example.mollyapi.product.entity;
 
-import com.github.f4b6a3.tsid.TsidCreator;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.mollyapi.common.entity.Base;
+import org.example.mollyapi.common.entity.TsidGenerated;
 import org.example.mollyapi.product.dto.UploadFile;
 import org.example.mollyapi.user.entity.User;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_product_brand_name", columnList = "brand_name"),
+        @Index(name = "idx_product_created_at", columnList = "created_at DESC, product_id DESC"),
+        @Index(name = "idx_product_price", columnList = "price, product_id"),
+        @Index(name = "idx_product_view_count", columnList = "view_count, product_id"),
+        @Index(name = "idx_product_purchase_count", columnList = "purchase_count, product_id")
+})
 public class Product extends Base {
 
     @Id
+    @TsidGenerated
     @Column(name = "product_id")
     Long id;
 
@@ -42,6 +52,13 @@ public class Product extends Base {
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL)
     List<ProductItem> items = new ArrayList<>();
 
+    // 색상/사이즈별 재고 여부 요약과 전체 재고 여부 (목록/검색 필터용, refreshAvailability 로만 갱신)
+    @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
+    List<ProductAvailability> availabilities = new ArrayList<>();
+
+    @Column(name = "has_stock", nullable = false, columnDefinition = "BIT DEFAULT FALSE")
+    boolean hasStock;
+
     @ManyToOne
     @JoinColumn(name = "user_id")
     User user;
@@ -85,6 +102,26 @@ public class Product extends Base {
 
     public void addItem(ProductItem productItem) {
         items.add(productItem);
+        refreshAvailability();
+    }
+
+    /**
+     * 아이템 재고로 색상/사이즈별 재고 여부와 hasStock 재계산
+     * 기존 행은 inStock 만 바꾸고, 없어진 조합만 삭제 / 새 조합만 추가 (같은 조합을 지웠다 다시 넣지 않음)
+     */
+    public void refreshAvailability() {
+        Map<ProductAvailability.Option, Boolean> inStockByOption = new LinkedHashMap<>();
+        for (ProductItem item : items) {
+            inStockByOption.merge(ProductAvailability.Option.of(item), item.isInStock(), Boolean::logicalOr);
+        }
+
+        availabilities.removeIf(availability -> !inStockByOption.containsKey(availability.option()));
+        for (ProductAvailability availability : availabilities) {
+            availability.updateInStock(inStockByOption.remove(availability.option()));
+        }
+        inStockByOption.forEach((option, inStock) -> availabilities.add(new ProductAvailability(this, option, inStock)));
+
+        this.hasStock = availabilities.stream().anyMatch(ProductAvailability::isInStock);
     }
 
     public UploadFile getThumbnail() {
@@ -0,0 +1,68 @@
+package org.example.mollyapi.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.mollyapi.common.entity.TsidGenerated;
+
+/**
+ * 상품의 색상/사이즈 조합별 재고 여부 요약 (조합당 1행, 같은 조합 아이템 중 하나라도 재고가 있으면 inStock)
+ * - 목록/검색의 색상·사이즈·품절 제외 필터가 product_item 대신 이 테이블의 인덱스로 상품 ID를 고름
+ * - inStock 은 재고가 0을 지날 때만 바뀌므로 수량이 바뀔 때마다 인덱스가 갱신되지 않음
+ * 갱신: 엔티티 경로는 Product.refreshAvailability, JDBC 경로(조건부 차감/일괄 복구/대량 등록)는 ProductAvailabilityService
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "product_availability",
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_availability_option", columnNames = {"product_id", "color_code", "size"}),
+        indexes = {
+                @Index(name = "idx_product_availability_color", columnList = "color_code, size, in_stock, product_id"),
+                @Index(name = "idx_product_availability_size", columnList = "size, in_stock, product_id")
+        })
+public class ProductAvailability {
+
+    @Id
+    @TsidGenerated
+    @Column(name = "availability_id")
+    private Long id;
+
+    // 아이템으로 언제든 다시 만들 수 있는 요약이라 FK 없이 둠 (상품/아이템 일괄 삭제가 요약 행 삭제 순서에 묶이지 않도록, 지워진 상품의 행은 상품 ID 조건에 걸리지 않음)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Product product;
+
+    @Column(name = "color_code")
+    private String colorCode;
+
+    private String size;
+
+    @Column(name = "in_stock", nullable = false)
+    private boolean inStock;
+
+    /**
+     * 색상/사이즈 조합 (null 도 하나의 값으로 비교)
+     */
+    public record Option(String colorCode, String size) {
+
+        public static Option of(ProductItem item) {
+            return new Option(item.getColorCode(), item.getSize());
+        }
+    }
+
+    ProductAvailability(Product product, Option option, boolean inStock) {
+        this.product = product;
+        this.colorCode = option.colorCode();
+        this.size = option.size();
+        this.inStock = inStock;
+    }
+
+    public Option option() {
+        return new Option(colorCode, size);
+    }
+
+    void updateInStock(boolean inStock) {
+        this.inStock = inStock;
+    }
+}
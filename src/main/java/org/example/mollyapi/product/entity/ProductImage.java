@@ -8,6 +8,7 @@ import org.example.mollyapi.product.dto.UploadFile;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_product_image_product_representative", columnList = "product_id, is_representative"))
 public class ProductImage extends Base {
 
     @Id
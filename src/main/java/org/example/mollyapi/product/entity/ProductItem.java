@@ -1,10 +1,10 @@
 package org.example.mollyapi.product.entity;
 
-import com.github.f4b6a3.tsid.TsidCreator;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 import org.example.mollyapi.common.entity.Base;
+import org.example.mollyapi.common.entity.TsidGenerated;
 import org.example.mollyapi.order.entity.OrderDetail;
 
 import java.util.List;
@@ -13,9 +13,11 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_product_item_color_size", columnList = "color_code, size"))
 public class ProductItem extends Base {
 
         @Id
+        @TsidGenerated
         @Column(name = "item_id")
         Long id;
 
@@ -29,9 +31,10 @@ public class ProductItem extends Base {
         @JoinColumn(name = "product_id")
         Product product;
 
-//        @Version
-//        @Column(nullable = false) // NOT NULL 설정
-//        private Integer version = 0;  // 기본값 0 설정
+        // 낙관적 락 재고 차감용 버전 (조건부 UPDATE 쿼리에서도 함께 증가시킴)
+        @Version
+        @Column(nullable = false)
+        private Long version = 0L;
 
         @Builder
         public ProductItem(
@@ -50,7 +53,20 @@ public class ProductItem extends Base {
         }
 
         public void updateQuantity(Long quantity) {
+                boolean wasInStock = isInStock();
                 this.quantity = quantity;
+                refreshAvailabilityIfCrossed(wasInStock);
+        }
+
+        public boolean isInStock() {
+                return quantity != null && quantity > 0;
+        }
+
+        // 품절/재입고가 바뀐 경우에만 상품의 재고 여부 요약 갱신 (수량만 바뀌면 상품을 읽지 않음)
+        private void refreshAvailabilityIfCrossed(boolean wasInStock) {
+                if (wasInStock != isInStock() && product != null) {
+                        product.refreshAvailability();
+                }
         }
 
 
@@ -59,8 +75,10 @@ public class ProductItem extends Base {
                 if (this.quantity < quantityToDecrease) {
                         throw new IllegalArgumentException("재고 부족: 현재 수량=" + this.quantity + ", 요청 수량=" + quantityToDecrease);
                 }
+                boolean wasInStock = isInStock();
                 this.quantity -= quantityToDecrease;
-                this.product.increasePurchaseCount();
+                refreshAvailabilityIfCrossed(wasInStock);
+                // 구매수는 ProductCounterService 에서 집계 (상품 행을 함께 갱신하지 않음)
         }
 
         public void restoreStock(Long quantityToRestore) {
@@ -70,13 +88,9 @@ public class ProductItem extends Base {
                         throw new IllegalStateException("재고 복구 실패: Product가 null입니다. itemId=" + this.id);
                 }
 
-                if (this.product.getPurchaseCount() == null) {
-                        log.warn("purchaseCount가 null이므로 0으로 초기화합니다. productId={}", this.product.getId());
-                        this.product.setPurchaseCount(0L);
-                }
-
+                boolean wasInStock = isInStock();
                 this.quantity += quantityToRestore;
-                this.product.decreasePurchaseCount();
+                refreshAvailabilityIfCrossed(wasInStock);
 
                 log.info("재고 복구 완료: 상품 ID={}, 최종 재고={}", this.id, this.quantity);
         }
@@ -7,6 +7,7 @@ import org.example.mollyapi.product.dto.request.ProductBulkItemReqDto;
 import org.example.mollyapi.product.dto.request.ProductBulkReqDto;
 import org.example.mollyapi.product.mapper.ProductItemMapper;
 import org.example.mollyapi.product.mapper.ProductMapper;
+import org.example.mollyapi.product.service.ProductAvailabilityService;
 import org.xml.sax.Attributes;
 import org.xml.sax.helpers.DefaultHandler;
 import java.time.LocalDateTime;
@@ -15,6 +16,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import static org.example.mollyapi.product.dto.request.ProductBulkItemReqDto.createBulkProductItemReqDto;
 
@@ -24,6 +26,7 @@ public class ExcelHandler extends DefaultHandler {
 
     private final ProductMapper productMapper;
     private final ProductItemMapper productItemMapper;
+    private final ProductAvailabilityService productAvailabilityService;
     private final ReadOnlySharedStringsTable sharedStringsTable;
     private final Long userId;
 
@@ -48,12 +51,13 @@ public class ExcelHandler extends DefaultHandler {
 
     public ExcelHandler(ReadOnlySharedStringsTable sharedStringsTable,
         List<Map<String, String>> invalidProducts, Long userId, ProductMapper productMapper,
-        ProductItemMapper productItemMapper) {
+        ProductItemMapper productItemMapper, ProductAvailabilityService productAvailabilityService) {
         this.sharedStringsTable = sharedStringsTable;
         this.invalidProducts = invalidProducts;
         this.userId = userId;
         this.productMapper = productMapper;
         this.productItemMapper = productItemMapper;
+        this.productAvailabilityService = productAvailabilityService;
     }
 
     @Override
@@ -297,6 +301,11 @@ public class ExcelHandler extends DefaultHandler {
 
         productMapper.insertProducts(passedProduct, userId, now);
         productItemMapper.insertProductItems(passedProductItem, now);
+
+        // 등록한 상품의 색상/사이즈별 재고 여부 요약 생성 (목록 필터용)
+        productAvailabilityService.refreshProducts(passedProductItem.stream()
+            .map(ProductBulkItemReqDto::getProductId)
+            .collect(Collectors.toSet()));
     }
 
 
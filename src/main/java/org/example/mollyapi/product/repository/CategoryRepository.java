@@ -1,7 +1,9 @@
 package org.example.mollyapi.product.repository;
 
+import org.example.mollyapi.product.dto.CategoryRow;
 import org.example.mollyapi.product.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +11,8 @@ import java.util.List;
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     List<Category> findByCategoryName(String categoryName);
+
+    // 전체 카테고리 (카테고리 트리 스냅샷 적재)
+    @Query("SELECT new org.example.mollyapi.product.dto.CategoryRow(c.id, c.categoryName, p.id) FROM Category c LEFT JOIN c.parent p")
+    List<CategoryRow> findAllRows();
 }
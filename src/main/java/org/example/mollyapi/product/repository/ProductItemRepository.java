@@ -1,12 +1,15 @@
 package org.example.mollyapi.product.repository;
 
 import jakarta.persistence.LockModeType;
+import org.example.mollyapi.product.dto.ProductItemStock;
 import org.example.mollyapi.product.entity.ProductItem;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,4 +39,28 @@ public interface ProductItemRepository extends JpaRepository<ProductItem, Long>
     @Query("SELECT pi FROM ProductItem pi JOIN FETCH pi.product WHERE pi.id = :id")
     Optional<ProductItem> findByIdWithProduct(@Param("id") Long id);
 
+    // 주문 생성용 일괄 조회 (상품 fetch join)
+    @Query("SELECT pi FROM ProductItem pi JOIN FETCH pi.product WHERE pi.id IN :ids")
+    List<ProductItem> findAllWithProductByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT pi.product.id FROM ProductItem pi WHERE pi.id = :id")
+    Optional<Long> findProductIdById(@Param("id") Long id);
+
+    @Query("SELECT pi.quantity FROM ProductItem pi WHERE pi.id = :id")
+    Optional<Long> findQuantityById(@Param("id") Long id);
+
+    // 상품의 아이템별 재고 (상품 상세 캐시 재고 갱신)
+    @Query("SELECT new org.example.mollyapi.product.dto.ProductItemStock(pi.id, pi.quantity) FROM ProductItem pi WHERE pi.product.id = :productId")
+    List<ProductItemStock> findStocksByProductId(@Param("productId") Long productId);
+
+    // 재고 조건부 차감 (락 조회 없이 단일 UPDATE, 재고 부족 시 0 반환)
+    // 낙관적 락으로 읽은 엔티티가 덮어쓰지 않도록 version도 함께 증가
+    @Modifying
+    @Query("UPDATE ProductItem pi SET pi.quantity = pi.quantity - :quantity, pi.version = pi.version + 1 WHERE pi.id = :id AND pi.quantity >= :quantity")
+    int decreaseStockIfAvailable(@Param("id") Long id, @Param("quantity") Long quantity);
+
+    @Modifying
+    @Query("UPDATE ProductItem pi SET pi.quantity = pi.quantity + :quantity, pi.version = pi.version + 1 WHERE pi.id = :id")
+    int increaseStock(@Param("id") Long id, @Param("quantity") Long quantity);
+
 }
\ No newline at end of file
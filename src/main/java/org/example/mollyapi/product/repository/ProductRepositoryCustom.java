@@ -3,11 +3,17 @@ package org.example.mollyapi.product.repository;
 import org.example.mollyapi.product.dto.BrandSummaryDto;
 import org.example.mollyapi.product.dto.ProductAndThumbnailDto;
 import org.example.mollyapi.product.dto.ProductFilterCondition;
+import org.example.mollyapi.product.enums.OrderBy;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
+
 
 public interface ProductRepositoryCustom {
     Slice<ProductAndThumbnailDto> findByCondition(ProductFilterCondition condition, Pageable pageable);
+    Slice<ProductAndThumbnailDto> findByCondition(ProductFilterCondition condition, Pageable pageable, String cursor);
+    Slice<ProductAndThumbnailDto> findByIds(Collection<Long> ids, OrderBy orderBy, Pageable pageable, String cursor);
     Slice<BrandSummaryDto> getTotalViewGroupByBrandName(Pageable pageable);
+    Slice<BrandSummaryDto> getTotalViewGroupByBrandName(Pageable pageable, String cursor);
 }
@@ -1,21 +1,28 @@
 package org.example.mollyapi.product.repository;
 
-import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.example.mollyapi.common.cursor.CursorSlice;
+import org.example.mollyapi.common.cursor.KeysetSort;
+import org.example.mollyapi.common.cursor.KeysetSort.Key;
 import org.example.mollyapi.product.dto.*;
 import org.example.mollyapi.product.enums.OrderBy;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import static org.example.mollyapi.product.entity.QProduct.product;
+import static org.example.mollyapi.product.entity.QProductAvailability.productAvailability;
 import static org.example.mollyapi.product.entity.QProductImage.productImage;
-import static org.example.mollyapi.product.entity.QProductItem.productItem;
 import static org.springframework.util.StringUtils.hasText;
 
 public class ProductRepositoryImpl implements ProductRepositoryCustom {
@@ -27,103 +34,163 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
     }
 
     @Override
-    public Slice<BrandSummaryDto> getTotalViewGroupByBrandName(Pageable pageable) {
+    public CursorSlice<BrandSummaryDto> getTotalViewGroupByBrandName(Pageable pageable) {
+        return getTotalViewGroupByBrandName(pageable, null);
+    }
+
+    /**
+     * 브랜드별 조회수 합계 순 - 커서가 있으면 HAVING 으로 커서 다음 브랜드부터 (집계 결과라 OFFSET 만큼 버리는 행이 없음)
+     */
+    @Override
+    public CursorSlice<BrandSummaryDto> getTotalViewGroupByBrandName(Pageable pageable, String cursor) {
         if (pageable == null) { pageable  = Pageable.unpaged(); }
 
-        JPAQuery<BrandSummaryDto> query = queryFactory.select(
-                new QBrandSummaryDto(
-                    productImage.url.max().as("brandThumbnail"),
-                    product.brandName,
-                    product.count(),
-                    product.viewCount.sum().as("viewCount")))
+        NumberExpression<Long> totalViewCount = product.viewCount.sum();
+        KeysetSort sort = KeysetSort.of(
+                Key.desc("viewCount", totalViewCount, Long.class),
+                Key.asc("brandName", product.brandName, String.class));
+        QBrandSummaryDto projection = new QBrandSummaryDto(
+                productImage.url.max().as("brandThumbnail"),
+                product.brandName,
+                product.count(),
+                totalViewCount.as("viewCount"));
+
+        JPAQuery<Tuple> query = queryFactory.select(selection(projection, sort))
             .from(productImage)
             .join(productImage.product, product)
             .on(productImage.isRepresentative.isTrue())
             .groupBy(product.brandName)
-            .orderBy(product.viewCount.sum().desc());
+            .orderBy(sort.orderSpecifiers());
 
-        if (pageable.isPaged()) {
-            query.offset(pageable.getOffset())
-                .limit(pageable.getPageSize() + 1);
+        Predicate after = sort.after(cursor);
+        if (after != null) {
+            query.having(after);
         }
-        List<BrandSummaryDto> content = query.fetch();
-
-        boolean hasNext = false;
-        if (pageable.isPaged() && content.size() > pageable.getPageSize()) {
-            content.remove(pageable.getPageSize());
-            hasNext = true;
-        }
-        return new SliceImpl<>(content, pageable, hasNext);
+        return fetchSlice(query, projection, sort, pageable, cursor);
     }
 
 
     @Override
-    public Slice<ProductAndThumbnailDto> findByCondition(ProductFilterCondition condition, Pageable pageable) {
+    public CursorSlice<ProductAndThumbnailDto> findByCondition(ProductFilterCondition condition, Pageable pageable) {
+        return findByCondition(condition, pageable, null);
+    }
+
+    /**
+     * 상품 목록 - 커서가 있으면 OFFSET 대신 정렬 키 + ID 로 커서 다음 행부터 (정렬 키 인덱스 범위 검색)
+     */
+    @Override
+    public CursorSlice<ProductAndThumbnailDto> findByCondition(ProductFilterCondition condition, Pageable pageable, String cursor) {
         if (pageable == null) pageable = Pageable.unpaged();
 
-        JPAQuery<ProductAndThumbnailDto> query = queryFactory
-                .select(new QProductAndThumbnailDto(
-                        product.id,
-                        product.category.id.as("categoryId"),
-                        product.brandName,
-                        product.productName,
-                        product.price,
-                        product.createdAt,
-                        product.viewCount,
-                        product.purchaseCount,
-                        productImage.url,
-                        productImage.filename,
-                        product.user.userId
-                ))
-                .from(product)
-                .join(productImage).on(productImage.product.eq(product).and(productImage.isRepresentative.eq(true)));
+        KeysetSort sort = keysetSort(condition == null ? null : condition.orderBy());
+        QProductAndThumbnailDto projection = productAndThumbnail();
+        JPAQuery<Tuple> query = selectProductAndThumbnail(projection, sort);
 
-        if (    condition != null && (
-                (condition.colorCode() != null && !condition.colorCode().isEmpty()) ||
-                (condition.size() != null && !condition.size().isEmpty()) ||
-                (condition.excludeSoldOut() != null && condition.excludeSoldOut() == Boolean.TRUE))){
-             query.where(product.id.in(
-                    JPAExpressions
-                            .select(productItem.product.id)
-                            .from(productItem)
-                            .where(
-                                    colorCodeEq(condition.colorCode()),
-                                    sizeEq(condition.size()),
-                                    excludeSoldOut(condition.excludeSoldOut())
-                            )
-                            .groupBy(productItem.product.id)));
-        }
         if (condition != null) {
             query.where(
                             categoryIdEq(condition.categoryId()),
                             brandNameEq(condition.brandName()),
                             priceGoe(condition.priceGoe()),
                             priceLt(condition.priceLt()),
-                            sellerIdEq(condition.sellerId()))
-                    .orderBy(orderByCondition(condition.orderBy()));
+                            sellerIdEq(condition.sellerId()),
+                            optionAvailable(condition.colorCode(), condition.size(), condition.excludeSoldOut()),
+                            hasStock(condition.excludeSoldOut()));
+        }
+        query.where(sort.after(cursor))
+                .orderBy(sort.orderSpecifiers());
+
+        return fetchSlice(query, projection, sort, pageable, cursor);
+    }
+
+    /**
+     * 패싯 인덱스가 고른 상품 ID의 목록 페이지 - 조건 대신 PK IN 으로 거른 뒤 같은 정렬/커서로 페이지 조회
+     */
+    @Override
+    public CursorSlice<ProductAndThumbnailDto> findByIds(Collection<Long> ids, OrderBy orderBy, Pageable pageable, String cursor) {
+        if (pageable == null) pageable = Pageable.unpaged();
+        if (ids.isEmpty()) {
+            return new CursorSlice<>(List.of(), pageable, false, null);
         }
 
+        KeysetSort sort = keysetSort(orderBy);
+        QProductAndThumbnailDto projection = productAndThumbnail();
+        JPAQuery<Tuple> query = selectProductAndThumbnail(projection, sort)
+                .where(product.id.in(ids), sort.after(cursor))
+                .orderBy(sort.orderSpecifiers());
+
+        return fetchSlice(query, projection, sort, pageable, cursor);
+    }
+
+    private static QProductAndThumbnailDto productAndThumbnail() {
+        return new QProductAndThumbnailDto(
+                product.id,
+                product.category.id.as("categoryId"),
+                product.brandName,
+                product.productName,
+                product.price,
+                product.createdAt,
+                product.viewCount,
+                product.purchaseCount,
+                productImage.url,
+                productImage.filename,
+                product.user.userId
+        );
+    }
+
+    private JPAQuery<Tuple> selectProductAndThumbnail(QProductAndThumbnailDto projection, KeysetSort sort) {
+        return queryFactory
+                .select(selection(projection, sort))
+                .from(product)
+                .join(productImage).on(productImage.product.eq(product).and(productImage.isRepresentative.eq(true)));
+    }
+
+    private static Expression<?>[] selection(Expression<?> projection, KeysetSort sort) {
+        List<Expression<?>> selection = new ArrayList<>();
+        selection.add(projection);
+        selection.addAll(sort.expressions());
+        return selection.toArray(new Expression<?>[0]);
+    }
+
+    // 커서가 있으면 OFFSET 없이 첫 행부터, pageSize + 1 건으로 다음 페이지 여부 확인
+    private static <T> CursorSlice<T> fetchSlice(JPAQuery<Tuple> query, Expression<T> projection, KeysetSort sort,
+                                                 Pageable pageable, String cursor) {
         if (pageable.isPaged()) {
-            query.offset(pageable.getOffset());
+            if (cursor == null || cursor.isBlank()) {
+                query.offset(pageable.getOffset());
+            }
             query.limit(pageable.getPageSize() + 1);
         }
 
-        List<ProductAndThumbnailDto> content = query.fetch();
+        List<Tuple> rows = query.fetch();
 
         boolean hasNext = false;
-        if (pageable.isPaged() && content.size() > pageable.getPageSize()) {
-            content.remove(pageable.getPageSize());
+        if (pageable.isPaged() && rows.size() > pageable.getPageSize()) {
+            rows = rows.subList(0, pageable.getPageSize());
             hasNext = true;
         }
-        return new SliceImpl<>(content, pageable, hasNext);
-    }
-
-    private BooleanExpression colorCodeEq(List<String> colorCode) {
-        return colorCode != null && !colorCode.isEmpty()? productItem.colorCode.in(colorCode): null;
+        String nextCursor = hasNext ? sort.encode(rows.get(rows.size() - 1)) : null;
+        List<T> content = new ArrayList<>(rows.size());
+        rows.forEach(row -> content.add(row.get(projection)));
+        return new CursorSlice<>(content, pageable, hasNext, nextCursor);
     }
 
-    private BooleanExpression sizeEq(List<String> size) {
-        return size != null && !size.isEmpty()? productItem.size.in(size) : null;
+    /**
+     * 색상/사이즈 조건에 맞는 조합이 있는 상품 (품절 제외면 그 조합에 재고가 있어야 함)
+     * product_item 대신 조합별 요약(product_availability)의 인덱스에서 상품 ID만 읽음
+     */
+    private BooleanExpression optionAvailable(List<String> colorCode, List<String> size, Boolean excludeSoldOut) {
+        boolean hasColorCode = colorCode != null && !colorCode.isEmpty();
+        boolean hasSize = size != null && !size.isEmpty();
+        if (!hasColorCode && !hasSize) {
+            return null;
+        }
+        return product.id.in(JPAExpressions
+                .select(productAvailability.product.id)
+                .from(productAvailability)
+                .where(
+                        hasColorCode ? productAvailability.colorCode.in(colorCode) : null,
+                        hasSize ? productAvailability.size.in(size) : null,
+                        Boolean.TRUE.equals(excludeSoldOut) ? productAvailability.inStock.isTrue() : null));
     }
 
     private BooleanExpression categoryIdEq(List<Long> categoryId) {
@@ -146,20 +213,21 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
         return sellerId != null? product.user.userId.eq(sellerId) : null;
     }
 
-    private BooleanExpression excludeSoldOut(Boolean excludeSoldOut) {
-        return excludeSoldOut != null && excludeSoldOut.equals(Boolean.TRUE) ? productItem.quantity.gt(0): null;
+    private BooleanExpression hasStock(Boolean excludeSoldOut) {
+        return Boolean.TRUE.equals(excludeSoldOut) ? product.hasStock.isTrue() : null;
     }
 
-    private OrderSpecifier<?> orderByCondition(OrderBy orderBy) {
-        if (orderBy != null) {
-            return switch (orderBy) {
-                case CREATED_AT -> product.createdAt.desc();
-                case VIEW_COUNT -> product.viewCount.desc();
-                case PURCHASE_COUNT -> product.purchaseCount.desc();
-                case PRICE_DESC ->  product.price.desc();
-                case PRICE_ASC -> product.price.asc();
-            };
+    // 정렬 키 + ID (정렬 키 단일 인덱스의 뒤에 PK 가 붙으므로 같은 방향으로 두어 인덱스 순서 그대로 읽음)
+    private KeysetSort keysetSort(OrderBy orderBy) {
+        if (orderBy == null) {
+            orderBy = OrderBy.CREATED_AT;
         }
-        return product.createdAt.desc();
+        return switch (orderBy) {
+            case CREATED_AT -> KeysetSort.of(Key.desc("createdAt", product.createdAt, LocalDateTime.class), Key.desc("id", product.id, Long.class));
+            case VIEW_COUNT -> KeysetSort.of(Key.desc("viewCount", product.viewCount, Long.class), Key.desc("id", product.id, Long.class));
+            case PURCHASE_COUNT -> KeysetSort.of(Key.desc("purchaseCount", product.purchaseCount, Long.class), Key.desc("id", product.id, Long.class));
+            case PRICE_DESC -> KeysetSort.of(Key.desc("price", product.price, Long.class), Key.desc("id", product.id, Long.class));
+            case PRICE_ASC -> KeysetSort.of(Key.asc("price", product.price, Long.class), Key.asc("id", product.id, Long.class));
+        };
     }
 }
\ No newline at end of file
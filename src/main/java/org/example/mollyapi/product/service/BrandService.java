@@ -6,4 +6,5 @@ import org.springframework.data.domain.Slice;
 
 public interface BrandService {
     Slice<BrandSummaryDto> getPopularBrand(Pageable pageable);
+    Slice<BrandSummaryDto> getPopularBrand(Pageable pageable, String cursor);
 }
@@ -16,11 +16,18 @@ public class BrandServiceImpl implements BrandService {
 
     @Override
     public Slice<BrandSummaryDto> getPopularBrand(Pageable pageable) {
+        return getPopularBrand(pageable, null);
+    }
+
+    @Override
+    public Slice<BrandSummaryDto> getPopularBrand(Pageable pageable, String cursor) {
         if (pageable == null || pageable.isUnpaged()) {
             int defaultPageNumber = 0;
             int defaultPageSize = 10;
             pageable = PageRequest.of(defaultPageNumber, defaultPageSize);
         }
-        return productRepository.getTotalViewGroupByBrandName(pageable);
+        return cursor == null
+                ? productRepository.getTotalViewGroupByBrandName(pageable)
+                : productRepository.getTotalViewGroupByBrandName(pageable, cursor);
     }
 }
@@ -13,4 +13,5 @@ public interface CategoryService {
     List<Category> getAllLeafCategories(List<Category> categoryList);
     List<Category> findEndWith(List<String> categories);
     List<Category> findEndWith(String categories);
+    List<Long> findLeafIdsEndWith(String categories);
 }
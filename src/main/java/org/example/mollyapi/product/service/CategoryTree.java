@@ -0,0 +1,164 @@
+package org.example.mollyapi.product.service;
+
+import org.example.mollyapi.product.dto.CategoryRow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 트리 스냅샷 (불변)
+ * - 노드마다 루트부터의 경로(이름 목록)와 하위 리프 ID 배열을 미리 계산
+ * - 이름 -> ID 목록, 경로 문자열("상의,티셔츠") -> ID 색인
+ * 변경 시에는 새 스냅샷을 만들어 통째로 교체 (CategoryTreeProvider)
+ */
+public final class CategoryTree {
+
+    public static final String PATH_DELIMITER = ",";
+
+    private static final CategoryTree EMPTY = new CategoryTree(Map.of(), Map.of(), Map.of());
+
+    private final Map<Long, Node> nodes;
+    private final Map<String, List<Long>> idsByName;
+    private final Map<String, Long> idByPath;
+
+    private record Node(Long id, List<String> path, long[] leafIds) {
+    }
+
+    private CategoryTree(Map<Long, Node> nodes, Map<String, List<Long>> idsByName, Map<String, Long> idByPath) {
+        this.nodes = nodes;
+        this.idsByName = idsByName;
+        this.idByPath = idByPath;
+    }
+
+    public static CategoryTree empty() {
+        return EMPTY;
+    }
+
+    public static CategoryTree of(List<CategoryRow> rows) {
+        Map<Long, CategoryRow> rowById = new HashMap<>();
+        Map<Long, List<Long>> childrenById = new HashMap<>();
+        for (CategoryRow row : rows) {
+            rowById.put(row.id(), row);
+        }
+        for (CategoryRow row : rows) {
+            if (row.parentId() != null && rowById.containsKey(row.parentId())) {
+                childrenById.computeIfAbsent(row.parentId(), id -> new ArrayList<>()).add(row.id());
+            }
+        }
+
+        Map<Long, List<String>> paths = new HashMap<>();
+        Map<Long, long[]> leafIds = new HashMap<>();
+        for (CategoryRow row : rows) {
+            pathOf(row.id(), rowById, paths);
+            leafIdsOf(row.id(), childrenById, leafIds, 0, rows.size());
+        }
+
+        Map<Long, Node> nodes = new HashMap<>();
+        Map<String, List<Long>> idsByName = new HashMap<>();
+        Map<String, Long> idByPath = new HashMap<>();
+        for (CategoryRow row : rows) {
+            List<String> path = paths.get(row.id());
+            nodes.put(row.id(), new Node(row.id(), path, leafIds.get(row.id())));
+            idsByName.computeIfAbsent(row.categoryName(), name -> new ArrayList<>()).add(row.id());
+            idByPath.putIfAbsent(String.join(PATH_DELIMITER, path), row.id());
+        }
+        idsByName.replaceAll((name, ids) -> List.copyOf(ids));
+        return new CategoryTree(Map.copyOf(nodes), Map.copyOf(idsByName), Map.copyOf(idByPath));
+    }
+
+    // 루트부터의 경로 - 부모 경로 + 자기 이름 (순환 참조는 끊음)
+    private static List<String> pathOf(Long id, Map<Long, CategoryRow> rowById, Map<Long, List<String>> paths) {
+        List<String> cached = paths.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        List<Long> chain = new ArrayList<>();
+        Long current = id;
+        while (current != null && rowById.containsKey(current) && !paths.containsKey(current) && !chain.contains(current)) {
+            chain.add(current);
+            current = rowById.get(current).parentId();
+        }
+        List<String> prefix = current != null && paths.containsKey(current) ? paths.get(current) : List.of();
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            Long nodeId = chain.get(i);
+            List<String> path = new ArrayList<>(prefix.size() + 1);
+            path.addAll(prefix);
+            path.add(rowById.get(nodeId).categoryName());
+            prefix = Collections.unmodifiableList(path);
+            paths.put(nodeId, prefix);
+        }
+        return paths.get(id);
+    }
+
+    // 하위 리프 ID - 자식이 없으면 자기 자신
+    private static long[] leafIdsOf(Long id, Map<Long, List<Long>> childrenById, Map<Long, long[]> leafIds, int depth, int maxDepth) {
+        long[] cached = leafIds.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        List<Long> children = childrenById.getOrDefault(id, List.of());
+        long[] result;
+        if (children.isEmpty() || depth > maxDepth) {
+            result = new long[]{id};
+        } else {
+            result = children.stream()
+                    .flatMapToLong(child -> Arrays.stream(leafIdsOf(child, childrenById, leafIds, depth + 1, maxDepth)))
+                    .toArray();
+        }
+        leafIds.put(id, result);
+        return result;
+    }
+
+    public boolean contains(Long id) {
+        return id != null && nodes.containsKey(id);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * 루트부터의 경로 (없는 ID면 null)
+     */
+    public List<String> getPath(Long id) {
+        Node node = id == null ? null : nodes.get(id);
+        return node == null ? null : node.path();
+    }
+
+    /**
+     * 전체 경로가 일치하는 카테고리 ID (없으면 null)
+     */
+    public Long findIdByPath(List<String> path) {
+        return path == null ? null : idByPath.get(String.join(PATH_DELIMITER, path));
+    }
+
+    /**
+     * 경로가 suffix 로 끝나는 카테고리 ID 목록 ("티셔츠" -> 상의/티셔츠, 아우터/티셔츠 ...)
+     */
+    public List<Long> findIdsEndWith(List<String> suffix) {
+        if (suffix == null || suffix.isEmpty()) {
+            return List.of();
+        }
+        List<Long> candidates = idsByName.getOrDefault(suffix.get(suffix.size() - 1), List.of());
+        List<Long> matched = new ArrayList<>(candidates.size());
+        for (Long id : candidates) {
+            List<String> path = nodes.get(id).path();
+            if (path.size() >= suffix.size() && path.subList(path.size() - suffix.size(), path.size()).equals(suffix)) {
+                matched.add(id);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 하위 리프 카테고리 ID (리프면 자기 자신, 없는 ID면 빈 배열)
+     */
+    public long[] getLeafIds(Long id) {
+        Node node = id == null ? null : nodes.get(id);
+        return node == null ? new long[0] : node.leafIds().clone();
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.mollyapi.product.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.product.repository.CategoryRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 카테고리 트리 스냅샷 보관 - 처음 사용할 때 전체 카테고리를 한 번 읽어 적재
+ * - 이 인스턴스의 카테고리 변경(CategoryChangeListener): 다음 사용 때 다시 적재 (트랜잭션 안이면 커밋/롤백 후 한 번 더)
+ * - 다른 인스턴스의 변경: refresh-interval-ms 주기로 다시 적재, 없는 ID 조회 시 즉시 다시 적재
+ * 적재한 스냅샷은 volatile 참조 하나로 통째로 교체 (읽는 쪽은 락 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeProvider {
+
+    private static final long MISSING_RELOAD_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final CategoryRepository categoryRepository;
+
+    private volatile CategoryTree tree;
+    private volatile boolean stale = true;
+    private volatile long loadedAt;
+
+    public CategoryTree current() {
+        CategoryTree current = tree;
+        if (current == null || stale) {
+            return reload(false);
+        }
+        return current;
+    }
+
+    /**
+     * 없는 ID - 그 사이 추가되었을 수 있으므로 다시 적재 후 반환
+     * (없는 ID 요청이 몰려도 MISSING_RELOAD_INTERVAL 에 한 번만 적재)
+     */
+    public CategoryTree reloadIfMissing(Long id) {
+        CategoryTree current = current();
+        if (current.contains(id) || System.nanoTime() - loadedAt < MISSING_RELOAD_INTERVAL_NANOS) {
+            return current;
+        }
+        return reload(true);
+    }
+
+    public void invalidate() {
+        stale = true;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                // 트랜잭션 중 적재된 스냅샷은 커밋 전 또는 롤백될 변경을 읽었을 수 있으므로 결과와 관계없이 표시
+                @Override
+                public void afterCompletion(int status) {
+                    stale = true;
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.category.refresh-interval-ms:300000}")
+    public void refresh() {
+        if (tree != null) {
+            reload(true);
+        }
+    }
+
+    private synchronized CategoryTree reload(boolean force) {
+        // 기다리는 동안 다른 스레드가 적재했으면 그대로 사용
+        if (!force && tree != null && !stale) {
+            return tree;
+        }
+        // 적재 중에 들어온 변경은 다음 사용 때 다시 반영되도록 읽기 전에 표시 해제
+        stale = false;
+        CategoryTree loaded = CategoryTree.of(categoryRepository.findAllRows());
+        tree = loaded;
+        loadedAt = System.nanoTime();
+        log.debug("카테고리 트리 적재: {}개", loaded.size());
+        return loaded;
+    }
+}
@@ -0,0 +1,277 @@
+package org.example.mollyapi.product.service;
+
+import com.github.f4b6a3.tsid.TsidCreator;
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.product.entity.ProductAvailability.Option;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 색상/사이즈별 재고 여부 요약(product_availability, product.has_stock) 갱신 - JDBC 로 재고를 바꾸는 경로용
+ * - 조건부 차감/일괄 복구처럼 엔티티를 거치지 않는 재고 변경은 아이템 ID만 모아 두고 (커밋 후)
+ *   flush-interval-ms 주기로 해당 상품들을 집합 단위로 다시 계산 (상품 500개당 SELECT 2번 + 바뀐 행만 배치 반영)
+ * - 엔티티로 재고를 바꾸는 경로는 Product.refreshAvailability 가 같은 트랜잭션에서 바로 반영
+ * 반영 전까지 품절/재입고가 목록 필터에 최대 flush 주기만큼 늦게 보일 수 있음
+ * 모아 둔 아이템은 메모리에만 있으므로 (서버 중단 시 유실, 다른 인스턴스의 변경) rebuild-interval-ms 주기로 전체를 다시 계산해 맞춤
+ * 요약 테이블이 비어 있으면 (요약 도입 후 최초 배포) 시작 시 자동으로 전체 재구성
+ */
+@Slf4j
+@Service
+public class ProductAvailabilityService implements DisposableBean {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String PRODUCT_IDS_BY_ITEM_SQL =
+            "SELECT DISTINCT product_id FROM product_item WHERE item_id IN (%s)";
+    private static final String ITEM_OPTIONS_SQL =
+            "SELECT product_id, color_code, size, MAX(CASE WHEN quantity > 0 THEN 1 ELSE 0 END) FROM product_item " +
+            "WHERE product_id IN (%s) GROUP BY product_id, color_code, size";
+    private static final String AVAILABILITY_SQL =
+            "SELECT availability_id, product_id, color_code, size, in_stock FROM product_availability WHERE product_id IN (%s)";
+    private static final String INSERT_AVAILABILITY_SQL =
+            "INSERT INTO product_availability (availability_id, product_id, color_code, size, in_stock) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_AVAILABILITY_SQL =
+            "UPDATE product_availability SET in_stock = ? WHERE availability_id = ?";
+    private static final String DELETE_AVAILABILITY_SQL =
+            "DELETE FROM product_availability WHERE availability_id IN (%s)";
+    private static final String UPDATE_HAS_STOCK_SQL =
+            "UPDATE product SET has_stock = %s WHERE product_id IN (%s) AND has_stock <> %s";
+    private static final String ANY_AVAILABILITY_SQL =
+            "SELECT availability_id FROM product_availability LIMIT 1";
+    private static final String ANY_PRODUCT_SQL =
+            "SELECT product_id FROM product LIMIT 1";
+    private static final String PRODUCT_IDS_AFTER_SQL =
+            "SELECT product_id FROM product WHERE product_id > ? ORDER BY product_id LIMIT " + CHUNK_SIZE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductFacetService productFacetService;
+    private final boolean rebuildOnStartup;
+
+    // 재고가 바뀐 아이템 ID (flush 때 꺼내서 상품 단위로 다시 계산)
+    private final Set<Long> changedItems = ConcurrentHashMap.newKeySet();
+
+    public ProductAvailabilityService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ProductFacetService productFacetService,
+            @Value("${product.availability.rebuild-on-startup:false}") boolean rebuildOnStartup
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.productFacetService = productFacetService;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    /**
+     * 재고 변경 알림 - 트랜잭션 안이면 커밋 후 등록 (롤백된 변경으로 다시 계산하지 않도록)
+     */
+    public void markChanged(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> changed = List.copyOf(itemIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    changedItems.addAll(changed);
+                }
+            });
+            return;
+        }
+        changedItems.addAll(itemIds);
+    }
+
+    /**
+     * 모아 둔 아이템의 상품 요약 다시 계산 (스케줄러, 종료 시 호출)
+     */
+    @Scheduled(fixedDelayString = "${product.availability.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<Long> itemIds = new ArrayList<>();
+        for (Iterator<Long> iterator = changedItems.iterator(); iterator.hasNext(); ) {
+            itemIds.add(iterator.next());
+            iterator.remove();
+        }
+        if (itemIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            Integer changed = transactionTemplate.execute(status -> refreshProducts(findProductIds(itemIds)));
+            log.debug("[Scheduler] 상품 재고 여부 요약 반영: 아이템 {}개, 변경 {}행", itemIds.size(), changed);
+        } catch (RuntimeException e) {
+            // 실패한 아이템은 다음 주기에 다시 계산
+            log.error("상품 재고 여부 요약 반영 실패 - 다음 주기에 재시도: 아이템 {}개, error={}", itemIds.size(), e.getMessage());
+            changedItems.addAll(itemIds);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        log.info("종료 전 상품 재고 여부 요약 반영");
+        flush();
+    }
+
+    /**
+     * 상품들의 요약을 아이템 재고로 다시 계산 - 바뀐 조합/플래그만 반영 (호출 측 트랜잭션에서 실행)
+     * @return 추가/수정/삭제한 요약 행 + has_stock 이 바뀐 상품 수
+     */
+    public int refreshProducts(Collection<Long> productIds) {
+        List<Long> sorted = new ArrayList<>(new TreeSet<>(productIds));
+        int changed = 0;
+        for (int from = 0; from < sorted.size(); from += CHUNK_SIZE) {
+            changed += refreshChunk(sorted.subList(from, Math.min(from + CHUNK_SIZE, sorted.size())));
+        }
+        return changed;
+    }
+
+    /**
+     * 시작 시 전체 상품 요약 재구성 - rebuild-on-startup 이 켜져 있거나, 상품은 있는데 요약 행이 하나도 없을 때
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup || isSummaryMissing()) {
+            rebuildAll();
+        }
+    }
+
+    /**
+     * 주기적 전체 재구성 - flush 전에 유실된 변경이나 다른 경로의 누락을 바로잡음 (바뀐 행만 반영)
+     */
+    @Scheduled(fixedDelayString = "${product.availability.rebuild-interval-ms:3600000}",
+            initialDelayString = "${product.availability.rebuild-interval-ms:3600000}")
+    public void refresh() {
+        try {
+            rebuildAll();
+        } catch (RuntimeException e) {
+            log.error("상품 재고 여부 요약 재구성 실패 - 다음 주기에 재시도: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 상품 요약 재구성 - 상품 ID 순으로 CHUNK_SIZE 개씩 각자 트랜잭션으로 반영
+     * (같은 상품을 flush 와 동시에 다시 계산하지 않도록 flush 와 같은 락에서 실행)
+     */
+    public synchronized int rebuildAll() {
+        long afterId = 0L;
+        int products = 0;
+        int changed = 0;
+        while (true) {
+            List<Long> chunk = jdbcTemplate.queryForList(PRODUCT_IDS_AFTER_SQL, Long.class, afterId);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            Integer chunkChanged = transactionTemplate.execute(status -> refreshChunk(chunk));
+            changed += chunkChanged == null ? 0 : chunkChanged;
+            products += chunk.size();
+            afterId = chunk.get(chunk.size() - 1);
+        }
+        log.info("상품 재고 여부 요약 재구성 완료: 상품 {}개, 변경 {}행", products, changed);
+        return changed;
+    }
+
+    private boolean isSummaryMissing() {
+        return jdbcTemplate.queryForList(ANY_AVAILABILITY_SQL, Long.class).isEmpty()
+                && !jdbcTemplate.queryForList(ANY_PRODUCT_SQL, Long.class).isEmpty();
+    }
+
+    private List<Long> findProductIds(List<Long> itemIds) {
+        Set<Long> productIds = new TreeSet<>();
+        for (int from = 0; from < itemIds.size(); from += CHUNK_SIZE) {
+            productIds.addAll(jdbcTemplate.queryForList(
+                    String.format(PRODUCT_IDS_BY_ITEM_SQL, join(itemIds.subList(from, Math.min(from + CHUNK_SIZE, itemIds.size())))),
+                    Long.class));
+        }
+        return new ArrayList<>(productIds);
+    }
+
+    private int refreshChunk(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        String ids = join(productIds);
+
+        // 상품 -> 조합 -> 재고 여부 (아이템 기준)
+        Map<Long, Map<Option, Boolean>> expected = new HashMap<>();
+        jdbcTemplate.query(String.format(ITEM_OPTIONS_SQL, ids), rs -> {
+            expected.computeIfAbsent(rs.getLong(1), id -> new HashMap<>())
+                    .put(new Option(rs.getString(2), rs.getString(3)), rs.getInt(4) > 0);
+        });
+        List<Long> inStockProducts = new ArrayList<>();
+        List<Long> soldOutProducts = new ArrayList<>();
+        for (Long productId : productIds) {
+            Map<Option, Boolean> options = expected.get(productId);
+            (options != null && options.containsValue(Boolean.TRUE) ? inStockProducts : soldOutProducts).add(productId);
+        }
+
+        // 기존 요약 행과 비교 - 남는 행은 삭제, 값이 다른 행은 수정, 처리 후 expected 에 남은 조합은 추가
+        List<Long> deletes = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        jdbcTemplate.query(String.format(AVAILABILITY_SQL, ids), rs -> {
+            long availabilityId = rs.getLong(1);
+            Map<Option, Boolean> options = expected.get(rs.getLong(2));
+            Boolean inStock = options == null ? null : options.remove(new Option(rs.getString(3), rs.getString(4)));
+            if (inStock == null) {
+                deletes.add(availabilityId);
+            } else if (inStock != rs.getBoolean(5)) {
+                updates.add(new Object[]{inStock, availabilityId});
+            }
+        });
+        List<Object[]> inserts = new ArrayList<>();
+        expected.forEach((productId, options) -> options.forEach((option, inStock) -> inserts.add(new Object[]{
+                TsidCreator.getTsid().toLong(), productId, option.colorCode(), option.size(), inStock})));
+
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.update(String.format(DELETE_AVAILABILITY_SQL, join(deletes)));
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_AVAILABILITY_SQL, updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_AVAILABILITY_SQL, inserts);
+        }
+        int flagged = updateHasStock(inStockProducts, true) + updateHasStock(soldOutProducts, false);
+        if (!deletes.isEmpty() || !updates.isEmpty() || !inserts.isEmpty()) {
+            productFacetService.markChanged(productIds);
+        }
+        return deletes.size() + updates.size() + inserts.size() + flagged;
+    }
+
+    private int updateHasStock(List<Long> productIds, boolean hasStock) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        String value = hasStock ? "TRUE" : "FALSE";
+        return jdbcTemplate.update(String.format(UPDATE_HAS_STOCK_SQL, value, join(productIds), value));
+    }
+
+    private static String join(List<Long> ids) {
+        StringBuilder joined = new StringBuilder();
+        for (Long id : ids) {
+            if (!joined.isEmpty()) {
+                joined.append(',');
+            }
+            joined.append(id);
+        }
+        return joined.toString();
+    }
+}
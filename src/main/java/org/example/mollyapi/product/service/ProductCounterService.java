@@ -0,0 +1,98 @@
+package org.example.mollyapi.product.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 조회수/구매수 write-behind 집계
+ * - 요청 경로에서는 상품 ID별 LongAdder(스트라이프 카운터)에 증감만 누적하고 product 행을 갱신하지 않음
+ * - 주기적으로 누적분을 꺼내 JDBC 배치 UPDATE (view_count = view_count + ?) 로 반영
+ * - 애플리케이션 종료 시 남은 누적분을 마지막으로 반영
+ * 반영 전까지 상품 조회 결과의 카운터 값은 최대 flush 주기만큼 늦게 보일 수 있음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductCounterService implements DisposableBean {
+
+    private static final String VIEW_COUNT_SQL =
+            "UPDATE product SET view_count = COALESCE(view_count, 0) + ? WHERE product_id = ?";
+    private static final String PURCHASE_COUNT_SQL =
+            "UPDATE product SET purchase_count = GREATEST(COALESCE(purchase_count, 0) + ?, 0) WHERE product_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 상품 ID -> 누적 증감 (한 번 생성된 카운터는 재사용, 상품 수만큼만 생성됨)
+    private final Map<Long, LongAdder> viewDeltas = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> purchaseDeltas = new ConcurrentHashMap<>();
+
+    public void increaseViewCount(Long productId) {
+        add(viewDeltas, productId, 1);
+    }
+
+    public void addPurchaseCount(Long productId, long delta) {
+        add(purchaseDeltas, productId, delta);
+    }
+
+    /**
+     * 누적분 반영 (스케줄러, 종료 시 호출)
+     */
+    @Scheduled(fixedDelayString = "${product.counter.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        int viewCount = flush(viewDeltas, VIEW_COUNT_SQL);
+        int purchaseCount = flush(purchaseDeltas, PURCHASE_COUNT_SQL);
+        if (viewCount + purchaseCount > 0) {
+            log.debug("[Scheduler] 상품 카운터 반영: 조회수 {}건, 구매수 {}건", viewCount, purchaseCount);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        log.info("종료 전 상품 카운터 반영");
+        flush();
+    }
+
+    private static void add(Map<Long, LongAdder> deltas, Long productId, long delta) {
+        if (productId == null || delta == 0) {
+            return;
+        }
+        deltas.computeIfAbsent(productId, id -> new LongAdder()).add(delta);
+    }
+
+    private int flush(Map<Long, LongAdder> deltas, String sql) {
+        // 누적분을 0으로 초기화하며 꺼냄 (꺼내는 도중 들어온 증가분은 다음 주기에 반영)
+        List<Object[]> batchArgs = new ArrayList<>();
+        deltas.forEach((productId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                batchArgs.add(new Object[]{delta, productId});
+            }
+        });
+        if (batchArgs.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            // 배치 전체를 한 트랜잭션으로 반영 (일부만 반영된 채 재시도되는 일 방지)
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, batchArgs));
+        } catch (RuntimeException e) {
+            // 반영 실패 시 꺼낸 누적분을 되돌려 다음 주기에 재시도
+            log.error("상품 카운터 반영 실패 - 다음 주기에 재시도: {}건, error={}", batchArgs.size(), e.getMessage());
+            batchArgs.forEach(args -> add(deltas, (Long) args[1], (Long) args[0]));
+            return 0;
+        }
+        return batchArgs.size();
+    }
+}
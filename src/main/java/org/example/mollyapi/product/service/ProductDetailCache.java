@@ -0,0 +1,278 @@
+package org.example.mollyapi.product.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.product.dto.ProductItemDto;
+import org.example.mollyapi.product.dto.ProductItemStock;
+import org.example.mollyapi.product.dto.response.ColorDetailDto;
+import org.example.mollyapi.product.dto.response.ProductResDto;
+import org.example.mollyapi.product.dto.response.SizeDetailDto;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 상세(ProductResDto) 로컬 캐시 - read-through, 크기 제한(max-size) LRU
+ * - 상품 정보/이미지/카테고리 경로: ttl-seconds 동안 유지, 상품 수정/삭제 시 무효화 (커밋 후 한 번 더 - 커밋 전 다시 적재된 값 제거)
+ *   무효화마다 상품별 세대를 올리고, 적재 시작 후 세대가 바뀌었으면 적재한 값을 넣지 않음 (무효화 전에 읽은 행이 캐시에 남지 않도록)
+ * - 재고 수량: 이 인스턴스에서 재고가 바뀌면 다음 조회 때, 그 외에는 stock-ttl-ms 마다 아이템별 수량만 다시 읽어 덮어씀
+ *   (다른 인스턴스의 주문으로 바뀐 재고는 최대 stock-ttl-ms 늦게 보임. 실제 차감은 주문 시 조건부 UPDATE 로 검증)
+ * 아이템이 추가/삭제되어 아이템 구성이 달라지면 전체를 다시 적재
+ */
+@Slf4j
+@Component
+public class ProductDetailCache {
+
+    private final ProductItemRepository productItemRepository;
+    private final Map<Long, CachedProduct> products;
+    private final Map<Long, Long> productIdByItem = new ConcurrentHashMap<>();
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>(); // 상품별 무효화 세대 (수정/삭제된 적 있는 상품만)
+    private final Set<Long> stockChanged = ConcurrentHashMap.newKeySet();
+    private final long ttlNanos;
+    private final long stockTtlNanos;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter invalidations;
+    private final Counter stockRefreshes;
+
+    public ProductDetailCache(
+            ProductItemRepository productItemRepository,
+            MeterRegistry meterRegistry,
+            @Value("${product.cache.max-size:10000}") int maxSize,
+            @Value("${product.cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${product.cache.stock-ttl-ms:1000}") long stockTtlMillis
+    ) {
+        this.productItemRepository = productItemRepository;
+        this.products = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedProduct> eldest) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+                unindex(eldest.getValue());
+                sizeEvictions.increment();
+                return true;
+            }
+        });
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.stockTtlNanos = Duration.ofMillis(stockTtlMillis).toNanos();
+
+        this.hits = meterRegistry.counter("product.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("product.cache.requests", "result", "miss");
+        this.sizeEvictions = meterRegistry.counter("product.cache.evictions", "cause", "size");
+        this.expiredEvictions = meterRegistry.counter("product.cache.evictions", "cause", "expired");
+        this.invalidations = meterRegistry.counter("product.cache.evictions", "cause", "invalidated");
+        this.stockRefreshes = meterRegistry.counter("product.cache.stock-refreshes");
+        Gauge.builder("product.cache.size", products, Map::size)
+                .description("캐시된 상품 상세 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회 - 없거나 만료되었으면 loader 로 적재 (호출 측 트랜잭션 밖에서 호출해도 됨)
+     */
+    public Optional<ProductResDto> get(Long productId, Supplier<Optional<ProductResDto>> loader) {
+        long now = System.nanoTime();
+        CachedProduct cached = products.get(productId);
+        if (cached != null && now - cached.loadedAt() > ttlNanos) {
+            remove(productId, cached);
+            expiredEvictions.increment();
+            cached = null;
+        }
+
+        if (cached == null) {
+            misses.increment();
+            Long generation = generations.get(productId);
+            Optional<ProductResDto> loaded = loader.get();
+            loaded.ifPresent(product -> putIfCurrent(productId, generation, new CachedProduct(product, now, now)));
+            return loaded;
+        }
+
+        hits.increment();
+        if (stockChanged.remove(productId) || now - cached.stockLoadedAt() > stockTtlNanos) {
+            CachedProduct refreshed = refreshStock(productId, cached, now);
+            if (refreshed == null) {
+                log.debug("아이템 구성 변경 - 상품 상세 다시 적재: productId={}", productId);
+                remove(productId, cached);
+                return get(productId, loader);
+            }
+            cached = refreshed;
+        }
+        return Optional.of(cached.product());
+    }
+
+    /**
+     * 상품 무효화 (수정/삭제) - 트랜잭션 안이면 커밋 후 한 번 더 제거
+     */
+    public void evict(Long productId) {
+        invalidate(productId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(productId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 재고 변경 알림 - 해당 아이템을 가진 캐시 상품은 다음 조회 때 재고를 다시 읽음
+     * 트랜잭션 안이면 커밋 후 표시 (커밋 전 값을 읽어 캐시에 남기지 않도록)
+     */
+    public void markStockChanged(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> changed = List.copyOf(itemIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markStale(changed);
+                }
+            });
+            return;
+        }
+        markStale(itemIds);
+    }
+
+    private void markStale(Collection<Long> itemIds) {
+        for (Long itemId : itemIds) {
+            Long productId = itemId == null ? null : productIdByItem.get(itemId);
+            if (productId != null) {
+                stockChanged.add(productId);
+            }
+        }
+    }
+
+    private void invalidate(Long productId) {
+        synchronized (products) {
+            generations.merge(productId, 1L, Long::sum);
+            CachedProduct removed = products.remove(productId);
+            if (removed != null) {
+                unindex(removed);
+                invalidations.increment();
+            }
+        }
+    }
+
+    private CachedProduct refreshStock(Long productId, CachedProduct cached, long now) {
+        Map<Long, Long> quantities = productItemRepository.findStocksByProductId(productId).stream()
+                .collect(Collectors.toMap(ProductItemStock::itemId, stock -> Objects.requireNonNullElse(stock.quantity(), 0L)));
+        List<ProductItemDto> items = cached.product().items();
+        Set<Long> cachedItemIds = items == null ? Set.of()
+                : items.stream().map(ProductItemDto::id).filter(Objects::nonNull).collect(Collectors.toSet());
+        if (!cachedItemIds.equals(quantities.keySet())) {
+            return null;
+        }
+
+        stockRefreshes.increment();
+        CachedProduct refreshed = new CachedProduct(withQuantities(cached.product(), quantities), cached.loadedAt(), now);
+        products.replace(productId, cached, refreshed);
+        return refreshed;
+    }
+
+    private static ProductResDto withQuantities(ProductResDto product, Map<Long, Long> quantities) {
+        List<ProductItemDto> items = product.items().stream()
+                .map(item -> new ProductItemDto(item.id(), item.color(), item.colorCode(), item.size(), quantities.get(item.id())))
+                .toList();
+        List<ColorDetailDto> colorDetails = product.colorDetails() == null ? null : product.colorDetails().stream()
+                .map(color -> new ColorDetailDto(color.color(), color.colorCode(), color.sizeDetails().stream()
+                        .map(size -> new SizeDetailDto(size.id(), size.size(), quantities.getOrDefault(size.id(), size.quantity())))
+                        .toList()))
+                .toList();
+        return new ProductResDto(
+                product.id(),
+                product.categories(),
+                product.brandName(),
+                product.productName(),
+                product.price(),
+                product.description(),
+                product.thumbnail(),
+                product.productImages(),
+                product.productDescriptionImages(),
+                items,
+                colorDetails
+        );
+    }
+
+    /**
+     * 적재 시작 시점의 세대가 그대로일 때만 저장 - 적재 중에 무효화되었으면 이미 지난 값이므로 버림
+     * (세대 확인과 저장을 무효화와 같은 락 안에서 수행)
+     */
+    private void putIfCurrent(Long productId, Long generation, CachedProduct cached) {
+        synchronized (products) {
+            if (!Objects.equals(generations.get(productId), generation)) {
+                log.debug("적재 중 무효화된 상품 상세 - 캐시하지 않음: productId={}", productId);
+                return;
+            }
+            put(productId, cached);
+        }
+    }
+
+    private void put(Long productId, CachedProduct cached) {
+        index(productId, cached);
+        CachedProduct previous = products.put(productId, cached);
+        if (previous != null && previous != cached) {
+            unindex(previous);
+            index(productId, cached);
+        }
+        stockChanged.remove(productId);
+    }
+
+    private void remove(Long productId, CachedProduct cached) {
+        if (products.remove(productId, cached)) {
+            unindex(cached);
+        }
+    }
+
+    private void index(Long productId, CachedProduct cached) {
+        for (Long itemId : cached.itemIds()) {
+            productIdByItem.put(itemId, productId);
+        }
+    }
+
+    private void unindex(CachedProduct cached) {
+        for (Long itemId : cached.itemIds()) {
+            productIdByItem.remove(itemId);
+        }
+    }
+
+    private record CachedProduct(ProductResDto product, long loadedAt, long stockLoadedAt) {
+
+        Set<Long> itemIds() {
+            if (product.items() == null) {
+                return Set.of();
+            }
+            Set<Long> itemIds = new HashSet<>();
+            product.items().forEach(item -> {
+                if (item.id() != null) {
+                    itemIds.add(item.id());
+                }
+            });
+            return itemIds;
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package org.example.mollyapi.product.service;
+
+import org.example.mollyapi.product.dto.ProductFacetDocument;
+import org.example.mollyapi.product.dto.ProductFilterCondition;
+import org.example.mollyapi.product.dto.response.FacetCountDto;
+import org.example.mollyapi.product.dto.response.PriceFacetCountDto;
+import org.example.mollyapi.product.dto.response.ProductFacetResDto;
+import org.example.mollyapi.product.entity.ProductAvailability.Option;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 상품 필터 패싯 인덱스 - 상품마다 정수 번호(ordinal)를 붙이고 필터 값마다 해당 상품 번호의 압축 비트맵(RoaringBitmap)을 둠
+ * - 검색: ProductFilterCondition 의 각 조건을 비트맵 OR(같은 필터의 여러 값) / AND(필터끼리)로 계산
+ * - 패싯: 필터마다 그 필터만 뺀 나머지 조건의 결과와 값별 비트맵의 교집합 크기
+ * - 색상/사이즈/품절 제외는 DB 조건과 같이 한 조합(색상+사이즈)이 모두 만족해야 함 - 조합별 비트맵으로 계산
+ * 상품 추가/수정은 번호를 재사용하고, 삭제된 상품의 번호는 재구성 전까지 비워 둠
+ * 읽기는 읽기 락, 갱신은 쓰기 락 (비트맵 자체는 스레드 안전하지 않음)
+ */
+public final class ProductFacetIndex {
+
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final long[] priceBoundaries;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    private ProductFacetDocument[] documents = new ProductFacetDocument[1024];
+    private int nextOrdinal;
+
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final RoaringBitmap inStock = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> byColor = new HashMap<>();
+    private final Map<String, RoaringBitmap> byInStockColor = new HashMap<>();
+    private final Map<String, RoaringBitmap> bySize = new HashMap<>();
+    private final Map<String, RoaringBitmap> byInStockSize = new HashMap<>();
+    private final Map<Option, RoaringBitmap> byOption = new HashMap<>();
+    private final Map<Option, RoaringBitmap> byInStockOption = new HashMap<>();
+    private final Map<String, RoaringBitmap> byBrand = new HashMap<>();
+    private final Map<Long, RoaringBitmap> byCategory = new HashMap<>();
+    private final Map<Long, RoaringBitmap> bySeller = new HashMap<>();
+    private final RoaringBitmap[] byPriceBucket;
+
+    /**
+     * 조건에 맞는 상품 수, 상품 ID (idLimit 개를 넘으면 null), 필터 값별 상품 수
+     */
+    public record Result(long total, List<Long> ids, ProductFacetResDto facets) {
+    }
+
+    /**
+     * @param priceBoundaries 가격 구간 경계 (오름차순) - 경계가 n개면 구간은 n+1개 (첫 구간은 하한 없음, 끝 구간은 상한 없음)
+     */
+    public ProductFacetIndex(long[] priceBoundaries) {
+        for (int i = 1; i < priceBoundaries.length; i++) {
+            if (priceBoundaries[i - 1] >= priceBoundaries[i]) {
+                throw new IllegalArgumentException("가격 구간 경계는 오름차순이어야 합니다: " + Arrays.toString(priceBoundaries));
+            }
+        }
+        this.priceBoundaries = priceBoundaries.clone();
+        this.byPriceBucket = new RoaringBitmap[priceBoundaries.length + 1];
+        for (int i = 0; i < byPriceBucket.length; i++) {
+            byPriceBucket[i] = new RoaringBitmap();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 추가/수정 - 이전 값의 비트맵에서 빼고 새 값의 비트맵에 넣음
+     */
+    public void upsert(ProductFacetDocument document) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalById.get(document.productId());
+            if (ordinal == null) {
+                ordinal = nextOrdinal++;
+                if (ordinal == documents.length) {
+                    documents = Arrays.copyOf(documents, documents.length * 2);
+                }
+                ordinalById.put(document.productId(), ordinal);
+            } else {
+                unindex(ordinal, documents[ordinal]);
+            }
+            documents[ordinal] = document;
+            index(ordinal, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalById.remove(productId);
+            if (ordinal != null) {
+                unindex(ordinal, documents[ordinal]);
+                documents[ordinal] = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 필터 조건 계산
+     * @param idLimit 결과 상품 ID를 돌려줄 최대 개수 (넘으면 ids = null - 호출 측에서 DB 조건으로 조회)
+     */
+    public Result search(ProductFilterCondition condition, int idLimit) {
+        List<String> colorCodes = nonEmpty(condition.colorCode());
+        List<String> sizes = nonEmpty(condition.size());
+        List<Long> categoryIds = nonEmpty(condition.categoryId());
+        boolean excludeSoldOut = Boolean.TRUE.equals(condition.excludeSoldOut());
+
+        lock.readLock().lock();
+        try {
+            RoaringBitmap option = optionFilter(colorCodes, sizes, excludeSoldOut);
+            RoaringBitmap stock = excludeSoldOut ? inStock : null;
+            RoaringBitmap category = categoryIds == null ? null : union(byCategory, categoryIds);
+            RoaringBitmap brand = condition.brandName() == null || condition.brandName().isBlank()
+                    ? null : byBrand.getOrDefault(condition.brandName(), EMPTY);
+            RoaringBitmap price = priceFilter(condition.priceGoe(), condition.priceLt());
+            RoaringBitmap seller = condition.sellerId() == null ? null : bySeller.getOrDefault(condition.sellerId(), EMPTY);
+
+            RoaringBitmap matches = intersect(option, stock, category, brand, price, seller);
+            long total = matches.getCardinality();
+
+            // 색상/사이즈는 한 조합 조건이라 서로의 선택을 반영해 값별 비트맵을 만듦
+            RoaringBitmap withoutOption = intersect(stock, category, brand, price, seller);
+            List<FacetCountDto> colorFacet = countValues(withoutOption, byColor.keySet(), color -> sizes == null
+                    ? (excludeSoldOut ? byInStockColor : byColor).get(color)
+                    : union(excludeSoldOut ? byInStockOption : byOption, sizes.stream().map(size -> new Option(color, size)).toList()));
+            List<FacetCountDto> sizeFacet = countValues(withoutOption, bySize.keySet(), size -> colorCodes == null
+                    ? (excludeSoldOut ? byInStockSize : bySize).get(size)
+                    : union(excludeSoldOut ? byInStockOption : byOption, colorCodes.stream().map(color -> new Option(color, size)).toList()));
+            List<FacetCountDto> brandFacet = countValues(intersect(option, stock, category, price, seller), byBrand.keySet(), byBrand::get);
+            List<FacetCountDto> categoryFacet = countValues(intersect(option, stock, brand, price, seller), byCategory.keySet(), byCategory::get);
+
+            RoaringBitmap withoutPrice = intersect(option, stock, category, brand, seller);
+            List<PriceFacetCountDto> priceFacet = new ArrayList<>(byPriceBucket.length);
+            for (int bucket = 0; bucket < byPriceBucket.length; bucket++) {
+                long count = RoaringBitmap.andCardinality(withoutPrice, byPriceBucket[bucket]);
+                if (count > 0) {
+                    priceFacet.add(new PriceFacetCountDto(lowerBound(bucket), upperBound(bucket), count));
+                }
+            }
+
+            List<Long> ids = total > idLimit ? null : ids(matches);
+            return new Result(total, ids, new ProductFacetResDto(total, colorFacet, sizeFacet, brandFacet, categoryFacet, priceFacet));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(int ordinal, ProductFacetDocument document) {
+        live.add(ordinal);
+        boolean hasStock = false;
+        for (Map.Entry<Option, Boolean> entry : document.inStockByOption().entrySet()) {
+            Option option = entry.getKey();
+            add(byColor, option.colorCode(), ordinal);
+            add(bySize, option.size(), ordinal);
+            add(byOption, option, ordinal);
+            if (Boolean.TRUE.equals(entry.getValue())) {
+                hasStock = true;
+                add(byInStockColor, option.colorCode(), ordinal);
+                add(byInStockSize, option.size(), ordinal);
+                add(byInStockOption, option, ordinal);
+            }
+        }
+        if (hasStock) {
+            inStock.add(ordinal);
+        }
+        add(byBrand, document.brandName(), ordinal);
+        add(byCategory, document.categoryId(), ordinal);
+        add(bySeller, document.sellerId(), ordinal);
+        if (document.price() != null) {
+            byPriceBucket[bucketOf(document.price())].add(ordinal);
+        }
+    }
+
+    private void unindex(int ordinal, ProductFacetDocument document) {
+        live.remove(ordinal);
+        inStock.remove(ordinal);
+        for (Option option : document.inStockByOption().keySet()) {
+            remove(byColor, option.colorCode(), ordinal);
+            remove(bySize, option.size(), ordinal);
+            remove(byOption, option, ordinal);
+            remove(byInStockColor, option.colorCode(), ordinal);
+            remove(byInStockSize, option.size(), ordinal);
+            remove(byInStockOption, option, ordinal);
+        }
+        remove(byBrand, document.brandName(), ordinal);
+        remove(byCategory, document.categoryId(), ordinal);
+        remove(bySeller, document.sellerId(), ordinal);
+        if (document.price() != null) {
+            byPriceBucket[bucketOf(document.price())].remove(ordinal);
+        }
+    }
+
+    private static <K> void add(Map<K, RoaringBitmap> bitmaps, K key, int ordinal) {
+        if (key != null) {
+            bitmaps.computeIfAbsent(key, k -> new RoaringBitmap()).add(ordinal);
+        }
+    }
+
+    // 비면 값 자체를 지워 패싯 목록에 남지 않도록
+    private static <K> void remove(Map<K, RoaringBitmap> bitmaps, K key, int ordinal) {
+        RoaringBitmap bitmap = key == null ? null : bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private RoaringBitmap optionFilter(List<String> colorCodes, List<String> sizes, boolean excludeSoldOut) {
+        if (colorCodes == null && sizes == null) {
+            return null;
+        }
+        if (sizes == null) {
+            return union(excludeSoldOut ? byInStockColor : byColor, colorCodes);
+        }
+        if (colorCodes == null) {
+            return union(excludeSoldOut ? byInStockSize : bySize, sizes);
+        }
+        List<Option> options = new ArrayList<>(colorCodes.size() * sizes.size());
+        for (String colorCode : colorCodes) {
+            for (String size : sizes) {
+                options.add(new Option(colorCode, size));
+            }
+        }
+        return union(excludeSoldOut ? byInStockOption : byOption, options);
+    }
+
+    /**
+     * 가격 범위 (priceGoe 이상 priceLt 미만) - 범위에 완전히 들어가는 구간은 비트맵 그대로, 걸치는 구간은 상품 가격을 하나씩 확인
+     */
+    private RoaringBitmap priceFilter(Long priceGoe, Long priceLt) {
+        if (priceGoe == null && priceLt == null) {
+            return null;
+        }
+        RoaringBitmap result = new RoaringBitmap();
+        for (int bucket = 0; bucket < byPriceBucket.length; bucket++) {
+            Long lower = lowerBound(bucket);
+            Long upper = upperBound(bucket);
+            boolean outside = (priceGoe != null && upper != null && upper <= priceGoe)
+                    || (priceLt != null && lower != null && lower >= priceLt);
+            if (outside) {
+                continue;
+            }
+            boolean inside = (priceGoe == null || (lower != null && lower >= priceGoe))
+                    && (priceLt == null || (upper != null && upper <= priceLt));
+            if (inside) {
+                result.or(byPriceBucket[bucket]);
+                continue;
+            }
+            IntIterator iterator = byPriceBucket[bucket].getIntIterator();
+            while (iterator.hasNext()) {
+                int ordinal = iterator.next();
+                long price = documents[ordinal].price();
+                if ((priceGoe == null || price >= priceGoe) && (priceLt == null || price < priceLt)) {
+                    result.add(ordinal);
+                }
+            }
+        }
+        return result;
+    }
+
+    private int bucketOf(long price) {
+        int index = Arrays.binarySearch(priceBoundaries, price);
+        // 경계값은 위 구간 (하한 포함)
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private Long lowerBound(int bucket) {
+        return bucket == 0 ? null : priceBoundaries[bucket - 1];
+    }
+
+    private Long upperBound(int bucket) {
+        return bucket == priceBoundaries.length ? null : priceBoundaries[bucket];
+    }
+
+    private static <K> RoaringBitmap union(Map<K, RoaringBitmap> bitmaps, List<K> keys) {
+        RoaringBitmap result = new RoaringBitmap();
+        for (K key : keys) {
+            RoaringBitmap bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                result.or(bitmap);
+            }
+        }
+        return result;
+    }
+
+    // null 은 조건 없음 - 살아 있는 상품 전체에서 시작해 작은 비트맵부터 AND
+    private RoaringBitmap intersect(RoaringBitmap... filters) {
+        List<RoaringBitmap> present = new ArrayList<>(filters.length);
+        for (RoaringBitmap filter : filters) {
+            if (filter != null) {
+                present.add(filter);
+            }
+        }
+        present.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+        RoaringBitmap result = present.isEmpty() ? live.clone() : RoaringBitmap.and(present.get(0), live);
+        for (int i = 1; i < present.size() && !result.isEmpty(); i++) {
+            result.and(present.get(i));
+        }
+        return result;
+    }
+
+    private static <K> List<FacetCountDto> countValues(RoaringBitmap base, Iterable<K> values, Function<K, RoaringBitmap> bitmapOf) {
+        List<FacetCountDto> counts = new ArrayList<>();
+        for (K value : values) {
+            RoaringBitmap bitmap = bitmapOf.apply(value);
+            long count = bitmap == null ? 0 : RoaringBitmap.andCardinality(base, bitmap);
+            if (count > 0) {
+                counts.add(new FacetCountDto(String.valueOf(value), count));
+            }
+        }
+        counts.sort(Comparator.comparingLong(FacetCountDto::count).reversed().thenComparing(FacetCountDto::value));
+        return counts;
+    }
+
+    private List<Long> ids(RoaringBitmap ordinals) {
+        List<Long> ids = new ArrayList<>(ordinals.getCardinality());
+        IntIterator iterator = ordinals.getIntIterator();
+        while (iterator.hasNext()) {
+            ids.add(documents[iterator.next()].productId());
+        }
+        return ids;
+    }
+
+    private static <T> List<T> nonEmpty(List<T> values) {
+        return values == null || values.isEmpty() ? null : values;
+    }
+}
@@ -0,0 +1,194 @@
+package org.example.mollyapi.product.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.product.dto.ProductFacetDocument;
+import org.example.mollyapi.product.dto.ProductFilterCondition;
+import org.example.mollyapi.product.entity.ProductAvailability.Option;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 필터 패싯 인덱스(ProductFacetIndex) 관리 - 처음 사용할 때 product / product_availability 전체를 읽어 구성
+ * - 이 인스턴스의 상품 변경(등록/수정/삭제)과 재고 여부 요약 변경: 상품 ID를 모아 두고 (커밋 후) flush-interval-ms 주기로 해당 상품만 다시 읽어 반영
+ * - 다른 인스턴스의 변경: rebuild-interval-ms 주기로 새 인덱스를 만들어 통째로 교체 (삭제로 비워 둔 번호도 이때 정리)
+ * 목록 조회는 인덱스로 상품 ID와 필터 값별 상품 수를 구하고, DB는 결과 페이지의 상품만 조회
+ */
+@Slf4j
+@Service
+public class ProductFacetService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String PRODUCTS_AFTER_SQL =
+            "SELECT product_id, category_id, brand_name, price, user_id FROM product WHERE product_id > ? ORDER BY product_id LIMIT " + CHUNK_SIZE;
+    private static final String PRODUCTS_SQL =
+            "SELECT product_id, category_id, brand_name, price, user_id FROM product WHERE product_id IN (%s)";
+    private static final String OPTIONS_SQL =
+            "SELECT product_id, color_code, size, in_stock FROM product_availability WHERE product_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long[] priceBoundaries;
+    private final int hydrateMaxIds;
+
+    private volatile ProductFacetIndex index;
+
+    // 다시 읽을 상품 ID (flush 때 꺼내서 반영)
+    private final Set<Long> changedProducts = ConcurrentHashMap.newKeySet();
+
+    public ProductFacetService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${product.facet.price-buckets:10000,30000,50000,100000,200000}") long[] priceBoundaries,
+            @Value("${product.facet.hydrate-max-ids:2000}") int hydrateMaxIds
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.priceBoundaries = priceBoundaries;
+        this.hydrateMaxIds = hydrateMaxIds;
+    }
+
+    /**
+     * 필터 조건 계산 - 결과가 hydrate-max-ids 개 이하일 때만 상품 ID 반환 (넘으면 DB 조건 조회가 정렬 인덱스로 더 빠름)
+     */
+    public ProductFacetIndex.Result search(ProductFilterCondition condition) {
+        return current().search(condition, hydrateMaxIds);
+    }
+
+    /**
+     * 상품 변경 알림 - 트랜잭션 안이면 커밋 후 등록 (커밋 전 값을 읽어 인덱스에 남기지 않도록)
+     */
+    public void markChanged(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> changed = List.copyOf(productIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    changedProducts.addAll(changed);
+                }
+            });
+            return;
+        }
+        changedProducts.addAll(productIds);
+    }
+
+    /**
+     * 모아 둔 상품 반영 (스케줄러) - 아직 구성 전이면 구성할 때 모두 읽으므로 비우기만 함
+     */
+    @Scheduled(fixedDelayString = "${product.facet.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<Long> productIds = new ArrayList<>();
+        for (Iterator<Long> iterator = changedProducts.iterator(); iterator.hasNext(); ) {
+            productIds.add(iterator.next());
+            iterator.remove();
+        }
+        ProductFacetIndex current = index;
+        if (productIds.isEmpty() || current == null) {
+            return;
+        }
+
+        try {
+            for (int from = 0; from < productIds.size(); from += CHUNK_SIZE) {
+                List<Long> chunk = productIds.subList(from, Math.min(from + CHUNK_SIZE, productIds.size()));
+                Map<Long, ProductFacetDocument> documents = load(String.format(PRODUCTS_SQL, join(chunk)));
+                for (Long productId : chunk) {
+                    ProductFacetDocument document = documents.get(productId);
+                    if (document == null) {
+                        current.remove(productId);
+                    } else {
+                        current.upsert(document);
+                    }
+                }
+            }
+            log.debug("[Scheduler] 상품 패싯 인덱스 반영: 상품 {}개", productIds.size());
+        } catch (RuntimeException e) {
+            // 실패한 상품은 다음 주기에 다시 읽음
+            log.error("상품 패싯 인덱스 반영 실패 - 다음 주기에 재시도: 상품 {}개, error={}", productIds.size(), e.getMessage());
+            changedProducts.addAll(productIds);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.facet.rebuild-interval-ms:300000}")
+    public void refresh() {
+        if (index != null) {
+            rebuild(true);
+        }
+    }
+
+    private ProductFacetIndex current() {
+        ProductFacetIndex current = index;
+        return current != null ? current : rebuild(false);
+    }
+
+    // 구성 중에는 flush 를 막아 두었다가, 구성 중 들어온 변경은 교체 후 다음 flush 에서 새 인덱스에 반영
+    private synchronized ProductFacetIndex rebuild(boolean force) {
+        if (!force && index != null) {
+            return index;
+        }
+        long startedAt = System.nanoTime();
+        ProductFacetIndex built = new ProductFacetIndex(priceBoundaries);
+        long afterId = 0L;
+        while (true) {
+            Map<Long, ProductFacetDocument> chunk = load(PRODUCTS_AFTER_SQL, afterId);
+            for (ProductFacetDocument document : chunk.values()) {
+                built.upsert(document);
+                afterId = document.productId();
+            }
+            if (chunk.size() < CHUNK_SIZE) {
+                break;
+            }
+        }
+        index = built;
+        log.info("상품 패싯 인덱스 구성 완료: 상품 {}개, {}ms", built.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        return built;
+    }
+
+    // 상품 행 + 색상/사이즈 조합 (상품 ID 순서 유지)
+    private Map<Long, ProductFacetDocument> load(String productSql, Object... args) {
+        Map<Long, Object[]> rows = new LinkedHashMap<>();
+        jdbcTemplate.query(productSql, rs -> {
+            rows.put(rs.getLong(1), new Object[]{
+                    rs.getObject(2, Long.class), rs.getString(3), rs.getObject(4, Long.class), rs.getObject(5, Long.class)});
+        }, args);
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Map<Option, Boolean>> options = new HashMap<>();
+        jdbcTemplate.query(String.format(OPTIONS_SQL, join(rows.keySet())), rs -> {
+            options.computeIfAbsent(rs.getLong(1), id -> new HashMap<>())
+                    .put(new Option(rs.getString(2), rs.getString(3)), rs.getBoolean(4));
+        });
+
+        Map<Long, ProductFacetDocument> documents = new LinkedHashMap<>();
+        rows.forEach((productId, row) -> documents.put(productId, new ProductFacetDocument(
+                productId, (Long) row[0], (String) row[1], (Long) row[2], (Long) row[3],
+                options.getOrDefault(productId, Map.of()))));
+        return documents;
+    }
+
+    private static String join(Collection<Long> ids) {
+        StringBuilder joined = new StringBuilder();
+        for (Long id : ids) {
+            if (!joined.isEmpty()) {
+                joined.append(',');
+            }
+            joined.append(id);
+        }
+        return joined.toString();
+    }
+}
@@ -3,6 +3,7 @@ package org.example.mollyapi.product.service;
 import lombok.RequiredArgsConstructor;
 import org.example.mollyapi.product.dto.BrandSummaryDto;
 import org.example.mollyapi.product.dto.ProductFilterCondition;
+import org.example.mollyapi.product.dto.response.FacetListResDto;
 import org.example.mollyapi.product.dto.response.ProductResDto;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -11,6 +12,8 @@ import java.util.Optional;
 
 public interface ProductReadService {
     Slice<ProductResDto> getAllProducts(ProductFilterCondition condition, Pageable pageable);
+    Slice<ProductResDto> getAllProducts(ProductFilterCondition condition, Pageable pageable, String cursor);
+    FacetListResDto getProductsWithFacets(ProductFilterCondition condition, Pageable pageable, String cursor);
 
     Optional<ProductResDto> getProductById(Long id);
 }
@@ -6,12 +6,16 @@ import org.example.mollyapi.common.exception.error.impl.CategoryError;
 import org.example.mollyapi.product.entity.Category;
 import org.example.mollyapi.product.repository.CategoryRepository;
 import org.example.mollyapi.product.service.CategoryService;
+import org.example.mollyapi.product.service.CategoryTree;
+import org.example.mollyapi.product.service.CategoryTreeProvider;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.example.mollyapi.common.exception.error.impl.CategoryError.*;
 
@@ -20,14 +24,23 @@ import static org.example.mollyapi.common.exception.error.impl.CategoryError.*;
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryTreeProvider categoryTreeProvider;
 
     @Override
     public List<Category> findByName(String name) {
         return categoryRepository.findByCategoryName(name);
     }
 
+    /**
+     * 카테고리 경로 - 트리 스냅샷에서 조회 (저장 전이라 ID 가 없으면 부모를 따라 올라가며 계산)
+     */
     @Override
     public List<String> getCategoryPath(Category category) {
+        List<String> cached = category == null ? null : categoryTreeProvider.current().getPath(category.getId());
+        if (cached != null) {
+            return cached;
+        }
+
         List<String> path = new ArrayList<>();
 
         // 루프를 통해 카테고리의 족보를 찾음
@@ -42,10 +55,11 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     public List<String> getCategoryPath(Long id) {
-        Category category = categoryRepository.findById(id)
-                .orElseThrow(() -> new CustomException(NOT_EXIST_CATEGORY));
-
-        return getCategoryPath(category);
+        List<String> path = categoryTreeProvider.reloadIfMissing(id).getPath(id);
+        if (path == null) {
+            throw new CustomException(NOT_EXIST_CATEGORY);
+        }
+        return path;
     }
 
     @Override
@@ -54,17 +68,12 @@ public class CategoryServiceImpl implements CategoryService {
             throw new IllegalArgumentException("Categories cannot be empty");
         }
 
-        String targetCategoryName = categories.get(categories.size() - 1);
-        List<Category> categoriesList = findByName(targetCategoryName);
-
-        for (Category category : categoriesList) {
-            List<String> categoryPath = getCategoryPath(category);
-            if (categories.equals(categoryPath)) {
-                return category;
-            }
+        Long id = categoryTreeProvider.current().findIdByPath(categories);
+        if (id == null) {
+            throw new IllegalArgumentException("Category not found");
         }
-
-        throw new IllegalArgumentException("Category not found");
+        // 연관관계 설정용 참조 (조회 쿼리 없음)
+        return categoryRepository.getReferenceById(id);
     }
 
     @Override
@@ -73,55 +82,25 @@ public class CategoryServiceImpl implements CategoryService {
             return Collections.emptyList();
         }
 
-        String end = categories.get(categories.size() - 1);
-        List<Category> categoryList = categoryRepository.findByCategoryName(end);
-
-        return categoryList.stream().filter((category) -> isEndWith(category, categories)).toList();
-    }
-
-    private Boolean isEndWith(Category category, List<String> categories) {
-        Category c = category;
-        List<String> newCategories = new ArrayList<>(categories);
-        Collections.reverse(newCategories);
-
-        for (String categoryName : newCategories) {
-            if (categoryName.equals(c.getCategoryName())) {
-                c = c.getParent();
-            } else {
-                return Boolean.FALSE;
-            }
-        }
-        return Boolean.TRUE;
+        List<Long> ids = categoryTreeProvider.current().findIdsEndWith(categories);
+        return ids.isEmpty() ? Collections.emptyList() : categoryRepository.findAllById(ids);
     }
 
     @Override
     public List<Category> getLeafCategories(Category category) {
-        List<Category> categories = new ArrayList<>();
-        List<Category> children = category.getChildren();
-
-        // 자식이 없는 경우 자신을 리프 노드로 간주하고 추가
-        if (children.isEmpty()) {
-            categories.add(category);
-            return categories;
-        }
-
-        // 자식이 있다면 재귀적으로 탐색
-        for (Category child : children) {
-            categories.addAll(getLeafCategories(child));
-        }
-
-        return categories;
+        return getAllLeafCategories(List.of(category));
     }
 
     @Override
     public List<Category> getAllLeafCategories(List<Category> categoryList) {
-        List<Category> leafCategoryList = new ArrayList<>();
-
+        CategoryTree tree = categoryTreeProvider.current();
+        List<Long> leafIds = new ArrayList<>();
         for (Category category : categoryList) {
-            leafCategoryList.addAll(getLeafCategories(category));
+            for (long leafId : tree.getLeafIds(category.getId())) {
+                leafIds.add(leafId);
+            }
         }
-
-        return leafCategoryList;
+        return leafIds.isEmpty() ? Collections.emptyList() : categoryRepository.findAllById(leafIds);
     }
 
     @Override
@@ -130,4 +109,22 @@ public class CategoryServiceImpl implements CategoryService {
 
         return findEndWith(categoryPath);
     }
+
+    /**
+     * 경로가 categories("상의,티셔츠")로 끝나는 카테고리들의 하위 리프 ID (상품 목록 필터용, DB 조회 없음)
+     */
+    @Override
+    public List<Long> findLeafIdsEndWith(String categories) {
+        if (categories == null || categories.isEmpty()) {
+            return Collections.emptyList();
+        }
+        CategoryTree tree = categoryTreeProvider.current();
+        Set<Long> leafIds = new LinkedHashSet<>();
+        for (Long id : tree.findIdsEndWith(Arrays.asList(categories.split(CategoryTree.PATH_DELIMITER)))) {
+            for (long leafId : tree.getLeafIds(id)) {
+                leafIds.add(leafId);
+            }
+        }
+        return List.copyOf(leafIds);
+    }
 }
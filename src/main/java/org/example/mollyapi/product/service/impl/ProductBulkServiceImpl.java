@@ -9,6 +9,7 @@ import org.example.mollyapi.common.exception.CustomException;
 import org.example.mollyapi.product.handler.ExcelHandler;
 import org.example.mollyapi.product.mapper.ProductItemMapper;
 import org.example.mollyapi.product.mapper.ProductMapper;
+import org.example.mollyapi.product.service.ProductAvailabilityService;
 import org.example.mollyapi.product.service.ProductBulkService;
 import org.example.mollyapi.user.entity.User;
 import org.example.mollyapi.user.repository.UserRepository;
@@ -33,6 +34,7 @@ public class ProductBulkServiceImpl implements ProductBulkService {
     private final UserRepository userRepository;
     private final ProductMapper productMapper;
     private final ProductItemMapper productItemMapper;
+    private final ProductAvailabilityService productAvailabilityService;
 
     public List<Map<String, String>> saveChunkOfBulkProducts(MultipartFile file, Long userId) {
         List<Map<String, String>> invalidProducts = new ArrayList<>();
@@ -47,7 +49,7 @@ public class ProductBulkServiceImpl implements ProductBulkService {
 
             // 커스텀 핸들러 생성 - 여기서 invalidProducts, userId, 배치 저장 로직을 처리함
             ExcelHandler handler = new ExcelHandler(sharedStringsTable, invalidProducts,
-                user.getUserId(), productMapper, productItemMapper);
+                user.getUserId(), productMapper, productItemMapper, productAvailabilityService);
 
             parser.setContentHandler(handler);
             Iterator<InputStream> sheets = reader.getSheetsData();
@@ -1,13 +1,14 @@
 package org.example.mollyapi.product.service.impl;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.example.mollyapi.product.dto.BrandSummaryDto;
 import org.example.mollyapi.product.dto.ProductAndThumbnailDto;
 import org.example.mollyapi.product.dto.ProductFilterCondition;
 import org.example.mollyapi.product.dto.ProductItemDto;
 import org.example.mollyapi.product.dto.response.ColorDetailDto;
+import org.example.mollyapi.product.dto.response.FacetListResDto;
 import org.example.mollyapi.product.dto.response.FileInfoDto;
+import org.example.mollyapi.product.dto.response.PageResDto;
 import org.example.mollyapi.product.dto.response.ProductResDto;
 import org.example.mollyapi.product.dto.response.SizeDetailDto;
 import org.example.mollyapi.product.entity.Category;
@@ -16,11 +17,16 @@ import org.example.mollyapi.product.entity.ProductItem;
 import org.example.mollyapi.product.enums.OrderBy;
 import org.example.mollyapi.product.repository.ProductRepository;
 import org.example.mollyapi.product.service.CategoryService;
+import org.example.mollyapi.product.service.ProductCounterService;
+import org.example.mollyapi.product.service.ProductDetailCache;
+import org.example.mollyapi.product.service.ProductFacetIndex;
+import org.example.mollyapi.product.service.ProductFacetService;
 import org.example.mollyapi.product.service.ProductReadService;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -35,9 +41,21 @@ public class ProductReadServiceImpl implements ProductReadService {
 
     private final CategoryService categoryService;
     private final ProductRepository productRepository;
+    private final ProductCounterService productCounterService;
+    private final ProductDetailCache productDetailCache;
+    private final ProductFacetService productFacetService;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     public Slice<ProductResDto> getAllProducts(ProductFilterCondition condition, Pageable pageable) {
+        return getAllProducts(condition, pageable, null);
+    }
+
+    /**
+     * 상품 목록 - cursor 가 있으면 이전 응답의 nextCursor 다음부터 (page 번호 무시)
+     */
+    @Override
+    public Slice<ProductResDto> getAllProducts(ProductFilterCondition condition, Pageable pageable, String cursor) {
         if (condition == null) {
             condition = ProductFilterCondition.builder().build();
         }
@@ -48,20 +66,56 @@ public class ProductReadServiceImpl implements ProductReadService {
             pageable = PageRequest.of(defaultPageNumber, defaultPageSize);
         }
 
-        Slice<ProductAndThumbnailDto> page = productRepository.findByCondition(condition, pageable);
+        Slice<ProductAndThumbnailDto> page = cursor == null
+                ? productRepository.findByCondition(condition, pageable)
+                : productRepository.findByCondition(condition, pageable, cursor);
 
         return page.map(this::convertToProductResDto);
     }
 
+    /**
+     * 상품 목록 + 필터 값별 상품 수 - 패싯 인덱스로 조건을 계산하고, 결과가 적으면 그 ID로만 페이지 조회
+     * (결과가 많으면 기존 조건 조회가 정렬 인덱스를 타며 일찍 끝나므로 그대로 사용)
+     */
+    @Override
+    public FacetListResDto getProductsWithFacets(ProductFilterCondition condition, Pageable pageable, String cursor) {
+        if (condition == null) {
+            condition = ProductFilterCondition.builder().build();
+        }
+
+        if (pageable == null) {
+            int defaultPageNumber = 0;
+            int defaultPageSize = 10;
+            pageable = PageRequest.of(defaultPageNumber, defaultPageSize);
+        }
+
+        ProductFacetIndex.Result result = productFacetService.search(condition);
+
+        Slice<ProductAndThumbnailDto> page;
+        if (result.ids() != null) {
+            page = productRepository.findByIds(result.ids(), condition.orderBy(), pageable, cursor);
+        } else {
+            page = cursor == null
+                    ? productRepository.findByCondition(condition, pageable)
+                    : productRepository.findByCondition(condition, pageable, cursor);
+        }
+
+        Slice<ProductResDto> products = page.map(this::convertToProductResDto);
+        return new FacetListResDto(result.facets(), PageResDto.of(products), products.getContent());
+    }
+
+    /**
+     * 상품 상세 - 로컬 캐시에서 조회, 없을 때만 트랜잭션 안에서 조립 (캐시 적중 시 DB 커넥션을 잡지 않음)
+     */
     @Override
-    @Transactional
     public Optional<ProductResDto> getProductById(Long id) {
-        Optional<Product> product = productRepository.findById(id);
+        Optional<ProductResDto> product = productDetailCache.get(id, () -> transactionTemplate.execute(status ->
+                productRepository.findById(id).map(this::convertToProductResDto)));
 
-        // 조회수 증가
-        product.ifPresent(Product::increaseViewCount);
+        // 조회수 증가 (메모리에 누적 후 주기적으로 일괄 반영)
+        product.ifPresent(p -> productCounterService.increaseViewCount(p.id()));
 
-        return product.map(this::convertToProductResDto);
+        return product;
     }
 
     private ProductResDto convertToProductResDto(Product product) {
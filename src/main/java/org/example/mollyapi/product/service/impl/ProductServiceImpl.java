@@ -17,10 +17,11 @@ import org.example.mollyapi.product.entity.Category;
 import org.example.mollyapi.product.entity.Product;
 import org.example.mollyapi.product.entity.ProductImage;
 import org.example.mollyapi.product.entity.ProductItem;
-import org.example.mollyapi.product.repository.CategoryRepository;
 import org.example.mollyapi.product.repository.ProductItemRepository;
 import org.example.mollyapi.product.repository.ProductRepository;
 import org.example.mollyapi.product.service.CategoryService;
+import org.example.mollyapi.product.service.ProductDetailCache;
+import org.example.mollyapi.product.service.ProductFacetService;
 import org.example.mollyapi.product.service.ProductService;
 import org.example.mollyapi.user.entity.User;
 import org.example.mollyapi.user.repository.UserRepository;
@@ -41,7 +42,8 @@ public class ProductServiceImpl implements ProductService {
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
     private final ProductItemRepository productItemRepository;
-    private final CategoryRepository categoryRepository;
+    private final ProductDetailCache productDetailCache;
+    private final ProductFacetService productFacetService;
 
 
     @Override
@@ -63,6 +65,8 @@ public class ProductServiceImpl implements ProductService {
         if (productItemDtoList != null && !productItemDtoList.isEmpty()) {
             updateProductItems(productItemDtoList);
         }
+        productDetailCache.evict(id);
+        productFacetService.markChanged(List.of(id));
 
         return convertToProductResDto(updated);
     }
@@ -101,6 +105,7 @@ public class ProductServiceImpl implements ProductService {
 
         // 상품 저장 (연관된 이미지와 아이템도 함께 저장됨)
         Product savedProduct = productRepository.save(product);
+        productFacetService.markChanged(List.of(savedProduct.getId()));
 
         return convertToProductResDto(savedProduct);
     }
@@ -171,6 +176,8 @@ public class ProductServiceImpl implements ProductService {
         Product product = productRepository.findById(id).orElseThrow(IllegalArgumentException::new);
         if (product.getUser().getUserId().equals(userId)) {
             productRepository.deleteById(id);
+            productDetailCache.evict(id);
+            productFacetService.markChanged(List.of(id));
         }
     }
 
@@ -220,10 +227,9 @@ public class ProductServiceImpl implements ProductService {
         FileInfoDto thumbnail = new FileInfoDto(
                 productAndThumbnailDto.getUrl(), productAndThumbnailDto.getFilename());
 
-        Category category = categoryRepository.findById(productAndThumbnailDto.getCategoryId()).orElseThrow();
         return new ProductResDto(
                 productAndThumbnailDto.getId(),
-                categoryService.getCategoryPath(category),
+                categoryService.getCategoryPath(productAndThumbnailDto.getCategoryId()),
                 productAndThumbnailDto.getBrandName(),
                 productAndThumbnailDto.getProductName(),
                 productAndThumbnailDto.getPrice(),
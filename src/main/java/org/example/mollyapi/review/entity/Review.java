@@ -3,6 +3,7 @@ package org.example.mollyapi.review.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.example.mollyapi.common.entity.Base;
+import org.example.mollyapi.common.entity.TsidGenerated;
 import org.example.mollyapi.order.entity.OrderDetail;
 import org.example.mollyapi.product.entity.Product;
 import org.example.mollyapi.user.entity.User;
@@ -17,10 +18,14 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@Table(name = "review")
+@Table(name = "review",
+        indexes = {
+                @Index(name = "idx_review_product_deleted_created", columnList = "product_id, is_deleted, created_at"),
+                @Index(name = "idx_review_user_deleted_created", columnList = "user_id, is_deleted, created_at")
+        })
 public class Review extends Base {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     @Column(name = "review_id")
     private Long id; //리뷰 PK
 
@@ -10,7 +10,8 @@ import org.example.mollyapi.user.entity.User;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@Table(name = "review_like")
+@Table(name = "review_like",
+        indexes = @Index(name = "idx_review_like_review_user", columnList = "review_id, user_id"))
 public class ReviewLike extends Base {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -2,6 +2,9 @@ package org.example.mollyapi.review.repository;
 
 import org.example.mollyapi.review.entity.ReviewLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -11,4 +14,8 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
     void deleteAllByReviewId(Long reviewId);
     @Transactional
     void deleteAllByReviewIdIn(List<Long> reviewIds);
+
+    @Modifying
+    @Query("DELETE FROM ReviewLike rl WHERE rl.user.userId IN :userIds")
+    int deleteAllByUserIds(@Param("userIds") List<Long> userIds);
 }
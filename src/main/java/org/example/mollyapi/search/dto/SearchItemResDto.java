@@ -15,7 +15,8 @@ public record SearchItemResDto(
     @JsonSerialize(using = LocalDateTimeSerializer.class)
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:SS", timezone = "Asia/Seoul")
     LocalDateTime nextLastCreatedAt,
-    boolean isLastPage
+    boolean isLastPage,
+    String nextCursor
 ){
 
 }
@@ -25,6 +25,8 @@ public record SearchOptionReqDto (
         @RequestParam(required = false) List<String> size,
         @RequestParam(required = false, name = "min_price") Long minPrice,
         @RequestParam(required = false, name = "max_price") Long maxPrice,
-        @RequestParam(required = false, name = "brand_name") List<String> brandName
+        @RequestParam(required = false, name = "brand_name") List<String> brandName,
+        @Parameter(description = "이전 응답의 nextCursor - 모든 정렬 조건에서 사용 (cursor_id/last_created_at 은 최신순 정렬에서만 사용 가능)")
+        @RequestParam(required = false) String cursor
         ){
 }
@@ -6,7 +6,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-@Table(name = "search")
+@Table(name = "search",
+        indexes = @Index(name = "idx_search_keyword", columnList = "keyword"))
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
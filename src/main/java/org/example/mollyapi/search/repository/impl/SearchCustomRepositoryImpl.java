@@ -1,10 +1,17 @@
 package org.example.mollyapi.search.repository.impl;
 
-import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.example.mollyapi.common.cursor.KeysetSort;
+import org.example.mollyapi.common.cursor.KeysetSort.Key;
+import org.example.mollyapi.common.exception.CustomException;
 import org.example.mollyapi.search.dto.ItemDto;
 import org.example.mollyapi.search.dto.SearchCommonResDto;
 import org.example.mollyapi.search.dto.SearchItemResDto;
@@ -16,9 +23,10 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.example.mollyapi.common.exception.error.impl.CommonError.CURSOR_INVALID;
 import static org.example.mollyapi.product.entity.QProduct.product;
+import static org.example.mollyapi.product.entity.QProductAvailability.productAvailability;
 import static org.example.mollyapi.product.entity.QProductImage.productImage;
-import static org.example.mollyapi.product.entity.QProductItem.productItem;
 import static org.example.mollyapi.search.entity.QSearch.search;
 import static org.springframework.util.StringUtils.hasText;
 
@@ -32,63 +40,69 @@ public class SearchCustomRepositoryImpl implements SearchCustomRepository {
     public SearchItemResDto search(SearchOptionReqDto searchOptionReqDto, int pageSize) {
 
         String keyword = searchOptionReqDto.keyword();
-        LocalDateTime lastCreatedAt = searchOptionReqDto.lastCreatedAt();
-        Long cursorId = searchOptionReqDto.cursorId();
         String likeKeyword = "%" + keyword + "%";
 
+        KeysetSort sort = keysetSort(searchOptionReqDto.sortOption());
+        Expression<ItemDto> projection = Projections.constructor(ItemDto.class,
+                product.id,
+                productImage.url,
+                product.brandName,
+                product.productName,
+                product.price,
+                product.createdAt
+        );
+        List<Expression<?>> selection = new ArrayList<>();
+        selection.add(projection);
+        selection.addAll(sort.expressions());
 
-        List<ItemDto> itemDtos = jpaQueryFactory
-                .select(
-                        Projections.constructor(ItemDto.class,
-                                product.id,
-                                productImage.url,
-                                product.brandName,
-                                product.productName,
-                                product.price,
-                                product.createdAt
-                        )
-                ).from(product)
+        List<Tuple> rows = jpaQueryFactory
+                .select(selection.toArray(new Expression<?>[0]))
+                .from(product)
                 .innerJoin(productImage).on(
                         productImage.product.id.eq(product.id)
                                 .and(productImage.isRepresentative.eq(true)))
-                .innerJoin(productItem).on(product.id.eq(productItem.product.id))
                 .where(
-                        colorCodeEq(searchOptionReqDto.colorCode()),
-                        sizeEq(searchOptionReqDto.size()),
+                        optionAvailable(searchOptionReqDto.colorCode(), searchOptionReqDto.size()),
                         categoryIdEq(searchOptionReqDto.categoryId()),
                         brandNameEq(searchOptionReqDto.brandName()),
                         searchKeyword(likeKeyword),
                         priceGoe(searchOptionReqDto.minPrice()),
                         priceLt(searchOptionReqDto.maxPrice()),
-                        sortedPaging(lastCreatedAt, cursorId)
+                        sortedPaging(sort, searchOptionReqDto)
 
                 )
-                .orderBy(sortedByOption(searchOptionReqDto.sortOption()).toArray(new OrderSpecifier[0]))
-                .groupBy(product.id)
+                .orderBy(sort.orderSpecifiers())
                 .limit(pageSize + 1)
                 .fetch();
 
 
-        boolean isLastPage = itemDtos.size() <= pageSize;
+        boolean isLastPage = rows.size() <= pageSize;
         if (!isLastPage) {
-            itemDtos.remove(itemDtos.size() - 1);
+            rows = rows.subList(0, pageSize);
         }
+        List<ItemDto> itemDtos = new ArrayList<>(rows.size());
+        rows.forEach(row -> itemDtos.add(row.get(projection)));
 
 
         Long id = null;
         LocalDateTime localDateTime = null;
+        String nextCursor = null;
 
         if (!itemDtos.isEmpty()) {
             ItemDto lastItemDto = itemDtos.get(itemDtos.size() - 1);
             id = lastItemDto.id();
             localDateTime = lastItemDto.lastCratedAt();
+            if (!isLastPage) {
+                nextCursor = sort.encode(rows.get(rows.size() - 1));
+            }
         }
 
         return new SearchItemResDto(
                 itemDtos,
                 id,
                 localDateTime,
-                isLastPage
+                isLastPage,
+                nextCursor
         );
     }
 
@@ -117,12 +131,19 @@ public class SearchCustomRepositoryImpl implements SearchCustomRepository {
         return new SearchCommonResDto(fetch);
     }
 
-    private BooleanExpression colorCodeEq(List<String> colorCode) {
-        return colorCode != null && !colorCode.isEmpty() ? productItem.colorCode.in(colorCode) : null;
-    }
-
-    private BooleanExpression sizeEq(List<String> size) {
-        return size != null && !size.isEmpty() ? productItem.size.in(size) : null;
+    // 색상/사이즈 조합이 있는 상품 - 조합별 요약의 인덱스로 상품 ID만 골라 아이템 조인/GROUP BY 없이 상품 행 하나씩 조회
+    private BooleanExpression optionAvailable(List<String> colorCode, List<String> size) {
+        boolean hasColorCode = colorCode != null && !colorCode.isEmpty();
+        boolean hasSize = size != null && !size.isEmpty();
+        if (!hasColorCode && !hasSize) {
+            return null;
+        }
+        return product.id.in(JPAExpressions
+                .select(productAvailability.product.id)
+                .from(productAvailability)
+                .where(
+                        hasColorCode ? productAvailability.colorCode.in(colorCode) : null,
+                        hasSize ? productAvailability.size.in(size) : null));
     }
 
     private BooleanExpression categoryIdEq(List<Long> categoryId) {
@@ -148,54 +169,48 @@ public class SearchCustomRepositoryImpl implements SearchCustomRepository {
                         .or(product.description.like(likeKeyword)) : null;
     }
 
-    private BooleanExpression sortedPaging(LocalDateTime lastCreatedAt, Long cursorId) {
-        return lastCreatedAt != null && cursorId != null ?
-                product.createdAt.lt(lastCreatedAt)
-                        .or(product.createdAt
-                                .eq(lastCreatedAt)
-                                .and(product.id.lt(cursorId))
-                        ) : product.id.isNotNull();
+    /**
+     * 커서 다음 행 조건 - cursor 우선, 없으면 기존 cursor_id/last_created_at (정렬이 최신순일 때만 위치가 맞으므로 그 외 정렬이면 거부)
+     */
+    private Predicate sortedPaging(KeysetSort sort, SearchOptionReqDto searchOptionReqDto) {
+        if (searchOptionReqDto.cursor() != null) {
+            return sort.after(searchOptionReqDto.cursor());
+        }
+        LocalDateTime lastCreatedAt = searchOptionReqDto.lastCreatedAt();
+        Long cursorId = searchOptionReqDto.cursorId();
+        if (lastCreatedAt == null || cursorId == null) {
+            return null;
+        }
+        if (!sort.matches(List.of("createdAt", "id"), List.of(Order.DESC, Order.DESC))) {
+            throw new CustomException(CURSOR_INVALID);
+        }
+        return sort.after(List.of(lastCreatedAt, cursorId));
     }
 
-    private List<OrderSpecifier<?>> sortedByOption(List<SortBy> sortOptions) {
+    // 선택한 정렬 순서대로 + 최신순 + ID (같은 키가 중복되면 앞의 것만)
+    private KeysetSort keysetSort(List<SortBy> sortOptions) {
 
-        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+        List<Key<?>> keys = new ArrayList<>();
 
-        if (sortOptions != null && !sortOptions.isEmpty()) {
+        if (sortOptions != null) {
             for (SortBy sortBy : sortOptions) {
-                switch (sortBy) {
-                    case PRICE_DESC:
-                        orderSpecifiers.add(product.price.desc());
-                        break;
-                    case PRICE_ASC:
-                        orderSpecifiers.add(product.price.asc());
-                        break;
-                    case NEW_DESC:
-                        orderSpecifiers.add(product.createdAt.desc());
-                        break;
-                    case NEW_ASC:
-                        orderSpecifiers.add(product.createdAt.asc());
-                        break;
-                    case VIEW_DESC:
-                        orderSpecifiers.add(product.viewCount.desc());
-                        break;
-                    case VIEW_ASC:
-                        orderSpecifiers.add(product.viewCount.asc());
-                        break;
-                    case SELL_DESC:
-                        orderSpecifiers.add(product.purchaseCount.desc());
-                        break;
-                    case SELL_ASC:
-                        orderSpecifiers.add(product.purchaseCount.asc());
-                        break;
-                }
+                keys.add(switch (sortBy) {
+                    case PRICE_DESC -> Key.desc("price", product.price, Long.class);
+                    case PRICE_ASC -> Key.asc("price", product.price, Long.class);
+                    case NEW_DESC -> Key.desc("createdAt", product.createdAt, LocalDateTime.class);
+                    case NEW_ASC -> Key.asc("createdAt", product.createdAt, LocalDateTime.class);
+                    case VIEW_DESC -> Key.desc("viewCount", product.viewCount, Long.class);
+                    case VIEW_ASC -> Key.asc("viewCount", product.viewCount, Long.class);
+                    case SELL_DESC -> Key.desc("purchaseCount", product.purchaseCount, Long.class);
+                    case SELL_ASC -> Key.asc("purchaseCount", product.purchaseCount, Long.class);
+                });
             }
         }
 
-        orderSpecifiers.add(product.createdAt.desc());
-        orderSpecifiers.add(product.id.desc());
+        keys.add(Key.desc("createdAt", product.createdAt, LocalDateTime.class));
+        keys.add(Key.desc("id", product.id, Long.class));
 
-        return orderSpecifiers;
+        return KeysetSort.of(keys);
     }
 
 }
@@ -1,5 +1,6 @@
 package org.example.mollyapi.user.auth.config;
 
+import org.example.mollyapi.common.crypto.CryptoPool;
 import org.example.mollyapi.common.exception.CustomException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -10,12 +11,16 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
-import java.security.spec.KeySpec;
 import java.util.Base64;
 import java.util.UUID;
 
 import static org.example.mollyapi.common.exception.error.impl.AuthError.RETRY_ACTIVE;
 
+/**
+ * 비밀번호 해시 (PBKDF2)
+ * SecretKeyFactory / MessageDigest 는 CryptoPool 에서 스레드별로 재사용
+ * 해시 결과는 캐시하지 않음 - 메모리에 비밀번호별 해시를 남기지 않고, 반복 횟수(iterations)로 정한 비용을 그대로 유지
+ */
 @Component
 public class PasswordEncoder {
 
@@ -51,10 +56,14 @@ public class PasswordEncoder {
     public String encrypt(String inputPassword, byte[] salt) {
         try {
 
-            KeySpec spec = new PBEKeySpec(inputPassword.toCharArray(), salt, iterations, keyLength);
-            SecretKeyFactory factory = SecretKeyFactory.getInstance(encodeAlgorithm);
-            byte[] hash = factory.generateSecret(spec).getEncoded();
-            return Base64.getEncoder().encodeToString(hash);
+            PBEKeySpec spec = new PBEKeySpec(inputPassword.toCharArray(), salt, iterations, keyLength);
+            try {
+                SecretKeyFactory factory = CryptoPool.secretKeyFactory(encodeAlgorithm);
+                byte[] hash = factory.generateSecret(spec).getEncoded();
+                return Base64.getEncoder().encodeToString(hash);
+            } finally {
+                spec.clearPassword();
+            }
 
         } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
             throw new CustomException(RETRY_ACTIVE);
@@ -70,7 +79,7 @@ public class PasswordEncoder {
 
         try {
             //임의 길이의 데이터를 고정 길이의 해시 값으로 변환하는 알고리즘 = MessageDigest
-            MessageDigest messageDigest = MessageDigest.getInstance(saltAlgorithm);
+            MessageDigest messageDigest = CryptoPool.digest(saltAlgorithm);
             byte[] keyBytes = UUID.randomUUID()
                     .toString()
                     .replace("_", "")
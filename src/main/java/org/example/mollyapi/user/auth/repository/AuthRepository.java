@@ -3,6 +3,7 @@ package org.example.mollyapi.user.auth.repository;
 import org.example.mollyapi.user.auth.entity.Auth;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface AuthRepository extends JpaRepository<Auth, Long> {
@@ -11,4 +12,6 @@ public interface AuthRepository extends JpaRepository<Auth, Long> {
 
     boolean existsByEmail(String email);
 
+    List<Auth> findAllByUserUserIdIn(List<Long> userIds);
+
 }
@@ -11,6 +11,4 @@ public interface UserCustomRepository {
 
     Optional<GetUserSummaryInfoWithPointResDto>  getUserSummaryInfo(Long authId);
 
-    void deleteByFlagTrue();
-
 }
@@ -1,11 +1,40 @@
 package org.example.mollyapi.user.repository;
 
 import org.example.mollyapi.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 
 public interface UserRepository extends JpaRepository<User, Long>, UserCustomRepository {
 
     boolean existsByNickname(String nickName);
 
+    // 탈퇴(flag = true) 회원 ID (userId 기준 커서 조회)
+    @Query("SELECT u.userId FROM User u WHERE u.flag = true AND u.userId > :afterId ORDER BY u.userId")
+    List<Long> findFlaggedIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 포인트 조건부 차감 (잔액이 부족하면 0행) - 동시 결제 준비에서도 읽은 값으로 덮어쓰지 않도록 UPDATE 한 문장으로 처리
+    @Modifying
+    @Query("UPDATE User u SET u.point = u.point - :amount WHERE u.userId = :userId AND u.point >= :amount")
+    int deductPoint(@Param("userId") Long userId, @Param("amount") int amount);
+
+    // 포인트 환불 (결제 준비 되돌림)
+    @Modifying
+    @Query("UPDATE User u SET u.point = COALESCE(u.point, 0) + :amount WHERE u.userId = :userId")
+    int refundPoint(@Param("userId") Long userId, @Param("amount") int amount);
+
+    // 주문/결제/리뷰/상품 이력이 없는 회원만 삭제 (이력이 있는 회원은 이력 보존을 위해 회원 행 유지)
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.userId IN :userIds " +
+            "AND NOT EXISTS (SELECT 1 FROM Order o WHERE o.user = u) " +
+            "AND NOT EXISTS (SELECT 1 FROM Payment p WHERE p.user = u) " +
+            "AND NOT EXISTS (SELECT 1 FROM Review r WHERE r.user = u) " +
+            "AND NOT EXISTS (SELECT 1 FROM Product pr WHERE pr.user = u)")
+    int deleteUnreferencedByUserIds(@Param("userIds") List<Long> userIds);
+
 }
@@ -0,0 +1,56 @@
+package org.example.mollyapi.user.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.mollyapi.address.repository.AddressRepository;
+import org.example.mollyapi.cart.repository.CartRepository;
+import org.example.mollyapi.common.purge.PurgeJob;
+import org.example.mollyapi.review.repository.ReviewLikeRepository;
+import org.example.mollyapi.user.auth.entity.Auth;
+import org.example.mollyapi.user.auth.repository.AuthRepository;
+import org.example.mollyapi.user.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 탈퇴(flag = true) 회원 정보 삭제
+ * - 로그인 정보, 배송지, 장바구니, 리뷰 좋아요는 모두 삭제
+ * - 회원 행은 주문/결제/리뷰/상품 이력이 없는 경우에만 삭제 (이력이 있으면 flag 상태로 유지)
+ */
+@Component
+@RequiredArgsConstructor
+public class FlaggedUserPurgeJob implements PurgeJob {
+
+    private final UserRepository userRepository;
+    private final AuthRepository authRepository;
+    private final AddressRepository addressRepository;
+    private final CartRepository cartRepository;
+    private final ReviewLikeRepository reviewLikeRepository;
+
+    @Override
+    public String name() {
+        return "flagged-user";
+    }
+
+    @Override
+    public List<Long> findIds(Long afterId, int limit) {
+        return userRepository.findFlaggedIdsAfter(afterId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int delete(List<Long> userIds) {
+        reviewLikeRepository.deleteAllByUserIds(userIds);
+        cartRepository.deleteAllByUserIds(userIds);
+        addressRepository.deleteAllByUserIds(userIds);
+
+        // Auth 는 보조 테이블(password)과 권한 컬렉션이 있어 엔티티 단위로 삭제 (JDBC 배치로 묶여 실행됨)
+        List<Auth> auths = authRepository.findAllByUserUserIdIn(userIds);
+        if (!auths.isEmpty()) {
+            authRepository.deleteAll(auths);
+            authRepository.flush();
+        }
+
+        return userRepository.deleteUnreferencedByUserIds(userIds);
+    }
+}
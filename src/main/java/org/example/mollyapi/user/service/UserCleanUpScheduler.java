@@ -0,0 +1,23 @@
+package org.example.mollyapi.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.common.purge.PurgeRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCleanUpScheduler {
+    private final PurgeRunner purgeRunner;
+    private final FlaggedUserPurgeJob flaggedUserPurgeJob;
+
+    // 자정마다 Flag = true인 유저 정보 삭제
+    @Scheduled(cron = "0 0 0 * * ?")
+    public void cleanUpFlaggedUsers() {
+        log.info("[Scheduler] 시작: 탈퇴 회원 정보 삭제 시작");
+        long deletedCount = purgeRunner.run(flaggedUserPurgeJob);
+        log.info("[Scheduler] 완료: {}명의 탈퇴 회원 삭제", deletedCount);
+    }
+}
@@ -9,7 +9,6 @@ import org.example.mollyapi.user.entity.User;
 import org.example.mollyapi.user.repository.UserRepository;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import static org.example.mollyapi.common.exception.error.impl.UserError.NOT_EXISTS_USER;
@@ -104,13 +103,4 @@ public class UserService {
         user.updateFlag();
     }
 
-    /**
-     * 자정마다 Flag = true인 유저 정보가 삭제됨
-     */
-    @Scheduled(cron = "0 0 0 * * ?")
-    @Transactional
-    public void deleteFlaggedUser(){
-        userRepository.deleteByFlagTrue();
-    }
-
 }
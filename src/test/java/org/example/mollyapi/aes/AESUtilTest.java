@@ -11,6 +11,11 @@ import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -65,6 +70,33 @@ class AESUtilTest {
         System.out.println("Decrypted with Salt: " + decryptedData);
     }
 
+    @Test
+    void testDecryptWithSalt_ConcurrentAndRepeated() throws Exception {
+        // ✅ openssl enc -aes-256-ecb -md md5 로 암호화한 "der"
+        String encryptedData = "U2FsdGVkX1/gSGVDRJeUW/pUpxm77bCPVgIouTLaFtw=";
+
+        // ✅ 여러 스레드에서 반복 복호화 (스레드별 Cipher 재사용, 유도 키 캐시 적중)
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = IntStream.range(0, 200)
+                    .mapToObj(i -> executor.submit(() -> AESUtil.decryptWithSalt(encryptedData)))
+                    .toList();
+            for (Future<String> result : results) {
+                assertEquals("der", result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testDecryptWithSalt_InvalidFormat_ShouldThrowException() {
+        // "Salted__" 접두어가 없는 데이터
+        String invalidData = Base64.getEncoder().encodeToString("NotSalted_payload".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(RuntimeException.class, () -> AESUtil.decryptWithSalt(invalidData));
+    }
+
     @Test
     void testDecrypt_InvalidData_ShouldThrowException() {
         // 잘못된 암호화 데이터
@@ -0,0 +1,128 @@
+package org.example.mollyapi.common.circuit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(5).toNanos();
+
+    private final AtomicLong now = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 최근 10건 중 5건 이상 쌓이면 판단, 실패율 50% / 느린 호출 60% 이상이면 30초간 열림, 반열림 시험 호출 2건
+    private CircuitBreaker circuitBreaker() {
+        return new CircuitBreaker("test", 10, 5, 50, 60, Duration.ofSeconds(1), Duration.ofSeconds(30), 2, now::get)
+                .bindTo(meterRegistry);
+    }
+
+    private void call(CircuitBreaker breaker, boolean failure, long duration) {
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        if (failure) {
+            breaker.onFailure(duration);
+        } else {
+            breaker.onSuccess(duration);
+        }
+    }
+
+    @Test
+    @DisplayName("최소 호출 수가 쌓이기 전에는 실패가 있어도 열리지 않는다")
+    void staysClosedBelowMinimumCalls() {
+        /// given
+        CircuitBreaker breaker = circuitBreaker();
+
+        /// when
+        for (int i = 0; i < 4; i++) {
+            call(breaker, true, FAST);
+        }
+
+        /// then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 열리고, 열린 동안 호출은 거절된다")
+    void opensOnFailureRate() {
+        /// given
+        CircuitBreaker breaker = circuitBreaker();
+        call(breaker, false, FAST);
+        call(breaker, false, FAST);
+
+        /// when
+        for (int i = 0; i < 3; i++) {
+            call(breaker, true, FAST);
+        }
+
+        /// then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(breaker.getRemainingOpenDuration()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(meterRegistry.counter("circuit.breaker.transitions", "name", "test", "from", "closed", "to", "open").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("circuit.breaker.state").tag("state", "open").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공하더라도 느린 호출 비율이 임계치를 넘으면 열린다")
+    void opensOnSlowCallRate() {
+        /// given
+        CircuitBreaker breaker = circuitBreaker();
+
+        /// when
+        call(breaker, false, FAST);
+        call(breaker, false, FAST);
+        for (int i = 0; i < 3; i++) {
+            call(breaker, false, SLOW);
+        }
+
+        /// then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 시험 호출만 허용하고, 시험 호출이 성공하면 닫힌다")
+    void halfOpenThenClose() {
+        /// given
+        CircuitBreaker breaker = circuitBreaker();
+        for (int i = 0; i < 5; i++) {
+            call(breaker, true, FAST);
+        }
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        /// when
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        boolean thirdPermitted = breaker.tryAcquirePermission();
+        breaker.onSuccess(FAST);
+        breaker.onSuccess(FAST);
+
+        /// then
+        assertThat(thirdPermitted).isFalse();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열린다")
+    void halfOpenThenReopen() {
+        /// given
+        CircuitBreaker breaker = circuitBreaker();
+        for (int i = 0; i < 5; i++) {
+            call(breaker, true, FAST);
+        }
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        /// when
+        call(breaker, true, FAST);
+        call(breaker, false, FAST);
+
+        /// then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+}
@@ -0,0 +1,206 @@
+package org.example.mollyapi.common.crypto;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.payment.util.AESUtil;
+import org.example.mollyapi.user.auth.config.PasswordEncoder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 암복호화 처리량 / 호출당 할당량 비교 (기존 getInstance 방식 vs CryptoPool) - ./gradlew benchmark
+ * - 단일 스레드: ops/s, 호출당 할당 바이트 (ThreadMXBean#getThreadAllocatedBytes)
+ * - 멀티 스레드: ops/s (Provider 조회 동기화 구간 경합 확인)
+ * 기존 방식은 변경 전 AESUtil / PasswordEncoder 코드를 그대로 옮겨 둔 것
+ */
+@Slf4j
+@Tag("benchmark")
+class CryptoPoolBenchmarkTest {
+
+    private static final String AES_SECRET_KEY = "Rhcekfflsrkaskan5Rhcekfflsrkask1";
+    private static final String SALTED_DATA = "U2FsdGVkX1/gSGVDRJeUW/pUpxm77bCPVgIouTLaFtw=";
+    private static final String PBKDF2 = "PBKDF2WithHmacSHA256";
+    private static final int PBKDF2_ITERATIONS = 1_000;
+    private static final int THREAD_COUNT = 16;
+    private static final int WARMUP_OPS = 20_000;
+    private static final int MEASURE_OPS = 200_000;
+    private static final int PASSWORD_OPS = 2_000;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        java.lang.reflect.Field field = AESUtil.class.getDeclaredField("AESKEY");
+        field.setAccessible(true);
+        field.set(null, AES_SECRET_KEY);
+    }
+
+    @Test
+    @DisplayName("Salt 포함 AES 복호화 - 기존 방식 vs CryptoPool")
+    void decryptWithSalt() throws Exception {
+        assertThat(AESUtil.decryptWithSalt(SALTED_DATA)).isEqualTo(legacyDecryptWithSalt(SALTED_DATA));
+
+        compare("AES decryptWithSalt", MEASURE_OPS,
+                () -> legacyDecryptWithSalt(SALTED_DATA),
+                () -> AESUtil.decryptWithSalt(SALTED_DATA));
+    }
+
+    @Test
+    @DisplayName("고정 키 AES 복호화 - 기존 방식 vs CryptoPool")
+    void decrypt() throws Exception {
+        String encrypted = AESUtil.encrypt("010-5134-1111");
+
+        compare("AES decrypt", MEASURE_OPS,
+                () -> legacyDecrypt(encrypted),
+                () -> AESUtil.decrypt(encrypted));
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시 - 기존 방식 vs CryptoPool (PBKDF2 반복 비용이 대부분)")
+    void passwordEncrypt() throws Exception {
+        PasswordEncoder passwordEncoder = new PasswordEncoder(PBKDF2, "SHA-256", PBKDF2_ITERATIONS, 256);
+        byte[] salt = passwordEncoder.getSalt();
+        assertThat(passwordEncoder.encrypt("qwer1234", salt)).isEqualTo(legacyPasswordEncrypt("qwer1234", salt));
+
+        compare("PasswordEncoder.encrypt", PASSWORD_OPS,
+                () -> legacyPasswordEncrypt("qwer1234", salt),
+                () -> passwordEncoder.encrypt("qwer1234", salt));
+    }
+
+    private void compare(String name, int ops, Operation legacy, Operation pooled) throws Exception {
+        run(legacy, Math.min(ops, WARMUP_OPS));
+        run(pooled, Math.min(ops, WARMUP_OPS));
+
+        Result legacySingle = measureSingle(legacy, ops);
+        Result pooledSingle = measureSingle(pooled, ops);
+        double legacyParallel = measureParallel(legacy, ops);
+        double pooledParallel = measureParallel(pooled, ops);
+
+        log.info("[벤치마크] {} 단일 스레드 - 기존: {} ops/s, {} B/op | CryptoPool: {} ops/s, {} B/op",
+                name, format(legacySingle.opsPerSecond()), legacySingle.bytesPerOp(),
+                format(pooledSingle.opsPerSecond()), pooledSingle.bytesPerOp());
+        log.info("[벤치마크] {} {} 스레드 - 기존: {} ops/s | CryptoPool: {} ops/s",
+                name, THREAD_COUNT, format(legacyParallel), format(pooledParallel));
+    }
+
+    private Result measureSingle(Operation operation, int ops) throws Exception {
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = THREAD_MX.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        run(operation, ops);
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREAD_MX.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(ops * 1_000_000_000.0 / elapsed, allocated / ops);
+    }
+
+    private double measureParallel(Operation operation, int ops) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+        AtomicLong failures = new AtomicLong();
+        int opsPerThread = Math.max(1, ops / THREAD_COUNT);
+        try {
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                executor.execute(() -> {
+                    ready.countDown();
+                    try {
+                        startSignal.await();
+                        run(operation, opsPerThread);
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            ready.await();
+            long start = System.nanoTime();
+            startSignal.countDown();
+            done.await();
+            long elapsed = System.nanoTime() - start;
+            assertThat(failures.get()).isZero();
+            return (double) opsPerThread * THREAD_COUNT * 1_000_000_000.0 / elapsed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void run(Operation operation, int ops) throws Exception {
+        for (int i = 0; i < ops; i++) {
+            operation.run();
+        }
+    }
+
+    private static String format(double opsPerSecond) {
+        return String.format("%,.0f", opsPerSecond);
+    }
+
+    // 변경 전 AESUtil.decryptWithSalt
+    private static String legacyDecryptWithSalt(String encryptedData) throws Exception {
+        byte[] encryptedBytes = Base64.getDecoder().decode(encryptedData);
+        if (!new String(Arrays.copyOfRange(encryptedBytes, 0, 8)).equals("Salted__")) {
+            throw new IllegalArgumentException("Invalid OpenSSL AES encrypted data format");
+        }
+        byte[] salt = Arrays.copyOfRange(encryptedBytes, 8, 16);
+        byte[] cipherText = Arrays.copyOfRange(encryptedBytes, 16, encryptedBytes.length);
+
+        MessageDigest md5 = MessageDigest.getInstance("MD5");
+        byte[] keyAndIv = new byte[32];
+        byte[] temp = new byte[0];
+        for (int i = 0; i < 2; i++) {
+            md5.update(temp);
+            md5.update(AES_SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+            md5.update(salt);
+            temp = md5.digest();
+            System.arraycopy(temp, 0, keyAndIv, i * 16, 16);
+        }
+        SecretKey secretKey = new SecretKeySpec(Arrays.copyOfRange(keyAndIv, 0, 32), "AES");
+
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.DECRYPT_MODE, secretKey);
+        return new String(cipher.doFinal(cipherText), StandardCharsets.UTF_8);
+    }
+
+    // 변경 전 AESUtil.decrypt
+    private static String legacyDecrypt(String encryptedData) throws Exception {
+        SecretKey secretKey = new SecretKeySpec(AES_SECRET_KEY.getBytes(StandardCharsets.UTF_8), "AES");
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.DECRYPT_MODE, secretKey);
+        return new String(cipher.doFinal(Base64.getDecoder().decode(encryptedData)));
+    }
+
+    // 변경 전 PasswordEncoder.encrypt
+    private static String legacyPasswordEncrypt(String inputPassword, byte[] salt) throws Exception {
+        PBEKeySpec spec = new PBEKeySpec(inputPassword.toCharArray(), salt, PBKDF2_ITERATIONS, 256);
+        SecretKeyFactory factory = SecretKeyFactory.getInstance(PBKDF2);
+        return Base64.getEncoder().encodeToString(factory.generateSecret(spec).getEncoded());
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        Object run() throws Exception;
+    }
+
+    private record Result(double opsPerSecond, long bytesPerOp) {
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.mollyapi.common.cursor;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import org.example.mollyapi.common.cursor.KeysetSort.Key;
+import org.example.mollyapi.common.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.example.mollyapi.product.entity.QProduct.product;
+
+class KeysetSortTest {
+
+    private final KeysetSort priceSort = KeysetSort.of(
+            Key.asc("price", product.price, Long.class),
+            Key.desc("createdAt", product.createdAt, LocalDateTime.class),
+            Key.desc("id", product.id, Long.class));
+
+    @Test
+    @DisplayName("정렬 키 순서와 방향대로 ORDER BY 를 만들고, 중복 키는 처음 것만 쓴다")
+    void orderSpecifiers() {
+        /// given
+        KeysetSort sort = KeysetSort.of(
+                Key.asc("createdAt", product.createdAt, LocalDateTime.class),
+                Key.desc("createdAt", product.createdAt, LocalDateTime.class),
+                Key.desc("id", product.id, Long.class));
+
+        /// when
+        OrderSpecifier<?>[] orderSpecifiers = sort.orderSpecifiers();
+
+        /// then
+        assertThat(Arrays.stream(orderSpecifiers).map(OrderSpecifier::getOrder)).containsExactly(Order.ASC, Order.DESC);
+        assertThat(Arrays.stream(orderSpecifiers).map(OrderSpecifier::getTarget)).containsExactly(product.createdAt, product.id);
+    }
+
+    @Test
+    @DisplayName("커서에 담긴 키 값으로 같은 다음 행 조건을 만든다")
+    void encodeAndAfter_RoundTrip() {
+        /// given
+        List<Object> values = Arrays.asList(15_000L, LocalDateTime.of(2025, 1, 2, 3, 4, 5, 6_000), 42L);
+
+        /// when
+        String cursor = priceSort.encode(values);
+        Predicate predicate = priceSort.after(cursor);
+
+        /// then
+        assertThat(cursor).doesNotContain("price", "=");
+        assertThat(predicate).isEqualTo(priceSort.after(values));
+        assertThat(predicate.toString())
+                .contains("product.price >= 15000")
+                .contains("product.price > 15000")
+                .contains("product.price = 15000 && (product.createdAt < 2025-01-02T03:04:05.000006")
+                .contains("product.id < 42");
+    }
+
+    @Test
+    @DisplayName("NULL 키 값도 커서에 담기고, NULL 은 가장 작은 값으로 취급한다")
+    void encodeAndAfter_NullValue() {
+        /// given
+        List<Object> values = Arrays.asList(null, LocalDateTime.of(2025, 1, 2, 3, 4, 5), 42L);
+
+        /// when
+        Predicate predicate = priceSort.after(priceSort.encode(values));
+
+        /// then
+        assertThat(predicate).isEqualTo(priceSort.after(values));
+        assertThat(predicate.toString()).contains("product.price is not null");
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 조건 없이 첫 페이지를 조회한다")
+    void after_NoCursor() {
+        assertThat(priceSort.after((String) null)).isNull();
+        assertThat(priceSort.after(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 정렬에서 만든 커서나 변조된 커서는 거부한다")
+    void after_InvalidCursor() {
+        /// given
+        KeysetSort newestSort = KeysetSort.of(
+                Key.desc("createdAt", product.createdAt, LocalDateTime.class),
+                Key.desc("id", product.id, Long.class));
+        String newestCursor = newestSort.encode(List.of(LocalDateTime.of(2025, 1, 1, 0, 0), 1L));
+
+        /// when, then
+        assertThatThrownBy(() -> priceSort.after(newestCursor)).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> priceSort.after("not-a-cursor!")).isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> newestSort.after(newestCursor.substring(0, newestCursor.length() - 4))).isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("정렬 키 이름과 방향이 일치하는지 확인한다")
+    void matches() {
+        assertThat(priceSort.matches(List.of("price", "createdAt", "id"), List.of(Order.ASC, Order.DESC, Order.DESC))).isTrue();
+        assertThat(priceSort.matches(List.of("createdAt", "id"), List.of(Order.DESC, Order.DESC))).isFalse();
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.mollyapi.common.explain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * H2 EXPLAIN 결과 해석
+ * - 테이블 접근: FROM/JOIN 뒤 주석 (PUBLIC.X.tableScan = 전체 스캔, PUBLIC.IDX: 조건 = 인덱스 탐색, 조건 없는 PUBLIC.IDX = 인덱스 전체 스캔)
+ * - 정렬: ORDER BY 가 있는데 "index sorted" 가 없으면 조회 결과를 따로 정렬 (MySQL filesort 에 해당)
+ * 인덱스 순서대로 읽다가 FETCH FIRST 에서 멈추는 첫 테이블의 인덱스 전체 스캔은 상위 N건 조회로 보고 허용
+ */
+public record QueryPlan(String sql, String plan, List<TableAccess> accesses, boolean sorted, boolean indexSorted, boolean limited) {
+
+    private static final Pattern TABLE_ACCESS = Pattern.compile(
+            "\"PUBLIC\"\\.\"([A-Z0-9_]+)\"(?:\\s+\"[^\"]+\")?\\s*/\\*\\s*(.+?)\\s*\\*/", Pattern.DOTALL);
+    private static final Pattern INDEX = Pattern.compile("PUBLIC\\.([A-Z0-9_]+)(\\.tableScan)?(:\\s*.+)?", Pattern.DOTALL);
+
+    public static QueryPlan parseH2(String sql, String plan) {
+        List<TableAccess> accesses = new ArrayList<>();
+        Matcher matcher = TABLE_ACCESS.matcher(plan);
+        while (matcher.find()) {
+            Matcher index = INDEX.matcher(matcher.group(2));
+            if (!index.matches()) {
+                continue; // 인덱스가 아닌 주석 (direct lookup 등)
+            }
+            boolean fullScan = index.group(2) != null || index.group(3) == null;
+            accesses.add(new TableAccess(matcher.group(1), matcher.group(2), fullScan));
+        }
+        return new QueryPlan(sql, plan, accesses,
+                plan.contains("ORDER BY"),
+                plan.contains("/* index sorted */"),
+                plan.contains("FETCH FIRST") || plan.contains("LIMIT"));
+    }
+
+    /**
+     * 행 수가 threshold 를 넘는 테이블의 전체 스캔 / 정렬 목록 (allowedFullScans 에 있는 테이블 제외)
+     */
+    public List<String> violations(long threshold, ToLongFunction<String> rowCount, Set<String> allowedFullScans) {
+        List<String> violations = new ArrayList<>();
+        for (int i = 0; i < accesses.size(); i++) {
+            TableAccess access = accesses.get(i);
+            if (!access.fullScan() || allowedFullScans.contains(access.table())) {
+                continue;
+            }
+            if (i == 0 && indexSorted && limited) {
+                continue; // 정렬 인덱스를 따라 읽다가 상위 N건에서 멈춤
+            }
+            long rows = rowCount.applyAsLong(access.table());
+            if (rows > threshold) {
+                violations.add("전체 스캔: " + access.table() + " (" + rows + "행) - " + access.detail());
+            }
+        }
+        if (sorted && !indexSorted && !accesses.isEmpty()) {
+            TableAccess driving = accesses.get(0);
+            if (driving.fullScan() && !allowedFullScans.contains(driving.table())) {
+                long rows = rowCount.applyAsLong(driving.table());
+                if (rows > threshold) {
+                    violations.add("정렬(filesort): " + driving.table() + " (" + rows + "행) 전체를 읽어 정렬");
+                }
+            }
+        }
+        return violations;
+    }
+
+    public record TableAccess(String table, String detail, boolean fullScan) {
+    }
+}
@@ -0,0 +1,285 @@
+package org.example.mollyapi.common.explain;
+
+import org.example.mollyapi.cart.repository.CartRepository;
+import org.example.mollyapi.payment.repository.PaymentRepository;
+import org.example.mollyapi.product.dto.ProductFilterCondition;
+import org.example.mollyapi.product.enums.OrderBy;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.example.mollyapi.product.repository.ProductRepository;
+import org.example.mollyapi.review.repository.ReviewLikeRepository;
+import org.example.mollyapi.review.repository.ReviewRepository;
+import org.example.mollyapi.search.dto.SearchOptionReqDto;
+import org.example.mollyapi.search.repository.SearchRepository;
+import org.example.mollyapi.search.type.SortBy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 조회 쿼리 실행 계획 회귀 테스트 (H2 EXPLAIN)
+ * - 대표 데이터(상품 3000개, 아이템/이미지 6000개, 리뷰/장바구니/결제 등)를 넣고 각 리포지토리 조회를 실행해 나간 SQL 을 모두 EXPLAIN
+ * - ROW_THRESHOLD 행을 넘는 테이블을 전체 스캔하거나 전체를 읽어 정렬하면 실패
+ * - 부분 일치 검색(LIKE '%키워드%'), 전체 집계처럼 전체 스캔이 불가피한 쿼리는 허용 테이블을 명시
+ */
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.example.mollyapi.common.explain.SqlCaptureInspector")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanRegressionTest {
+
+    private static final long ROW_THRESHOLD = 1_000;
+    private static final long BASE_ID = 900_000_000L;
+    private static final long ID_RANGE = 1_000_000L;
+
+    private static final int USER_COUNT = 200;
+    private static final int CATEGORY_COUNT = 10;
+    private static final int PRODUCT_COUNT = 3_000;
+    private static final int REVIEW_COUNT = 3_000;
+    private static final int CART_COUNT = 3_000;
+    private static final int ORDER_COUNT = 2_000;
+    private static final int KEYWORD_COUNT = 2_000;
+
+    // 자식 테이블부터 (정리 순서)
+    private static final List<String[]> SEEDED_TABLES = List.of(
+            new String[]{"review_like", "like_id"},
+            new String[]{"review", "review_id"},
+            new String[]{"cart", "cart_id"},
+            new String[]{"payment", "id"},
+            new String[]{"orders", "order_id"},
+            new String[]{"product_image", "image_id"},
+            new String[]{"product_availability", "availability_id"},
+            new String[]{"product_item", "item_id"},
+            new String[]{"product", "product_id"},
+            new String[]{"search", "search_id"},
+            new String[]{"category", "category_id"},
+            new String[]{"users", "user_id"});
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    ProductItemRepository productItemRepository;
+
+    @Autowired
+    SearchRepository searchRepository;
+
+    @Autowired
+    ReviewRepository reviewRepository;
+
+    @Autowired
+    ReviewLikeRepository reviewLikeRepository;
+
+    @Autowired
+    CartRepository cartRepository;
+
+    @Autowired
+    PaymentRepository paymentRepository;
+
+    private final Map<String, Long> rowCounts = new HashMap<>();
+
+    @BeforeAll
+    void seed() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        assumeTrue("H2".equals(database), "H2 EXPLAIN 형식 기준으로 해석 - 현재 DB: " + database);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        batch("INSERT INTO users (user_id, nickname, cell_phone, sex, flag, point, name) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                USER_COUNT, i -> new Object[]{id(i), "plan_user_" + i, "01000000000", i % 2 == 0 ? "MALE" : "FEMALE", true, 0, "user" + i});
+        batch("INSERT INTO category (category_id, category_name, level) VALUES (?, ?, ?)",
+                CATEGORY_COUNT, i -> new Object[]{id(i), "category" + i, 1});
+        batch("INSERT INTO product (product_id, category_id, brand_name, product_name, price, description, view_count, purchase_count, user_id, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                PRODUCT_COUNT, i -> new Object[]{id(i), id(i % CATEGORY_COUNT), "brand" + (i % 100), "product" + i, 1_000L * (i % 50 + 1),
+                        "description" + i, (long) i, (long) (i % 30), id(i % USER_COUNT), minutesAgo(i), now});
+        batch("INSERT INTO product_item (item_id, color, color_code, size, quantity, product_id, version) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                PRODUCT_COUNT * 2, i -> new Object[]{id(i), "color" + (i % 10), "#00000" + (i % 10), i % 2 == 0 ? "M" : "L", (long) (i % 7), id(i / 2), 0L});
+        batch("INSERT INTO product_availability (availability_id, product_id, color_code, size, in_stock) VALUES (?, ?, ?, ?, ?)",
+                PRODUCT_COUNT * 2, i -> new Object[]{id(i), id(i / 2), "#00000" + (i % 10), i % 2 == 0 ? "M" : "L", i % 7 > 0});
+        batch("INSERT INTO product_image (image_id, url, filename, is_product_image, is_representative, is_description_image, image_index, product_id) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                PRODUCT_COUNT * 2, i -> new Object[]{id(i), "url" + i, "file" + i, i % 2 == 0, i % 2 == 0, i % 2 == 1, (long) (i % 2), id(i / 2)});
+        batch("INSERT INTO review (review_id, content, is_deleted, count, user_id, product_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                REVIEW_COUNT, i -> new Object[]{id(i), "review" + i, i % 10 == 0, 0L, id(i % USER_COUNT), id(i % PRODUCT_COUNT), minutesAgo(i), now});
+        batch("INSERT INTO review_like (like_id, is_like, user_id, review_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                REVIEW_COUNT, i -> new Object[]{id(i), true, id(i % USER_COUNT), id(i % 500), minutesAgo(i), now});
+        batch("INSERT INTO cart (cart_id, quantity, user_id, item_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                CART_COUNT, i -> new Object[]{id(i), 1L, id(i % USER_COUNT), id(i), minutesAgo(i), now});
+        batch("INSERT INTO orders (order_id, toss_order_id, user_id, total_amount, status, cancel_status, ordered_at, expiration_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                ORDER_COUNT, i -> new Object[]{id(i), "PLAN-ORD-" + i, id(i % USER_COUNT), 10_000L, "SUCCEEDED", "NONE", minutesAgo(i), now});
+        batch("INSERT INTO payment (id, payment_key, toss_order_id, amount, payment_date, payment_status, order_id, user_id, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                ORDER_COUNT, i -> new Object[]{id(i), "plan-key-" + i, "PLAN-ORD-" + i, 10_000L, minutesAgo(i), i % 20 == 0 ? "PENDING" : "APPROVED",
+                        id(i), id(i % USER_COUNT), minutesAgo(i)});
+        batch("INSERT INTO search (search_id, keyword, count) VALUES (?, ?, ?)",
+                KEYWORD_COUNT, i -> new Object[]{id(i), "keyword" + i, i});
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    void cleanUpDatabase() {
+        for (String[] table : SEEDED_TABLES) {
+            jdbcTemplate.update("DELETE FROM " + table[0] + " WHERE " + table[1] + " >= ? AND " + table[1] + " < ?", BASE_ID, BASE_ID + ID_RANGE);
+        }
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회는 필터/정렬 조합별로 인덱스를 사용한다")
+    void productFindByCondition() {
+        assertIndexed(() -> productRepository.findByCondition(condition(null, null, null, null, OrderBy.CREATED_AT), PageRequest.of(0, 20)));
+        assertIndexed(() -> productRepository.findByCondition(condition(null, null, "brand7", null, OrderBy.CREATED_AT), PageRequest.of(0, 20)));
+        assertIndexed(() -> productRepository.findByCondition(condition(null, List.of(id(1), id(2)), null, null, OrderBy.PRICE_ASC), PageRequest.of(0, 20)));
+        assertIndexed(() -> productRepository.findByCondition(condition(List.of("#000001"), null, null, null, OrderBy.CREATED_AT), PageRequest.of(0, 20)));
+        assertIndexed(() -> productRepository.findByCondition(
+                ProductFilterCondition.of(null, List.of("M"), null, null, null, null, null, OrderBy.VIEW_COUNT, true), PageRequest.of(0, 20)));
+        assertIndexed(() -> productRepository.findByCondition(
+                ProductFilterCondition.of(null, null, null, null, null, null, null, OrderBy.CREATED_AT, true), PageRequest.of(0, 20)));
+        assertIndexed(() -> productRepository.findByCondition(condition(null, null, null, id(3), OrderBy.CREATED_AT), PageRequest.of(0, 20)));
+        assertIndexed(() -> productItemRepository.findAllByProductId(id(10)));
+    }
+
+    @Test
+    @DisplayName("브랜드별 조회수 집계는 전체 집계라 상품/이미지 전체 스캔만 허용한다")
+    void productBrandSummary() {
+        assertIndexed(() -> productRepository.getTotalViewGroupByBrandName(PageRequest.of(0, 10)), "PRODUCT", "PRODUCT_IMAGE");
+    }
+
+    @Test
+    @DisplayName("검색은 부분 일치 키워드 조건 때문에 상품 전체 스캔만 허용하고, 키워드 단건 조회는 인덱스를 사용한다")
+    void search() {
+        SearchOptionReqDto option = new SearchOptionReqDto("product1", null, null, 20, List.of(SortBy.NEW_DESC), null,
+                null, null, null, null, null, List.of("brand1"), null);
+
+        SearchOptionReqDto optionWithColor = new SearchOptionReqDto("product1", null, null, 20, List.of(SortBy.NEW_DESC), null,
+                null, List.of("#000001"), List.of("M"), null, null, null, null);
+
+        assertIndexed(() -> searchRepository.search(option, 20), "PRODUCT");
+        assertIndexed(() -> searchRepository.search(optionWithColor, 20), "PRODUCT");
+        assertIndexed(() -> searchRepository.searchAutoWord("keyword1"), "SEARCH");
+        assertIndexed(() -> searchRepository.searchBrand("brand1"), "PRODUCT");
+        assertIndexed(() -> searchRepository.findByKeyword("keyword1"));
+    }
+
+    @Test
+    @DisplayName("리뷰 조회는 상품/작성자/주문 상세 인덱스를 사용한다")
+    void review() {
+        assertIndexed(() -> reviewRepository.getReviewInfo(PageRequest.of(0, 10), id(1), id(2)));
+        assertIndexed(() -> reviewRepository.getMyReviewInfo(PageRequest.of(0, 10), id(2)));
+        assertIndexed(() -> reviewRepository.getImageList(id(1)));
+        assertIndexed(() -> reviewRepository.getReviewStatus(id(1), id(2)));
+        assertIndexed(() -> reviewRepository.findByIsDeletedAndOrderDetailIdAndUserUserId(false, id(1), id(2)));
+        assertIndexed(() -> reviewRepository.findByIdAndUserUserIdAndIsDeleted(id(1), id(1), false));
+        assertIndexed(() -> reviewLikeRepository.findByReviewIdAndUserUserId(id(1), id(3)));
+        assertIndexed(() -> reviewRepository.getTrendingReviewInfo(), "REVIEW");
+    }
+
+    @Test
+    @DisplayName("장바구니 조회는 사용자 인덱스를 사용한다")
+    void cart() {
+        assertIndexed(() -> cartRepository.getCartInfo(id(1)));
+        assertIndexed(() -> cartRepository.countByUserUserId(id(1)));
+        assertIndexed(() -> cartRepository.findByProductItemIdAndUserUserId(id(1), id(1)));
+        assertIndexed(() -> cartRepository.findByCartIdAndUserUserId(id(1), id(1)));
+        assertIndexed(() -> cartRepository.findIdsCreatedBefore(LocalDateTime.now(), 0L, PageRequest.of(0, 500)));
+    }
+
+    @Test
+    @DisplayName("결제 조회는 paymentKey / tossOrderId / 주문 / 상태 인덱스를 사용한다")
+    void payment() {
+        assertIndexed(() -> paymentRepository.findByPaymentKey("plan-key-1"));
+        assertIndexed(() -> paymentRepository.findByTossOrderId("PLAN-ORD-1"));
+        assertIndexed(() -> paymentRepository.findTopLatestPaymentByOrderId("PLAN-ORD-1"));
+        assertIndexed(() -> paymentRepository.findLatestPaymentByOrderId(id(1), PageRequest.of(0, 1)));
+        assertIndexed(() -> paymentRepository.findAllByUserId(id(1)));
+        assertIndexed(() -> paymentRepository.findPendingForReconciliation(0L, LocalDateTime.now(), PageRequest.of(0, 100)));
+    }
+
+    /**
+     * 조회를 실행해 나간 SELECT 를 모두 EXPLAIN 하고 위반 사항이 없는지 확인
+     */
+    private void assertIndexed(Runnable query, String... allowedFullScanTables) {
+        SqlCaptureInspector.start();
+        try {
+            query.run();
+        } finally {
+            List<String> captured = SqlCaptureInspector.stop();
+            List<QueryPlan> plans = captured.stream()
+                    .filter(sql -> sql.stripLeading().regionMatches(true, 0, "select", 0, 6))
+                    .map(sql -> QueryPlan.parseH2(sql, explain(sql)))
+                    .toList();
+
+            assertThat(plans).as("실행된 SELECT 없음").isNotEmpty();
+            List<String> violations = new ArrayList<>();
+            for (QueryPlan plan : plans) {
+                plan.violations(ROW_THRESHOLD, this::rowCount, Set.of(allowedFullScanTables))
+                        .forEach(violation -> violations.add(violation + "\n  SQL: " + plan.sql() + "\n  PLAN: " + plan.plan()));
+            }
+            assertThat(violations).as("실행 계획 위반").isEmpty();
+        }
+    }
+
+    // 파라미터 값과 관계없이 계획을 세우므로 모두 NULL 로 바인딩
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) con -> {
+            try (PreparedStatement statement = con.prepareStatement("EXPLAIN " + sql)) {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameterCount; i++) {
+                    statement.setNull(i, Types.NULL);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+
+    private long rowCount(String table) {
+        return rowCounts.computeIfAbsent(table, name -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + name, Long.class));
+    }
+
+    private void batch(String sql, int count, IntFunction<Object[]> row) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(row.apply(i));
+        }
+        jdbcTemplate.batchUpdate(sql, rows);
+    }
+
+    private static ProductFilterCondition condition(List<String> colorCode, List<Long> categoryId, String brandName, Long sellerId, OrderBy orderBy) {
+        return ProductFilterCondition.of(colorCode, null, categoryId, brandName, null, null, sellerId, orderBy, null);
+    }
+
+    private static long id(int i) {
+        return BASE_ID + i;
+    }
+
+    private static Timestamp minutesAgo(int minutes) {
+        return Timestamp.valueOf(LocalDateTime.now().minusMinutes(minutes));
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.mollyapi.common.explain;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate 가 실행하는 SQL 수집 (실행 계획 검증용)
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록, start ~ stop 사이 현재 스레드에서 나간 SQL 만 모음
+ */
+public class SqlCaptureInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    public static void start() {
+        CAPTURED.set(new ArrayList<>());
+    }
+
+    public static List<String> stop() {
+        List<String> captured = CAPTURED.get();
+        CAPTURED.remove();
+        return captured == null ? List.of() : captured;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+}
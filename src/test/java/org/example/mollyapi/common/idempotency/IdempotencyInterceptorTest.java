@@ -0,0 +1,168 @@
+package org.example.mollyapi.common.idempotency;
+
+import org.example.mollyapi.common.idempotency.repository.IdempotencyRecordRepository;
+import org.example.mollyapi.order.dto.OrderResponseDto;
+import org.example.mollyapi.order.service.OrderServiceImpl;
+import org.example.mollyapi.order.type.OrderStatus;
+import org.example.mollyapi.payment.dto.response.PaymentResDto;
+import org.example.mollyapi.user.auth.config.Jwt;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * WebConfig 에 등록된 IdempotencyInterceptor / IdempotencyResponseAdvice 가 주문 생성, 결제 요청 경로에서 동작하는지 확인
+ */
+@SpringBootTest(properties = "idempotency.wait-timeout-ms=200")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IdempotencyInterceptorTest {
+
+    private static final String ORDER_BODY = "{\"orderRequests\":[{\"cartId\":null,\"itemId\":1,\"quantity\":1}]}";
+    private static final String PAYMENT_BODY = "{\"orderId\":1,\"tossOrderId\":\"ORD-1\",\"paymentKey\":\"pay-1\",\"amount\":10000,\"paymentType\":\"NORMAL\",\"point\":\"0\"}";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @MockBean
+    OrderServiceImpl orderServiceImpl;
+
+    @MockBean
+    Jwt jwt;
+
+    @BeforeEach
+    void setup() {
+        given(jwt.extractExpiration(any())).willReturn(new Date(System.currentTimeMillis() + 60_000));
+        given(jwt.extractUserId(any())).willReturn(1L);
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        idempotencyRecordRepository.deleteAllInBatch();
+    }
+
+    private static MockHttpServletRequestBuilder request(String uri, String body, String idempotencyKey) {
+        return post(uri)
+                .header("Authorization", "Bearer token")
+                .header(IdempotencyInterceptor.HEADER, idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+    }
+
+    @Test
+    @DisplayName("같은 키로 주문 생성을 다시 요청하면 컨트롤러를 실행하지 않고 저장된 응답을 재전송한다")
+    void createOrder_SameKey_ReplaysStoredResponse() throws Exception {
+        /// given
+        String key = UUID.randomUUID().toString();
+        given(orderServiceImpl.createOrder(anyLong(), any()))
+                .willReturn(new OrderResponseDto(10L, "ORD-10", 10000L, OrderStatus.PENDING, 1000, null, null, List.of()));
+
+        /// when
+        String first = mockMvc.perform(request("/orders", ORDER_BODY, key))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyInterceptor.REPLAYED_HEADER))
+                .andReturn().getResponse().getContentAsString();
+        String replayed = mockMvc.perform(request("/orders", ORDER_BODY, key))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyInterceptor.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.orderId").value(10L))
+                .andReturn().getResponse().getContentAsString();
+
+        /// then
+        assertThat(replayed).isEqualTo(first);
+        verify(orderServiceImpl, times(1)).createOrder(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("같은 키라도 경로가 다르면 응답을 공유하지 않고, 결제 요청도 저장된 응답(202 포함)을 재전송한다")
+    void processPayment_SameKey_ReplaysStoredResponse() throws Exception {
+        /// given
+        String key = UUID.randomUUID().toString();
+        given(orderServiceImpl.processPayment(anyLong(), any(), any(), any(), any(), any(), any()))
+                .willReturn(new PaymentResDto(5L, "NORMAL", 10000L, "결제대기", "ORD-1", "pay-1"));
+
+        /// when
+        mockMvc.perform(request("/orders/1/payment", PAYMENT_BODY, key))
+                .andExpect(status().isAccepted());
+        mockMvc.perform(request("/orders/2/payment", PAYMENT_BODY, key))
+                .andExpect(status().isAccepted())
+                .andExpect(header().doesNotExist(IdempotencyInterceptor.REPLAYED_HEADER));
+        mockMvc.perform(request("/orders/1/payment", PAYMENT_BODY, key))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(IdempotencyInterceptor.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.paymentId").value(5L));
+
+        /// then
+        verify(orderServiceImpl, times(2)).processPayment(anyLong(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 키의 요청이 처리 중이면 대기 시간 초과 후 409 를 반환한다")
+    void processPayment_InProgress_Conflict() throws Exception {
+        /// given
+        String key = UUID.randomUUID().toString();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(orderServiceImpl.processPayment(anyLong(), any(), any(), any(), any(), any(), any())).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new PaymentResDto(5L, "NORMAL", 10000L, "결제승인", "ORD-1", "pay-1");
+        });
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return mockMvc.perform(request("/orders/1/payment", PAYMENT_BODY, key)).andReturn().getResponse().getStatus();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        /// when & then
+        mockMvc.perform(request("/orders/1/payment", PAYMENT_BODY, key))
+                .andExpect(status().isConflict());
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(200);
+        verify(orderServiceImpl, times(1)).processPayment(anyLong(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key 가 비어 있거나 너무 길면 400 을 반환하고 요청을 실행하지 않는다")
+    void createOrder_MalformedKey_BadRequest() throws Exception {
+        /// when & then
+        mockMvc.perform(request("/orders", ORDER_BODY, " "))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(request("/orders", ORDER_BODY, "k".repeat(256)))
+                .andExpect(status().isBadRequest());
+        verify(orderServiceImpl, never()).createOrder(anyLong(), any());
+    }
+}
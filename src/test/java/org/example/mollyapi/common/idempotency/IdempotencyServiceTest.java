@@ -0,0 +1,111 @@
+package org.example.mollyapi.common.idempotency;
+
+import org.example.mollyapi.common.exception.CustomException;
+import org.example.mollyapi.common.idempotency.dto.IdempotentResponse;
+import org.example.mollyapi.common.idempotency.repository.IdempotencyRecordRepository;
+import org.example.mollyapi.common.idempotency.type.IdempotencyStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class IdempotencyServiceTest {
+
+    private static final IdempotentResponse CREATED = new IdempotentResponse(200, "application/json", "{\"orderId\":1}");
+
+    @Autowired
+    IdempotencyService idempotencyService;
+
+    @Autowired
+    IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void cleanUpDatabase() {
+        idempotencyRecordRepository.deleteAllInBatch();
+    }
+
+    // 로컬 캐시가 비어 있는 다른 인스턴스
+    private IdempotencyService otherInstance() {
+        return new IdempotencyService(idempotencyRecordRepository, transactionTemplate, 10, 24, 1000, 60);
+    }
+
+    @Test
+    @DisplayName("완료된 키로 다시 요청하면 저장된 응답을 받는다")
+    void begin_ReplaysCompletedResponse() {
+        /// given
+        String key = "key-" + System.nanoTime();
+        assertThat(idempotencyService.begin(key)).isEmpty();
+        idempotencyService.complete(key, CREATED);
+
+        /// when
+        Optional<IdempotentResponse> replayed = idempotencyService.begin(key);
+        Optional<IdempotentResponse> replayedFromDb = otherInstance().begin(key);
+
+        /// then
+        assertThat(replayed).contains(CREATED);
+        assertThat(replayedFromDb).contains(CREATED);
+        assertThat(idempotencyRecordRepository.findByIdempotencyKey(key).orElseThrow().getStatus())
+                .isEqualTo(IdempotencyStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 들어온 요청은 첫 요청이 끝날 때까지 기다렸다가 같은 응답을 받는다")
+    void begin_WaitsForInFlightExecution() throws Exception {
+        /// given
+        String key = "key-" + System.nanoTime();
+        assertThat(idempotencyService.begin(key)).isEmpty();
+
+        /// when
+        CompletableFuture<Optional<IdempotentResponse>> duplicate = CompletableFuture.supplyAsync(() -> idempotencyService.begin(key));
+        Thread.sleep(200);
+        boolean waiting = !duplicate.isDone();
+        idempotencyService.complete(key, CREATED);
+
+        /// then
+        assertThat(waiting).isTrue();
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).contains(CREATED);
+    }
+
+    @Test
+    @DisplayName("첫 요청이 실패하면 같은 키로 다시 실행할 수 있다")
+    void abort_AllowsRetry() {
+        /// given
+        String key = "key-" + System.nanoTime();
+        assertThat(idempotencyService.begin(key)).isEmpty();
+
+        /// when
+        idempotencyService.abort(key);
+
+        /// then
+        assertThat(idempotencyService.begin(key)).isEmpty();
+        assertThat(idempotencyRecordRepository.findByIdempotencyKey(key).orElseThrow().getStatus())
+                .isEqualTo(IdempotencyStatus.IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 처리 중인 키는 409로 거절된다")
+    void begin_RejectsKeyInProgressElsewhere() {
+        /// given
+        String key = "key-" + System.nanoTime();
+        assertThat(idempotencyService.begin(key)).isEmpty();
+
+        /// when & then
+        assertThatThrownBy(() -> otherInstance().begin(key))
+                .isInstanceOf(CustomException.class)
+                .hasMessage("같은 Idempotency-Key 로 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+}
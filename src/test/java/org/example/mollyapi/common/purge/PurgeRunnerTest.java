@@ -0,0 +1,152 @@
+package org.example.mollyapi.common.purge;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.mollyapi.cart.entity.Cart;
+import org.example.mollyapi.cart.repository.CartRepository;
+import org.example.mollyapi.cart.service.ExpiredCartPurgeJob;
+import org.example.mollyapi.common.purge.entity.PurgeLease;
+import org.example.mollyapi.common.purge.repository.PurgeLeaseRepository;
+import org.example.mollyapi.product.entity.Product;
+import org.example.mollyapi.product.entity.ProductItem;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.example.mollyapi.product.repository.ProductRepository;
+import org.example.mollyapi.user.entity.User;
+import org.example.mollyapi.user.repository.UserRepository;
+import org.example.mollyapi.user.type.Sex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {"purge.chunk-size=2", "purge.pause-ms=0"})
+@ActiveProfiles("test")
+class PurgeRunnerTest {
+
+    @Autowired
+    PurgeRunner purgeRunner;
+
+    @Autowired
+    ExpiredCartPurgeJob expiredCartPurgeJob;
+
+    @Autowired
+    PurgeLeaseRepository purgeLeaseRepository;
+
+    @Autowired
+    CartRepository cartRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    ProductItemRepository productItemRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private User savedUser;
+    private ProductItem savedProductItem;
+
+    @BeforeEach
+    void setup() {
+        savedUser = userRepository.save(User.builder()
+                .name("test_user")
+                .cellPhone("01012345678")
+                .flag(true)
+                .nickname("test_nickname")
+                .sex(Sex.FEMALE)
+                .point(1000)
+                .build());
+
+        Product product = productRepository.save(Product.builder()
+                .user(savedUser)
+                .brandName("adidas")
+                .price(5000L)
+                .build());
+
+        savedProductItem = productItemRepository.save(ProductItem.builder()
+                .color("blue")
+                .size("M")
+                .quantity(5L)
+                .product(product)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        purgeLeaseRepository.deleteAllInBatch();
+        cartRepository.deleteAllInBatch();
+        productItemRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    private List<Long> createCarts(int count, LocalDateTime createdAt) {
+        List<Long> cartIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Cart cart = cartRepository.save(Cart.builder()
+                    .user(savedUser)
+                    .productItem(savedProductItem)
+                    .quantity(1L)
+                    .build());
+            jdbcTemplate.update("UPDATE cart SET created_at = ? WHERE cart_id = ?", createdAt, cart.getCartId());
+            cartIds.add(cart.getCartId());
+        }
+        return cartIds;
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 장바구니만 청크 단위로 삭제되고, 끝까지 실행되면 체크포인트가 초기화된다")
+    void run_DeletesExpiredCartsInChunks() {
+        /// given
+        createCarts(5, LocalDateTime.now().minusDays(400));
+        List<Long> freshCartIds = createCarts(1, LocalDateTime.now());
+        double chunksBefore = meterRegistry.counter("purge.chunks", "job", expiredCartPurgeJob.name()).count();
+
+        /// when
+        long deletedCount = purgeRunner.run(expiredCartPurgeJob);
+
+        /// then
+        assertThat(deletedCount).isEqualTo(5);
+        assertThat(cartRepository.findAll()).extracting(Cart::getCartId).containsExactlyElementsOf(freshCartIds);
+        assertThat(meterRegistry.counter("purge.chunks", "job", expiredCartPurgeJob.name()).count() - chunksBefore)
+                .isEqualTo(3);
+
+        PurgeLease lease = purgeLeaseRepository.findById(expiredCartPurgeJob.name()).orElseThrow();
+        assertThat(lease.getCheckpointId()).isZero();
+        assertThat(lease.getOwner()).isNull();
+        assertThat(lease.getLastCompletedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 리스를 가지고 있으면 삭제하지 않는다")
+    void run_LeaseHeldByOther_Skips() {
+        /// given
+        createCarts(3, LocalDateTime.now().minusDays(400));
+        purgeLeaseRepository.save(new PurgeLease(expiredCartPurgeJob.name(), "other-instance", LocalDateTime.now().plusMinutes(5)));
+
+        /// when
+        long deletedCount = purgeRunner.run(expiredCartPurgeJob);
+
+        /// then
+        assertThat(deletedCount).isZero();
+        assertThat(cartRepository.count()).isEqualTo(3);
+        assertThat(purgeLeaseRepository.findById(expiredCartPurgeJob.name()).orElseThrow().getOwner())
+                .isEqualTo("other-instance");
+    }
+}
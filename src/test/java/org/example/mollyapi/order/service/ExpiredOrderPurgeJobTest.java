@@ -0,0 +1,204 @@
+package org.example.mollyapi.order.service;
+
+import org.example.mollyapi.common.purge.PurgeRunner;
+import org.example.mollyapi.common.purge.repository.PurgeLeaseRepository;
+import org.example.mollyapi.delivery.entity.Delivery;
+import org.example.mollyapi.delivery.repository.DeliveryRepository;
+import org.example.mollyapi.delivery.type.DeliveryStatus;
+import org.example.mollyapi.order.entity.Order;
+import org.example.mollyapi.order.entity.OrderDetail;
+import org.example.mollyapi.order.repository.OrderDetailRepository;
+import org.example.mollyapi.order.repository.OrderRepository;
+import org.example.mollyapi.payment.entity.Payment;
+import org.example.mollyapi.payment.repository.PaymentRepository;
+import org.example.mollyapi.payment.type.PaymentStatus;
+import org.example.mollyapi.product.entity.Product;
+import org.example.mollyapi.product.entity.ProductItem;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.example.mollyapi.product.repository.ProductRepository;
+import org.example.mollyapi.review.entity.Review;
+import org.example.mollyapi.review.repository.ReviewRepository;
+import org.example.mollyapi.user.entity.User;
+import org.example.mollyapi.user.repository.UserRepository;
+import org.example.mollyapi.user.type.Sex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {"purge.chunk-size=2", "purge.pause-ms=0"})
+@ActiveProfiles("test")
+class ExpiredOrderPurgeJobTest {
+
+    @Autowired
+    PurgeRunner purgeRunner;
+
+    @Autowired
+    ExpiredOrderPurgeJob expiredOrderPurgeJob;
+
+    @Autowired
+    PurgeLeaseRepository purgeLeaseRepository;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @Autowired
+    OrderDetailRepository orderDetailRepository;
+
+    @Autowired
+    PaymentRepository paymentRepository;
+
+    @Autowired
+    DeliveryRepository deliveryRepository;
+
+    @Autowired
+    ReviewRepository reviewRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    ProductItemRepository productItemRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private User savedUser;
+    private Product savedProduct;
+    private ProductItem savedProductItem;
+
+    @BeforeEach
+    void setup() {
+        savedUser = userRepository.save(User.builder()
+                .name("test_user")
+                .cellPhone("01012345678")
+                .nickname("test_nickname")
+                .sex(Sex.FEMALE)
+                .build());
+
+        savedProduct = productRepository.save(Product.builder()
+                .user(savedUser)
+                .brandName("adidas")
+                .price(5000L)
+                .build());
+
+        savedProductItem = productItemRepository.save(ProductItem.builder()
+                .color("blue")
+                .size("M")
+                .quantity(5L)
+                .product(savedProduct)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        purgeLeaseRepository.deleteAllInBatch();
+        reviewRepository.deleteAllInBatch();
+        paymentRepository.deleteAllInBatch();
+        orderDetailRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        deliveryRepository.deleteAllInBatch();
+        productItemRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    private Order createOrder(LocalDateTime expirationTime) {
+        return createOrder(expirationTime, PaymentStatus.FAILED);
+    }
+
+    // 주문 상세, 리뷰, 결제, 배송까지 참조하는 주문 생성 후 만료 시각을 지정
+    private Order createOrder(LocalDateTime expirationTime, PaymentStatus paymentStatus) {
+        Order order = new Order(savedUser, "ORD-" + System.nanoTime());
+        order.setDelivery(Delivery.builder()
+                .status(DeliveryStatus.READY)
+                .receiverName("수령인")
+                .receiverPhone("01012345678")
+                .roadAddress("서울시 강남구")
+                .addrDetail("101호")
+                .build());
+        order = orderRepository.save(order);
+
+        OrderDetail detail = orderDetailRepository.save(
+                new OrderDetail(order, savedProductItem, "M", 5000L, 1L, "adidas", "p", null));
+        reviewRepository.save(Review.builder()
+                .content("리뷰")
+                .isDeleted(false)
+                .count(0L)
+                .user(savedUser)
+                .orderDetail(detail)
+                .product(savedProduct)
+                .build());
+        paymentRepository.save(Payment.create(savedUser, order, order.getTossOrderId(), "pay-key", "NORMAL", 5000L, paymentStatus));
+
+        jdbcTemplate.update("UPDATE orders SET expiration_time = ? WHERE order_id = ?", expirationTime, order.getId());
+        return order;
+    }
+
+    @Test
+    @DisplayName("만료 후 유예 시간이 지난 결제 대기 주문은 상세/리뷰/결제/배송과 함께 외래키 순서대로 삭제된다")
+    void run_DeletesExpiredOrdersWithChildren() {
+        /// given
+        createOrder(LocalDateTime.now().minusHours(2));
+        createOrder(LocalDateTime.now().minusHours(3));
+        createOrder(LocalDateTime.now().minusHours(4));
+        Order fresh = createOrder(LocalDateTime.now().minusMinutes(30)); // 유예 시간 이내
+
+        /// when
+        long deletedCount = purgeRunner.run(expiredOrderPurgeJob);
+
+        /// then
+        assertThat(deletedCount).isEqualTo(3);
+        assertThat(orderRepository.findAll()).extracting(Order::getId).containsExactly(fresh.getId());
+        assertThat(orderDetailRepository.count()).isEqualTo(1);
+        assertThat(reviewRepository.count()).isEqualTo(1);
+        assertThat(paymentRepository.count()).isEqualTo(1);
+        assertThat(deliveryRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("결제 준비 중(PREPARED)이거나 결제 대기 상태가 아닌 주문은 만료되었어도 삭제하지 않는다")
+    void run_KeepsPreparedAndNonPendingOrders() {
+        /// given
+        Order prepared = createOrder(LocalDateTime.now().minusHours(2));
+        jdbcTemplate.update("UPDATE orders SET checkout_status = 'PREPARED' WHERE order_id = ?", prepared.getId());
+        Order succeeded = createOrder(LocalDateTime.now().minusHours(2));
+        jdbcTemplate.update("UPDATE orders SET status = 'SUCCEEDED' WHERE order_id = ?", succeeded.getId());
+
+        /// when
+        long deletedCount = purgeRunner.run(expiredOrderPurgeJob);
+
+        /// then
+        assertThat(deletedCount).isZero();
+        assertThat(orderRepository.findAll()).extracting(Order::getId)
+                .containsExactlyInAnyOrder(prepared.getId(), succeeded.getId());
+        assertThat(paymentRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("결과를 모르는 PENDING 결제가 남은 주문은 결제 준비가 되돌려졌어도 삭제하지 않는다")
+    void run_KeepsOrdersWithPendingPayment() {
+        /// given - PG 호출 중 오류로 보상(READY)되었지만 결제는 PENDING 으로 남은 주문
+        Order awaitingPayment = createOrder(LocalDateTime.now().minusHours(2), PaymentStatus.PENDING);
+        createOrder(LocalDateTime.now().minusHours(2));
+
+        /// when
+        long deletedCount = purgeRunner.run(expiredOrderPurgeJob);
+
+        /// then
+        assertThat(deletedCount).isEqualTo(1);
+        assertThat(orderRepository.findAll()).extracting(Order::getId).containsExactly(awaitingPayment.getId());
+        assertThat(paymentRepository.findAll()).extracting(Payment::getStatus).containsExactly(PaymentStatus.PENDING);
+    }
+}
@@ -0,0 +1,279 @@
+package org.example.mollyapi.order.service;
+
+import org.example.mollyapi.cart.repository.CartRepository;
+import org.example.mollyapi.delivery.dto.DeliveryReqDto;
+import org.example.mollyapi.delivery.repository.DeliveryRepository;
+import org.example.mollyapi.order.entity.Order;
+import org.example.mollyapi.order.entity.OrderDetail;
+import org.example.mollyapi.order.repository.OrderDetailRepository;
+import org.example.mollyapi.order.repository.OrderRepository;
+import org.example.mollyapi.order.repository.StockReservationRepository;
+import org.example.mollyapi.order.type.CheckoutStatus;
+import org.example.mollyapi.payment.entity.Payment;
+import org.example.mollyapi.payment.repository.PaymentRepository;
+import org.example.mollyapi.payment.type.PaymentStatus;
+import org.example.mollyapi.product.entity.Product;
+import org.example.mollyapi.product.entity.ProductItem;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.example.mollyapi.product.repository.ProductRepository;
+import org.example.mollyapi.user.entity.User;
+import org.example.mollyapi.user.repository.UserRepository;
+import org.example.mollyapi.user.type.Sex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderCheckoutServiceTest {
+
+    @Autowired
+    OrderCheckoutService orderCheckoutService;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @Autowired
+    OrderDetailRepository orderDetailRepository;
+
+    @Autowired
+    StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    PaymentRepository paymentRepository;
+
+    @Autowired
+    DeliveryRepository deliveryRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    ProductItemRepository productItemRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    CartRepository cartRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final DeliveryReqDto deliveryInfo = new DeliveryReqDto("momo", "010-1111-2222", "판교", "12345", "배송 조심히 해주세요");
+
+    private User savedUser;
+    private Order savedOrder;
+    private ProductItem savedProductItem;
+
+    @BeforeEach
+    void setup() {
+        savedUser = userRepository.save(User.builder()
+                .name("test_user")
+                .cellPhone("01012345678")
+                .flag(true)
+                .nickname("test_nickname")
+                .sex(Sex.FEMALE)
+                .point(1000)
+                .build());
+
+        Product product = productRepository.save(Product.builder()
+                .user(savedUser)
+                .brandName("adidas")
+                .price(5000L)
+                .build());
+
+        savedProductItem = productItemRepository.save(ProductItem.builder()
+                .color("blue")
+                .size("M")
+                .quantity(5L) // 재고 5개
+                .product(product)
+                .build());
+
+        Order order = new Order(savedUser, "ORD-" + System.nanoTime());
+        order.updateTotalAmount(10000L);
+        savedOrder = orderRepository.save(order);
+        orderDetailRepository.save(new OrderDetail(savedOrder, savedProductItem, "M", 5000L, 2L, "adidas", "p", null));
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        stockReservationRepository.deleteAllInBatch();
+        cartRepository.deleteAllInBatch();
+        orderDetailRepository.deleteAllInBatch();
+        paymentRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        deliveryRepository.deleteAllInBatch();
+        productItemRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    private void prepare(int pointUsage) {
+        orderCheckoutService.prepare(savedUser.getUserId(), "test-key", savedOrder.getTossOrderId(),
+                10000L, pointUsage, "CREDIT_CARD", deliveryInfo);
+    }
+
+    @Test
+    @DisplayName("결제 준비 시 포인트 차감, 배송 정보 저장 후 PREPARED 상태로 커밋된다")
+    void prepare_CommitsPreparedState() {
+        /// when
+        prepare(300);
+
+        /// then
+        Order order = orderRepository.findById(savedOrder.getId()).orElseThrow();
+        assertThat(order.getCheckoutStatus()).isEqualTo(CheckoutStatus.PREPARED);
+        assertThat(order.getReservedPoint()).isEqualTo(300);
+        assertThat(order.getDelivery()).isNotNull();
+        assertThat(userRepository.findById(savedUser.getUserId()).orElseThrow().getPoint()).isEqualTo(700);
+        assertThat(productItemRepository.findById(savedProductItem.getId()).orElseThrow().getQuantity()).isEqualTo(5L); // 재고 홀드는 트랜잭션 밖에서 수행
+    }
+
+    @Test
+    @DisplayName("같은 주문의 결제 준비가 동시에 들어오면 한 요청만 준비되고 포인트는 한 번만 차감된다")
+    void prepare_Concurrent_DeductsOnce() throws Exception {
+        /// given
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Boolean>> attempts = List.of(
+                CompletableFuture.supplyAsync(() -> tryPrepare(start, 300), executor),
+                CompletableFuture.supplyAsync(() -> tryPrepare(start, 300), executor));
+
+        /// when
+        start.countDown();
+        long succeeded = attempts.stream().filter(CompletableFuture::join).count();
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        /// then
+        assertThat(succeeded).isEqualTo(1);
+        Order order = orderRepository.findById(savedOrder.getId()).orElseThrow();
+        assertThat(order.getReservedPoint()).isEqualTo(300);
+        assertThat(userRepository.findById(savedUser.getUserId()).orElseThrow().getPoint()).isEqualTo(700);
+    }
+
+    @Test
+    @DisplayName("포인트가 부족하면 결제 준비가 실패하고 포인트와 주문 상태는 그대로 남는다")
+    void prepare_InsufficientPoint_Fails() {
+        /// when & then
+        assertThatThrownBy(() -> prepare(1500))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(orderRepository.findById(savedOrder.getId()).orElseThrow().isCheckoutPrepared()).isFalse();
+        assertThat(userRepository.findById(savedUser.getUserId()).orElseThrow().getPoint()).isEqualTo(1000);
+    }
+
+    private boolean tryPrepare(CountDownLatch start, int pointUsage) {
+        try {
+            start.await(5, TimeUnit.SECONDS);
+            prepare(pointUsage);
+            return true;
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Test
+    @DisplayName("PG 호출 실패 시 보상하면 포인트가 환불되고 재시도 가능한 상태로 돌아간다")
+    void compensate_RefundsPoint() {
+        /// given
+        prepare(300);
+
+        /// when
+        orderCheckoutService.compensate(savedOrder.getId());
+        prepare(300); // 재시도
+
+        /// then
+        Order order = orderRepository.findById(savedOrder.getId()).orElseThrow();
+        assertThat(order.getCheckoutStatus()).isEqualTo(CheckoutStatus.PREPARED);
+        assertThat(userRepository.findById(savedUser.getUserId()).orElseThrow().getPoint()).isEqualTo(700);
+    }
+
+    @Test
+    @DisplayName("결제 준비 상태로 남은 주문은 승인된 결제가 없으면 복구 시 보상 처리된다")
+    void recover_WithoutApprovedPayment_Compensates() {
+        /// given
+        prepare(300);
+
+        /// when
+        assertThat(orderCheckoutService.findStalePreparedOrderIds(LocalDateTime.now().plusMinutes(1)))
+                .containsExactly(savedOrder.getId());
+        orderCheckoutService.recover(savedOrder.getId());
+
+        /// then
+        Order order = orderRepository.findById(savedOrder.getId()).orElseThrow();
+        assertThat(order.getCheckoutStatus()).isEqualTo(CheckoutStatus.READY);
+        assertThat(userRepository.findById(savedUser.getUserId()).orElseThrow().getPoint()).isEqualTo(1000);
+        assertThat(orderCheckoutService.findStalePreparedOrderIds(LocalDateTime.now().plusMinutes(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("PENDING 결제가 남아 복구가 보류되는 주문은 복구 대상 조회에서 제외된다")
+    void findStalePreparedOrderIds_ExcludesPendingPayment() {
+        /// given
+        prepare(300);
+        Payment payment = paymentRepository.save(Payment.create(savedUser, savedOrder, savedOrder.getTossOrderId(),
+                "test-key", "CREDIT_CARD", 10000L));
+        LocalDateTime cutoff = LocalDateTime.now().plusMinutes(1);
+
+        /// when
+        List<Long> whilePending = orderCheckoutService.findStalePreparedOrderIds(cutoff);
+        payment.failPayment("PG 미승인");
+        paymentRepository.save(payment);
+        List<Long> afterSettled = orderCheckoutService.findStalePreparedOrderIds(cutoff);
+
+        /// then
+        assertThat(whilePending).isEmpty();
+        assertThat(afterSettled).containsExactly(savedOrder.getId());
+    }
+
+    @Test
+    @DisplayName("보상된 주문이라도 PENDING 결제가 남아 있으면 만료 시 삭제하지 않고 결제 대사 결과를 기다린다")
+    void expireAll_CompensatedOrderWithPendingPayment_Deferred() {
+        /// given - 결제를 PENDING 으로 커밋한 뒤 PG 호출 중 오류로 보상된 주문
+        prepare(300);
+        Payment payment = paymentRepository.save(Payment.create(savedUser, savedOrder, savedOrder.getTossOrderId(),
+                "test-key", "CREDIT_CARD", 10000L));
+        orderCheckoutService.compensate(savedOrder.getId());
+        jdbcTemplate.update("UPDATE orders SET expiration_time = ? WHERE order_id = ?",
+                LocalDateTime.now().minusMinutes(1), savedOrder.getId());
+
+        /// when
+        List<Long> deferred = orderCheckoutService.expireAll(List.of(savedOrder.getId()), LocalDateTime.now());
+
+        /// then
+        assertThat(deferred).containsExactly(savedOrder.getId());
+        assertThat(orderRepository.findById(savedOrder.getId())).isPresent();
+        assertThat(paymentRepository.findById(payment.getId())).get()
+                .extracting(Payment::getStatus)
+                .isEqualTo(PaymentStatus.PENDING);
+
+        /// when - 결제 대사가 미승인으로 확정한 뒤 다시 만료 처리
+        Payment settled = paymentRepository.findById(payment.getId()).orElseThrow();
+        settled.failPayment("PG 미승인 (결제 대사)");
+        paymentRepository.save(settled);
+        List<Long> deferredAfterSettle = orderCheckoutService.expireAll(List.of(savedOrder.getId()), LocalDateTime.now());
+
+        /// then
+        assertThat(deferredAfterSettle).isEmpty();
+        assertThat(orderRepository.findById(savedOrder.getId())).isEmpty();
+        assertThat(paymentRepository.count()).isZero();
+    }
+}
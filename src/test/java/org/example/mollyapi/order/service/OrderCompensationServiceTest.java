@@ -0,0 +1,214 @@
+package org.example.mollyapi.order.service;
+
+import org.example.mollyapi.cart.entity.Cart;
+import org.example.mollyapi.cart.repository.CartRepository;
+import org.example.mollyapi.order.entity.Order;
+import org.example.mollyapi.order.entity.OrderDetail;
+import org.example.mollyapi.order.repository.OrderDetailRepository;
+import org.example.mollyapi.order.repository.OrderRepository;
+import org.example.mollyapi.order.repository.StockReservationRepository;
+import org.example.mollyapi.product.entity.Product;
+import org.example.mollyapi.product.entity.ProductItem;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.example.mollyapi.product.repository.ProductRepository;
+import org.example.mollyapi.user.entity.User;
+import org.example.mollyapi.user.repository.UserRepository;
+import org.example.mollyapi.user.type.Sex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderCompensationServiceTest {
+
+    @Autowired
+    OrderCompensationService orderCompensationService;
+
+    @Autowired
+    OrderCheckoutService orderCheckoutService;
+
+    @Autowired
+    StockReservationService stockReservationService;
+
+    @Autowired
+    StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @Autowired
+    OrderDetailRepository orderDetailRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    ProductItemRepository productItemRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    CartRepository cartRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private User savedUser;
+    private Product savedProduct;
+    private ProductItem itemA;
+    private ProductItem itemB;
+
+    @BeforeEach
+    void setup() {
+        savedUser = userRepository.save(User.builder()
+                .name("test_user")
+                .cellPhone("01012345678")
+                .flag(true)
+                .nickname("test_nickname")
+                .sex(Sex.FEMALE)
+                .point(1000)
+                .build());
+
+        savedProduct = productRepository.save(Product.builder()
+                .user(savedUser)
+                .brandName("adidas")
+                .price(5000L)
+                .build());
+
+        itemA = saveItem("M", 10L);
+        itemB = saveItem("L", 10L);
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        stockReservationRepository.deleteAllInBatch();
+        cartRepository.deleteAllInBatch();
+        orderDetailRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productItemRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    private ProductItem saveItem(String size, Long quantity) {
+        return productItemRepository.save(ProductItem.builder()
+                .color("blue")
+                .size(size)
+                .quantity(quantity)
+                .product(savedProduct)
+                .build());
+    }
+
+    private Order createOrder(ProductItem item, Long quantity, Long cartId) {
+        Order order = orderRepository.save(new Order(savedUser, "ORD-" + System.nanoTime()));
+        OrderDetail detail = new OrderDetail(order, item, item.getSize(), 5000L, quantity, "adidas", "p", cartId);
+        order.getOrderDetails().add(detail);
+        orderDetailRepository.save(detail);
+        return order;
+    }
+
+    private long stockOf(ProductItem item) {
+        return productItemRepository.findQuantityById(item.getId()).orElseThrow();
+    }
+
+    private long purchaseCount() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(purchase_count, 0) FROM product WHERE product_id = ?", Long.class, savedProduct.getId());
+        return count == null ? 0 : count;
+    }
+
+    @Test
+    @DisplayName("아이템별 재고 증가분이 한 번의 CASE UPDATE로 반영된다")
+    void restoreStock_UpdatesItemsByCase() {
+        /// when
+        int updated = orderCompensationService.restoreStock(Map.of(itemA.getId(), 3L, itemB.getId(), 5L));
+
+        /// then
+        assertThat(updated).isEqualTo(2);
+        assertThat(stockOf(itemA)).isEqualTo(13L);
+        assertThat(stockOf(itemB)).isEqualTo(15L);
+    }
+
+    @Test
+    @DisplayName("구매수 차감은 0 미만으로 내려가지 않는다")
+    void adjustPurchaseCounts_NotBelowZero() {
+        /// given
+        orderCompensationService.adjustPurchaseCounts(Map.of(savedProduct.getId(), 2L));
+
+        /// when
+        orderCompensationService.adjustPurchaseCounts(Map.of(savedProduct.getId(), -5L));
+
+        /// then
+        assertThat(purchaseCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료된 주문을 일괄 실패 처리하면 재고 홀드, 장바구니가 복구되고 주문은 삭제된다")
+    void expireAll_CompensatesInBulk() {
+        /// given
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Order order = createOrder(i % 2 == 0 ? itemA : itemB, 2L, (long) (i + 1));
+            stockReservationService.hold(order);
+            orderIds.add(order.getId());
+        }
+        assertThat(stockOf(itemA)).isEqualTo(6L);
+        assertThat(stockOf(itemB)).isEqualTo(8L);
+
+        /// when
+        List<Long> deferred = orderCheckoutService.expireAll(orderIds, LocalDateTime.now().plusDays(1));
+
+        /// then
+        assertThat(deferred).isEmpty();
+        assertThat(stockOf(itemA)).isEqualTo(10L);
+        assertThat(stockOf(itemB)).isEqualTo(10L);
+        assertThat(orderRepository.findAllById(orderIds)).isEmpty();
+        assertThat(cartRepository.findAll())
+                .hasSize(3)
+                .extracting(Cart::getQuantity)
+                .containsOnly(2L);
+    }
+
+    @Test
+    @DisplayName("만료 시각 전인 주문은 실패 처리하지 않고 다시 확인할 주문으로 반환된다")
+    void expireAll_DefersNotYetExpired() {
+        /// given
+        Order order = createOrder(itemA, 1L, null);
+
+        /// when
+        List<Long> deferred = orderCheckoutService.expireAll(List.of(order.getId()), LocalDateTime.now().minusDays(1));
+
+        /// then
+        assertThat(deferred).containsExactly(order.getId());
+        assertThat(orderRepository.findById(order.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("철회 완료 시 주문 수량만큼 재고가 복구되고 구매수가 차감된다")
+    void restoreOrderedStock_RestoresStockAndPurchaseCount() {
+        /// given
+        Order order = createOrder(itemA, 4L, null);
+        orderCompensationService.adjustPurchaseCounts(Map.of(savedProduct.getId(), 3L));
+
+        /// when
+        orderCompensationService.restoreOrderedStock(List.of(order.getId()));
+
+        /// then
+        assertThat(stockOf(itemA)).isEqualTo(14L);
+        assertThat(purchaseCount()).isEqualTo(2L);
+    }
+}
@@ -182,7 +182,7 @@ public class OrderCreateServiceTest {
 
         assertThat(orderResponse.tossOrderId())
                 .isNotEmpty()
-                .matches("^ORD-\\d{14}-\\d{1,4}$"); // tossOrderId 생성 규칙 "ORD-YYYYMMDDHHmmss-랜덤숫자" 패턴 검증
+                .matches("^ORD-[0-9A-Z]{13}$"); // tossOrderId 생성 규칙 "ORD-TSID(Crockford Base32 13자리)" 패턴 검증
 
 
         // ❓비교 #2
@@ -193,7 +193,7 @@ public class OrderCreateServiceTest {
 
         assertThat(orderResponse.tossOrderId())
                 .as("Toss Order ID 형식 검증")
-                .matches("^ORD-\\d{14}-\\d{1,4}$");
+                .matches("^ORD-[0-9A-Z]{13}$");
 
         assertThat(orderResponse.orderDetails())
                 .as("주문 상세 내역 검증")
@@ -396,6 +396,83 @@ public class OrderCreateServiceTest {
                 .hasMessageContaining("재고가 부족하여 주문할 수 없습니다. itemId=" + savedProductItem.getId());
     }
 
+    @Test
+    @DisplayName("장바구니 주문과 바로 주문이 섞인 여러 건을 요청하면 요청 순서대로 주문 상세가 생성된다")
+    void createOrderWithMultipleLines_Success() {
+        /// given
+        ProductItem otherItem = productItemRepository.save(ProductItem.builder()
+                .color("black")
+                .size("L")
+                .quantity(3L)
+                .product(savedProduct)
+                .build());
+
+        Cart cart = cartRepository.save(Cart.builder()
+                .user(savedUser)
+                .quantity(2L)
+                .productItem(savedProductItem)
+                .build());
+
+        OrderRequestDto cartReq = OrderRequestDto.builder()
+                .cartId(cart.getCartId())
+                .build();
+        OrderRequestDto directReq = OrderRequestDto.builder()
+                .itemId(otherItem.getId())
+                .quantity(1L)
+                .build();
+
+        /// when
+        OrderResponseDto orderResponse = orderService.createOrder(savedUser.getUserId(), List.of(cartReq, directReq));
+
+        /// then
+        assertThat(orderResponse.totalAmount()).isEqualTo(5000L * 3);
+        assertThat(orderResponse.orderDetails())
+                .extracting(OrderDetailResponseDto::size, OrderDetailResponseDto::quantity)
+                .containsExactly(
+                        tuple("M", 2L),
+                        tuple("L", 1L)
+                );
+    }
+
+    @Test
+    @DisplayName("동일 상품을 여러 줄로 나눠 주문하면 합산 수량 기준으로 재고를 검증한다")
+    void createOrderWithSplitLines_StockNotEnough() {
+        /// given
+        OrderRequestDto first = OrderRequestDto.builder()
+                .itemId(savedProductItem.getId())
+                .quantity(3L)
+                .build();
+        OrderRequestDto second = OrderRequestDto.builder()
+                .itemId(savedProductItem.getId())
+                .quantity(3L) // 합계 6개 (재고 5개)
+                .build();
+
+        /// when & then
+        assertThatThrownBy(() -> orderService.createOrder(savedUser.getUserId(), List.of(first, second)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("재고가 부족하여 주문할 수 없습니다. itemId=" + savedProductItem.getId());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("주문과 주문 상세는 flush 전에 TSID 식별자가 발급된다")
+    void createOrder_AssignsTsidBeforeFlush() {
+        /// given
+        Order order = new Order(savedUser, "ORD-202503101234-7777");
+        ProductItem productItem = productItemRepository.findByIdWithProduct(savedProductItem.getId()).orElseThrow();
+        OrderDetail first = new OrderDetail(order, productItem, "M", 5000L, 1L, "adidas", "p", null);
+        OrderDetail second = new OrderDetail(order, productItem, "M", 5000L, 2L, "adidas", "p", null);
+
+        /// when
+        orderRepository.save(order);
+        orderDetailRepository.saveAll(List.of(first, second));
+
+        /// then
+        assertThat(order.getId()).isNotNull();
+        assertThat(first.getId()).isNotNull();
+        assertThat(second.getId()).isGreaterThan(first.getId()); // 시간순 증가
+    }
+
     @Test
     @DisplayName("같은 사용자가 동일한 주문을 동시에 여러 개 요청할 경우 하나만 성공하고 나머지는 실패해야 한다.")
     void createDuplicateOrder_ShouldAllowOnlyOneAndThrowForOthers() throws InterruptedException {
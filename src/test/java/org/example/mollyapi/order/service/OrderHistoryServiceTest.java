@@ -0,0 +1,155 @@
+package org.example.mollyapi.order.service;
+
+import org.example.mollyapi.order.dto.OrderHistoryResponseDto;
+import org.example.mollyapi.order.entity.Order;
+import org.example.mollyapi.order.repository.OrderRepository;
+import org.example.mollyapi.order.type.OrderStatus;
+import org.example.mollyapi.payment.entity.Payment;
+import org.example.mollyapi.payment.repository.PaymentRepository;
+import org.example.mollyapi.payment.type.PaymentStatus;
+import org.example.mollyapi.user.entity.User;
+import org.example.mollyapi.user.repository.UserRepository;
+import org.example.mollyapi.user.type.Sex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderHistoryServiceTest {
+
+    @Autowired
+    OrderServiceImpl orderService;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @Autowired
+    PaymentRepository paymentRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private User savedUser;
+
+    @BeforeEach
+    void setup() {
+        savedUser = userRepository.save(User.builder()
+                .name("test_user")
+                .cellPhone("01012345678")
+                .flag(true)
+                .nickname("test_nickname")
+                .sex(Sex.FEMALE)
+                .point(1000)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        paymentRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    private Order createOrder(OrderStatus status) {
+        Order order = new Order(savedUser, "ORD-" + System.nanoTime());
+        order.updateStatus(status);
+        return orderRepository.save(order);
+    }
+
+    private Payment createPayment(Order order, Long amount, PaymentStatus status) {
+        return paymentRepository.save(Payment.create(savedUser, order, order.getTossOrderId(), "pay-key", "NORMAL", amount, status));
+    }
+
+    @Test
+    @DisplayName("주문 내역은 최신순으로 커서 페이지 단위로 조회되고 마지막 페이지에서 다음 커서가 없다")
+    void getUserOrders_KeysetPagination() {
+        /// given
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Order order = createOrder(OrderStatus.SUCCEEDED);
+            createPayment(order, 1000L * (i + 1), PaymentStatus.APPROVED);
+            expected.add(0, order.getTossOrderId());
+        }
+        createOrder(OrderStatus.PENDING); // 조회 대상 아님
+
+        /// when
+        OrderHistoryResponseDto first = orderService.getUserOrders(savedUser.getUserId(), null, null, 2);
+        OrderHistoryResponseDto second = orderService.getUserOrders(
+                savedUser.getUserId(), first.nextCursorId(), first.nextCursorOrderedAt(), 2);
+        OrderHistoryResponseDto last = orderService.getUserOrders(
+                savedUser.getUserId(), second.nextCursorId(), second.nextCursorOrderedAt(), 2);
+
+        /// then
+        List<String> fetched = new ArrayList<>();
+        for (OrderHistoryResponseDto page : List.of(first, second, last)) {
+            page.orders().forEach(summary -> fetched.add(summary.tossOrderId()));
+        }
+        assertThat(fetched).containsExactlyElementsOf(expected);
+        assertThat(first.isLastPage()).isFalse();
+        assertThat(second.isLastPage()).isFalse();
+        assertThat(last.isLastPage()).isTrue();
+        assertThat(last.nextCursorId()).isNull();
+    }
+
+    @Test
+    @DisplayName("결제가 여러 건인 주문은 최신 결제 금액으로 한 건만 조회된다")
+    void getUserOrders_LatestPaymentAmount() {
+        /// given
+        Order order = createOrder(OrderStatus.SUCCEEDED);
+        createPayment(order, 3000L, PaymentStatus.FAILED);
+        createPayment(order, 5000L, PaymentStatus.APPROVED);
+
+        /// when
+        OrderHistoryResponseDto history = orderService.getUserOrders(savedUser.getUserId(), null, null, 20);
+
+        /// then
+        assertThat(history.orders())
+                .singleElement()
+                .extracting(OrderHistoryResponseDto.OrderSummaryDto::paymentAmount,
+                        OrderHistoryResponseDto.OrderSummaryDto::deliveryStatus)
+                .containsExactly(5000L, null);
+    }
+
+    @Test
+    @DisplayName("최신 결제는 ID 가 아니라 결제 시각으로 고른다 (결제 준비의 최신 결제와 같은 기준)")
+    void getUserOrders_LatestPaymentByPaymentDate() {
+        /// given - 나중에 저장된 결제(ID 가 큼)의 결제 시각이 더 이름
+        Order order = createOrder(OrderStatus.SUCCEEDED);
+        createPayment(order, 5000L, PaymentStatus.APPROVED);
+        Payment older = createPayment(order, 3000L, PaymentStatus.FAILED);
+        jdbcTemplate.update("UPDATE payment SET payment_date = ? WHERE id = ?", LocalDateTime.now().minusHours(1), older.getId());
+
+        /// when
+        OrderHistoryResponseDto history = orderService.getUserOrders(savedUser.getUserId(), null, null, 20);
+
+        /// then
+        assertThat(history.orders())
+                .singleElement()
+                .extracting(OrderHistoryResponseDto.OrderSummaryDto::paymentAmount)
+                .isEqualTo(5000L);
+    }
+
+    @Test
+    @DisplayName("조회 크기가 범위를 벗어나면 예외가 발생한다")
+    void getUserOrders_InvalidSize_ShouldThrowException() {
+        /// when & then
+        assertThatThrownBy(() -> orderService.getUserOrders(savedUser.getUserId(), null, null, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("조회 크기는");
+    }
+}
@@ -9,9 +9,9 @@ import org.example.mollyapi.order.entity.Order;
 import org.example.mollyapi.order.entity.OrderDetail;
 import org.example.mollyapi.order.repository.OrderDetailRepository;
 import org.example.mollyapi.order.repository.OrderRepository;
+import org.example.mollyapi.order.repository.StockReservationRepository;
 import org.example.mollyapi.order.type.OrderStatus;
 import org.example.mollyapi.payment.dto.request.PaymentConfirmReqDto;
-import org.example.mollyapi.payment.dto.response.PaymentInfoResDto;
 import org.example.mollyapi.payment.dto.response.PaymentResDto;
 import org.example.mollyapi.payment.entity.Payment;
 import org.example.mollyapi.payment.repository.PaymentRepository;
@@ -103,6 +103,9 @@ class OrderPaymentServiceTest {
     @Autowired
     PaymentRepository paymentRepository;
 
+    @Autowired
+    StockReservationRepository stockReservationRepository;
+
     @MockBean
     private ReviewCustomRepositoryImpl reviewCustomRepository;
 
@@ -163,6 +166,7 @@ class OrderPaymentServiceTest {
     void cleanup() {
         // 결제, 주문 상세, 장바구니 삭제
         cartRepository.deleteAllInBatch();
+        stockReservationRepository.deleteAllInBatch();
         orderDetailRepository.deleteAllInBatch();
         paymentRepository.deleteAllInBatch();
         orderRepository.deleteAllInBatch();
@@ -633,7 +637,7 @@ class OrderPaymentServiceTest {
         /// given
         CountDownLatch latch = new CountDownLatch(threadCount);
         ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
-        Long testOrderId = testOrder.getId();
+        ProductItem productItem = testOrder.getOrderDetails().get(0).getProductItem(); // 재고 5개
 
         AtomicInteger successCount = new AtomicInteger(0);
         AtomicInteger failCount = new AtomicInteger(0);
@@ -642,7 +646,10 @@ class OrderPaymentServiceTest {
             int finalI = i;
             try {
                 log.info("{} 번째 쓰레드 시작", finalI);
-                orderStockService.validateBeforePayment(testOrder.getId());
+                // 재고 홀드는 주문 단위로 한 번만 수행되므로 요청마다 개별 주문 생성
+                Order order = createTestOrder(testUser);
+                createTestOrderDetail(order, productItem, 1L);
+                orderStockService.validateBeforePayment(order.getId());
                 successCount.getAndIncrement();
                 log.info("{} 번째 쓰레드 성공", finalI);
             }catch(Exception e){
@@ -663,43 +670,6 @@ class OrderPaymentServiceTest {
     }
 
 
-    @DisplayName("[결제] 멀티쓰레드 5개에서 재고가 10개인 아이템을 1개씩 구매하면 재고가 5개 남는다.")
-    @ParameterizedTest
-    @ValueSource(ints = {5, 6})
-    void decreaseStockViaPaymentTestWithMultiThread(int threadCount) throws InterruptedException {
-        /// given
-        CountDownLatch latch = new CountDownLatch(threadCount);
-        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
-        Long testOrderId = testOrder.getId();
-
-        AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger failCount = new AtomicInteger(0);
-        /// when
-        for (int i = 0; i < threadCount; i++) {
-            int finalI = i;
-            try {
-                log.info("{} 번째 쓰레드 시작", finalI);
-                PaymentConfirmReqDto paymentConfirmReqDto = new PaymentConfirmReqDto(testOrderId, "ORD-202503111234-5678", "paymentKey", 10000L, "CARD", 0);
-                paymentService.processPaymentTest(testUser.getUserId(), paymentConfirmReqDto, "SUCCESS");
-                successCount.getAndIncrement();
-                log.info("{} 번째 쓰레드 성공", finalI);
-            }catch(Exception e){
-                log.info("{} 번째 쓰레드 실패", finalI);
-                failCount.incrementAndGet();
-            }finally {
-                log.info("{} 번째 쓰레드 접근 종료", finalI);
-                latch.countDown();
-            }
-        }
-
-        latch.await();
-        executorService.shutdown();
-
-        /// then
-        int expectFailCount = threadCount - 5;
-        assertThat(expectFailCount).isEqualTo(failCount.get());
-    }
-
 //    @Test
 //    @Transactional
 //    @DisplayName("[데드락] 동일 상품에 대해 동시에 결제 시도할 경우 데드락이 발생하지 않고 한쪽이 실패해야 한다")
@@ -788,8 +758,8 @@ class OrderPaymentServiceTest {
         DeliveryReqDto deliveryInfo = new DeliveryReqDto("momo", "010-1111-2222", "판교", "12345", "배송 조심히 해주세요");
         String point = "0";
 
-        // 기존 PaymentInfoResDto가 아닌 Payment 객체를 반환하도록 변경
-        Payment mockApprovePayment = Payment.create(testUser,  // 사용자
+        // 승인된 결제를 저장 (결제 준비 단계에서 주문과 함께 최신 결제를 조회함)
+        Payment approvedPayment = Payment.create(testUser,  // 사용자
                 testOrder, // 주문
                 tossOrderId, // Toss 주문 ID
                 paymentKey,  // 결제 키
@@ -798,8 +768,7 @@ class OrderPaymentServiceTest {
                 APPROVED
         );
 
-        when(paymentService.findLatestPayment(any()))
-                .thenReturn(Optional.of(PaymentInfoResDto.from(mockApprovePayment)));
+        paymentRepository.save(approvedPayment);
 
         /// when & then
         assertThatThrownBy(() -> orderService.processPayment(userId, paymentKey, tossOrderId, amount, encryptedPoint, paymentType, deliveryInfo))
@@ -0,0 +1,243 @@
+package org.example.mollyapi.order.service;
+
+import org.example.mollyapi.order.entity.Order;
+import org.example.mollyapi.order.repository.OrderRepository;
+import org.example.mollyapi.order.type.CheckoutStatus;
+import org.example.mollyapi.order.type.OrderStatus;
+import org.example.mollyapi.payment.dto.request.PaymentConfirmReqDto;
+import org.example.mollyapi.payment.dto.request.TossCancelReqDto;
+import org.example.mollyapi.payment.dto.response.TossConfirmResDto;
+import org.example.mollyapi.payment.entity.Payment;
+import org.example.mollyapi.payment.entity.PaymentRetry;
+import org.example.mollyapi.payment.repository.PaymentRepository;
+import org.example.mollyapi.payment.repository.PaymentRetryRepository;
+import org.example.mollyapi.payment.type.GatewayPaymentStatus;
+import org.example.mollyapi.payment.type.PaymentStatus;
+import org.example.mollyapi.payment.util.PaymentWebClientUtil;
+import org.example.mollyapi.user.entity.User;
+import org.example.mollyapi.user.repository.UserRepository;
+import org.example.mollyapi.user.type.Sex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+        "payment.reconcile.min-age-minutes=0",
+        "payment.reconcile.chunk-size=2",
+        "payment.reconcile.interval-ms=3600000" // 스케줄러가 테스트 데이터를 먼저 처리하지 않도록
+})
+@ActiveProfiles("test")
+class PaymentReconciliationServiceTest {
+
+    @Autowired
+    PaymentReconciliationService paymentReconciliationService;
+
+    @Autowired
+    PaymentRepository paymentRepository;
+
+    @Autowired
+    PaymentRetryRepository paymentRetryRepository;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @MockBean
+    PaymentWebClientUtil paymentWebClientUtil;
+
+    // 로컬 스텁 PG: paymentKey 별 토스 결제 상태 (없으면 PG에 결제 없음)
+    private final Map<String, String> gatewayStatuses = new ConcurrentHashMap<>();
+
+    private User savedUser;
+
+    @BeforeEach
+    void setup() {
+        savedUser = userRepository.save(User.builder()
+                .name("test_user")
+                .cellPhone("01012345678")
+                .flag(true)
+                .nickname("test_nickname")
+                .sex(Sex.FEMALE)
+                .point(900)
+                .build());
+
+        given(paymentWebClientUtil.findPayment(anyString(), any())).willAnswer(invocation -> {
+            String paymentKey = invocation.getArgument(0);
+            if (paymentKey.startsWith("broken")) {
+                throw new IllegalStateException("PG 응답 없음");
+            }
+            return Optional.ofNullable(gatewayStatuses.get(paymentKey))
+                    .map(status -> new TossConfirmResDto(null, null, paymentKey, status, null, null, null, null, 10000L, null, null));
+        });
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        paymentRetryRepository.deleteAllInBatch();
+        paymentRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    private Payment pendingPayment(String paymentKey) {
+        return pendingPayment(paymentKey, true);
+    }
+
+    private Payment pendingPayment(String paymentKey, boolean prepared) {
+        Order order = new Order(savedUser, "ORD-" + System.nanoTime());
+        order.updateTotalAmount(10000L);
+        if (prepared) {
+            order.prepareCheckout(100);
+        }
+        orderRepository.save(order);
+        return paymentRepository.save(Payment.create(savedUser, order, order.getTossOrderId(), paymentKey, "NORMAL", 10000L));
+    }
+
+    private Payment reload(Payment payment) {
+        return paymentRepository.findById(payment.getId()).orElseThrow();
+    }
+
+    private Order orderOf(Payment payment) {
+        return orderRepository.findById(payment.getOrder().getId()).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("PG에서 승인된 결제는 승인 처리되고 주문이 확정된다")
+    void reconcile_ApprovesDonePayment() {
+        /// given
+        Payment payment = pendingPayment("pay-done");
+        gatewayStatuses.put("pay-done", "DONE");
+
+        /// when
+        Map<GatewayPaymentStatus, Integer> result = paymentReconciliationService.reconcile();
+
+        /// then
+        assertThat(result).containsEntry(GatewayPaymentStatus.APPROVED, 1);
+        assertThat(reload(payment).getStatus()).isEqualTo(PaymentStatus.APPROVED);
+        Order order = orderOf(payment);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.SUCCEEDED);
+        assertThat(order.getCheckoutStatus()).isEqualTo(CheckoutStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("PG에서 중단되었거나 PG에 없는 결제는 실패 처리되고 차감 포인트가 환불된다")
+    void reconcile_FailsAbortedOrMissingPayment() {
+        /// given
+        Payment aborted = pendingPayment("pay-aborted");
+        Payment missing = pendingPayment("pay-missing");
+        gatewayStatuses.put("pay-aborted", "ABORTED");
+
+        /// when
+        Map<GatewayPaymentStatus, Integer> result = paymentReconciliationService.reconcile();
+
+        /// then
+        assertThat(result).containsEntry(GatewayPaymentStatus.FAILED, 2);
+        assertThat(reload(aborted).getStatus()).isEqualTo(PaymentStatus.FAILED);
+        assertThat(reload(missing).getStatus()).isEqualTo(PaymentStatus.FAILED);
+        assertThat(orderOf(aborted).isCheckoutPrepared()).isFalse();
+        assertThat(userRepository.findById(savedUser.getUserId()).orElseThrow().getPoint()).isEqualTo(1100);
+    }
+
+    @Test
+    @DisplayName("PG에서 진행 중이거나 조회에 실패한 결제는 PENDING 으로 남는다")
+    void reconcile_KeepsUnknownPending() {
+        /// given
+        Payment inProgress = pendingPayment("pay-in-progress");
+        Payment broken = pendingPayment("broken-1");
+        Payment done = pendingPayment("pay-done-2");
+        gatewayStatuses.put("pay-in-progress", "IN_PROGRESS");
+        gatewayStatuses.put("pay-done-2", "DONE");
+
+        /// when
+        Map<GatewayPaymentStatus, Integer> result = paymentReconciliationService.reconcile();
+
+        /// then
+        assertThat(result).containsEntry(GatewayPaymentStatus.UNKNOWN, 2).containsEntry(GatewayPaymentStatus.APPROVED, 1);
+        assertThat(reload(inProgress).getStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(reload(broken).getStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(orderOf(inProgress).isCheckoutPrepared()).isTrue();
+        assertThat(reload(done).getStatus()).isEqualTo(PaymentStatus.APPROVED);
+    }
+
+    @Test
+    @DisplayName("승인 재시도가 진행 중인 주문의 결제는 대사 대상에서 제외된다")
+    void reconcile_SkipsOrdersWithActiveRetry() {
+        /// given
+        Payment payment = pendingPayment("pay-retrying");
+        Order order = payment.getOrder();
+        paymentRetryRepository.save(PaymentRetry.builder()
+                .userId(savedUser.getUserId())
+                .request(new PaymentConfirmReqDto(order.getId(), order.getTossOrderId(), "pay-retrying", 10000L, "NORMAL", 100))
+                .nextAttemptAt(LocalDateTime.now().plusMinutes(1))
+                .lastError("서버 내부 오류")
+                .build());
+
+        /// when
+        Map<GatewayPaymentStatus, Integer> result = paymentReconciliationService.reconcile();
+
+        /// then
+        assertThat(result).isEmpty();
+        verify(paymentWebClientUtil, never()).findPayment(anyString(), any());
+        assertThat(reload(payment).getStatus()).isEqualTo(PaymentStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("결제 준비가 되돌려진 주문의 PG 승인 결제는 PG에 취소 요청 후 결제 취소로 기록된다")
+    void reconcile_CancelsApprovalOfRolledBackOrder() {
+        /// given
+        Payment payment = pendingPayment("pay-orphan", false);
+        gatewayStatuses.put("pay-orphan", "DONE");
+
+        /// when
+        paymentReconciliationService.reconcile();
+
+        /// then
+        verify(paymentWebClientUtil).cancelPayment(any(TossCancelReqDto.class), any(), eq("pay-orphan"));
+        assertThat(reload(payment).getStatus()).isEqualTo(PaymentStatus.CANCELED);
+        Order order = orderOf(payment);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(order.isCheckoutPrepared()).isFalse();
+    }
+
+    @Test
+    @DisplayName("PG 승인 취소에 실패하면 결제가 PENDING 으로 남아 다음 대사 때 다시 취소한다")
+    void reconcile_CancelFailure_KeepsPending() {
+        /// given
+        Payment payment = pendingPayment("pay-orphan-retry", false);
+        gatewayStatuses.put("pay-orphan-retry", "DONE");
+        given(paymentWebClientUtil.cancelPayment(any(), any(), eq("pay-orphan-retry")))
+                .willThrow(new IllegalStateException("PG 응답 없음"))
+                .willReturn(null);
+
+        /// when
+        paymentReconciliationService.reconcile();
+        PaymentStatus afterFailure = reload(payment).getStatus();
+        paymentReconciliationService.reconcile();
+
+        /// then
+        assertThat(afterFailure).isEqualTo(PaymentStatus.PENDING);
+        assertThat(reload(payment).getStatus()).isEqualTo(PaymentStatus.CANCELED);
+        verify(paymentWebClientUtil, times(2)).cancelPayment(any(), any(), eq("pay-orphan-retry"));
+    }
+}
@@ -0,0 +1,150 @@
+package org.example.mollyapi.order.service;
+
+import org.example.mollyapi.order.entity.Order;
+import org.example.mollyapi.order.repository.OrderRepository;
+import org.example.mollyapi.payment.dto.request.PaymentConfirmReqDto;
+import org.example.mollyapi.payment.entity.PaymentRetry;
+import org.example.mollyapi.payment.exception.RetryablePaymentException;
+import org.example.mollyapi.payment.repository.PaymentRetryRepository;
+import org.example.mollyapi.payment.service.PaymentService;
+import org.example.mollyapi.payment.type.PaymentRetryStatus;
+import org.example.mollyapi.user.entity.User;
+import org.example.mollyapi.user.repository.UserRepository;
+import org.example.mollyapi.user.type.Sex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest(properties = {
+        "payment.retry.max-attempts=3",
+        "payment.retry.base-delay-ms=0",
+        "payment.retry.poll-interval-ms=3600000" // 워커가 테스트 데이터를 먼저 가져가지 않도록
+})
+@ActiveProfiles("test")
+class PaymentRetryServiceTest {
+
+    @Autowired
+    PaymentRetryService paymentRetryService;
+
+    @Autowired
+    PaymentRetryRepository paymentRetryRepository;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @MockBean
+    PaymentService paymentService;
+
+    private User savedUser;
+    private Order savedOrder;
+
+    @BeforeEach
+    void setup() {
+        savedUser = userRepository.save(User.builder()
+                .name("test_user")
+                .cellPhone("01012345678")
+                .flag(true)
+                .nickname("test_nickname")
+                .sex(Sex.FEMALE)
+                .point(900)
+                .build());
+
+        Order order = new Order(savedUser, "ORD-" + System.nanoTime());
+        order.updateTotalAmount(10000L);
+        order.prepareCheckout(100);
+        savedOrder = orderRepository.save(order);
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        paymentRetryRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    private PaymentConfirmReqDto request() {
+        return new PaymentConfirmReqDto(savedOrder.getId(), savedOrder.getTossOrderId(), "pay-key", 10000L, "NORMAL", 100);
+    }
+
+    @Test
+    @DisplayName("같은 주문의 재시도는 진행 중인 항목이 있으면 한 번만 등록된다")
+    void schedule_OncePerOrder() {
+        /// when
+        paymentRetryService.schedule(savedUser.getUserId(), request(), "서버 내부 오류");
+        paymentRetryService.schedule(savedUser.getUserId(), request(), "서버 내부 오류");
+
+        /// then
+        List<PaymentRetry> retries = paymentRetryRepository.findAll();
+        assertThat(retries).hasSize(1);
+        assertThat(retries.get(0).getStatus()).isEqualTo(PaymentRetryStatus.WAITING);
+        assertThat(retries.get(0).getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가져간 재시도는 처리 중으로 표시되어 다시 가져가지 않는다")
+    void claimDue_MarksProcessing() {
+        /// given
+        paymentRetryService.schedule(savedUser.getUserId(), request(), "서버 내부 오류");
+
+        /// when
+        List<PaymentRetry> first = paymentRetryService.claimDue(10);
+        List<PaymentRetry> second = paymentRetryService.claimDue(10);
+
+        /// then
+        assertThat(first).hasSize(1);
+        assertThat(second).isEmpty();
+        assertThat(paymentRetryRepository.findAll().get(0).getStatus()).isEqualTo(PaymentRetryStatus.PROCESSING);
+    }
+
+    @Test
+    @DisplayName("PG 일시 장애가 계속되면 재등록되다가 최대 횟수에서 포기하고 주문을 복구한다")
+    void retry_GivesUpAfterMaxAttempts() {
+        /// given
+        given(paymentService.processPayment(anyLong(), any())).willThrow(new RetryablePaymentException("서버 내부 오류"));
+        paymentRetryService.schedule(savedUser.getUserId(), request(), "서버 내부 오류");
+
+        /// when
+        paymentRetryService.retry(paymentRetryService.claimDue(1).get(0));
+        PaymentRetry rescheduled = paymentRetryRepository.findAll().get(0);
+        paymentRetryService.retry(paymentRetryService.claimDue(1).get(0));
+        PaymentRetry gaveUp = paymentRetryRepository.findAll().get(0);
+
+        /// then
+        assertThat(rescheduled.getStatus()).isEqualTo(PaymentRetryStatus.WAITING);
+        assertThat(rescheduled.getAttempts()).isEqualTo(2);
+        assertThat(gaveUp.getStatus()).isEqualTo(PaymentRetryStatus.GAVE_UP);
+        assertThat(gaveUp.getAttempts()).isEqualTo(3);
+        assertThat(orderRepository.findById(savedOrder.getId()).orElseThrow().isCheckoutPrepared()).isFalse();
+        assertThat(userRepository.findById(savedUser.getUserId()).orElseThrow().getPoint()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 지수적으로 늘어나고 상한과 지터 범위를 벗어나지 않는다")
+    void backoff_ExponentialWithJitter() {
+        /// given
+        PaymentRetryService service = new PaymentRetryService(null, null, null, null, 5, 2000L, 60000L, 60L);
+
+        /// when & then
+        for (int i = 0; i < 100; i++) {
+            assertThat(service.backoff(1)).isBetween(Duration.ofMillis(1000), Duration.ofMillis(2000));
+            assertThat(service.backoff(3)).isBetween(Duration.ofMillis(4000), Duration.ofMillis(8000));
+            assertThat(service.backoff(30)).isBetween(Duration.ofMillis(30000), Duration.ofMillis(60000));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package org.example.mollyapi.order.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.order.type.StockDecreaseType;
+import org.example.mollyapi.product.entity.Product;
+import org.example.mollyapi.product.entity.ProductItem;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.example.mollyapi.product.repository.ProductRepository;
+import org.example.mollyapi.user.entity.User;
+import org.example.mollyapi.user.repository.UserRepository;
+import org.example.mollyapi.user.type.Sex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 재고 차감 전략별 동시성 하네스 (H2) - ./gradlew benchmark
+ * - 여러 아이템을 섞은 주문을 재고보다 많이 동시에 요청하여 초과 판매(oversell)가 없는지 검증
+ * - 전략별 처리량(orders/sec)과 주문당 지연 p99 출력
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class StockDecreaseStrategyBenchmarkTest {
+
+    private static final int THREAD_COUNT = 32;
+    private static final int ITEM_COUNT = 4;
+    private static final long STOCK_PER_ITEM = 2_000L;
+    private static final int ORDER_COUNT = 6_000; // 평균 주문 수량이 재고 합계를 넘도록 설정 (후반부는 품절)
+
+    @Autowired
+    StockDecreaseStrategyResolver stockDecreaseStrategyResolver;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    ProductItemRepository productItemRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    private Product savedProduct;
+
+    @BeforeEach
+    void setup() {
+        User user = userRepository.save(User.builder()
+                .name("bench_user")
+                .cellPhone("01012345678")
+                .flag(true)
+                .nickname("bench_nickname")
+                .sex(Sex.FEMALE)
+                .point(0)
+                .build());
+
+        savedProduct = productRepository.save(Product.builder()
+                .user(user)
+                .brandName("adidas")
+                .price(5000L)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        productItemRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @ParameterizedTest
+    @EnumSource(StockDecreaseType.class)
+    @DisplayName("[벤치마크] 재고 차감 전략별 초과 판매 검증 및 처리량, p99")
+    void noOversell(StockDecreaseType type) throws InterruptedException {
+        /// given
+        StockDecreaseStrategy strategy = stockDecreaseStrategyResolver.get(type);
+        List<Long> itemIds = new ArrayList<>();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            itemIds.add(productItemRepository.save(ProductItem.builder()
+                    .color("black")
+                    .size("M")
+                    .quantity(STOCK_PER_ITEM)
+                    .product(savedProduct)
+                    .build()).getId());
+        }
+        List<Map<Long, Long>> orders = createOrders(itemIds);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(orders.size());
+        long[] latencies = new long[orders.size()];
+        Map<Long, AtomicLong> soldByItem = new ConcurrentHashMap<>();
+        AtomicInteger soldOutCount = new AtomicInteger();
+        AtomicInteger errorCount = new AtomicInteger();
+
+        /// when
+        for (int i = 0; i < orders.size(); i++) {
+            int index = i;
+            Map<Long, Long> order = orders.get(i);
+            executorService.execute(() -> {
+                try {
+                    ready.await();
+                    long start = System.nanoTime();
+                    try {
+                        strategy.decrease(order, StockDecreaseStrategy.Ledger.NONE);
+                        order.forEach((itemId, quantity) ->
+                                soldByItem.computeIfAbsent(itemId, id -> new AtomicLong()).addAndGet(quantity));
+                    } catch (IllegalArgumentException e) {
+                        soldOutCount.incrementAndGet();
+                    } catch (Exception e) {
+                        errorCount.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - start;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        long start = System.nanoTime();
+        ready.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        executorService.shutdown();
+
+        /// then
+        for (Long itemId : itemIds) {
+            long sold = soldByItem.getOrDefault(itemId, new AtomicLong()).get();
+            long stock = productItemRepository.findQuantityById(itemId).orElseThrow();
+            assertThat(stock).isGreaterThanOrEqualTo(0L);          // 초과 판매 없음
+            assertThat(stock).isEqualTo(STOCK_PER_ITEM - sold);    // 유실된 차감/중복 차감 없음
+        }
+
+        Arrays.sort(latencies);
+        log.info("[벤치마크] {} - {}스레드 {}건 (품절 {}건, 오류 {}건): {} orders/sec, p50 {}ms, p99 {}ms",
+                type, THREAD_COUNT, orders.size(), soldOutCount.get(), errorCount.get(),
+                String.format("%.0f", orders.size() / (elapsed / 1_000_000_000.0)),
+                String.format("%.2f", percentile(latencies, 0.50) / 1_000_000.0),
+                String.format("%.2f", percentile(latencies, 0.99) / 1_000_000.0));
+    }
+
+    // 1~3개 아이템, 아이템당 1~2개 수량의 주문 (전략 간 같은 주문 순서를 쓰도록 시드 고정)
+    private List<Map<Long, Long>> createOrders(List<Long> itemIds) {
+        Random random = new Random(42);
+        List<Map<Long, Long>> orders = new ArrayList<>(ORDER_COUNT);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Map<Long, Long> order = new TreeMap<>();
+            int lineCount = 1 + random.nextInt(3);
+            while (order.size() < lineCount) {
+                order.put(itemIds.get(random.nextInt(itemIds.size())), 1L + random.nextInt(2));
+            }
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
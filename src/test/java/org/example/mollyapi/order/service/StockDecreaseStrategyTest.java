@@ -0,0 +1,161 @@
+package org.example.mollyapi.order.service;
+
+import org.example.mollyapi.order.type.StockDecreaseType;
+import org.example.mollyapi.product.entity.Product;
+import org.example.mollyapi.product.entity.ProductItem;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.example.mollyapi.product.repository.ProductRepository;
+import org.example.mollyapi.user.entity.User;
+import org.example.mollyapi.user.repository.UserRepository;
+import org.example.mollyapi.user.type.Sex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class StockDecreaseStrategyTest {
+
+    @Autowired
+    StockDecreaseStrategyResolver stockDecreaseStrategyResolver;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    ProductItemRepository productItemRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    private Product savedProduct;
+
+    @BeforeEach
+    void setup() {
+        User user = userRepository.save(User.builder()
+                .name("test_user")
+                .cellPhone("01012345678")
+                .flag(true)
+                .nickname("test_nickname")
+                .sex(Sex.FEMALE)
+                .point(1000)
+                .build());
+
+        savedProduct = productRepository.save(Product.builder()
+                .user(user)
+                .brandName("adidas")
+                .price(5000L)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        productItemRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    private ProductItem createProductItem(Long quantity) {
+        return productItemRepository.save(ProductItem.builder()
+                .color("blue")
+                .size("M")
+                .quantity(quantity)
+                .product(savedProduct)
+                .build());
+    }
+
+    private Long currentStock(ProductItem productItem) {
+        return productItemRepository.findQuantityById(productItem.getId()).orElseThrow();
+    }
+
+    @ParameterizedTest
+    @EnumSource(StockDecreaseType.class)
+    @DisplayName("[동시성] 재고 5개 상품에 10개 요청이 동시에 들어오면 5개만 성공하고 재고는 음수가 되지 않는다")
+    void decrease_Concurrently(StockDecreaseType type) throws InterruptedException {
+        /// given
+        StockDecreaseStrategy strategy = stockDecreaseStrategyResolver.get(type);
+        ProductItem productItem = createProductItem(5L);
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        /// when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    ready.await();
+                    strategy.decrease(Map.of(productItem.getId(), 1L), StockDecreaseStrategy.Ledger.NONE);
+                    successCount.incrementAndGet();
+                } catch (Exception ignored) {
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await();
+        executorService.shutdown();
+
+        /// then
+        assertThat(successCount.get()).isEqualTo(5);
+        assertThat(currentStock(productItem)).isZero();
+    }
+
+    @ParameterizedTest
+    @EnumSource(StockDecreaseType.class)
+    @DisplayName("여러 아이템 중 하나라도 재고가 부족하면 어떤 아이템도 차감되지 않는다")
+    void decrease_MultiItem_AllOrNothing(StockDecreaseType type) {
+        /// given
+        StockDecreaseStrategy strategy = stockDecreaseStrategyResolver.get(type);
+        ProductItem enough = createProductItem(5L);
+        ProductItem shortage = createProductItem(1L);
+
+        /// when & then
+        assertThatThrownBy(() -> strategy.decrease(Map.of(enough.getId(), 2L, shortage.getId(), 2L), StockDecreaseStrategy.Ledger.NONE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("재고가 부족하여 결제를 진행할 수 없습니다.");
+        assertThat(currentStock(enough)).isEqualTo(5L);
+        assertThat(currentStock(shortage)).isEqualTo(1L);
+    }
+
+    @ParameterizedTest
+    @EnumSource(StockDecreaseType.class)
+    @DisplayName("차감 기록(ledger)에 실패하면 재고 차감도 함께 롤백된다")
+    void decrease_LedgerFailure_RollsBack(StockDecreaseType type) {
+        /// given
+        StockDecreaseStrategy strategy = stockDecreaseStrategyResolver.get(type);
+        ProductItem productItem = createProductItem(5L);
+        StockDecreaseStrategy.Ledger failingLedger = new StockDecreaseStrategy.Ledger() {
+            @Override
+            public void decreased(Collection<Long> itemIds) {
+                throw new IllegalStateException("기록 실패");
+            }
+
+            @Override
+            public void restored(Collection<Long> itemIds) {
+            }
+        };
+
+        /// when & then
+        assertThatThrownBy(() -> strategy.decrease(Map.of(productItem.getId(), 2L), failingLedger))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("기록 실패");
+        assertThat(currentStock(productItem)).isEqualTo(5L);
+    }
+}
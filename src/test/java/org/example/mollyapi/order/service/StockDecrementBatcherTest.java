@@ -0,0 +1,201 @@
+package org.example.mollyapi.order.service;
+
+import org.example.mollyapi.product.entity.Product;
+import org.example.mollyapi.product.entity.ProductItem;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.example.mollyapi.product.repository.ProductRepository;
+import org.example.mollyapi.user.entity.User;
+import org.example.mollyapi.user.repository.UserRepository;
+import org.example.mollyapi.user.type.Sex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class StockDecrementBatcherTest {
+
+    @Autowired
+    StockDecrementBatcher stockDecrementBatcher;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    ProductItemRepository productItemRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    private ProductItem savedProductItem;
+
+    @BeforeEach
+    void setup() {
+        User user = userRepository.save(User.builder()
+                .name("test_user")
+                .cellPhone("01012345678")
+                .flag(true)
+                .nickname("test_nickname")
+                .sex(Sex.FEMALE)
+                .point(1000)
+                .build());
+
+        Product product = productRepository.save(Product.builder()
+                .user(user)
+                .brandName("adidas")
+                .price(5000L)
+                .build());
+
+        savedProductItem = productItemRepository.save(ProductItem.builder()
+                .color("blue")
+                .size("M")
+                .quantity(20L) // 재고 20개
+                .product(product)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        productItemRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    private Long currentStock() {
+        return productItemRepository.findById(savedProductItem.getId()).orElseThrow().getQuantity();
+    }
+
+    @Test
+    @DisplayName("재고가 충분하면 차감에 성공하고, 부족하면 재고를 건드리지 않고 실패한다")
+    void decrease_SingleRequest() {
+        /// when & then
+        assertThat(stockDecrementBatcher.decrease(savedProductItem.getId(), 5L)).isTrue();
+        assertThat(stockDecrementBatcher.decrease(savedProductItem.getId(), 16L)).isFalse();
+        assertThat(currentStock()).isEqualTo(15L);
+    }
+
+    @Test
+    @DisplayName("[동시성] 재고 20개 상품에 50개 요청이 동시에 들어오면 20개만 성공하고 재고는 0이 된다")
+    void decrease_Concurrently() throws InterruptedException {
+        /// given
+        int threadCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        /// when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    ready.await();
+                    if (stockDecrementBatcher.decrease(savedProductItem.getId(), 1L)) {
+                        successCount.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await();
+        executorService.shutdown();
+
+        /// then
+        assertThat(successCount.get()).isEqualTo(20);
+        assertThat(currentStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("[동시성] 수량이 다른 요청이 섞여도 성공한 수량의 합만큼만 재고가 차감된다")
+    void decrease_MixedQuantities() throws InterruptedException {
+        /// given
+        int threadCount = 30;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicLong decreasedSum = new AtomicLong();
+
+        /// when
+        for (int i = 0; i < threadCount; i++) {
+            long quantity = (i % 3) + 1; // 1, 2, 3개
+            executorService.execute(() -> {
+                try {
+                    ready.await();
+                    if (stockDecrementBatcher.decrease(savedProductItem.getId(), quantity)) {
+                        decreasedSum.addAndGet(quantity);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await();
+        executorService.shutdown();
+
+        /// then
+        assertThat(currentStock()).isEqualTo(20L - decreasedSum.get());
+        assertThat(currentStock()).isGreaterThanOrEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("[동시성] 한 요청의 onDecreased 가 실패해도 같은 배치의 다른 요청은 차감에 성공한다")
+    void decrease_CallbackFailure_FailsOnlyThatRequest() throws InterruptedException {
+        /// given
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failureCount = new AtomicInteger();
+
+        /// when
+        for (int i = 0; i < threadCount; i++) {
+            boolean broken = i == 0;
+            executorService.execute(() -> {
+                try {
+                    ready.await();
+                    boolean decreased = stockDecrementBatcher.decrease(savedProductItem.getId(), 1L, () -> {
+                        if (broken) {
+                            throw new IllegalStateException("홀드 기록 실패");
+                        }
+                    });
+                    if (decreased) {
+                        successCount.incrementAndGet();
+                    }
+                } catch (IllegalStateException e) {
+                    failureCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await();
+        executorService.shutdown();
+
+        /// then
+        assertThat(successCount.get()).isEqualTo(threadCount - 1);
+        assertThat(failureCount.get()).isEqualTo(1);
+        assertThat(currentStock()).isEqualTo(20L - (threadCount - 1));
+    }
+}
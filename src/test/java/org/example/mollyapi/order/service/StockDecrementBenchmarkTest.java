@@ -0,0 +1,151 @@
+package org.example.mollyapi.order.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.mollyapi.product.entity.Product;
+import org.example.mollyapi.product.entity.ProductItem;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.example.mollyapi.product.repository.ProductRepository;
+import org.example.mollyapi.user.entity.User;
+import org.example.mollyapi.user.repository.UserRepository;
+import org.example.mollyapi.user.type.Sex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongPredicate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 인기 상품(단일 SKU) 재고 차감 처리량 비교 - ./gradlew benchmark
+ * - 비관적 락: SELECT ... FOR UPDATE 후 엔티티 차감 (요청마다 트랜잭션 1개, 행 락 대기)
+ * - 그룹 커밋: StockDecrementBatcher 로 같은 아이템 요청을 모아 조건부 UPDATE
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class StockDecrementBenchmarkTest {
+
+    private static final int THREAD_COUNT = 64;
+    private static final int ORDER_COUNT = 5_000;
+    private static final int WARMUP_ORDER_COUNT = 500;
+
+    @Autowired
+    StockDecrementBatcher stockDecrementBatcher;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    ProductItemRepository productItemRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    private Product savedProduct;
+
+    @BeforeEach
+    void setup() {
+        User user = userRepository.save(User.builder()
+                .name("bench_user")
+                .cellPhone("01012345678")
+                .flag(true)
+                .nickname("bench_nickname")
+                .sex(Sex.FEMALE)
+                .point(0)
+                .build());
+
+        savedProduct = productRepository.save(Product.builder()
+                .user(user)
+                .brandName("adidas")
+                .price(5000L)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        productItemRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    private ProductItem createHotItem() {
+        return productItemRepository.save(ProductItem.builder()
+                .color("black")
+                .size("M")
+                .quantity((long) ORDER_COUNT + WARMUP_ORDER_COUNT)
+                .product(savedProduct)
+                .build());
+    }
+
+    @Test
+    @DisplayName("[벤치마크] 단일 인기 상품 재고 차감 - 비관적 락 vs 그룹 커밋 (orders/sec)")
+    void hotSkuThroughput() throws InterruptedException {
+        ProductItem pessimisticItem = createHotItem();
+        LongPredicate pessimistic = itemId -> Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            ProductItem item = productItemRepository.findByIdWithLock(itemId).orElseThrow();
+            item.decreaseStock(1L);
+            return true;
+        }));
+        run(pessimistic, pessimisticItem.getId(), WARMUP_ORDER_COUNT);
+        double pessimisticOps = run(pessimistic, pessimisticItem.getId(), ORDER_COUNT);
+
+        ProductItem groupCommitItem = createHotItem();
+        LongPredicate groupCommit = itemId -> stockDecrementBatcher.decrease(itemId, 1L);
+        run(groupCommit, groupCommitItem.getId(), WARMUP_ORDER_COUNT);
+        double groupCommitOps = run(groupCommit, groupCommitItem.getId(), ORDER_COUNT);
+
+        log.info("[벤치마크] 단일 SKU {}스레드 {}건 - 비관적 락: {} orders/sec, 그룹 커밋: {} orders/sec ({}배)",
+                THREAD_COUNT, ORDER_COUNT,
+                String.format("%.0f", pessimisticOps), String.format("%.0f", groupCommitOps),
+                String.format("%.2f", groupCommitOps / pessimisticOps));
+
+        assertThat(productItemRepository.findQuantityById(pessimisticItem.getId())).contains(0L);
+        assertThat(productItemRepository.findQuantityById(groupCommitItem.getId())).contains(0L);
+    }
+
+    private double run(LongPredicate decrease, Long itemId, int orderCount) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(orderCount);
+        AtomicInteger failCount = new AtomicInteger();
+
+        for (int i = 0; i < orderCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    ready.await();
+                    if (!decrease.test(itemId)) {
+                        failCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        ready.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        executorService.shutdown();
+
+        assertThat(failCount.get()).isZero();
+        return orderCount / (elapsed / 1_000_000_000.0);
+    }
+}
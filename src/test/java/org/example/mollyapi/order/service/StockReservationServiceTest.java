@@ -0,0 +1,251 @@
+package org.example.mollyapi.order.service;
+
+import org.example.mollyapi.cart.repository.CartRepository;
+import org.example.mollyapi.order.entity.Order;
+import org.example.mollyapi.order.entity.OrderDetail;
+import org.example.mollyapi.order.entity.StockReservation;
+import org.example.mollyapi.order.repository.OrderDetailRepository;
+import org.example.mollyapi.order.repository.OrderRepository;
+import org.example.mollyapi.order.repository.StockReservationRepository;
+import org.example.mollyapi.order.type.ReservationStatus;
+import org.example.mollyapi.product.entity.Product;
+import org.example.mollyapi.product.entity.ProductItem;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.example.mollyapi.product.repository.ProductRepository;
+import org.example.mollyapi.user.entity.User;
+import org.example.mollyapi.user.repository.UserRepository;
+import org.example.mollyapi.user.type.Sex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class StockReservationServiceTest {
+
+    @Autowired
+    StockReservationService stockReservationService;
+
+    @Autowired
+    StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @Autowired
+    OrderDetailRepository orderDetailRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    ProductItemRepository productItemRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    CartRepository cartRepository;
+
+    private User savedUser;
+    private ProductItem savedProductItem;
+
+    @BeforeEach
+    void setup() {
+        savedUser = userRepository.save(User.builder()
+                .name("test_user")
+                .cellPhone("01012345678")
+                .flag(true)
+                .nickname("test_nickname")
+                .sex(Sex.FEMALE)
+                .point(1000)
+                .build());
+
+        Product product = productRepository.save(Product.builder()
+                .user(savedUser)
+                .brandName("adidas")
+                .price(5000L)
+                .build());
+
+        savedProductItem = productItemRepository.save(ProductItem.builder()
+                .color("blue")
+                .size("M")
+                .quantity(5L) // 재고 5개
+                .product(product)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        stockReservationRepository.deleteAllInBatch();
+        cartRepository.deleteAllInBatch();
+        orderDetailRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productItemRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    private Order createOrder(Long quantity) {
+        Order order = orderRepository.save(new Order(savedUser, "ORD-" + System.nanoTime()));
+        OrderDetail detail = new OrderDetail(order, savedProductItem, "M", 5000L, quantity, "adidas", "p", null);
+        order.getOrderDetails().add(detail);
+        orderDetailRepository.save(detail);
+        return order;
+    }
+
+    private Long currentStock() {
+        return productItemRepository.findById(savedProductItem.getId()).orElseThrow().getQuantity();
+    }
+
+    @Test
+    @DisplayName("재고를 홀드하면 재고가 차감되고 주문 만료 시각까지 HELD 상태로 남는다")
+    void hold_DecreasesStock() {
+        /// given
+        Order order = createOrder(2L);
+
+        /// when
+        stockReservationService.hold(order);
+        stockReservationService.hold(order); // 같은 주문 재요청은 무시
+
+        /// then
+        assertThat(currentStock()).isEqualTo(3L);
+        assertThat(stockReservationRepository.findAllByOrderId(order.getId()))
+                .singleElement()
+                .extracting(StockReservation::getStatus, StockReservation::getQuantity)
+                .containsExactly(ReservationStatus.HELD, 2L);
+    }
+
+    @Test
+    @DisplayName("재고보다 많은 수량을 홀드하면 예외가 발생하고 재고는 그대로 유지된다")
+    void hold_InsufficientStock_ShouldThrowException() {
+        /// given
+        Order order = createOrder(6L);
+
+        /// when & then
+        assertThatThrownBy(() -> stockReservationService.hold(order))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("재고가 부족하여 결제를 진행할 수 없습니다.");
+        assertThat(currentStock()).isEqualTo(5L);
+        assertThat(stockReservationRepository.existsByOrderId(order.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("홀드를 반환하면 재고가 복구되고, 중복 반환해도 한 번만 복구된다")
+    void release_RestoresStockOnce() {
+        /// given
+        Order order = createOrder(2L);
+        stockReservationService.hold(order);
+
+        /// when
+        stockReservationService.release(order.getId());
+        stockReservationService.release(order.getId());
+
+        /// then
+        assertThat(currentStock()).isEqualTo(5L);
+        assertThat(stockReservationRepository.findAllByOrderId(order.getId()))
+                .extracting(StockReservation::getStatus)
+                .containsExactly(ReservationStatus.RELEASED);
+    }
+
+    @Test
+    @DisplayName("확정된 홀드는 반환되지 않는다")
+    void confirm_ThenRelease_KeepsStock() {
+        /// given
+        Order order = createOrder(2L);
+        stockReservationService.hold(order);
+
+        /// when
+        stockReservationService.confirm(order.getId());
+        stockReservationService.release(order.getId());
+
+        /// then
+        assertThat(currentStock()).isEqualTo(3L);
+        assertThat(stockReservationRepository.findAllByOrderId(order.getId()))
+                .extracting(StockReservation::getStatus)
+                .containsExactly(ReservationStatus.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 홀드는 스케줄러에서 반환된다")
+    void releaseExpired_RestoresStock() {
+        /// given
+        Order order = createOrder(2L);
+        stockReservationService.hold(order);
+
+        /// when
+        int releasedCount = stockReservationService.releaseExpired(order.getExpirationTime().plusSeconds(1));
+
+        /// then
+        assertThat(releasedCount).isEqualTo(1);
+        assertThat(currentStock()).isEqualTo(5L);
+        assertThat(stockReservationService.releaseExpired(LocalDateTime.now().plusHours(1))).isZero();
+    }
+
+    @Test
+    @DisplayName("차감 전에 중단되어 남은 PENDING 홀드는 만료 후 재고 복구 없이 삭제된다")
+    void releaseExpired_DeletesPendingWithoutRestore() {
+        /// given
+        Order order = createOrder(2L);
+        stockReservationRepository.save(StockReservation.builder()
+                .orderId(order.getId())
+                .itemId(savedProductItem.getId())
+                .quantity(2L)
+                .expiresAt(order.getExpirationTime())
+                .build());
+
+        /// when
+        stockReservationService.releaseExpired(order.getExpirationTime().plusSeconds(1));
+
+        /// then
+        assertThat(currentStock()).isEqualTo(5L);
+        assertThat(stockReservationRepository.existsByOrderId(order.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("[동시성] 재고 5개 상품에 10개 주문이 동시에 홀드하면 5개만 성공하고 재고는 음수가 되지 않는다")
+    void hold_Concurrently() throws InterruptedException {
+        /// given
+        int threadCount = 10;
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            orders.add(createOrder(1L));
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        /// when
+        for (Order order : orders) {
+            executorService.execute(() -> {
+                try {
+                    stockReservationService.hold(order);
+                    successCount.incrementAndGet();
+                } catch (Exception ignored) {
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        /// then
+        assertThat(successCount.get()).isEqualTo(5);
+        assertThat(currentStock()).isZero();
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.mollyapi.order.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 1000L;
+
+    @Test
+    @DisplayName("만료 시각이 지난 키만 tick 단위로 만료된다")
+    void advance_ExpiresOnlyDueKeys() {
+        /// given
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, 8, 0L);
+        wheel.schedule(1L, 3_000L);
+        wheel.schedule(2L, 5_500L);
+
+        /// when
+        wheel.advance(3_999L);
+        List<Long> first = wheel.pollExpired(10);
+        wheel.advance(6_000L);
+        List<Long> second = wheel.pollExpired(10);
+
+        /// then
+        assertThat(first).containsExactly(1L);
+        assertThat(second).containsExactly(2L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴를 넘는 만료 시각은 상위 휠을 거쳐 정확한 tick에 만료된다")
+    void advance_CascadesFromOverflowWheels() {
+        /// given
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, 4, 0L);
+        wheel.schedule(1L, 10_000L);      // 2단계
+        wheel.schedule(2L, 37_000L);      // 3단계
+
+        /// when
+        List<Long> expiredAt = new ArrayList<>();
+        for (long now = 0; now <= 40_000L; now += TICK) {
+            wheel.advance(now);
+            if (!wheel.pollExpired(10).isEmpty()) {
+                expiredAt.add(now);
+            }
+        }
+
+        /// then
+        assertThat(expiredAt).containsExactly(10_000L, 37_000L);
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각은 바로 만료되고, 만료된 키는 정해진 개수씩 꺼낼 수 있다")
+    void pollExpired_Bounded() {
+        /// given
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, 8, 100_000L);
+        for (long id = 1; id <= 5; id++) {
+            wheel.schedule(id, 1_000L);
+        }
+
+        /// when & then
+        assertThat(wheel.pollExpired(2)).containsExactly(1L, 2L);
+        assertThat(wheel.pollExpired(2)).containsExactly(3L, 4L);
+        assertThat(wheel.pollExpired(2)).containsExactly(5L);
+        assertThat(wheel.hasExpired()).isFalse();
+    }
+
+    @Test
+    @DisplayName("취소하거나 다시 등록한 키는 이전 만료 시각에 만료되지 않는다")
+    void cancelAndReschedule() {
+        /// given
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK, 8, 0L);
+        wheel.schedule(1L, 2_000L);
+        wheel.schedule(2L, 2_000L);
+        wheel.cancel(1L);
+        wheel.schedule(2L, 20_000L);
+
+        /// when
+        wheel.advance(3_000L);
+        List<Long> early = wheel.pollExpired(10);
+        wheel.advance(20_000L);
+        List<Long> late = wheel.pollExpired(10);
+
+        /// then
+        assertThat(early).isEmpty();
+        assertThat(late).containsExactly(2L);
+    }
+}
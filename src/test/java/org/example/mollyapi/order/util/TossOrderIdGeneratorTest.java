@@ -0,0 +1,160 @@
+package org.example.mollyapi.order.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Slf4j
+class TossOrderIdGeneratorTest {
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 tossOrderId는 중복되지 않는다")
+    void generate_Concurrently_Unique() throws InterruptedException {
+        /// given
+        TossOrderIdGenerator generator = new TossOrderIdGenerator(1L);
+        int threadCount = 8;
+        int perThread = 20_000;
+
+        /// when
+        String[][] results = new String[threadCount][perThread];
+        generateConcurrently(generator, results);
+
+        /// then
+        Set<String> unique = new HashSet<>(threadCount * perThread * 2);
+        for (String[] ids : results) {
+            for (String id : ids) {
+                assertThat(id).matches("^ORD-[0-9A-Z]{13}$");
+                unique.add(id);
+            }
+        }
+        assertThat(unique).hasSize(threadCount * perThread);
+    }
+
+    /**
+     * 발급 처리량 측정 - 장비 성능에 따라 달라지므로 일반 테스트에서 제외 (./gradlew benchmark)
+     */
+    @Tag("benchmark")
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 초당 10만 건 이상 발급된다")
+    void generate_Concurrently_Throughput() throws InterruptedException {
+        /// given
+        TossOrderIdGenerator generator = new TossOrderIdGenerator(1L);
+        int threadCount = 8;
+        int perThread = 100_000;
+
+        /// when
+        long elapsedNanos = generateConcurrently(generator, new String[threadCount][perThread]);
+
+        /// then
+        int total = threadCount * perThread;
+        double idsPerSecond = total / (elapsedNanos / 1_000_000_000.0);
+        log.info("tossOrderId 발급: {}건, {} ids/s", total, (long) idsPerSecond);
+
+        assertThat(idsPerSecond).isGreaterThan(100_000);
+    }
+
+    @Test
+    @DisplayName("같은 ms 안에서 카운터가 넘치면 다음 ms를 미리 사용하여 단조 증가를 유지한다")
+    void generate_CounterOverflow_Monotonic() {
+        /// given
+        Clock fixed = Clock.fixed(Instant.parse("2025-03-10T00:00:00Z"), ZoneOffset.UTC);
+        TossOrderIdGenerator generator = new TossOrderIdGenerator(7L, fixed);
+
+        /// when & then
+        long prev = generator.nextValue();
+        for (int i = 0; i < 10_000; i++) { // ms당 4096개 초과
+            long next = generator.nextValue();
+            assertThat(next).isGreaterThan(prev);
+            prev = next;
+        }
+    }
+
+    @Test
+    @DisplayName("노드 ID가 다르면 같은 시각에 발급해도 값이 겹치지 않는다")
+    void generate_DifferentNodes_NoCollision() {
+        /// given
+        Clock fixed = Clock.fixed(Instant.parse("2025-03-10T00:00:00Z"), ZoneOffset.UTC);
+        TossOrderIdGenerator node1 = new TossOrderIdGenerator(1L, fixed);
+        TossOrderIdGenerator node2 = new TossOrderIdGenerator(2L, fixed);
+
+        /// when & then
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 1_000; i++) {
+            ids.add(node1.generate());
+            ids.add(node2.generate());
+        }
+        assertThat(ids).hasSize(2_000);
+    }
+
+    @Test
+    @DisplayName("노드 ID가 10bit 범위를 넘으면 예외가 발생한다")
+    void create_InvalidNode_ShouldThrowException() {
+        assertThatThrownBy(() -> new TossOrderIdGenerator(1024L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("노드 ID는 0~1023 범위여야 합니다.");
+    }
+
+    @Test
+    @DisplayName("노드 ID가 없으면 dev/local/test 프로필에서만 임의 노드로 기동하고, 그 외에는 기동에 실패한다")
+    void resolveNode_Unset() {
+        /// given
+        MockEnvironment test = new MockEnvironment();
+        test.setActiveProfiles("test");
+        MockEnvironment production = new MockEnvironment();
+        production.setActiveProfiles("secret");
+
+        /// when & then
+        assertThat(TossOrderIdGenerator.resolveNode(-1L, test)).isBetween(0L, 1023L);
+        assertThat(TossOrderIdGenerator.resolveNode(5L, production)).isEqualTo(5L);
+        assertThatThrownBy(() -> TossOrderIdGenerator.resolveNode(-1L, production))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("order.toss-order-id.node-id");
+    }
+
+    // 스레드들이 함께 시작해 results[스레드][i] 를 채우고, 시작부터 끝까지 걸린 시간(ns) 반환
+    private static long generateConcurrently(TossOrderIdGenerator generator, String[][] results) throws InterruptedException {
+        int threadCount = results.length;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        for (int t = 0; t < threadCount; t++) {
+            String[] ids = results[t];
+            executorService.execute(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    for (int i = 0; i < ids.length; i++) {
+                        ids[i] = generator.generate();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        long elapsedNanos = System.nanoTime() - begin;
+        executorService.shutdown();
+        return elapsedNanos;
+    }
+}
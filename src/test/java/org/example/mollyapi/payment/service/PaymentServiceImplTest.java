@@ -35,11 +35,17 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @SpringBootTest
 @Slf4j
@@ -125,20 +131,17 @@ public class PaymentServiceImplTest {
                 );
     }
 
-    @DisplayName("재시도후 성공 (2xx)")
+    @DisplayName("5xx 후 다시 승인 요청하면 성공 (2xx)")
     @Test
     void retryPaymentWithSuccess(){
 
         //given
         Long userId = user.getUserId();
-        String tossOrderId = order.getTossOrderId();
-        String paymentKey = payment1.getPaymentKey();
 
         ResponseEntity<TossConfirmResDto> pendingResponse = getResponse(HttpStatus.BAD_GATEWAY);
         ResponseEntity<TossConfirmResDto> successResponse = getResponse(HttpStatus.OK);
         given(paymentWebClientUtil.confirmPayment(any(), any()))
                 .willReturn(
-                        pendingResponse,
                         pendingResponse,
                         successResponse
                 );
@@ -146,25 +149,23 @@ public class PaymentServiceImplTest {
         PaymentConfirmReqDto paymentConfirmReqDto = new PaymentConfirmReqDto(order.getId(), order.getTossOrderId(), order.getPaymentId(), order.getTotalAmount(),order.getPaymentType(),order.getPointUsage());
 
         //when
-        long start = System.currentTimeMillis();
+        assertThatThrownBy(() -> paymentServiceImpl.processPayment(userId, paymentConfirmReqDto))
+                .isInstanceOf(RetryablePaymentException.class);
         Payment newPayment = paymentServiceImpl.processPayment(userId,paymentConfirmReqDto);
-        long elapsed = System.currentTimeMillis() - start;
 
         //then
         assertThat(newPayment)
                 .extracting("paymentStatus")
                 .isEqualTo(PaymentStatus.APPROVED);
-        assertThat(elapsed).isGreaterThanOrEqualTo(1000L);
+        verify(paymentWebClientUtil, times(2)).confirmPayment(any(), any());
     }
 
-    @DisplayName("2번의 재시도 후 실패 (5xx)")
+    @DisplayName("5xx 는 요청 스레드에서 재시도하지 않고 바로 실패 (재시도는 대기열에서 처리)")
     @Test
     void retryPaymentWithPending(){
 
         //given
         Long userId = user.getUserId();
-        String tossOrderId = order.getTossOrderId();
-        String paymentKey = payment1.getPaymentKey();
 
         ResponseEntity<TossConfirmResDto> response = getResponse(HttpStatus.BAD_GATEWAY);
         given(paymentWebClientUtil.confirmPayment(any(), any())).willReturn(response);
@@ -181,9 +182,103 @@ public class PaymentServiceImplTest {
         long elapsed = System.currentTimeMillis() - start;
 
         // then
+        verify(paymentWebClientUtil, times(1)).confirmPayment(any(), any());
         assertThat(elapsed)
-                .as("경과시간은 최소 backoff delay의 합보다 커야합니다. (>=3000ms) ")
-                .isGreaterThanOrEqualTo(3000L);
+                .as("backoff 대기 없이 바로 반환되어야 합니다. (<1000ms)")
+                .isLessThan(1000L);
+    }
+
+    @DisplayName("5xx 후 재시도가 ALREADY_PROCESSED_PAYMENT(4xx)로 거절되면 PG 조회로 승인 여부를 확인해 완료한다")
+    @Test
+    void retryPayment_AlreadyProcessed_ApprovedByLookup(){
+
+        //given
+        Long userId = user.getUserId();
+        String paymentKey = "pay-20250213132349-6577";
+        PaymentConfirmReqDto paymentConfirmReqDto = new PaymentConfirmReqDto(order.getId(), order.getTossOrderId(), paymentKey, order.getTotalAmount(), "NORMAL", 0);
+
+        // 첫 요청은 PG에서 승인되었지만 응답은 5xx, 재요청은 이미 처리된 결제로 거절
+        given(paymentWebClientUtil.confirmPayment(any(), any()))
+                .willReturn(getResponse(HttpStatus.GATEWAY_TIMEOUT), getResponse(HttpStatus.BAD_REQUEST));
+        given(paymentWebClientUtil.findPayment(eq(paymentKey), any()))
+                .willReturn(Optional.of(getLookupResponse(paymentKey, "DONE")));
+
+        //when
+        assertThatThrownBy(() -> paymentServiceImpl.processPayment(userId, paymentConfirmReqDto))
+                .isInstanceOf(RetryablePaymentException.class);
+        Payment retried = paymentServiceImpl.processPayment(userId, paymentConfirmReqDto);
+
+        //then
+        assertThat(retried.getPaymentStatus()).isEqualTo(PaymentStatus.APPROVED);
+        assertThat(paymentRepository.findByPaymentKey(paymentKey).orElseThrow().getPaymentStatus())
+                .isEqualTo(PaymentStatus.APPROVED);
+        verify(paymentWebClientUtil, times(1)).findPayment(eq(paymentKey), any());
+    }
+
+    @DisplayName("결과를 모르는 결제의 재시도가 4xx 로 거절되고 PG 조회도 실패하면 실패 처리하지 않고 결제대기로 남긴다")
+    @Test
+    void retryPayment_AlreadyProcessed_LookupFailed_StaysPending(){
+
+        //given
+        Long userId = user.getUserId();
+        String paymentKey = "pay-20250213132349-6578";
+        PaymentConfirmReqDto paymentConfirmReqDto = new PaymentConfirmReqDto(order.getId(), order.getTossOrderId(), paymentKey, order.getTotalAmount(), "NORMAL", 0);
+
+        given(paymentWebClientUtil.confirmPayment(any(), any()))
+                .willReturn(getResponse(HttpStatus.GATEWAY_TIMEOUT), getResponse(HttpStatus.BAD_REQUEST));
+        given(paymentWebClientUtil.findPayment(eq(paymentKey), any()))
+                .willThrow(new IllegalStateException("PG 조회 타임아웃"));
+
+        //when
+        assertThatThrownBy(() -> paymentServiceImpl.processPayment(userId, paymentConfirmReqDto))
+                .isInstanceOf(RetryablePaymentException.class);
+
+        //then
+        assertThatThrownBy(() -> paymentServiceImpl.processPayment(userId, paymentConfirmReqDto))
+                .isInstanceOf(RetryablePaymentException.class);
+        assertThat(paymentRepository.findByPaymentKey(paymentKey).orElseThrow().getPaymentStatus())
+                .isEqualTo(PaymentStatus.PENDING);
+    }
+
+    @DisplayName("처음 승인 요청이 4xx 로 거절되면 PG 조회 없이 실패 처리한다")
+    @Test
+    void processPayment_FirstAttemptRejected_FailsWithoutLookup(){
+
+        //given
+        Long userId = user.getUserId();
+        String paymentKey = "pay-20250213132349-6579";
+        PaymentConfirmReqDto paymentConfirmReqDto = new PaymentConfirmReqDto(order.getId(), order.getTossOrderId(), paymentKey, order.getTotalAmount(), "NORMAL", 0);
+        given(paymentWebClientUtil.confirmPayment(any(), any())).willReturn(getResponse(HttpStatus.BAD_REQUEST));
+
+        //when & then
+        assertThatThrownBy(() -> paymentServiceImpl.processPayment(userId, paymentConfirmReqDto))
+                .isInstanceOf(CustomException.class);
+        assertThat(paymentRepository.findByPaymentKey(paymentKey).orElseThrow().getPaymentStatus())
+                .isEqualTo(PaymentStatus.FAILED);
+        verify(paymentWebClientUtil, never()).findPayment(any(), any());
+    }
+
+    @DisplayName("PG 승인 요청 전에 결제가 PENDING 으로 먼저 저장된다 (호출 중 서버가 중단되어도 결제 대사 대상)")
+    @Test
+    void processPayment_PersistsPendingBeforeGatewayCall(){
+
+        //given
+        Long userId = user.getUserId();
+        String paymentKey = "pay-20250213132349-6576";
+        PaymentConfirmReqDto paymentConfirmReqDto = new PaymentConfirmReqDto(order.getId(), order.getTossOrderId(), paymentKey, order.getTotalAmount(), "NORMAL", 0);
+
+        List<PaymentStatus> statusDuringCall = new ArrayList<>();
+        given(paymentWebClientUtil.confirmPayment(any(), any())).willAnswer(invocation -> {
+            paymentRepository.findByPaymentKey(paymentKey).ifPresent(payment -> statusDuringCall.add(payment.getPaymentStatus()));
+            return getResponse(HttpStatus.OK);
+        });
+
+        //when
+        Payment newPayment = paymentServiceImpl.processPayment(userId, paymentConfirmReqDto);
+
+        //then
+        assertThat(statusDuringCall).containsExactly(PaymentStatus.PENDING);
+        assertThat(newPayment.getPaymentStatus()).isEqualTo(PaymentStatus.APPROVED);
     }
 
     @DisplayName("새로운 결제를 생성합니다")
@@ -271,6 +366,10 @@ public class PaymentServiceImplTest {
 
 
 
+    private TossConfirmResDto getLookupResponse(String paymentKey, String status) {
+        return new TossConfirmResDto(null, null, paymentKey, status, null, null, order.getTossOrderId(), null, order.getTotalAmount(), null, null);
+    }
+
     private ResponseEntity<TossConfirmResDto> getResponse(HttpStatus status) {
         return ResponseEntity
                 .status(status)
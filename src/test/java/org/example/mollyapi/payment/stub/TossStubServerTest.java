@@ -0,0 +1,97 @@
+package org.example.mollyapi.payment.stub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.mollyapi.common.circuit.CircuitBreaker;
+import org.example.mollyapi.payment.dto.request.TossCancelReqDto;
+import org.example.mollyapi.payment.dto.request.TossConfirmReqDto;
+import org.example.mollyapi.payment.dto.response.TossCancelResDto;
+import org.example.mollyapi.payment.dto.response.TossConfirmResDto;
+import org.example.mollyapi.payment.util.PaymentWebClientUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TossStubServerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private TossStubServer stub;
+
+    @AfterEach
+    void stop() {
+        stub.destroy();
+    }
+
+    private PaymentWebClientUtil start(double errorRate, double throttleRate, double rejectRate) {
+        stub = new TossStubServer(objectMapper, 0, 1, 5, errorRate, throttleRate, rejectRate, 0, 0);
+        stub.afterPropertiesSet();
+
+        CircuitBreaker circuitBreaker = new CircuitBreaker("toss", 100, 100, 50, 100,
+                Duration.ofSeconds(3), Duration.ofMinutes(1), 1);
+        PaymentWebClientUtil client = new PaymentWebClientUtil(WebClient.create(), circuitBreaker, objectMapper,
+                new SimpleMeterRegistry(), 10, 0);
+        ReflectionTestUtils.setField(client, "confirmUrl", "http://localhost:" + stub.getPort() + "/v1/payments/confirm");
+        ReflectionTestUtils.setField(client, "tossUrl", "http://localhost:" + stub.getPort() + "/v1/payments/");
+        return client;
+    }
+
+    @Test
+    @DisplayName("시뮬레이터로 승인, 조회, 취소가 토스와 같은 형식으로 처리된다")
+    void confirmLookupCancel() {
+        /// given
+        PaymentWebClientUtil client = start(0, 0, 0);
+
+        /// when
+        ResponseEntity<TossConfirmResDto> confirmed = client.confirmPayment(new TossConfirmReqDto("pay-1", "ORD-1", 10000L), "test_sk");
+        Optional<TossConfirmResDto> found = client.findPayment("pay-1", "test_sk");
+        TossCancelResDto canceled = client.cancelPayment(new TossCancelReqDto("단순 변심", 10000L), "test_sk", "pay-1");
+
+        /// then
+        assertThat(confirmed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(confirmed.getBody().status()).isEqualTo("DONE");
+        assertThat(confirmed.getBody().totalAmount()).isEqualTo(10000L);
+        assertThat(found).map(TossConfirmResDto::status).contains("DONE");
+        assertThat(canceled.status()).isEqualTo("CANCELED");
+        assertThat(client.findPayment("unknown", "test_sk")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 승인된 결제를 다시 승인하면 400으로 거절된다")
+    void confirm_AlreadyProcessed() {
+        /// given
+        PaymentWebClientUtil client = start(0, 0, 0);
+        client.confirmPayment(new TossConfirmReqDto("pay-1", "ORD-1", 10000L), "test_sk");
+
+        /// when
+        ResponseEntity<TossConfirmResDto> again = client.confirmPayment(new TossConfirmReqDto("pay-1", "ORD-1", 10000L), "test_sk");
+
+        /// then
+        assertThat(again.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("설정한 비율대로 500, 429, 카드 거절 응답이 주입된다")
+    void confirm_InjectsErrors() {
+        /// when & then
+        assertThat(start(1, 0, 0).confirmPayment(new TossConfirmReqDto("pay-1", "ORD-1", 10000L), "test_sk").getStatusCode())
+                .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        stub.destroy();
+        assertThat(start(0, 1, 0).confirmPayment(new TossConfirmReqDto("pay-2", "ORD-2", 10000L), "test_sk").getStatusCode())
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        stub.destroy();
+        PaymentWebClientUtil client = start(0, 0, 1);
+        assertThat(client.confirmPayment(new TossConfirmReqDto("pay-3", "ORD-3", 10000L), "test_sk").getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(client.findPayment("pay-3", "test_sk")).map(TossConfirmResDto::status).contains("ABORTED");
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.mollyapi.payment.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.mollyapi.common.circuit.CircuitBreaker;
+import org.example.mollyapi.payment.dto.request.TossConfirmReqDto;
+import org.example.mollyapi.payment.dto.response.TossConfirmResDto;
+import org.example.mollyapi.payment.exception.PaymentGatewayUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PaymentWebClientUtilTest {
+
+    private static final TossConfirmReqDto REQUEST = new TossConfirmReqDto("pay-key", "ORD-1", 10000L);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 최근 2건 중 실패율 50% 이상이면 1분간 열림
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker("toss", 2, 2, 50, 100,
+            Duration.ofSeconds(3), Duration.ofMinutes(1), 1);
+
+    private PaymentWebClientUtil client(ExchangeFunction exchangeFunction, int maxConcurrentConfirms) {
+        WebClient webClient = WebClient.builder().exchangeFunction(exchangeFunction).build();
+        PaymentWebClientUtil util = new PaymentWebClientUtil(webClient, circuitBreaker, new ObjectMapper(), meterRegistry, maxConcurrentConfirms, 0);
+        ReflectionTestUtils.setField(util, "confirmUrl", "http://localhost/v1/payments/confirm");
+        return util;
+    }
+
+    @Test
+    @DisplayName("동시 승인 요청 한도를 넘으면 PG를 호출하지 않고 503으로 응답한다")
+    void confirmPayment_RejectedByBulkhead() {
+        /// given
+        AtomicInteger calls = new AtomicInteger();
+        PaymentWebClientUtil util = client(request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+        }, 0);
+
+        /// when
+        ResponseEntity<TossConfirmResDto> response = util.confirmPayment(REQUEST, "test_sk");
+
+        /// then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(calls.get()).isZero();
+        assertThat(meterRegistry.counter("payment.pg.bulkhead.rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("PG 5xx 응답은 상태 코드를 그대로 전달하고 지연 시간을 기록한다")
+    void confirmPayment_ServerError() {
+        /// given
+        PaymentWebClientUtil util = client(request -> Mono.just(ClientResponse.create(HttpStatus.BAD_GATEWAY)
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .body("{\"code\":\"FAILED_INTERNAL_SYSTEM_PROCESSING\",\"message\":\"내부 시스템 처리 작업이 실패했습니다.\"}")
+                .build()), 1);
+
+        /// when
+        ResponseEntity<TossConfirmResDto> response = util.confirmPayment(REQUEST, "test_sk");
+
+        /// then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_GATEWAY);
+        assertThat(meterRegistry.timer("payment.pg.request", "operation", "confirm", "outcome", "server_error").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("payment.pg.bulkhead.in-use").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("PG 응답이 없으면(타임아웃) 504로 응답하고 벌크헤드 자리를 반납한다")
+    void confirmPayment_Timeout() {
+        /// given
+        PaymentWebClientUtil util = client(request -> Mono.error(new WebClientRequestException(
+                new TimeoutException("response timeout"), HttpMethod.POST, URI.create("http://localhost"), new HttpHeaders())), 1);
+
+        /// when
+        ResponseEntity<TossConfirmResDto> first = util.confirmPayment(REQUEST, "test_sk");
+        ResponseEntity<TossConfirmResDto> second = util.confirmPayment(REQUEST, "test_sk");
+
+        /// then
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        assertThat(meterRegistry.timer("payment.pg.request", "operation", "confirm", "outcome", "io_error").count()).isEqualTo(2);
+        assertThat(meterRegistry.get("payment.pg.bulkhead.available").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("PG 실패가 쌓여 서킷이 열리면 PG를 호출하지 않고 바로 거절한다")
+    void confirmPayment_FastFailWhenCircuitOpen() {
+        /// given
+        AtomicInteger calls = new AtomicInteger();
+        PaymentWebClientUtil util = client(request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build());
+        }, 1);
+        util.confirmPayment(REQUEST, "test_sk");
+        util.confirmPayment(REQUEST, "test_sk");
+
+        /// when & then
+        assertThatThrownBy(() -> util.confirmPayment(REQUEST, "test_sk"))
+                .isInstanceOf(PaymentGatewayUnavailableException.class);
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
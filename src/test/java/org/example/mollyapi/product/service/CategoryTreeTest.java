@@ -0,0 +1,85 @@
+package org.example.mollyapi.product.service;
+
+import org.example.mollyapi.product.dto.CategoryRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CategoryTreeTest {
+
+    // 여성 - 상의 - 티셔츠/니트, 남성 - 상의 - 티셔츠, 여성 - 아우터
+    private final CategoryTree tree = CategoryTree.of(List.of(
+            new CategoryRow(1L, "여성", null),
+            new CategoryRow(2L, "남성", null),
+            new CategoryRow(3L, "상의", 1L),
+            new CategoryRow(4L, "티셔츠", 3L),
+            new CategoryRow(5L, "니트", 3L),
+            new CategoryRow(6L, "상의", 2L),
+            new CategoryRow(7L, "티셔츠", 6L),
+            new CategoryRow(8L, "아우터", 1L)
+    ));
+
+    @Test
+    @DisplayName("카테고리 경로는 루트부터 자신까지의 이름 목록이다")
+    void getPath() {
+        /// when
+        List<String> path = tree.getPath(4L);
+
+        /// then
+        assertThat(path).containsExactly("여성", "상의", "티셔츠");
+        assertThat(tree.getPath(1L)).containsExactly("여성");
+        assertThat(tree.getPath(99L)).isNull();
+    }
+
+    @Test
+    @DisplayName("전체 경로로 카테고리 ID를 찾는다")
+    void findIdByPath() {
+        /// when
+        Long id = tree.findIdByPath(List.of("남성", "상의", "티셔츠"));
+
+        /// then
+        assertThat(id).isEqualTo(7L);
+        assertThat(tree.findIdByPath(List.of("상의", "티셔츠"))).isNull();
+    }
+
+    @Test
+    @DisplayName("경로의 끝부분이 일치하는 카테고리를 모두 찾는다")
+    void findIdsEndWith() {
+        /// when
+        List<Long> ids = tree.findIdsEndWith(List.of("상의", "티셔츠"));
+
+        /// then
+        assertThat(ids).containsExactlyInAnyOrder(4L, 7L);
+        assertThat(tree.findIdsEndWith(List.of("여성", "티셔츠"))).isEmpty();
+        assertThat(tree.findIdsEndWith(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("하위 리프 카테고리 ID를 반환하고, 리프면 자기 자신을 반환한다")
+    void getLeafIds() {
+        /// when
+        long[] leafIds = tree.getLeafIds(1L);
+
+        /// then
+        assertThat(leafIds).containsExactlyInAnyOrder(4L, 5L, 8L);
+        assertThat(tree.getLeafIds(7L)).containsExactly(7L);
+        assertThat(tree.getLeafIds(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("부모가 순환 참조해도 스냅샷 생성이 끝난다")
+    void of_CyclicParents() {
+        /// when
+        CategoryTree cyclic = CategoryTree.of(List.of(
+                new CategoryRow(1L, "a", 2L),
+                new CategoryRow(2L, "b", 1L)
+        ));
+
+        /// then
+        assertThat(cyclic.size()).isEqualTo(2);
+        assertThat(cyclic.getPath(1L)).isNotEmpty();
+    }
+}
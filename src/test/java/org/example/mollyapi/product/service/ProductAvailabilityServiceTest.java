@@ -0,0 +1,229 @@
+package org.example.mollyapi.product.service;
+
+import org.example.mollyapi.product.entity.Product;
+import org.example.mollyapi.product.entity.ProductAvailability;
+import org.example.mollyapi.product.entity.ProductItem;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.example.mollyapi.product.repository.ProductRepository;
+import org.example.mollyapi.user.entity.User;
+import org.example.mollyapi.user.repository.UserRepository;
+import org.example.mollyapi.user.type.Sex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductAvailabilityServiceTest {
+
+    @Autowired
+    ProductAvailabilityService productAvailabilityService;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    ProductItemRepository productItemRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    private Product savedProduct;
+    private ProductItem redM;
+    private ProductItem redL;
+    private ProductItem blueM;
+
+    @BeforeEach
+    void setup() {
+        User user = userRepository.save(User.builder()
+                .name("test_user")
+                .cellPhone("01012345678")
+                .flag(true)
+                .nickname("test_nickname")
+                .sex(Sex.FEMALE)
+                .point(1000)
+                .build());
+
+        savedProduct = productRepository.save(Product.builder()
+                .user(user)
+                .brandName("adidas")
+                .price(5000L)
+                .build());
+
+        redM = saveItem("#FF0000", "M", 1L);
+        redL = saveItem("#FF0000", "L", 0L);
+        blueM = saveItem("#0000FF", "M", 3L);
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        productAvailabilityService.flush();
+        jdbcTemplate.update("DELETE FROM product_availability");
+        productItemRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("아이템 재고로 색상/사이즈 조합별 재고 여부와 상품의 재고 여부를 만든다")
+    @Test
+    void refreshProducts() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> productAvailabilityService.refreshProducts(List.of(savedProduct.getId())));
+
+        // then
+        assertThat(findAvailability()).containsOnly(
+                entry("#FF0000/M", true),
+                entry("#FF0000/L", false),
+                entry("#0000FF/M", true));
+        assertThat(hasStock()).isTrue();
+    }
+
+    @DisplayName("조건부 차감으로 품절된 아이템은 커밋 후 flush 때 요약에 반영되고, 이후 다시 계산해도 바뀌는 행이 없다")
+    @Test
+    void markChanged_FlushedOnSoldOut() {
+        // given
+        transactionTemplate.executeWithoutResult(status -> productAvailabilityService.refreshProducts(List.of(savedProduct.getId())));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            productItemRepository.decreaseStockIfAvailable(redM.getId(), 1L);
+            productItemRepository.decreaseStockIfAvailable(blueM.getId(), 1L);
+            productAvailabilityService.markChanged(List.of(redM.getId(), blueM.getId()));
+        });
+        productAvailabilityService.flush();
+
+        // then
+        assertThat(findAvailability()).containsOnly(
+                entry("#FF0000/M", false),
+                entry("#FF0000/L", false),
+                entry("#0000FF/M", true));
+        assertThat(hasStock()).isTrue();
+        Integer changed = transactionTemplate.execute(status -> productAvailabilityService.refreshProducts(List.of(savedProduct.getId())));
+        assertThat(changed).isZero();
+    }
+
+    @DisplayName("모든 조합이 품절되면 상품의 재고 여부가 꺼지고, 없어진 조합의 행은 삭제된다")
+    @Test
+    void refreshProducts_AllSoldOut() {
+        // given
+        transactionTemplate.executeWithoutResult(status -> productAvailabilityService.refreshProducts(List.of(savedProduct.getId())));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            productItemRepository.deleteById(redL.getId());
+            productItemRepository.decreaseStockIfAvailable(redM.getId(), 1L);
+            productItemRepository.decreaseStockIfAvailable(blueM.getId(), 3L);
+            productAvailabilityService.refreshProducts(List.of(savedProduct.getId()));
+        });
+
+        // then
+        assertThat(findAvailability()).containsOnly(
+                entry("#FF0000/M", false),
+                entry("#0000FF/M", false));
+        assertThat(hasStock()).isFalse();
+    }
+
+    @DisplayName("요약 행이 하나도 없으면 시작 시 전체 상품 요약을 자동으로 재구성한다")
+    @Test
+    void rebuildOnStartup_WhenSummaryEmpty() {
+        // given - 아이템을 JDBC/리포지토리로 적재해 요약이 없는 상태 (rebuild-on-startup 은 꺼져 있음)
+        assertThat(findAvailability()).isEmpty();
+
+        // when
+        productAvailabilityService.rebuildOnStartup();
+
+        // then
+        assertThat(findAvailability()).containsOnly(
+                entry("#FF0000/M", true),
+                entry("#FF0000/L", false),
+                entry("#0000FF/M", true));
+        assertThat(hasStock()).isTrue();
+    }
+
+    @DisplayName("flush 전에 유실된 재고 변경도 주기적 재구성 때 요약에 반영된다")
+    @Test
+    void refresh_FixesLostChanges() {
+        // given
+        transactionTemplate.executeWithoutResult(status -> productAvailabilityService.refreshProducts(List.of(savedProduct.getId())));
+        transactionTemplate.executeWithoutResult(status -> {
+            productItemRepository.decreaseStockIfAvailable(redM.getId(), 1L);
+            productItemRepository.decreaseStockIfAvailable(blueM.getId(), 3L);
+        }); // markChanged 없이 변경 (서버 중단으로 알림 유실)
+
+        // when
+        productAvailabilityService.refresh();
+
+        // then
+        assertThat(findAvailability()).containsOnly(
+                entry("#FF0000/M", false),
+                entry("#FF0000/L", false),
+                entry("#0000FF/M", false));
+        assertThat(hasStock()).isFalse();
+    }
+
+    @DisplayName("엔티티로 재고를 바꾸면 품절/재입고가 바뀔 때 상품의 요약이 바로 갱신된다")
+    @Test
+    void refreshAvailability_OnZeroCrossing() {
+        // given
+        Product product = Product.builder().brandName("nike").price(1000L).build();
+        ProductItem item = ProductItem.builder().colorCode("#FFFFFF").size("S").quantity(1L).product(product).build();
+        product.addItem(item);
+        ProductItem soldOut = ProductItem.builder().colorCode("#FFFFFF").size("M").quantity(0L).product(product).build();
+        product.addItem(soldOut);
+
+        // when
+        item.decreaseStock(1L);
+        boolean afterSoldOut = product.isHasStock();
+        soldOut.updateQuantity(5L);
+
+        // then
+        assertThat(afterSoldOut).isFalse();
+        assertThat(product.isHasStock()).isTrue();
+        assertThat(product.getAvailabilities())
+                .extracting(ProductAvailability::getSize, ProductAvailability::isInStock)
+                .containsExactly(tuple("S", false), tuple("M", true));
+    }
+
+    private ProductItem saveItem(String colorCode, String size, Long quantity) {
+        return productItemRepository.save(ProductItem.builder()
+                .color(colorCode)
+                .colorCode(colorCode)
+                .size(size)
+                .quantity(quantity)
+                .product(savedProduct)
+                .build());
+    }
+
+    private Map<String, Boolean> findAvailability() {
+        Map<String, Boolean> availability = new HashMap<>();
+        jdbcTemplate.query("SELECT color_code, size, in_stock FROM product_availability WHERE product_id = ?",
+                rs -> {
+                    availability.put(rs.getString(1) + "/" + rs.getString(2), rs.getBoolean(3));
+                },
+                savedProduct.getId());
+        return availability;
+    }
+
+    private boolean hasStock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT has_stock FROM product WHERE product_id = ?", Boolean.class, savedProduct.getId()));
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.mollyapi.product.service;
+
+import org.example.mollyapi.product.entity.Product;
+import org.example.mollyapi.product.repository.ProductRepository;
+import org.example.mollyapi.user.entity.User;
+import org.example.mollyapi.user.repository.UserRepository;
+import org.example.mollyapi.user.type.Sex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductCounterServiceTest {
+
+    @Autowired
+    ProductCounterService productCounterService;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    private Product savedProduct;
+
+    @BeforeEach
+    void setup() {
+        User user = userRepository.save(User.builder()
+                .name("test_user")
+                .cellPhone("01012345678")
+                .flag(true)
+                .nickname("test_nickname")
+                .sex(Sex.FEMALE)
+                .point(1000)
+                .build());
+
+        savedProduct = productRepository.save(Product.builder()
+                .user(user)
+                .brandName("adidas")
+                .price(5000L)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        productCounterService.flush();
+        productRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    private Product findProduct() {
+        return productRepository.findById(savedProduct.getId()).orElseThrow();
+    }
+
+    @DisplayName("조회수는 메모리에 누적되었다가 flush 시점에 한 번에 반영된다")
+    @Test
+    void increaseViewCount_FlushedInBatch() throws InterruptedException {
+        // given
+        int threadCount = 10;
+        int viewsPerThread = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < viewsPerThread; j++) {
+                    productCounterService.increaseViewCount(savedProduct.getId());
+                }
+                latch.countDown();
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        productCounterService.flush();
+        assertThat(findProduct().getViewCount()).isEqualTo((long) threadCount * viewsPerThread);
+    }
+
+    @DisplayName("구매수 증감은 합산되어 반영되고 0 미만으로 내려가지 않는다")
+    @Test
+    void addPurchaseCount_NeverNegative() {
+        // when
+        productCounterService.addPurchaseCount(savedProduct.getId(), 3);
+        productCounterService.addPurchaseCount(savedProduct.getId(), -1);
+        productCounterService.flush();
+        Long afterPurchase = findProduct().getPurchaseCount();
+
+        productCounterService.addPurchaseCount(savedProduct.getId(), -5);
+        productCounterService.flush();
+
+        // then
+        assertThat(afterPurchase).isEqualTo(2L);
+        assertThat(findProduct().getPurchaseCount()).isZero();
+    }
+}
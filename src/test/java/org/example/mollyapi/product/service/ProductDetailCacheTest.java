@@ -0,0 +1,186 @@
+package org.example.mollyapi.product.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.mollyapi.product.dto.ProductItemDto;
+import org.example.mollyapi.product.dto.ProductItemStock;
+import org.example.mollyapi.product.dto.response.ColorDetailDto;
+import org.example.mollyapi.product.dto.response.ProductResDto;
+import org.example.mollyapi.product.dto.response.SizeDetailDto;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProductDetailCacheTest {
+
+    private static final long PRODUCT_ID = 1L;
+
+    private final ProductItemRepository productItemRepository = mock(ProductItemRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    // 재고 주기 갱신은 테스트 중에 일어나지 않도록 길게
+    private ProductDetailCache cache(int maxSize) {
+        return new ProductDetailCache(productItemRepository, meterRegistry, maxSize, 300, 60_000);
+    }
+
+    private Supplier<Optional<ProductResDto>> loader(long productId, long quantity) {
+        return () -> {
+            loads.incrementAndGet();
+            return Optional.of(product(productId, quantity));
+        };
+    }
+
+    private static ProductResDto product(long productId, long quantity) {
+        long itemId = productId * 10;
+        return new ProductResDto(productId, List.of("상의"), "brand", "name", 1000L, "desc", null, List.of(), List.of(),
+                List.of(new ProductItemDto(itemId, "blue", "#0000FF", "M", quantity)),
+                List.of(new ColorDetailDto("blue", "#0000FF", List.of(new SizeDetailDto(itemId, "M", quantity)))));
+    }
+
+    private double count(String name, String tag, String value) {
+        return meterRegistry.counter(name, tag, value).count();
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 적재하지 않고 캐시에서 반환한다")
+    void get_HitAfterFirstLoad() {
+        /// given
+        ProductDetailCache cache = cache(10);
+        cache.get(PRODUCT_ID, loader(PRODUCT_ID, 5L));
+
+        /// when
+        Optional<ProductResDto> cached = cache.get(PRODUCT_ID, loader(PRODUCT_ID, 5L));
+
+        /// then
+        assertThat(cached).get().extracting(ProductResDto::id).isEqualTo(PRODUCT_ID);
+        assertThat(loads).hasValue(1);
+        assertThat(count("product.cache.requests", "result", "miss")).isEqualTo(1);
+        assertThat(count("product.cache.requests", "result", "hit")).isEqualTo(1);
+        verifyNoInteractions(productItemRepository);
+    }
+
+    @Test
+    @DisplayName("없는 상품은 캐시하지 않는다")
+    void get_EmptyNotCached() {
+        /// given
+        ProductDetailCache cache = cache(10);
+        Supplier<Optional<ProductResDto>> empty = () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        };
+
+        /// when
+        cache.get(PRODUCT_ID, empty);
+        Optional<ProductResDto> result = cache.get(PRODUCT_ID, empty);
+
+        /// then
+        assertThat(result).isEmpty();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("상품을 무효화하면 다음 조회 때 다시 적재한다")
+    void evict_ReloadsOnNextGet() {
+        /// given
+        ProductDetailCache cache = cache(10);
+        cache.get(PRODUCT_ID, loader(PRODUCT_ID, 5L));
+
+        /// when
+        cache.evict(PRODUCT_ID);
+        cache.get(PRODUCT_ID, loader(PRODUCT_ID, 5L));
+
+        /// then
+        assertThat(loads).hasValue(2);
+        assertThat(count("product.cache.evictions", "cause", "invalidated")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("적재 중에 무효화되면 적재한 값은 캐시하지 않고 다음 조회 때 다시 적재한다")
+    void evict_DuringLoad_DiscardsLoadedValue() {
+        /// given
+        ProductDetailCache cache = cache(10);
+        Supplier<Optional<ProductResDto>> staleLoader = () -> {
+            loads.incrementAndGet();
+            ProductResDto stale = product(PRODUCT_ID, 5L); // 수정 전 행을 읽은 뒤
+            cache.evict(PRODUCT_ID);                       // 수정 트랜잭션이 커밋되어 무효화
+            return Optional.of(stale);
+        };
+
+        /// when
+        Optional<ProductResDto> first = cache.get(PRODUCT_ID, staleLoader);
+        Optional<ProductResDto> reloaded = cache.get(PRODUCT_ID, loader(PRODUCT_ID, 3L));
+
+        /// then
+        assertThat(first).isPresent();
+        assertThat(loads).hasValue(2);
+        assertThat(reloaded).get().satisfies(product ->
+                assertThat(product.items()).extracting(ProductItemDto::quantity).containsExactly(3L));
+        assertThat(cache.get(PRODUCT_ID, loader(PRODUCT_ID, 3L))).isPresent();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("재고가 바뀐 아이템의 상품은 다음 조회 때 재고 수량만 다시 읽어 덮어쓴다")
+    void markStockChanged_RefreshesQuantities() {
+        /// given
+        ProductDetailCache cache = cache(10);
+        cache.get(PRODUCT_ID, loader(PRODUCT_ID, 5L));
+        when(productItemRepository.findStocksByProductId(PRODUCT_ID)).thenReturn(List.of(new ProductItemStock(10L, 2L)));
+
+        /// when
+        cache.markStockChanged(List.of(10L));
+        Optional<ProductResDto> refreshed = cache.get(PRODUCT_ID, loader(PRODUCT_ID, 5L));
+
+        /// then
+        assertThat(loads).hasValue(1);
+        assertThat(refreshed).get().satisfies(product -> {
+            assertThat(product.items()).extracting(ProductItemDto::quantity).containsExactly(2L);
+            assertThat(product.colorDetails().get(0).sizeDetails()).extracting(SizeDetailDto::quantity).containsExactly(2L);
+        });
+    }
+
+    @Test
+    @DisplayName("아이템 구성이 바뀌었으면 재고만 덮어쓰지 않고 전체를 다시 적재한다")
+    void markStockChanged_ReloadsWhenItemsChanged() {
+        /// given
+        ProductDetailCache cache = cache(10);
+        cache.get(PRODUCT_ID, loader(PRODUCT_ID, 5L));
+        when(productItemRepository.findStocksByProductId(PRODUCT_ID))
+                .thenReturn(List.of(new ProductItemStock(10L, 5L), new ProductItemStock(11L, 3L)));
+
+        /// when
+        cache.markStockChanged(List.of(10L));
+        cache.get(PRODUCT_ID, loader(PRODUCT_ID, 5L));
+
+        /// then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 조회되지 않은 상품부터 제거된다")
+    void put_EvictsLeastRecentlyUsed() {
+        /// given
+        ProductDetailCache cache = cache(2);
+        cache.get(1L, loader(1L, 5L));
+        cache.get(2L, loader(2L, 5L));
+        cache.get(1L, loader(1L, 5L));
+
+        /// when
+        cache.get(3L, loader(3L, 5L));
+        cache.get(1L, loader(1L, 5L));
+        cache.get(2L, loader(2L, 5L));
+
+        /// then
+        assertThat(loads).hasValue(4);
+        assertThat(count("product.cache.evictions", "cause", "size")).isEqualTo(2);
+        assertThat(meterRegistry.get("product.cache.size").gauge().value()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.mollyapi.product.service;
+
+import org.example.mollyapi.product.dto.ProductFacetDocument;
+import org.example.mollyapi.product.dto.ProductFilterCondition;
+import org.example.mollyapi.product.dto.response.FacetCountDto;
+import org.example.mollyapi.product.dto.response.PriceFacetCountDto;
+import org.example.mollyapi.product.entity.ProductAvailability.Option;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ProductFacetIndexTest {
+
+    private static final String RED = "#FF0000";
+    private static final String BLUE = "#0000FF";
+
+    private final ProductFacetIndex index = new ProductFacetIndex(new long[]{10000, 30000, 50000, 100000, 200000});
+
+    @BeforeEach
+    void setup() {
+        // 1: 빨강 M(재고)/L(품절), 파랑 M(재고) - 2: 빨강 L(재고) - 3: 파랑 L(품절) - 4: 파랑 M(재고), 빨강 S(재고)
+        index.upsert(new ProductFacetDocument(1L, 10L, "adidas", 5000L, 100L,
+                Map.of(new Option(RED, "M"), true, new Option(RED, "L"), false, new Option(BLUE, "M"), true)));
+        index.upsert(new ProductFacetDocument(2L, 10L, "nike", 25000L, 100L,
+                Map.of(new Option(RED, "L"), true)));
+        index.upsert(new ProductFacetDocument(3L, 20L, "adidas", 40000L, 200L,
+                Map.of(new Option(BLUE, "L"), false)));
+        index.upsert(new ProductFacetDocument(4L, 20L, "nike", 150000L, 200L,
+                Map.of(new Option(BLUE, "M"), true, new Option(RED, "S"), true)));
+    }
+
+    @Test
+    @DisplayName("같은 필터의 여러 값은 OR, 필터끼리는 AND 로 상품을 고른다")
+    void search() {
+        /// given
+        ProductFilterCondition condition = ProductFilterCondition.builder()
+                .colorCode(List.of(RED, BLUE))
+                .categoryId(List.of(10L))
+                .sellerId(100L)
+                .build();
+
+        /// when
+        ProductFacetIndex.Result result = index.search(condition, 100);
+
+        /// then
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.ids()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("색상과 사이즈는 한 조합이 둘 다 만족해야 하고, 품절 제외면 그 조합에 재고가 있어야 한다")
+    void search_OptionCombination() {
+        /// given
+        ProductFilterCondition blueS = ProductFilterCondition.builder().colorCode(List.of(BLUE)).size(List.of("S")).build();
+        ProductFilterCondition redL = ProductFilterCondition.builder().colorCode(List.of(RED)).size(List.of("L")).build();
+        ProductFilterCondition redLInStock = ProductFilterCondition.builder().colorCode(List.of(RED)).size(List.of("L")).excludeSoldOut(true).build();
+
+        /// when
+        ProductFacetIndex.Result blueSResult = index.search(blueS, 100);
+        ProductFacetIndex.Result redLResult = index.search(redL, 100);
+        ProductFacetIndex.Result redLInStockResult = index.search(redLInStock, 100);
+
+        /// then
+        assertThat(blueSResult.ids()).isEmpty();
+        assertThat(redLResult.ids()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(redLInStockResult.ids()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("품절 제외면 재고 있는 조합이 하나도 없는 상품을 뺀다")
+    void search_ExcludeSoldOut() {
+        /// when
+        ProductFacetIndex.Result result = index.search(ProductFilterCondition.builder().excludeSoldOut(true).build(), 100);
+
+        /// then
+        assertThat(result.ids()).containsExactlyInAnyOrder(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("가격 범위가 구간 경계에 걸치면 상품 가격으로 다시 확인한다")
+    void search_PriceRange() {
+        /// given
+        ProductFilterCondition condition = ProductFilterCondition.builder().priceGoe(20000L).priceLt(45000L).build();
+
+        /// when
+        ProductFacetIndex.Result result = index.search(condition, 100);
+
+        /// then
+        assertThat(result.ids()).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(result.facets().price())
+                .extracting(PriceFacetCountDto::priceGoe, PriceFacetCountDto::priceLt, PriceFacetCountDto::count)
+                .containsExactly(
+                        tuple(null, 10000L, 1L),
+                        tuple(10000L, 30000L, 1L),
+                        tuple(30000L, 50000L, 1L),
+                        tuple(100000L, 200000L, 1L));
+    }
+
+    @Test
+    @DisplayName("각 필터의 값별 상품 수는 그 필터만 뺀 나머지 조건으로 센다")
+    void search_DisjunctiveFacets() {
+        /// given
+        ProductFilterCondition condition = ProductFilterCondition.builder().brandName("adidas").size(List.of("M")).build();
+
+        /// when
+        ProductFacetIndex.Result result = index.search(condition, 100);
+
+        /// then
+        assertThat(result.ids()).containsExactly(1L);
+        assertThat(result.facets().brandName())
+                .extracting(FacetCountDto::value, FacetCountDto::count)
+                .containsExactly(tuple("adidas", 1L), tuple("nike", 1L));
+        assertThat(result.facets().size())
+                .extracting(FacetCountDto::value, FacetCountDto::count)
+                .containsExactly(tuple("L", 2L), tuple("M", 1L));
+        // 사이즈 M 을 고른 상태의 색상별 수 - 파랑 L 조합만 있는 3번 상품은 파랑으로 세지 않음
+        assertThat(result.facets().colorCode())
+                .extracting(FacetCountDto::value, FacetCountDto::count)
+                .containsExactlyInAnyOrder(tuple(RED, 1L), tuple(BLUE, 1L));
+        assertThat(result.facets().categoryId())
+                .extracting(FacetCountDto::value, FacetCountDto::count)
+                .containsExactly(tuple("10", 1L));
+    }
+
+    @Test
+    @DisplayName("상품을 수정하면 이전 값에서 빠지고, 삭제하면 결과와 상품 수에서 빠진다")
+    void upsertAndRemove() {
+        /// when
+        index.upsert(new ProductFacetDocument(2L, 10L, "adidas", 25000L, 100L, Map.of(new Option(RED, "L"), false)));
+        index.remove(3L);
+
+        /// then
+        ProductFacetIndex.Result result = index.search(ProductFilterCondition.builder().brandName("adidas").build(), 100);
+        assertThat(result.ids()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(result.facets().brandName())
+                .extracting(FacetCountDto::value, FacetCountDto::count)
+                .containsExactly(tuple("adidas", 2L), tuple("nike", 1L));
+        assertThat(index.search(ProductFilterCondition.builder().excludeSoldOut(true).build(), 100).ids())
+                .containsExactlyInAnyOrder(1L, 4L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("결과가 idLimit 을 넘으면 상품 ID 없이 상품 수만 돌려준다")
+    void search_OverIdLimit() {
+        /// when
+        ProductFacetIndex.Result result = index.search(ProductFilterCondition.builder().build(), 3);
+
+        /// then
+        assertThat(result.total()).isEqualTo(4);
+        assertThat(result.ids()).isNull();
+    }
+
+    @Test
+    @DisplayName("가격 구간 경계가 오름차순이 아니면 예외가 발생한다")
+    void constructor_InvalidBoundaries() {
+        assertThatThrownBy(() -> new ProductFacetIndex(new long[]{30000, 10000}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,184 @@
+package org.example.mollyapi.user.service;
+
+import org.example.mollyapi.address.entity.Address;
+import org.example.mollyapi.address.repository.AddressRepository;
+import org.example.mollyapi.cart.entity.Cart;
+import org.example.mollyapi.cart.repository.CartRepository;
+import org.example.mollyapi.common.purge.PurgeRunner;
+import org.example.mollyapi.common.purge.repository.PurgeLeaseRepository;
+import org.example.mollyapi.order.entity.Order;
+import org.example.mollyapi.order.repository.OrderRepository;
+import org.example.mollyapi.product.entity.Product;
+import org.example.mollyapi.product.entity.ProductItem;
+import org.example.mollyapi.product.repository.ProductItemRepository;
+import org.example.mollyapi.product.repository.ProductRepository;
+import org.example.mollyapi.user.auth.entity.Auth;
+import org.example.mollyapi.user.auth.entity.Password;
+import org.example.mollyapi.user.auth.repository.AuthRepository;
+import org.example.mollyapi.user.entity.User;
+import org.example.mollyapi.user.repository.UserRepository;
+import org.example.mollyapi.user.type.Role;
+import org.example.mollyapi.user.type.Sex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {"purge.chunk-size=2", "purge.pause-ms=0"})
+@ActiveProfiles("test")
+class FlaggedUserPurgeJobTest {
+
+    @Autowired
+    PurgeRunner purgeRunner;
+
+    @Autowired
+    FlaggedUserPurgeJob flaggedUserPurgeJob;
+
+    @Autowired
+    PurgeLeaseRepository purgeLeaseRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    AuthRepository authRepository;
+
+    @Autowired
+    AddressRepository addressRepository;
+
+    @Autowired
+    CartRepository cartRepository;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    ProductItemRepository productItemRepository;
+
+    private ProductItem savedProductItem;
+
+    @BeforeEach
+    void setup() {
+        User seller = createUser("seller", false);
+
+        Product product = productRepository.save(Product.builder()
+                .user(seller)
+                .brandName("adidas")
+                .price(5000L)
+                .build());
+
+        savedProductItem = productItemRepository.save(ProductItem.builder()
+                .color("blue")
+                .size("M")
+                .quantity(5L)
+                .product(product)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUpDatabase() {
+        purgeLeaseRepository.deleteAllInBatch();
+        authRepository.deleteAll();
+        addressRepository.deleteAllInBatch();
+        cartRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productItemRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    private User createUser(String nickname, boolean flag) {
+        User user = User.builder()
+                .name("test_user")
+                .cellPhone("01012345678")
+                .nickname(nickname)
+                .sex(Sex.FEMALE)
+                .build();
+        if (flag) {
+            user.updateFlag();
+        }
+        return userRepository.save(user);
+    }
+
+    // 로그인 정보, 배송지, 장바구니 생성
+    private void createUserData(User user) {
+        authRepository.save(Auth.builder()
+                .email(user.getNickname() + "@example.com")
+                .role(List.of(Role.BUY))
+                .password(Password.builder()
+                        .password("encrypted")
+                        .salt(new byte[16])
+                        .build())
+                .user(user)
+                .build());
+        addressRepository.save(Address.builder()
+                .user(user)
+                .recipient("수령인")
+                .recipientCellPhone("01012345678")
+                .roadAddress("서울시 강남구")
+                .addrDetail("101호")
+                .defaultAddr(true)
+                .build());
+        cartRepository.save(Cart.builder()
+                .user(user)
+                .productItem(savedProductItem)
+                .quantity(1L)
+                .build());
+    }
+
+    @Test
+    @DisplayName("탈퇴 회원의 로그인 정보/배송지/장바구니를 먼저 지운 뒤 이력이 없는 회원 행을 삭제한다")
+    void run_DeletesFlaggedUsersAndTheirData() {
+        /// given
+        User flagged1 = createUser("flagged1", true);
+        User flagged2 = createUser("flagged2", true);
+        User flagged3 = createUser("flagged3", true);
+        User active = createUser("active", false);
+        for (User user : List.of(flagged1, flagged2, flagged3, active)) {
+            createUserData(user);
+        }
+
+        /// when
+        long deletedCount = purgeRunner.run(flaggedUserPurgeJob);
+
+        /// then
+        assertThat(deletedCount).isEqualTo(3);
+        assertThat(userRepository.findAllById(List.of(flagged1.getUserId(), flagged2.getUserId(), flagged3.getUserId())))
+                .isEmpty();
+        assertThat(authRepository.findAllByUserUserIdIn(List.of(active.getUserId()))).hasSize(1);
+        assertThat(authRepository.count()).isEqualTo(1);
+        assertThat(addressRepository.count()).isEqualTo(1);
+        assertThat(cartRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주문 이력이 있는 탈퇴 회원은 개인 정보만 지우고 회원 행은 flag 상태로 남긴다")
+    void run_KeepsReferencedUsers() {
+        /// given
+        User withOrder = createUser("withOrder", true);
+        createUserData(withOrder);
+        orderRepository.save(new Order(withOrder, "ORD-" + System.nanoTime()));
+
+        /// when
+        long deletedCount = purgeRunner.run(flaggedUserPurgeJob);
+
+        /// then
+        assertThat(deletedCount).isZero();
+        assertThat(userRepository.findById(withOrder.getUserId())).get()
+                .extracting(User::getFlag)
+                .isEqualTo(true);
+        assertThat(authRepository.count()).isZero();
+        assertThat(addressRepository.count()).isZero();
+        assertThat(cartRepository.count()).isZero();
+    }
+}